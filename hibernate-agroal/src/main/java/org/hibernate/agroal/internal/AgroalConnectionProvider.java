@@ -22,6 +22,7 @@
 import org.hibernate.engine.jdbc.connections.internal.DatabaseConnectionInfoImpl;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProviderConfigurationException;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionSchemaTracker;
 import org.hibernate.engine.jdbc.connections.spi.DatabaseConnectionInfo;
 import org.hibernate.exception.JDBCConnectionException;
 import org.hibernate.service.UnknownUnwrapTypeException;
@@ -80,6 +81,7 @@ public class AgroalConnectionProvider implements ConnectionProvider, Configurabl
 	@Serial
 	private static final long serialVersionUID = 1L;
 	private AgroalDataSource agroalDataSource = null;
+	private final ConnectionSchemaTracker schemaTracker = new ConnectionSchemaTracker();
 
 	// --- Configurable
 
@@ -150,7 +152,39 @@ private static Map<String,String> toStringValuedProperties(Map<String,Object> pr
 
 	@Override
 	public Connection getConnection() throws SQLException {
-		return agroalDataSource == null ? null : agroalDataSource.getConnection();
+		if ( agroalDataSource == null ) {
+			return null;
+		}
+		final var connection = agroalDataSource.getConnection();
+		try {
+			schemaTracker.resetSchema( connection );
+		}
+		catch (SQLException e) {
+			connection.close();
+			throw e;
+		}
+		return connection;
+	}
+
+	@Override
+	public boolean supportsSchemaAffinity() {
+		return true;
+	}
+
+	@Override
+	public Connection getConnectionForSchema(String schema) throws SQLException {
+		if ( agroalDataSource == null ) {
+			return null;
+		}
+		final var connection = agroalDataSource.getConnection();
+		try {
+			schemaTracker.setSchema( connection, schema );
+		}
+		catch (SQLException e) {
+			connection.close();
+			throw e;
+		}
+		return connection;
 	}
 
 	@Override
@@ -208,7 +242,8 @@ public DatabaseConnectionInfo getDatabaseConnectionInfo(Dialect dialect) {
 	@Override
 	public boolean isUnwrappableAs(@Nonnull Class<?> unwrapType) {
 		return unwrapType.isAssignableFrom( AgroalConnectionProvider.class )
-			|| unwrapType.isAssignableFrom( AgroalDataSource.class );
+			|| unwrapType.isAssignableFrom( AgroalDataSource.class )
+			|| unwrapType.isAssignableFrom( ConnectionSchemaTracker.class );
 	}
 
 	@Override
@@ -220,6 +255,9 @@ public <T> T unwrap(@Nonnull Class<T> unwrapType) {
 		else if ( unwrapType.isAssignableFrom( AgroalDataSource.class ) ) {
 			return (T) agroalDataSource;
 		}
+		else if ( unwrapType.isAssignableFrom( ConnectionSchemaTracker.class ) ) {
+			return (T) schemaTracker;
+		}
 		else {
 			throw new UnknownUnwrapTypeException( unwrapType );
 		}
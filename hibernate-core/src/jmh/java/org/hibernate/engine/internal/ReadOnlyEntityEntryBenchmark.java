@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.service.ServiceRegistry;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the heap retained by a read-only session after loading a large
+ * number of entities, with and without
+ * {@linkplain org.hibernate.cfg.FetchSettings#COMPACT_READ_ONLY_ENTRIES
+ * compact entries}. The retained bytes per entity are reported by the
+ * {@code retainedBytesPerEntity} secondary result.
+ * <p>
+ * Run with:
+ * ./gradlew :hibernate-core:jmh -Pjmh.include=".*ReadOnlyEntityEntryBenchmark.*"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ReadOnlyEntityEntryBenchmark {
+
+	@Param({"100000", "1000000"})
+	private int entityCount;
+
+	@Param({"false", "true"})
+	private boolean compactEntries;
+
+	private SessionFactory sessionFactory;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		final ServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.DIALECT, "org.hibernate.dialect.H2Dialect" )
+				.applySetting( AvailableSettings.URL, "jdbc:h2:mem:read_only_entries;DB_CLOSE_DELAY=-1" )
+				.applySetting( AvailableSettings.USER, "sa" )
+				.applySetting( AvailableSettings.PASS, "" )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.applySetting( AvailableSettings.SHOW_SQL, "false" )
+				.applySetting( AvailableSettings.STATEMENT_BATCH_SIZE, "500" )
+				.applySetting( AvailableSettings.COMPACT_READ_ONLY_ENTRIES, Boolean.toString( compactEntries ) )
+				.build();
+		sessionFactory = new MetadataSources( registry )
+				.addAnnotatedClass( Reading.class )
+				.buildMetadata()
+				.buildSessionFactory();
+		sessionFactory.inStatelessTransaction( session -> {
+			for ( int i = 0; i < entityCount; i++ ) {
+				session.insert( new Reading( i, "sensor " + ( i % 100 ), i * 0.5 ) );
+			}
+		} );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if ( sessionFactory != null ) {
+			sessionFactory.close();
+		}
+	}
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class RetainedMemory {
+		public long retainedBytesPerEntity;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			retainedBytesPerEntity = 0;
+		}
+	}
+
+	@Benchmark
+	public int readAll(RetainedMemory memory) {
+		try ( Session session = sessionFactory.openSession() ) {
+			session.setDefaultReadOnly( true );
+			final long before = usedHeap();
+			final List<Reading> readings =
+					session.createSelectionQuery( "from Reading", Reading.class )
+							.getResultList();
+			memory.retainedBytesPerEntity = ( usedHeap() - before ) / entityCount;
+			return readings.size();
+		}
+	}
+
+	private static long usedHeap() {
+		final var runtime = Runtime.getRuntime();
+		for ( int i = 0; i < 3; i++ ) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	@Entity(name = "Reading")
+	@Table(name = "reading")
+	public static class Reading {
+		@Id
+		private Integer id;
+		private String sensor;
+		private double reading;
+
+		public Reading() {
+		}
+
+		public Reading(Integer id, String sensor, double reading) {
+			this.id = id;
+			this.sensor = sensor;
+			this.reading = reading;
+		}
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.spi;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.service.ServiceRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the cost of batch fetching a handful of entities from a session
+ * holding a very large number of uninitialized proxies, all of which are
+ * queued in the {@link BatchFetchQueue}. The time taken should not grow
+ * with the size of the queue.
+ * <p>
+ * Run with:
+ * ./gradlew :hibernate-core:jmh -Pjmh.include=".*BatchFetchQueueBenchmark.*"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1)
+public class BatchFetchQueueBenchmark {
+
+	private static final int BATCH_SIZE = 16;
+	private static final int BATCHES = 10;
+
+	@Param({"1000", "10000", "100000", "1000000"})
+	private int queueSize;
+
+	private SessionFactory sessionFactory;
+	private Session session;
+	private Item[] references;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		final ServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.DIALECT, "org.hibernate.dialect.H2Dialect" )
+				.applySetting( AvailableSettings.URL, "jdbc:h2:mem:batch_fetch_queue;DB_CLOSE_DELAY=-1" )
+				.applySetting( AvailableSettings.USER, "sa" )
+				.applySetting( AvailableSettings.PASS, "" )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.applySetting( AvailableSettings.SHOW_SQL, "false" )
+				.applySetting( AvailableSettings.STATEMENT_BATCH_SIZE, "500" )
+				.build();
+		sessionFactory = new MetadataSources( registry )
+				.addAnnotatedClass( Item.class )
+				.buildMetadata()
+				.buildSessionFactory();
+		sessionFactory.inStatelessTransaction( session -> {
+			for ( int i = 0; i < queueSize; i++ ) {
+				session.insert( new Item( i, "Item " + i ) );
+			}
+		} );
+		references = new Item[queueSize];
+	}
+
+	@Setup(Level.Invocation)
+	public void queueReferences() {
+		session = sessionFactory.openSession();
+		for ( int i = 0; i < queueSize; i++ ) {
+			references[i] = session.getReference( Item.class, i );
+		}
+	}
+
+	@TearDown(Level.Invocation)
+	public void closeSession() {
+		session.close();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if ( sessionFactory != null ) {
+			sessionFactory.close();
+		}
+	}
+
+	@Benchmark
+	public void fetchBatches(Blackhole blackhole) {
+		// spread the batches over the whole queue
+		final int stride = queueSize / BATCHES;
+		for ( int batch = 0; batch < BATCHES; batch++ ) {
+			final Item item = references[batch * stride];
+			Hibernate.initialize( item );
+			blackhole.consume( item.getName() );
+		}
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "item")
+	@BatchSize(size = BATCH_SIZE)
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
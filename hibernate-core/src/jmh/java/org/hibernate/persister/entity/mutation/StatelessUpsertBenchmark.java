@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.persister.entity.mutation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.service.ServiceRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares upserting a list of versioned entities, half of which already
+ * exist, one statement at a time using {@code upsert()}, with upserting
+ * them as a JDBC batch using {@code upsertMultiple()}.
+ * <p>
+ * Run with:
+ * ./gradlew :hibernate-core:jmh -Pjmh.include=".*StatelessUpsertBenchmark.*"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StatelessUpsertBenchmark {
+
+	@Param({"100", "1000"})
+	private int entityCount;
+
+	private SessionFactory sessionFactory;
+	private int round;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		final ServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.DIALECT, "org.hibernate.dialect.H2Dialect" )
+				.applySetting( AvailableSettings.URL, "jdbc:h2:mem:stateless_upsert;DB_CLOSE_DELAY=-1" )
+				.applySetting( AvailableSettings.USER, "sa" )
+				.applySetting( AvailableSettings.PASS, "" )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.applySetting( AvailableSettings.SHOW_SQL, "false" )
+				.build();
+		sessionFactory = new MetadataSources( registry )
+				.addAnnotatedClass( Quote.class )
+				.buildMetadata()
+				.buildSessionFactory();
+	}
+
+	@Setup(Level.Invocation)
+	public void prepare() {
+		// leave the first half of the rows in place, so
+		// that half of the upserts update an existing row
+		sessionFactory.inStatelessTransaction( session -> {
+			session.createMutationQuery( "delete from Quote where id >= :half" )
+					.setParameter( "half", entityCount / 2 )
+					.executeUpdate();
+			session.createMutationQuery( "update Quote set version = 0" )
+					.executeUpdate();
+		} );
+		round++;
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if ( sessionFactory != null ) {
+			sessionFactory.close();
+		}
+	}
+
+	@Benchmark
+	public int upsertEach() {
+		final List<Quote> quotes = quotes();
+		sessionFactory.inStatelessTransaction( session -> {
+			for ( Quote quote : quotes ) {
+				session.upsert( quote );
+			}
+		} );
+		return quotes.size();
+	}
+
+	@Benchmark
+	public int upsertMultiple() {
+		final List<Quote> quotes = quotes();
+		sessionFactory.inStatelessTransaction( session -> session.upsertMultiple( quotes ) );
+		return quotes.size();
+	}
+
+	private List<Quote> quotes() {
+		final List<Quote> quotes = new ArrayList<>( entityCount );
+		for ( int i = 0; i < entityCount; i++ ) {
+			quotes.add( new Quote( i, "SYM" + ( i % 50 ), round + i * 0.01 ) );
+		}
+		return quotes;
+	}
+
+	@Entity(name = "Quote")
+	@Table(name = "upsert_quote")
+	public static class Quote {
+		@Id
+		private Integer id;
+		private String symbol;
+		private double price;
+		@Version
+		private Integer version;
+
+		public Quote() {
+		}
+
+		public Quote(Integer id, String symbol, double price) {
+			this.id = id;
+			this.symbol = symbol;
+			this.price = price;
+			this.version = 0;
+		}
+	}
+}
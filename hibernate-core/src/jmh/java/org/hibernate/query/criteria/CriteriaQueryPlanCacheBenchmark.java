@@ -0,0 +1,128 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.criteria;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.service.ServiceRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the throughput of repeatedly constructing and executing the same
+ * criteria query with different arguments, with and without query plan caching
+ * for criteria queries, and with and without copying of the criteria tree.
+ * <p>
+ * Run with:
+ * ./gradlew :hibernate-core:jmh -Pjmh.include=".*CriteriaQueryPlanCacheBenchmark.*"
+ *
+ * @see AvailableSettings#CRITERIA_PLAN_CACHE_ENABLED
+ * @see AvailableSettings#CRITERIA_COPY_TREE
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1)
+public class CriteriaQueryPlanCacheBenchmark {
+
+	private static final int ROWS = 100;
+
+	@Param({"true", "false"})
+	private boolean planCacheEnabled;
+
+	@Param({"true", "false"})
+	private boolean copyTree;
+
+	private SessionFactory sessionFactory;
+	private int counter;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		final ServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.DIALECT, "org.hibernate.dialect.H2Dialect" )
+				.applySetting( AvailableSettings.URL, "jdbc:h2:mem:criteria_plan_cache;DB_CLOSE_DELAY=-1" )
+				.applySetting( AvailableSettings.USER, "sa" )
+				.applySetting( AvailableSettings.PASS, "" )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.applySetting( AvailableSettings.SHOW_SQL, "false" )
+				.applySetting( AvailableSettings.CRITERIA_PLAN_CACHE_ENABLED, String.valueOf( planCacheEnabled ) )
+				.applySetting( AvailableSettings.CRITERIA_COPY_TREE, String.valueOf( copyTree ) )
+				.build();
+		sessionFactory = new MetadataSources( registry )
+				.addAnnotatedClass( Product.class )
+				.buildMetadata()
+				.buildSessionFactory();
+		sessionFactory.inTransaction( session -> {
+			for ( int i = 0; i < ROWS; i++ ) {
+				session.persist( new Product( i, "Product " + i, i % 10, i ) );
+			}
+		} );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if ( sessionFactory != null ) {
+			sessionFactory.close();
+		}
+	}
+
+	@Benchmark
+	public void constructAndExecute(Blackhole blackhole) {
+		final int category = counter++ % 10;
+		sessionFactory.inSession( session -> {
+			final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+			final JpaCriteriaQuery<Product> query = cb.createQuery( Product.class );
+			final JpaRoot<Product> root = query.from( Product.class );
+			query.where(
+					cb.equal( root.get( "category" ), category ),
+					cb.like( root.get( "name" ), "Product%" ),
+					cb.between( root.get( "price" ), 0, ROWS )
+			);
+			query.orderBy( cb.desc( root.get( "price" ) ), cb.asc( root.get( "id" ) ) );
+			blackhole.consume( session.createQuery( query ).setMaxResults( 5 ).getResultList() );
+		} );
+	}
+
+	@Entity(name = "Product")
+	@Table(name = "product")
+	public static class Product {
+		@Id
+		private Integer id;
+		private String name;
+		private int category;
+		private int price;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name, int category, int price) {
+			this.id = id;
+			this.name = name;
+			this.category = category;
+			this.price = price;
+		}
+	}
+}
@@ -102,6 +102,12 @@ public interface StatelessSession extends SharedSessionContract, EntityAgent {
 	 * Insert multiple records in the same order as the entity
 	 * instances representing the new records occur in the given
 	 * list.
+	 * <p>
+	 * If {@value org.hibernate.cfg.BatchSettings#BULK_LOAD} is
+	 * enabled, and the entities are all of the same type, the
+	 * records may be loaded using the native bulk load protocol
+	 * of the database. Otherwise, they are inserted as a single
+	 * JDBC batch.
 	 *
 	 * @param entities a list of transient instances to be inserted
 	 *
@@ -215,6 +221,10 @@ public interface StatelessSession extends SharedSessionContract, EntityAgent {
 	 * record if it already exists, in the same order as the
 	 * entity instances representing the records occur in
 	 * the given list.
+	 * <p>
+	 * The upsert statements are executed as a single JDBC batch
+	 * when the database supports a single-statement upsert, for
+	 * example, {@code merge} or {@code insert ... on conflict}.
 	 *
 	 * @param entities a list of detached instances and new
 	 *                 instances with assigned identifiers
@@ -47,6 +47,7 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 	private final Set<EntityCleanup> entityCleanups = new HashSet<>();
 	private final Set<CollectionCleanup> collectionCleanups = new HashSet<>();
 	private final Set<NaturalIdCleanup> naturalIdCleanups = new HashSet<>();
+	private boolean naturalIdsAffected;
 
 	/**
 	 * Constructs an action to cleanup "affected cache regions" based on the
@@ -70,8 +71,11 @@ public BulkOperationCleanupAction(SharedSessionContractImplementor session, Enti
 				}
 			}
 
-			if ( persister.hasNaturalIdentifier() && persister.hasNaturalIdCache() ) {
-				naturalIdCleanups.add( new NaturalIdCleanup( persister.getNaturalIdCacheAccessStrategy(), session ) );
+			if ( persister.hasNaturalIdentifier() ) {
+				naturalIdsAffected = true;
+				if ( persister.hasNaturalIdCache() ) {
+					naturalIdCleanups.add( new NaturalIdCleanup( persister.getNaturalIdCacheAccessStrategy(), session ) );
+				}
 			}
 
 			final var mappingMetamodel = session.getFactory().getMappingMetamodel();
@@ -89,6 +93,7 @@ public BulkOperationCleanupAction(SharedSessionContractImplementor session, Enti
 		}
 
 		affectedTableSpaces = spacesList.toArray( EMPTY_STRING_ARRAY );
+		clearNaturalIdResolutions( session );
 	}
 
 	/**
@@ -116,8 +121,11 @@ public BulkOperationCleanupAction(SharedSessionContractImplementor session, Set<
 				if ( entityDescriptor.canWriteToCache() ) {
 					entityCleanups.add( new EntityCleanup( entityDescriptor.getCacheAccessStrategy(), session ) );
 				}
-				if ( entityDescriptor.hasNaturalIdentifier() && entityDescriptor.hasNaturalIdCache() ) {
-					naturalIdCleanups.add( new NaturalIdCleanup( entityDescriptor.getNaturalIdCacheAccessStrategy(), session ) );
+				if ( entityDescriptor.hasNaturalIdentifier() ) {
+					naturalIdsAffected = true;
+					if ( entityDescriptor.hasNaturalIdCache() ) {
+						naturalIdCleanups.add( new NaturalIdCleanup( entityDescriptor.getNaturalIdCacheAccessStrategy(), session ) );
+					}
 				}
 
 				final var roles = metamodel.getCollectionRolesByEntityParticipant( entityDescriptor.getEntityName() );
@@ -135,6 +143,23 @@ public BulkOperationCleanupAction(SharedSessionContractImplementor session, Set<
 		} );
 
 		affectedTableSpaces = spacesList.toArray( EMPTY_STRING_ARRAY );
+		clearNaturalIdResolutions( session );
+	}
+
+	/**
+	 * The bulk operation might insert or delete entities with natural ids, so
+	 * discard the natural-id resolutions shared between sessions, now and again
+	 * after completion of the transaction.
+	 */
+	private void clearNaturalIdResolutions(SharedSessionContractImplementor session) {
+		if ( naturalIdsAffected ) {
+			final var resolutionCache = session.getFactory().getNaturalIdResolutionCache();
+			if ( resolutionCache != null ) {
+				resolutionCache.clear();
+				session.getTransactionCompletionCallbacks()
+						.registerCallback( (success, s) -> resolutionCache.clear() );
+			}
+		}
 	}
 
 	public static void schedule(SharedSessionContractImplementor session, SqmDmlStatement<?> statement) {
@@ -17,6 +17,7 @@
 import org.hibernate.action.queue.spi.plan.FlushOperation;
 import org.hibernate.audit.EntityTrackingChangesetListener;
 import org.hibernate.audit.ModificationType;
+import org.hibernate.audit.spi.AsyncAuditWriter;
 import org.hibernate.audit.spi.AuditChangeSet;
 import org.hibernate.audit.spi.ChangelogSupplier;
 import org.hibernate.audit.spi.ChangelogSupplier.ChangesetContext;
@@ -80,8 +81,15 @@ public void executeAuditMutations(SharedSessionContractImplementor session) {
 		final List<AuditChangeSet.EntityChange<EntityAuditSupport>> entityChanges = changeSet.entityChanges();
 		final List<AuditChangeSet.CollectionChange<CollectionAuditSupport>> collectionChanges = changeSet.collectionChanges();
 		final List<FlushOperation> operations = new ArrayList<>( entityChanges.size() * 2 + collectionChanges.size() * 4 );
-		createEntityTransactionEndOperations( entityChanges, changesetId, operations );
-		createEntityAuditInsertOperations( entityChanges, changesetId, session, operations );
+		final var asyncAuditWriter = session.getFactory().getAsyncAuditWriter();
+		if ( asyncAuditWriter == null ) {
+			createEntityTransactionEndOperations( entityChanges, changesetId, operations );
+			createEntityAuditInsertOperations( entityChanges, changesetId, session, operations );
+		}
+		else {
+			// entity audit rows are written after the transaction commits
+			deferEntityAuditOperations( asyncAuditWriter, entityChanges, changesetId, session );
+		}
 		createCollectionAuditOperations( collectionChanges, changesetId, operations );
 
 		try {
@@ -168,6 +176,41 @@ private void populateModifiedEntityNames(
 		return null;
 	}
 
+	private void deferEntityAuditOperations(
+			AsyncAuditWriter asyncAuditWriter,
+			List<AuditChangeSet.EntityChange<EntityAuditSupport>> entityChanges,
+			Object changesetId,
+			SharedSessionContractImplementor session) {
+		if ( entityChanges.isEmpty() ) {
+			return;
+		}
+		final List<AuditChangeSet.EntityChange<EntityAuditSupport>> capturedChanges =
+				new ArrayList<>( entityChanges.size() );
+		for ( var change : entityChanges ) {
+			capturedChanges.add( new AuditChangeSet.EntityChange<>(
+					AsyncAuditWriter.copyEntityKey( change.entityKey(), session ),
+					change.entity(),
+					AsyncAuditWriter.copyState( change.entityKey(), change.values(), session ),
+					change.modificationType(),
+					change.entityAuditHandler()
+			) );
+		}
+		// the bind plans carry the changeset id of this transaction, and only
+		// the copied identifier and state, never the managed entity instance
+		final List<FlushOperation> operations = new ArrayList<>( capturedChanges.size() * 2 );
+		createEntityTransactionEndOperations( capturedChanges, changesetId, operations );
+		createEntityAuditInsertOperations( capturedChanges, changesetId, session, operations );
+		// queued before the transaction commits, so that the changesets
+		// of an entity are written in the order in which they commit
+		final var submission = asyncAuditWriter.submit( session.getTenantIdentifierValue(), writerSession -> {
+			final var executor = PlanStepExecutorFactory.create( writerSession );
+			executor.execute( operations, null, null );
+			executor.finishUp();
+		} );
+		session.getTransactionCompletionCallbacks()
+				.registerCallback( (success, completedSession) -> submission.complete( success ) );
+	}
+
 	private void createEntityTransactionEndOperations(
 			List<AuditChangeSet.EntityChange<EntityAuditSupport>> changes,
 			Object changesetId,
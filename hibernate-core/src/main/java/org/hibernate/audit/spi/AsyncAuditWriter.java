@@ -0,0 +1,373 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.audit.spi;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import jakarta.annotation.Nullable;
+
+import org.hibernate.Incubating;
+import org.hibernate.audit.AuditException;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hibernate.internal.CoreMessageLogger.CORE_LOGGER;
+
+/**
+ * Writes the audit rows of committed transactions in the background,
+ * when {@linkplain org.hibernate.cfg.StateManagementSettings#AUDIT_ASYNC_WRITES
+ * asynchronous audit writing} is enabled.
+ * <p>
+ * Before a transaction completes, the audit writes for its merged entity
+ * changes are {@linkplain #submit submitted} to a bounded queue, and they
+ * are {@linkplain Submission#complete released} once the transaction has
+ * committed, or discarded if it rolled back. A single background thread
+ * drains the queue in submission order, writing the rows of many changesets
+ * in one transaction, using large JDBC batches. Since a transaction holds
+ * the locks on the rows it changed until it commits, another transaction
+ * changing the same entity only reaches completion after it, and so the
+ * rows of a given entity are always written in changeset order, as required
+ * by the {@linkplain org.hibernate.audit.AuditStrategy#VALIDITY validity
+ * strategy}. If the writer thread stops, for example, because it was
+ * interrupted, the next submission starts a new one.
+ * <p>
+ * The queue is held in memory, and so queued audit rows are lost if the
+ * JVM terminates abnormally. When the session factory is closed, the
+ * queue is drained before the factory releases its resources.
+ *
+ * @see org.hibernate.cfg.StateManagementSettings#AUDIT_ASYNC_WRITES
+ *
+ * @since 8.1
+ */
+@Incubating
+public class AsyncAuditWriter {
+	/**
+	 * The default capacity of the queue of changesets waiting to be written.
+	 *
+	 * @see org.hibernate.cfg.StateManagementSettings#AUDIT_ASYNC_QUEUE_CAPACITY
+	 */
+	public static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+
+	private static final int MAX_CHANGESETS_PER_TRANSACTION = 100;
+	private static final int MIN_JDBC_BATCH_SIZE = 50;
+	private static final long POLL_TIMEOUT_MILLIS = 100;
+
+	/**
+	 * The deferred audit writes of a single committed changeset.
+	 */
+	@FunctionalInterface
+	public interface AuditWork {
+		/**
+		 * Write the audit rows using the given session, which has an
+		 * active transaction, and belongs to the tenant of the session
+		 * which committed the changeset.
+		 */
+		void write(SessionImplementor session);
+	}
+
+	/**
+	 * The audit writes of a changeset whose transaction has not completed
+	 * yet. They are written in the order in which they were submitted, but
+	 * only once {@link #complete} has been called with the outcome of the
+	 * transaction.
+	 */
+	public final class Submission {
+		private final @Nullable Object tenantId;
+		private final AuditWork work;
+		private final boolean direct;
+		private final CountDownLatch completion = new CountDownLatch( 1 );
+		private volatile boolean committed;
+
+		private Submission(@Nullable Object tenantId, AuditWork work, boolean direct) {
+			this.tenantId = tenantId;
+			this.work = work;
+			this.direct = direct;
+		}
+
+		/**
+		 * Release the audit writes if the transaction committed, or
+		 * discard them if it rolled back.
+		 */
+		public void complete(boolean committed) {
+			this.committed = committed;
+			completion.countDown();
+			if ( direct ) {
+				// nobody is draining the queue anymore
+				write( List.of( this ) );
+			}
+		}
+
+		private boolean awaitCommitted() {
+			boolean interrupted = false;
+			try {
+				while ( true ) {
+					try {
+						completion.await();
+						return committed;
+					}
+					catch (InterruptedException e) {
+						// the transaction completes shortly, and its
+						// audit writes must not be lost
+						interrupted = true;
+					}
+				}
+			}
+			finally {
+				if ( interrupted ) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+	}
+
+	private final SessionFactoryImplementor factory;
+	private final BlockingQueue<Submission> queue;
+	private final int jdbcBatchSize;
+
+	private final AtomicInteger backlog = new AtomicInteger();
+	private final AtomicLong writtenChangesetCount = new AtomicLong();
+	private final AtomicLong failedChangesetCount = new AtomicLong();
+
+	private @Nullable Thread writerThread;
+	private volatile boolean closed;
+	/**
+	 * Held for reading while submitting, and for writing while closing,
+	 * so that no work is queued after {@link #close} drains the queue.
+	 */
+	private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+
+	public AsyncAuditWriter(SessionFactoryImplementor factory, int queueCapacity) {
+		this.factory = factory;
+		this.queue = new ArrayBlockingQueue<>( queueCapacity );
+		this.jdbcBatchSize = Math.max( factory.getSessionFactoryOptions().getJdbcBatchSize(), MIN_JDBC_BATCH_SIZE );
+	}
+
+	/**
+	 * Queue the audit writes of a changeset, before its transaction
+	 * completes. If the queue is full, wait until the writer thread
+	 * makes room, restarting the writer thread if it has stopped.
+	 * The caller must {@linkplain Submission#complete complete} the
+	 * returned submission when the transaction completes.
+	 *
+	 * @param tenantId the tenant of the session which owns the changeset
+	 * @param work the audit writes
+	 */
+	public Submission submit(@Nullable Object tenantId, AuditWork work) {
+		backlog.incrementAndGet();
+		closeLock.readLock().lock();
+		try {
+			if ( closed ) {
+				return new Submission( tenantId, work, true );
+			}
+			final var submission = new Submission( tenantId, work, false );
+			do {
+				startWriterThread();
+			}
+			while ( !queue.offer( submission, POLL_TIMEOUT_MILLIS, MILLISECONDS ) );
+			return submission;
+		}
+		catch (InterruptedException e) {
+			backlog.decrementAndGet();
+			Thread.currentThread().interrupt();
+			throw new AuditException( "Interrupted while queueing audit rows", e );
+		}
+		finally {
+			closeLock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * The number of submitted changesets whose audit rows have not
+	 * yet been written or discarded.
+	 */
+	public int getBacklog() {
+		return backlog.get();
+	}
+
+	/**
+	 * The number of changesets whose audit rows were written.
+	 */
+	public long getWrittenChangesetCount() {
+		return writtenChangesetCount.get();
+	}
+
+	/**
+	 * The number of changesets whose audit rows could not be written.
+	 */
+	public long getFailedChangesetCount() {
+		return failedChangesetCount.get();
+	}
+
+	/**
+	 * Write all queued audit rows, and stop the writer thread.
+	 */
+	public void close() {
+		// wait for submissions in progress
+		closeLock.writeLock().lock();
+		try {
+			closed = true;
+		}
+		finally {
+			closeLock.writeLock().unlock();
+		}
+		final Thread thread;
+		synchronized ( this ) {
+			thread = writerThread;
+		}
+		if ( thread != null ) {
+			try {
+				thread.join();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				CORE_LOGGER.asyncAuditWriteInterrupted( backlog.get() );
+				return;
+			}
+		}
+		// anything queued after the writer thread stopped
+		final List<Submission> remaining = new ArrayList<>();
+		queue.drainTo( remaining );
+		if ( !remaining.isEmpty() ) {
+			write( remaining );
+		}
+	}
+
+	private synchronized void startWriterThread() {
+		if ( writerThread == null && !closed ) {
+			final var thread = new Thread( this::drain, "hibernate-audit-writer" );
+			thread.setDaemon( true );
+			thread.start();
+			writerThread = thread;
+		}
+	}
+
+	private void drain() {
+		try {
+			final List<Submission> batch = new ArrayList<>( MAX_CHANGESETS_PER_TRANSACTION );
+			while ( !closed || !queue.isEmpty() ) {
+				final var first = queue.poll( POLL_TIMEOUT_MILLIS, MILLISECONDS );
+				if ( first != null ) {
+					batch.add( first );
+					queue.drainTo( batch, MAX_CHANGESETS_PER_TRANSACTION - 1 );
+					write( batch );
+					batch.clear();
+				}
+			}
+		}
+		catch (InterruptedException e) {
+			CORE_LOGGER.asyncAuditWriteInterrupted( backlog.get() );
+		}
+		finally {
+			// the next submission, or close(), takes over the queue
+			synchronized ( this ) {
+				if ( writerThread == Thread.currentThread() ) {
+					writerThread = null;
+				}
+			}
+		}
+	}
+
+	private void write(List<Submission> batch) {
+		// group by tenant, preserving the order of the changesets of each tenant
+		final Map<Object, List<AuditWork>> workByTenant = new LinkedHashMap<>();
+		for ( var submission : batch ) {
+			if ( submission.awaitCommitted() ) {
+				workByTenant.computeIfAbsent( submission.tenantId, tenantId -> new ArrayList<>() )
+						.add( submission.work );
+			}
+			else {
+				backlog.decrementAndGet();
+			}
+		}
+		workByTenant.forEach( (tenantId, work) -> {
+			try {
+				if ( !write( tenantId, work ) && work.size() > 1 ) {
+					// isolate the changesets which cannot be written
+					for ( var changeset : work ) {
+						write( tenantId, List.of( changeset ) );
+					}
+				}
+			}
+			finally {
+				backlog.addAndGet( -work.size() );
+			}
+		} );
+	}
+
+	private boolean write(@Nullable Object tenantId, List<AuditWork> work) {
+		final var sessionBuilder = factory.withOptions();
+		if ( tenantId != null ) {
+			sessionBuilder.tenantIdentifier( tenantId );
+		}
+		// opening the session, or beginning the transaction, may fail too
+		try ( var session = (SessionImplementor) sessionBuilder.openSession() ) {
+			session.setJdbcBatchSize( jdbcBatchSize );
+			final var transaction = session.beginTransaction();
+			try {
+				for ( var changeset : work ) {
+					changeset.write( session );
+				}
+				session.getJdbcCoordinator().executeBatch();
+				transaction.commit();
+			}
+			catch (RuntimeException e) {
+				if ( transaction.isActive() ) {
+					transaction.rollback();
+				}
+				throw e;
+			}
+			writtenChangesetCount.addAndGet( work.size() );
+			return true;
+		}
+		catch (RuntimeException e) {
+			if ( work.size() == 1 ) {
+				failedChangesetCount.incrementAndGet();
+				CORE_LOGGER.asyncAuditWriteFailed( 1, e );
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Copy the identifier of the given entity key, so that it is not
+	 * affected by later changes made by the program to a mutable
+	 * composite identifier.
+	 */
+	public static EntityKey copyEntityKey(EntityKey entityKey, SharedSessionContractImplementor session) {
+		final var persister = entityKey.getPersister();
+		return new EntityKey(
+				persister.getIdentifierType().deepCopy( entityKey.getIdentifier(), session.getFactory() ),
+				persister
+		);
+	}
+
+	/**
+	 * Copy the given entity state, so that it is not affected by later
+	 * changes made by the program to mutable attribute values.
+	 */
+	public static Object[] copyState(EntityKey entityKey, Object[] values, SharedSessionContractImplementor session) {
+		final var propertyTypes = entityKey.getPersister().getPropertyTypes();
+		final Object[] copy = new Object[values.length];
+		for ( int i = 0; i < values.length; i++ ) {
+			copy[i] = i < propertyTypes.length
+					? propertyTypes[i].deepCopy( values[i], session.getFactory() )
+					: values[i];
+		}
+		return copy;
+	}
+}
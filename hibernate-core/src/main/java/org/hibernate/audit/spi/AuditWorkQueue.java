@@ -4,7 +4,9 @@
  */
 package org.hibernate.audit.spi;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import jakarta.annotation.Nullable;
@@ -15,6 +17,8 @@
 import org.hibernate.audit.ModificationType;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionDelegatorBaseImpl;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.TransactionCompletionCallbacks;
 import org.hibernate.persister.collection.CollectionPersister;
@@ -38,7 +42,11 @@
  *     <li>DEL + ADD -> MOD (entity re-created with potentially different state)
  * </ul>
  * All audit rows (INSERT + optional REVEND UPDATE) are written
- * at {@code beforeTransactionCompletion}.
+ * at {@code beforeTransactionCompletion}, unless
+ * {@linkplain org.hibernate.cfg.StateManagementSettings#AUDIT_ASYNC_WRITES
+ * asynchronous audit writing} is enabled, in which case the entity
+ * audit rows are handed to the {@link AsyncAuditWriter}, which writes
+ * them after the transaction commits.
  *
  * @see AuditWriter
  * @since 7.4
@@ -143,16 +151,23 @@ public void setChangesetContext(Object changelog, Session changesetSession) {
 	@Override
 	public void doBeforeTransactionCompletion(SharedSessionContractImplementor session) {
 		try {
+			final var asyncAuditWriter = session.getFactory().getAsyncAuditWriter();
+			if ( asyncAuditWriter != null ) {
+				// Entity audit rows are written after the transaction commits
+				deferEntityAuditRows( asyncAuditWriter, session );
+			}
 			// Entity audit rows first
 			for ( var entry : changeSet.entityChanges() ) {
 				final var entityKey = entry.entityKey();
-				entry.entityAuditHandler().writeAuditRow(
-						entityKey,
-						entry.entity(),
-						entry.values(),
-						entry.modificationType(),
-						session
-				);
+				if ( asyncAuditWriter == null ) {
+					entry.entityAuditHandler().writeAuditRow(
+							entityKey,
+							entry.entity(),
+							entry.values(),
+							entry.modificationType(),
+							session
+					);
+				}
 				if ( trackingListener != null ) {
 					trackingListener.entityChanged(
 							entityKey.getPersister().getMappedClass(),
@@ -183,6 +198,60 @@ public void doBeforeTransactionCompletion(SharedSessionContractImplementor sessi
 		}
 	}
 
+	private void deferEntityAuditRows(AsyncAuditWriter asyncAuditWriter, SharedSessionContractImplementor session) {
+		final var entityChanges = changeSet.entityChanges();
+		if ( entityChanges.isEmpty() ) {
+			return;
+		}
+		final Object changesetId = session.getCurrentChangesetIdentifier();
+		final List<AuditChangeSet.EntityChange<AuditWriter>> capturedChanges = new ArrayList<>( entityChanges.size() );
+		for ( var entry : entityChanges ) {
+			// the writer thread must not read the managed entity instance,
+			// so only the identifier and a copy of the state are queued
+			capturedChanges.add( new AuditChangeSet.EntityChange<>(
+					AsyncAuditWriter.copyEntityKey( entry.entityKey(), session ),
+					null,
+					AsyncAuditWriter.copyState( entry.entityKey(), entry.values(), session ),
+					entry.modificationType(),
+					entry.entityAuditHandler()
+			) );
+		}
+		// queued before the transaction commits, so that the changesets
+		// of an entity are written in the order in which they commit
+		final var submission = asyncAuditWriter.submit( session.getTenantIdentifierValue(), writerSession -> {
+			final var changesetSession = new ChangesetSession( writerSession, changesetId );
+			for ( var entry : capturedChanges ) {
+				entry.entityAuditHandler().writeAuditRow(
+						entry.entityKey(),
+						entry.entity(),
+						entry.values(),
+						entry.modificationType(),
+						changesetSession
+				);
+			}
+		} );
+		session.getTransactionCompletionCallbacks()
+				.registerCallback( (success, completedSession) -> submission.complete( success ) );
+	}
+
+	/**
+	 * Writes audit rows with the changeset id of the committed
+	 * transaction, instead of the id of its own transaction.
+	 */
+	private static class ChangesetSession extends SessionDelegatorBaseImpl {
+		private final Object changesetId;
+
+		private ChangesetSession(SessionImplementor delegate, Object changesetId) {
+			super( delegate );
+			this.changesetId = changesetId;
+		}
+
+		@Override
+		public Object getCurrentChangesetIdentifier() {
+			return changesetId;
+		}
+	}
+
 	private void populateModifiedEntityNames(SharedSessionContractImplementor session) {
 		final var supplier = ChangelogSupplier.resolve( session.getFactory().getServiceRegistry() );
 		if ( supplier != null && supplier.getModifiedEntitiesProperty() != null ) {
@@ -32,6 +32,7 @@
 import org.hibernate.SessionEventListener;
 import org.hibernate.SessionFactoryObserver;
 import org.hibernate.audit.AuditStrategy;
+import org.hibernate.audit.spi.AsyncAuditWriter;
 import org.hibernate.StatementObserver;
 import org.hibernate.boot.model.internal.TemporalHelper;
 import org.hibernate.cfg.JdbcSettings;
@@ -93,6 +94,8 @@
 import static org.hibernate.boot.model.internal.AuditHelper.determineAuditStrategy;
 import static org.hibernate.cfg.AvailableSettings.*;
 import static org.hibernate.cfg.DialectSpecificSettings.ORACLE_OSON_DISABLED;
+import static org.hibernate.cfg.StateManagementSettings.AUDIT_ASYNC_QUEUE_CAPACITY;
+import static org.hibernate.cfg.StateManagementSettings.AUDIT_ASYNC_WRITES;
 import static org.hibernate.engine.config.spi.StandardConverters.BOOLEAN;
 import static org.hibernate.id.uuid.LocalObjectUuidHelper.generateLocalObjectUuid;
 import static org.hibernate.internal.LockOptionsHelper.applyPropertiesToLockOptions;
@@ -138,6 +141,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private FormatMapper jsonFormatMapper;
 	private FormatMapper xmlFormatMapper;
 	private final boolean xmlFormatMapperLegacyFormatEnabled;
+	private final boolean jsonStreamingEnabled;
 	private final boolean safeModeEnabled;
 
 	// SessionFactory behavior
@@ -147,6 +151,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 	// Session behavior
 	private boolean flushBeforeCompletionEnabled;
+	private int collectionOperationLogThreshold;
+	private int collectionOperationLogLimit;
 	private boolean autoCloseSessionEnabled;
 	private boolean jtaTransactionAccessEnabled;
 	private boolean allowOutOfTransactionUpdateOperations;
@@ -174,12 +180,19 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean bidirectionalAssociationManagementEnabled;
 	private TemporalTableStrategy temporalTableStrategy;
 	private AuditStrategy auditStrategy;
+	private boolean auditAsyncWritesEnabled;
+	private int auditAsyncQueueCapacity;
 	private int defaultBatchFetchSize;
 	private Integer maximumFetchDepth;
+	private int multiLoadBulkThreshold;
+	private boolean enhancedProxyBatchResolutionEnabled;
+	private boolean compactReadOnlyEntriesEnabled;
+	private int naturalIdResolutionCacheSize;
 	private boolean subselectFetchEnabled;
 	private Nulls defaultNullPrecedence;
 	private boolean orderUpdatesEnabled;
 	private boolean orderInsertsEnabled;
+	private boolean bulkLoadEnabled;
 	private boolean collectionsInDefaultFetchGroupEnabled = true;
 	private final boolean unownedAssociationTransientCheck;
 	private final boolean passProcedureParameterNames;
@@ -217,6 +230,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	// Caching
 	private boolean secondLevelCacheEnabled;
 	private boolean queryCacheEnabled;
+	private boolean temporalCacheEnabled;
 	private CacheLayout queryCacheLayout;
 	private TimestampsCacheFactory timestampsCacheFactory;
 	private String cacheRegionPrefix;
@@ -229,6 +243,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean getGeneratedKeysEnabled;
 	private int jdbcBatchSize;
 	private Integer jdbcFetchSize;
+	private int statementCacheSize;
 	private boolean scrollableResultSetsEnabled;
 	private boolean commentsEnabled;
 	private PhysicalConnectionHandlingMode connectionHandlingMode;
@@ -327,6 +342,7 @@ public BootstrapContext getBootstrapContext() {
 								.isXmlFormatMapperLegacyFormatEnabled(),
 				formatMapperCreationContext
 		);
+		jsonStreamingEnabled = configurationService.getSetting( JSON_STREAMING, BOOLEAN, false );
 
 		sessionFactoryName = (String) settings.get( SESSION_FACTORY_NAME );
 		sessionFactoryNameAlsoJndiName =
@@ -338,6 +354,8 @@ public BootstrapContext getBootstrapContext() {
 				configurationService.getSetting( FLUSH_BEFORE_COMPLETION, BOOLEAN, true );
 		autoCloseSessionEnabled =
 				configurationService.getSetting( AUTO_CLOSE_SESSION, BOOLEAN, false );
+		collectionOperationLogThreshold = getInt( COLLECTION_OPERATION_LOG_THRESHOLD, settings, 0 );
+		collectionOperationLogLimit = getInt( COLLECTION_OPERATION_LOG_LIMIT, settings, 1000 );
 
 		statisticsEnabled =
 				configurationService.getSetting( GENERATE_STATISTICS, BOOLEAN, false );
@@ -392,6 +410,8 @@ public BootstrapContext getBootstrapContext() {
 			temporalTableStrategy = dialect.getTemporalTableSupport().getDefaultTemporalTableStrategy();
 		}
 		auditStrategy = determineAuditStrategy( settings );
+		auditAsyncWritesEnabled = getBoolean( AUDIT_ASYNC_WRITES, settings, false );
+		auditAsyncQueueCapacity = getInt( AUDIT_ASYNC_QUEUE_CAPACITY, settings, AsyncAuditWriter.DEFAULT_QUEUE_CAPACITY );
 
 		multiTenancyEnabled = MultiTenancy.isMultiTenancyEnabled( serviceRegistry );
 		currentTenantIdentifierResolver = MultiTenancy.getTenantIdentifierResolver( settings, serviceRegistry );
@@ -400,12 +420,17 @@ public BootstrapContext getBootstrapContext() {
 
 		defaultBatchFetchSize = getInt( DEFAULT_BATCH_FETCH_SIZE, settings, -1 );
 		subselectFetchEnabled = getBoolean( USE_SUBSELECT_FETCH, settings );
+		multiLoadBulkThreshold = getInt( MULTI_LOAD_BULK_THRESHOLD, settings, 0 );
+		enhancedProxyBatchResolutionEnabled = getBoolean( ENHANCED_PROXY_BATCH_RESOLUTION, settings );
+		compactReadOnlyEntriesEnabled = getBoolean( COMPACT_READ_ONLY_ENTRIES, settings );
+		naturalIdResolutionCacheSize = getInt( NATURAL_ID_RESOLUTION_CACHE_SIZE, settings, 0 );
 		maximumFetchDepth = getInteger( MAX_FETCH_DEPTH, settings );
 
 		defaultNullPrecedence = getDefaultNullPrecedence( settings.get( DEFAULT_NULL_ORDERING ) );
 
 		orderUpdatesEnabled = getBoolean( ORDER_UPDATES, settings );
 		orderInsertsEnabled = getBoolean( ORDER_INSERTS, settings );
+		bulkLoadEnabled = getBoolean( BULK_LOAD, settings );
 
 		callbacksEnabled = getBoolean( JPA_CALLBACKS_ENABLED, settings, true );
 
@@ -454,6 +479,8 @@ public BootstrapContext getBootstrapContext() {
 					configurationService.getSetting( USE_SECOND_LEVEL_CACHE, BOOLEAN, true );
 			queryCacheEnabled =
 					configurationService.getSetting( USE_QUERY_CACHE, BOOLEAN, false );
+			temporalCacheEnabled =
+					configurationService.getSetting( USE_TEMPORAL_CACHE, BOOLEAN, false );
 			cacheRegionPrefix = extractPropertyValue( CACHE_REGION_PREFIX, settings );
 			queryCacheLayout =
 					configurationService.getSetting(
@@ -482,6 +509,7 @@ public BootstrapContext getBootstrapContext() {
 		else {
 			secondLevelCacheEnabled = false;
 			queryCacheEnabled = false;
+			temporalCacheEnabled = false;
 			queryCacheLayout = CacheLayout.AUTO;
 			timestampsCacheFactory = null;
 			cacheRegionPrefix = null;
@@ -502,6 +530,7 @@ public BootstrapContext getBootstrapContext() {
 				getBoolean( USE_GET_GENERATED_KEYS, settings, meta.supportsGetGeneratedKeys() );
 
 		jdbcFetchSize = getInteger( STATEMENT_FETCH_SIZE, settings );
+		statementCacheSize = getInt( STATEMENT_CACHE_SIZE, settings, 0 );
 
 		connectionHandlingMode = interpretConnectionHandlingMode( settings, serviceRegistry );
 
@@ -518,7 +547,7 @@ public BootstrapContext getBootstrapContext() {
 
 		criteriaValueHandlingMode = ValueHandlingMode.interpret( settings.get( CRITERIA_VALUE_HANDLING_MODE ) );
 		criteriaCopyTreeEnabled = getBoolean( CRITERIA_COPY_TREE, settings, jpaBootstrap );
-		criteriaPlanCacheEnabled = getBoolean( CRITERIA_PLAN_CACHE_ENABLED, settings );
+		criteriaPlanCacheEnabled = getBoolean( CRITERIA_PLAN_CACHE_ENABLED, settings, true );
 
 		nativeJdbcParametersIgnored = getBoolean( NATIVE_IGNORE_JDBC_PARAMETERS, settings );
 
@@ -1043,6 +1072,16 @@ public boolean isFlushBeforeCompletionEnabled() {
 		return flushBeforeCompletionEnabled;
 	}
 
+	@Override
+	public int getCollectionOperationLogThreshold() {
+		return collectionOperationLogThreshold;
+	}
+
+	@Override
+	public int getCollectionOperationLogLimit() {
+		return collectionOperationLogLimit;
+	}
+
 	@Override
 	public boolean isAutoCloseSessionEnabled() {
 		return autoCloseSessionEnabled;
@@ -1210,6 +1249,16 @@ public AuditStrategy getAuditStrategy() {
 		return auditStrategy;
 	}
 
+	@Override
+	public boolean isAuditAsyncWritesEnabled() {
+		return auditAsyncWritesEnabled;
+	}
+
+	@Override
+	public int getAuditAsyncQueueCapacity() {
+		return auditAsyncQueueCapacity;
+	}
+
 	@Override
 	public int getDefaultBatchFetchSize() {
 		return defaultBatchFetchSize;
@@ -1220,6 +1269,26 @@ public Integer getMaximumFetchDepth() {
 		return maximumFetchDepth;
 	}
 
+	@Override
+	public int getMultiLoadBulkThreshold() {
+		return multiLoadBulkThreshold;
+	}
+
+	@Override
+	public boolean isEnhancedProxyBatchResolutionEnabled() {
+		return enhancedProxyBatchResolutionEnabled;
+	}
+
+	@Override
+	public boolean isCompactReadOnlyEntriesEnabled() {
+		return compactReadOnlyEntriesEnabled;
+	}
+
+	@Override
+	public int getNaturalIdResolutionCacheSize() {
+		return naturalIdResolutionCacheSize;
+	}
+
 	@Override
 	public boolean isSubselectFetchEnabled() {
 		return subselectFetchEnabled;
@@ -1240,6 +1309,11 @@ public boolean isOrderInsertsEnabled() {
 		return orderInsertsEnabled;
 	}
 
+	@Override
+	public boolean isBulkLoadEnabled() {
+		return bulkLoadEnabled;
+	}
+
 	@Override
 	public boolean isMultiTenancyEnabled() {
 		return multiTenancyEnabled;
@@ -1280,6 +1354,11 @@ public boolean isQueryCacheEnabled() {
 		return queryCacheEnabled;
 	}
 
+	@Override
+	public boolean isTemporalCacheEnabled() {
+		return temporalCacheEnabled;
+	}
+
 	@Override
 	public CacheLayout getQueryCacheLayout() {
 		return queryCacheLayout;
@@ -1335,6 +1414,11 @@ public Integer getJdbcFetchSize() {
 		return jdbcFetchSize;
 	}
 
+	@Override
+	public int getStatementCacheSize() {
+		return statementCacheSize;
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return connectionHandlingMode;
@@ -1547,6 +1631,11 @@ public boolean isXmlFormatMapperLegacyFormatEnabled() {
 		return xmlFormatMapperLegacyFormatEnabled;
 	}
 
+	@Override
+	public boolean isJsonStreamingEnabled() {
+		return jsonStreamingEnabled;
+	}
+
 	@Override
 	public boolean isPassProcedureParameterNames() {
 		return passProcedureParameterNames;
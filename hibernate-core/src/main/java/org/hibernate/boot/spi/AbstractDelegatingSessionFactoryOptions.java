@@ -116,6 +116,16 @@ public boolean isFlushBeforeCompletionEnabled() {
 		return delegate.isFlushBeforeCompletionEnabled();
 	}
 
+	@Override
+	public int getCollectionOperationLogThreshold() {
+		return delegate.getCollectionOperationLogThreshold();
+	}
+
+	@Override
+	public int getCollectionOperationLogLimit() {
+		return delegate.getCollectionOperationLogLimit();
+	}
+
 	@Override
 	public boolean isAutoCloseSessionEnabled() {
 		return delegate.isAutoCloseSessionEnabled();
@@ -201,6 +211,26 @@ public Integer getMaximumFetchDepth() {
 		return delegate.getMaximumFetchDepth();
 	}
 
+	@Override
+	public int getMultiLoadBulkThreshold() {
+		return delegate.getMultiLoadBulkThreshold();
+	}
+
+	@Override
+	public boolean isEnhancedProxyBatchResolutionEnabled() {
+		return delegate.isEnhancedProxyBatchResolutionEnabled();
+	}
+
+	@Override
+	public boolean isCompactReadOnlyEntriesEnabled() {
+		return delegate.isCompactReadOnlyEntriesEnabled();
+	}
+
+	@Override
+	public int getNaturalIdResolutionCacheSize() {
+		return delegate.getNaturalIdResolutionCacheSize();
+	}
+
 	@Override
 	public boolean isSubselectFetchEnabled() {
 		return delegate.isSubselectFetchEnabled();
@@ -221,6 +251,11 @@ public boolean isOrderInsertsEnabled() {
 		return delegate.isOrderInsertsEnabled();
 	}
 
+	@Override
+	public boolean isBulkLoadEnabled() {
+		return delegate.isBulkLoadEnabled();
+	}
+
 	@Override
 	public boolean isMultiTenancyEnabled() {
 		return delegate.isMultiTenancyEnabled();
@@ -271,6 +306,11 @@ public boolean isQueryCacheEnabled() {
 		return delegate.isQueryCacheEnabled();
 	}
 
+	@Override
+	public boolean isTemporalCacheEnabled() {
+		return delegate.isTemporalCacheEnabled();
+	}
+
 	@Override
 	public CacheLayout getQueryCacheLayout() {
 		return delegate.getQueryCacheLayout();
@@ -326,6 +366,11 @@ public Integer getJdbcFetchSize() {
 		return delegate.getJdbcFetchSize();
 	}
 
+	@Override
+	public int getStatementCacheSize() {
+		return delegate.getStatementCacheSize();
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return delegate.getPhysicalConnectionHandlingMode();
@@ -401,6 +446,16 @@ public AuditStrategy getAuditStrategy() {
 		return delegate.getAuditStrategy();
 	}
 
+	@Override
+	public boolean isAuditAsyncWritesEnabled() {
+		return delegate.isAuditAsyncWritesEnabled();
+	}
+
+	@Override
+	public int getAuditAsyncQueueCapacity() {
+		return delegate.getAuditAsyncQueueCapacity();
+	}
+
 	@Override
 	public ValueHandlingMode getCriteriaValueHandlingMode() {
 		return delegate.getCriteriaValueHandlingMode();
@@ -560,6 +615,11 @@ public boolean isXmlFormatMapperLegacyFormatEnabled() {
 		return delegate.isXmlFormatMapperLegacyFormatEnabled();
 	}
 
+	@Override
+	public boolean isJsonStreamingEnabled() {
+		return delegate.isJsonStreamingEnabled();
+	}
+
 	@Override
 	public boolean isPassProcedureParameterNames() {
 		return delegate.isPassProcedureParameterNames();
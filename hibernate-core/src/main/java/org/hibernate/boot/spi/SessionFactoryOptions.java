@@ -257,6 +257,50 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 	 */
 	Integer getMaximumFetchDepth();
 
+	/**
+	 * The minimum number of keys for which a multi-load passes all
+	 * the keys to the database in a single statement.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#MULTI_LOAD_BULK_THRESHOLD
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	int getMultiLoadBulkThreshold();
+
+	/**
+	 * Are uninitialized references to entities enhanced for use as
+	 * proxies all initialized together, when any one is accessed?
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#ENHANCED_PROXY_BATCH_RESOLUTION
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	boolean isEnhancedProxyBatchResolutionEnabled();
+
+	/**
+	 * Are the entries of loaded read-only entities replaced with
+	 * compact entries?
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#COMPACT_READ_ONLY_ENTRIES
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	boolean isCompactReadOnlyEntriesEnabled();
+
+	/**
+	 * The maximum number of entries of the factory-level natural-id
+	 * resolution cache, or {@code 0} if the cache is disabled.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#NATURAL_ID_RESOLUTION_CACHE_SIZE
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	int getNaturalIdResolutionCacheSize();
+
 	/**
 	 * Is subselect fetching enabled by default in new sessions?
 	 *
@@ -283,6 +327,14 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 	 */
 	boolean isOrderInsertsEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.BatchSettings#BULK_LOAD
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	boolean isBulkLoadEnabled();
+
 	/**
 	 * Is there a
 	 * {@linkplain org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider
@@ -350,6 +402,17 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 	 */
 	boolean isQueryCacheEnabled();
 
+	/**
+	 * Is the {@linkplain org.hibernate.cache.spi.TemporalDataCache temporal data cache}
+	 * enabled?
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#USE_TEMPORAL_CACHE
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	boolean isTemporalCacheEnabled();
+
 	/**
 	 * The {@linkplain CacheLayout layout} of entries in the query cache.
 	 *
@@ -426,6 +489,14 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 	 */
 	Integer getJdbcFetchSize();
 
+	/**
+	 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	int getStatementCacheSize();
+
 	/**
 	 * @see org.hibernate.cfg.JdbcSettings#CONNECTION_HANDLING
 	 *
@@ -485,6 +556,29 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 	 */
 	boolean isAutoCloseSessionEnabled();
 
+	/**
+	 * The minimum size of a list or bag of entities whose changes are tracked
+	 * using an operation log instead of a snapshot, or {@code 0} if operation
+	 * logs are disabled.
+	 *
+	 * @see org.hibernate.cfg.FlushSettings#COLLECTION_OPERATION_LOG_THRESHOLD
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	int getCollectionOperationLogThreshold();
+
+	/**
+	 * The maximum number of operations recorded in the operation log of a
+	 * collection.
+	 *
+	 * @see org.hibernate.cfg.FlushSettings#COLLECTION_OPERATION_LOG_LIMIT
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	int getCollectionOperationLogLimit();
+
 	/**
 	 * @see org.hibernate.cfg.TransactionSettings#ALLOW_JTA_TRANSACTION_ACCESS
 	 */
@@ -519,6 +613,27 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 	 */
 	AuditStrategy getAuditStrategy();
 
+	/**
+	 * Are audit rows written asynchronously, after transaction completion?
+	 *
+	 * @see StateManagementSettings#AUDIT_ASYNC_WRITES
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	boolean isAuditAsyncWritesEnabled();
+
+	/**
+	 * The capacity of the queue of changesets waiting to be written
+	 * asynchronously.
+	 *
+	 * @see StateManagementSettings#AUDIT_ASYNC_QUEUE_CAPACITY
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	int getAuditAsyncQueueCapacity();
+
 	/**
 	 * @see org.hibernate.cfg.AvailableSettings#CRITERIA_COPY_TREE
 	 */
@@ -529,7 +644,7 @@ default boolean isCriteriaCopyTreeEnabled() {
 	 * @see org.hibernate.cfg.AvailableSettings#CRITERIA_PLAN_CACHE_ENABLED
 	 */
 	default boolean isCriteriaPlanCacheEnabled() {
-		return false;
+		return true;
 	}
 
 	/**
@@ -707,6 +822,15 @@ default boolean isCollectionsInDefaultFetchGroupEnabled() {
 	@Incubating
 	boolean isXmlFormatMapperLegacyFormatEnabled();
 
+	/**
+	 * Whether JSON columns should be read as character streams.
+	 *
+	 * @since 8.1
+	 * @see org.hibernate.cfg.MappingSettings#JSON_STREAMING
+	 */
+	@Incubating
+	boolean isJsonStreamingEnabled();
+
 	/**
 	 * The default tenant identifier java type to use, in case no explicit tenant identifier property is defined.
 	 *
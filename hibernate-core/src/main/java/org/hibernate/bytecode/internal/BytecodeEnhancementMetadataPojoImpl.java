@@ -164,6 +164,14 @@ public PersistentAttributeInterceptable createEnhancedProxy(EntityKey entityKey,
 		// add the entity (proxy) instance to the PC
 		persistenceContext.addEnhancedProxy( entityKey, entity );
 
+		// if requested, queue it to be initialized along with the other
+		// enhanced proxies of the entity type (batch-loadable entities
+		// are already queued by the caller)
+		if ( session.getFactory().getSessionFactoryOptions().isEnhancedProxyBatchResolutionEnabled()
+				&& !entityKey.isBatchLoadable( session.getLoadQueryInfluencers() ) ) {
+			persistenceContext.getBatchFetchQueue().addPendingEnhancedProxyKey( entityKey );
+		}
+
 		// if requested, add the "holder entry" to the PC
 		if ( addEmptyEntry ) {
 			final var entityHolder = persistenceContext.getEntityHolder( entityKey );
@@ -13,6 +13,7 @@
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.cache.spi.Region;
 import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.TemporalDataCache;
 import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
@@ -183,6 +184,11 @@ public QueryResultsCache getQueryResultsCacheStrictly(String regionName) {
 		return null;
 	}
 
+	@Override
+	public TemporalDataCache getTemporalDataCache() {
+		return null;
+	}
+
 	@Override
 	public void close() {
 	}
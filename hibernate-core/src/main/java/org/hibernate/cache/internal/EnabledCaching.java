@@ -22,6 +22,7 @@
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.Region;
 import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.TemporalDataCache;
 import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
@@ -34,6 +35,7 @@
 import org.hibernate.cache.spi.SecondLevelCacheLogger;
 
 import static org.hibernate.cache.spi.RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+import static org.hibernate.cache.spi.RegionFactory.DEFAULT_TEMPORAL_DATA_REGION_UNQUALIFIED_NAME;
 import static org.hibernate.cache.spi.RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
 import static org.hibernate.internal.util.StringHelper.qualifyConditionally;
 import static org.hibernate.pretty.MessageHelper.collectionInfoString;
@@ -68,6 +70,7 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 	private final QueryResultsCache defaultQueryResultsCache;
 	private final Map<String, QueryResultsCache> namedQueryResultsCacheMap = new ConcurrentHashMap<>();
 
+	private final TemporalDataCache temporalDataCache;
 
 	public EnabledCaching(SessionFactoryImplementor sessionFactory) {
 		this.sessionFactory = sessionFactory;
@@ -82,6 +85,20 @@ public EnabledCaching(SessionFactoryImplementor sessionFactory) {
 			timestampsCache = new TimestampsCacheDisabledImpl();
 			defaultQueryResultsCache = null;
 		}
+		temporalDataCache =
+				options.isTemporalCacheEnabled()
+						? buildTemporalDataCache( sessionFactory )
+						: null;
+	}
+
+	private TemporalDataCache buildTemporalDataCache(SessionFactoryImplementor sessionFactory) {
+		final var temporalDataRegion =
+				regionFactory.buildTemporalDataRegion(
+						DEFAULT_TEMPORAL_DATA_REGION_UNQUALIFIED_NAME,
+						sessionFactory
+				);
+		regionsByName.put( temporalDataRegion.getName(), temporalDataRegion );
+		return new TemporalDataCacheImpl( temporalDataRegion );
 	}
 
 	private QueryResultsCache buildQueryResultsCache(SessionFactoryImplementor sessionFactory) {
@@ -425,6 +442,13 @@ public void evictAllRegions() {
 		evictCollectionData();
 		evictDefaultQueryRegion();
 		evictQueryRegions();
+		evictTemporalDataRegion();
+	}
+
+	private void evictTemporalDataRegion() {
+		if ( temporalDataCache != null ) {
+			temporalDataCache.clear();
+		}
 	}
 
 	@Override
@@ -432,6 +456,11 @@ public QueryResultsCache getDefaultQueryResultsCache() {
 		return defaultQueryResultsCache;
 	}
 
+	@Override
+	public TemporalDataCache getTemporalDataCache() {
+		return temporalDataCache;
+	}
+
 	private String getDefaultResultCacheName() {
 		return defaultQueryResultsCache.getRegion().getName();
 	}
@@ -15,6 +15,7 @@
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.TemporalDataRegion;
 import org.hibernate.cache.spi.TimestampsRegion;
 import org.hibernate.cache.spi.access.AccessType;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -87,4 +88,10 @@ public TimestampsRegion buildTimestampsRegion(
 			String regionName, SessionFactoryImplementor sessionFactory) {
 		throw new NoCacheRegionFactoryAvailableException();
 	}
+
+	@Override
+	public TemporalDataRegion buildTemporalDataRegion(
+			String regionName, SessionFactoryImplementor sessionFactory) {
+		throw new NoCacheRegionFactoryAvailableException();
+	}
 }
@@ -0,0 +1,167 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.io.Serializable;
+import java.util.Comparator;
+
+import org.hibernate.cache.spi.TemporalDataCache;
+import org.hibernate.cache.spi.TemporalDataRegion;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.monitor.spi.EventMonitor;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * The standard implementation of the {@link TemporalDataCache} interface.
+ * All snapshots of a given entity are stored in a single cache item, as
+ * arrays sorted by the start of their effective intervals, so that the
+ * snapshot effective at a given instant is found by binary search.
+ */
+public class TemporalDataCacheImpl implements TemporalDataCache {
+
+	private final TemporalDataRegion cacheRegion;
+
+	/**
+	 * The snapshots of an entity, ordered by the start of their
+	 * effective intervals. Effective intervals never overlap.
+	 */
+	private record Snapshots(Object[] starts, Object[] ends, Object[] entries)
+			implements Serializable {
+
+		/**
+		 * The index of the last snapshot effective from the given instant
+		 * or earlier, or {@code -1} if every snapshot is later.
+		 */
+		int floor(Object instant, Comparator<Object> comparator) {
+			int low = 0;
+			int high = starts.length - 1;
+			while ( low <= high ) {
+				final int mid = ( low + high ) >>> 1;
+				if ( comparator.compare( starts[mid], instant ) <= 0 ) {
+					low = mid + 1;
+				}
+				else {
+					high = mid - 1;
+				}
+			}
+			return high;
+		}
+
+		@Nullable Object find(Object instant, Comparator<Object> comparator) {
+			final int index = floor( instant, comparator );
+			return index >= 0 && comparator.compare( instant, ends[index] ) < 0
+					? entries[index]
+					: null;
+		}
+
+		Snapshots with(Object start, Object end, Object entry, Comparator<Object> comparator) {
+			final int index = floor( start, comparator );
+			if ( index >= 0 && comparator.compare( starts[index], start ) == 0 ) {
+				// the row was read again, replace it
+				final Object[] newEntries = entries.clone();
+				final Object[] newEnds = ends.clone();
+				newEntries[index] = entry;
+				newEnds[index] = end;
+				return new Snapshots( starts, newEnds, newEntries );
+			}
+			else {
+				final int position = index + 1;
+				return new Snapshots(
+						insert( starts, position, start ),
+						insert( ends, position, end ),
+						insert( entries, position, entry )
+				);
+			}
+		}
+
+		private static Object[] insert(Object[] array, int position, Object element) {
+			final Object[] result = new Object[array.length + 1];
+			System.arraycopy( array, 0, result, 0, position );
+			result[position] = element;
+			System.arraycopy( array, position, result, position + 1, array.length - position );
+			return result;
+		}
+	}
+
+	TemporalDataCacheImpl(TemporalDataRegion cacheRegion) {
+		this.cacheRegion = cacheRegion;
+	}
+
+	@Override
+	public TemporalDataRegion getRegion() {
+		return cacheRegion;
+	}
+
+	@Override
+	public void put(
+			Object key,
+			Object effectiveFrom,
+			Object effectiveTo,
+			Object cacheEntry,
+			Comparator<Object> comparator,
+			SharedSessionContractImplementor session) {
+		// a lost update here only results in a later cache miss
+		final var existing = getCachedData( key, session );
+		final var snapshots =
+				existing == null
+						? new Snapshots( new Object[] {effectiveFrom}, new Object[] {effectiveTo}, new Object[] {cacheEntry} )
+						: existing.with( effectiveFrom, effectiveTo, cacheEntry, comparator );
+		final var eventMonitor = session.getEventMonitor();
+		final var cachePutEvent = eventMonitor.beginCachePutEvent();
+		final var listenerManager = session.getEventListenerManager();
+		try {
+			listenerManager.cachePutStart();
+			cacheRegion.putIntoCache( key, snapshots, session );
+		}
+		finally {
+			eventMonitor.completeCachePutEvent(
+					cachePutEvent,
+					session,
+					cacheRegion,
+					true,
+					EventMonitor.CacheActionDescription.ENTITY_LOAD
+			);
+			listenerManager.cachePutEnd();
+		}
+	}
+
+	@Override
+	public @Nullable Object get(
+			Object key,
+			Object instant,
+			Comparator<Object> comparator,
+			SharedSessionContractImplementor session) {
+		final var snapshots = getCachedData( key, session );
+		return snapshots == null ? null : snapshots.find( instant, comparator );
+	}
+
+	private @Nullable Snapshots getCachedData(Object key, SharedSessionContractImplementor session) {
+		final var eventMonitor = session.getEventMonitor();
+		final var cacheGetEvent = eventMonitor.beginCacheGetEvent();
+		final var eventListenerManager = session.getEventListenerManager();
+		boolean success = false;
+		try {
+			eventListenerManager.cacheGetStart();
+			final var snapshots = (Snapshots) cacheRegion.getFromCache( key, session );
+			success = snapshots != null;
+			return snapshots;
+		}
+		finally {
+			eventMonitor.completeCacheGetEvent(
+					cacheGetEvent,
+					session,
+					cacheRegion,
+					success
+			);
+			eventListenerManager.cacheGetEnd( success );
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "TemporalDataCache(" + cacheRegion.getName() + ')';
+	}
+}
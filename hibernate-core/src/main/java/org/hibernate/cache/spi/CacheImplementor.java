@@ -11,6 +11,7 @@
 import jakarta.annotation.Nullable;
 import org.hibernate.Cache;
 import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
 import org.hibernate.Internal;
 import org.hibernate.Remove;
 import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
@@ -110,6 +111,19 @@ public interface CacheImplementor extends Service, Cache, Serializable {
 	 */
 	QueryResultsCache getQueryResultsCacheStrictly(String regionName);
 
+	/**
+	 * Access to the region used to store historical snapshots of temporal
+	 * entities. Will return {@code null} if Hibernate is not configured for
+	 * temporal data caching.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#USE_TEMPORAL_CACHE
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	@Nullable
+	TemporalDataCache getTemporalDataCache();
+
 	/**
 	 * Clean up the default query cache
 	 *
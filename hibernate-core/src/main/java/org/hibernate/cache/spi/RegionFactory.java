@@ -6,6 +6,7 @@
 
 import java.util.Map;
 
+import org.hibernate.Incubating;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
@@ -47,6 +48,7 @@ public interface RegionFactory extends Service, Stoppable {
 	// These are names that users have to include in their caching configuration, do not change them
 	String DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME = "default-query-results-region";
 	String DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME = "default-update-timestamps-region";
+	String DEFAULT_TEMPORAL_DATA_REGION_UNQUALIFIED_NAME = "default-temporal-data-region";
 
 	/**
 	 * Lifecycle callback to perform any necessary initialization of
@@ -121,4 +123,19 @@ DomainDataRegion buildDomainDataRegion(
 	 * determine when a cached query result set is stale.
 	 */
 	TimestampsRegion buildTimestampsRegion(String regionName, SessionFactoryImplementor sessionFactory);
+
+	/**
+	 * Create a named {@link Region} for holding historical snapshots of
+	 * {@linkplain org.hibernate.annotations.Temporal temporal entities}.
+	 *
+	 * @throws CacheException if this factory does not support such regions
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#USE_TEMPORAL_CACHE
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default TemporalDataRegion buildTemporalDataRegion(String regionName, SessionFactoryImplementor sessionFactory) {
+		throw new CacheException( "Temporal data regions are not supported by " + getClass().getName() );
+	}
 }
@@ -0,0 +1,89 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi;
+
+import java.util.Comparator;
+
+import org.hibernate.Incubating;
+import org.hibernate.cache.CacheException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * Responsible for caching historical snapshots of
+ * {@linkplain org.hibernate.annotations.Temporal temporal entities}
+ * in a dedicated {@linkplain TemporalDataRegion cache region}.
+ * <p>
+ * A row of a temporal table which has been superseded by a later
+ * revision never changes. Its state is therefore cached under the
+ * key of the entity, together with the interval during which the
+ * row was effective, that is, with its starting and ending instants
+ * or changeset identifiers. A cached snapshot is found by any instant
+ * contained in its effective interval, so that sessions opened
+ * {@linkplain org.hibernate.SessionBuilder#asOf as of} nearby instants
+ * share the snapshot.
+ * <p>
+ * The row representing the current state of an entity has no ending
+ * instant, and is never cached here.
+ *
+ * @see org.hibernate.cfg.CacheSettings#USE_TEMPORAL_CACHE
+ *
+ * @since 8.1
+ */
+@Incubating
+public interface TemporalDataCache {
+	/**
+	 * The underlying cache region being used.
+	 */
+	TemporalDataRegion getRegion();
+
+	/**
+	 * Store a snapshot of an entity which was effective from the
+	 * given starting instant, inclusive, until the given ending
+	 * instant, exclusive.
+	 *
+	 * @param key The cache key of the entity
+	 * @param effectiveFrom The instant or changeset at which the snapshot became effective
+	 * @param effectiveTo The instant or changeset at which the snapshot was superseded
+	 * @param cacheEntry The structured cache entry representing the snapshot
+	 * @param comparator The order of instants or changeset identifiers
+	 * @param session The originating session
+	 */
+	void put(
+			Object key,
+			Object effectiveFrom,
+			Object effectiveTo,
+			Object cacheEntry,
+			Comparator<Object> comparator,
+			SharedSessionContractImplementor session);
+
+	/**
+	 * Retrieve the cached snapshot of an entity whose effective
+	 * interval contains the given instant.
+	 *
+	 * @param key The cache key of the entity
+	 * @param instant The instant or changeset identifier
+	 * @param comparator The order of instants or changeset identifiers
+	 * @param session The originating session
+	 *
+	 * @return The structured cache entry, or {@code null} if no cached
+	 *         snapshot was effective at the given instant
+	 */
+	@Nullable Object get(
+			Object key,
+			Object instant,
+			Comparator<Object> comparator,
+			SharedSessionContractImplementor session);
+
+	/**
+	 * Clear all snapshots from this cache.
+	 *
+	 * @throws CacheException Indicates a problem delegating to the underlying cache.
+	 */
+	default void clear() throws CacheException {
+		getRegion().clear();
+	}
+}
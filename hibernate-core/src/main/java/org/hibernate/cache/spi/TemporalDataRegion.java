@@ -0,0 +1,21 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi;
+
+import org.hibernate.Incubating;
+
+/**
+ * Defines the contract for a cache region that stores historical
+ * snapshots of {@linkplain org.hibernate.annotations.Temporal temporal
+ * entities}, along with the intervals during which they were effective.
+ *
+ * @see TemporalDataCache
+ * @see RegionFactory#buildTemporalDataRegion
+ *
+ * @since 8.1
+ */
+@Incubating
+public interface TemporalDataRegion extends DirectAccessRegion {
+}
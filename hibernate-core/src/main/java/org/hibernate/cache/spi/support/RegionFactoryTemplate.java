@@ -11,6 +11,7 @@
 import org.hibernate.cache.spi.CacheKeysFactory;
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.cache.spi.TemporalDataRegion;
 import org.hibernate.cache.spi.TimestampsRegion;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 
@@ -72,4 +73,25 @@ public TimestampsRegion buildTimestampsRegion(
 	protected abstract StorageAccess createTimestampsRegionStorageAccess(
 			String regionName,
 			SessionFactoryImplementor sessionFactory);
+
+	@Override
+	public TemporalDataRegion buildTemporalDataRegion(
+			String regionName, SessionFactoryImplementor sessionFactory) {
+		verifyStarted();
+		return new TemporalDataRegionTemplate(
+				regionName,
+				this,
+				createTemporalDataRegionStorageAccess( regionName, sessionFactory )
+		);
+	}
+
+	/**
+	 * By default, the storage of a temporal data region is created like
+	 * the storage of a query results region with the same name.
+	 */
+	protected StorageAccess createTemporalDataRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return createQueryResultsRegionStorageAccess( regionName, sessionFactory );
+	}
 }
@@ -0,0 +1,27 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi.support;
+
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.TemporalDataRegion;
+
+/**
+ * @since 8.1
+ */
+public class TemporalDataRegionTemplate extends DirectAccessRegionTemplate implements TemporalDataRegion {
+	/**
+	 * Constructs a {@link TemporalDataRegionTemplate}.
+	 *
+	 * @param name - the unqualified region name
+	 * @param regionFactory - the region factory
+	 * @param storageAccess - the cache storage access strategy
+	 */
+	public TemporalDataRegionTemplate(
+			String name,
+			RegionFactory regionFactory,
+			StorageAccess storageAccess) {
+		super( name, regionFactory, storageAccess );
+	}
+}
@@ -6,6 +6,7 @@
 
 import java.sql.PreparedStatement;
 
+import org.hibernate.Incubating;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 
 /**
@@ -65,6 +66,24 @@ public interface BatchSettings {
 	 */
 	String ORDER_INSERTS = "hibernate.order_inserts";
 
+	/**
+	 * When enabled, {@link org.hibernate.StatelessSession#insertMultiple} loads the
+	 * rows of entities with assigned or pre-generated identifiers using the native
+	 * bulk load protocol of the database, for example, {@code copy ... from stdin}
+	 * on PostgreSQL, instead of executing a JDBC batch of {@code insert} statements.
+	 * <p>
+	 * The bulk load protocol is only used if the {@linkplain org.hibernate.dialect.Dialect
+	 * dialect} {@linkplain org.hibernate.dialect.Dialect#getBulkLoader supports it} with
+	 * the JDBC driver, and if the entity is mapped to a single table without collections,
+	 * generated values, or custom SQL. Otherwise, the rows are inserted using JDBC batching.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String BULK_LOAD = "hibernate.jdbc.bulk_load";
+
 	/**
 	 * @deprecated Use {@link #BUILDER} instead
 	 */
@@ -107,6 +107,26 @@ public interface CacheSettings {
 	@Incubating
 	String QUERY_CACHE_LAYOUT = "hibernate.cache.query_cache_layout";
 
+	/**
+	 * Enable caching of historical snapshots of cacheable
+	 * {@linkplain org.hibernate.annotations.Temporal temporal entities} read by
+	 * sessions opened {@linkplain org.hibernate.SessionBuilder#asOf as of} a past
+	 * instant.
+	 * <p>
+	 * A row of a temporal table which has been superseded by a later revision never
+	 * changes, and so its state may be cached together with the interval during which
+	 * it was effective. A cached snapshot is then found by any instant contained in
+	 * this interval.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.cache.spi.TemporalDataCache
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String USE_TEMPORAL_CACHE = "hibernate.cache.use_temporal_cache";
+
 	/**
 	 * The {@link RegionFactory} implementation, either:
 	 * <ul>
@@ -4,6 +4,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.annotations.BatchSize;
 
 /**
@@ -31,6 +32,133 @@ public interface FetchSettings {
 	 */
 	String DEFAULT_BATCH_FETCH_SIZE = "hibernate.default_batch_fetch_size";
 
+	/**
+	 * When enabled, the batch size used when batch fetching entities and collections
+	 * is adjusted at runtime, within bounds, according to how many of the batch-fetched
+	 * entities and collections are actually accessed by the program. The
+	 * {@linkplain BatchSize#size() configured batch size} is used as the initial size.
+	 * <p>
+	 * Adaptive sizing only applies when batch fetching is performed using a single SQL
+	 * {@code ARRAY} parameter, since then the size of the batch does not affect the
+	 * shape of the SQL statement.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see #BATCH_FETCH_ADAPTIVE_MAX_SIZE
+	 * @see org.hibernate.stat.EntityStatistics#getBatchFetchSize()
+	 * @see org.hibernate.stat.CollectionStatistics#getBatchFetchSize()
+	 *
+	 * @since 8.1
+	 */
+	String BATCH_FETCH_ADAPTIVE = "hibernate.batch_fetch_adaptive";
+
+	/**
+	 * The upper bound for the batch size when {@linkplain #BATCH_FETCH_ADAPTIVE adaptive
+	 * batch fetching} is enabled. The bound is never smaller than the configured batch
+	 * size of an entity or collection.
+	 *
+	 * @settingDefault {@code 256}
+	 *
+	 * @since 8.1
+	 */
+	String BATCH_FETCH_ADAPTIVE_MAX_SIZE = "hibernate.batch_fetch_adaptive_max_size";
+
+	/**
+	 * The minimum number of keys for which a {@linkplain org.hibernate.Session#findMultiple
+	 * multi-load} by id or natural id passes all the keys to the database in a single
+	 * statement, instead of splitting them into chunks of SQL {@code in} lists:
+	 * <ul>
+	 * <li>if the dialect supports {@code unnest()} of multiple arrays, as PostgreSQL does,
+	 *     the keys are passed as one SQL {@code ARRAY} parameter per key column, or
+	 * <li>otherwise, if the dialect supports local temporary tables, the ids are inserted
+	 *     into a temporary table using a JDBC batch, and the entities are selected by
+	 *     joining against the temporary table.
+	 * </ul>
+	 * <p>
+	 * Has no effect when a single key column is already loaded using a single SQL
+	 * {@code ARRAY} parameter, or when an explicit batch size is specified for the
+	 * multi-load.
+	 *
+	 * @settingDefault 0 (disabled)
+	 *
+	 * @see org.hibernate.dialect.Dialect#supportsMultipleArrayUnnest()
+	 * @see org.hibernate.dialect.Dialect#getLocalTemporaryTableStrategy()
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String MULTI_LOAD_BULK_THRESHOLD = "hibernate.multi_load_bulk_threshold";
+
+	/**
+	 * When enabled, an uninitialized reference to an entity which is
+	 * {@linkplain org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor
+	 * enhanced for use as a proxy}, and which is not otherwise batch fetched,
+	 * is queued with the session. When any such reference is accessed, every
+	 * reference to the same entity type still queued is initialized by a
+	 * single {@linkplain org.hibernate.Session#findMultiple multi-load},
+	 * instead of one at a time.
+	 * <p>
+	 * This has the effect of batch fetching with an unbounded batch size,
+	 * but without a batch size needing to be specified for the entity.
+	 * It has no effect for entities which are not bytecode enhanced, or
+	 * which are loaded using a {@linkplain org.hibernate.annotations.BatchSize
+	 * batch size}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see #MULTI_LOAD_BULK_THRESHOLD
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String ENHANCED_PROXY_BATCH_RESOLUTION = "hibernate.enhanced_proxy_batch_resolution";
+
+	/**
+	 * When enabled, once a read-only entity has been loaded, its
+	 * {@linkplain org.hibernate.engine.spi.EntityEntry entry} in the
+	 * persistence context is replaced with a compact entry which retains
+	 * only the identifier, version, status, and lock mode of the entity.
+	 * This reduces the memory footprint of sessions which read large
+	 * numbers of entities in {@linkplain org.hibernate.Session#setDefaultReadOnly
+	 * read-only mode}. An entity which is later made
+	 * {@linkplain org.hibernate.Session#setReadOnly modifiable} is given
+	 * a full entry again.
+	 * <p>
+	 * Only entities of mutable types which are not bytecode enhanced,
+	 * and which have no {@linkplain org.hibernate.annotations.RowId row id},
+	 * are given a compact entry.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String COMPACT_READ_ONLY_ENTRIES = "hibernate.compact_read_only_entries";
+
+	/**
+	 * The maximum number of entries held by the
+	 * {@linkplain org.hibernate.engine.spi.NaturalIdResolutionCache natural-id
+	 * resolution cache}, which is shared by all sessions of the factory and
+	 * remembers, for entities with an {@linkplain org.hibernate.annotations.NaturalId
+	 * immutable natural id}, the identifier to which a natural id resolves, or
+	 * that no entity has the natural id. The cache is consulted by
+	 * {@linkplain org.hibernate.Session#bySimpleNaturalId natural-id loads}
+	 * and {@linkplain org.hibernate.Session#findMultiple natural-id multi-loads}
+	 * before querying the database, so that checking the existence of a natural
+	 * id which is known not to exist does not require a round trip.
+	 * <p>
+	 * Entries are invalidated when an entity is inserted or deleted, including
+	 * by a {@linkplain org.hibernate.StatelessSession stateless session}, and
+	 * the cache is cleared by bulk mutation queries. Changes made directly in
+	 * the database, bypassing Hibernate, are not detected.
+	 *
+	 * @settingDefault 0 (disabled)
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String NATURAL_ID_RESOLUTION_CACHE_SIZE = "hibernate.natural_id_resolution_cache_size";
+
 	/**
 	 * When enabled, Hibernate will use subselect fetching, when possible, to
 	 * fetch any collection.  Subselect fetching involves fetching the collection
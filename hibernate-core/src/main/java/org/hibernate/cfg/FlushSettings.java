@@ -4,6 +4,8 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
+
 /// Settings related to flush behavior.
 ///
 /// @see BatchSettings#STATEMENT_BATCH_SIZE
@@ -112,4 +114,43 @@ public interface FlushSettings {
 	///
 	/// @since 8.0
 	String GRAPH_DEFER_IDENTITY_INSERTS = "hibernate.flush.queue.graph.defer_identity_inserts";
+
+	/// The minimum number of elements a loaded [java.util.List] or bag of entities
+	/// must have for its changes to be tracked using an _operation log_ instead of
+	/// a snapshot copy.
+	///
+	/// Instead of copying the elements of the collection when it is loaded, and
+	/// comparing the copy with the current elements at flush time, Hibernate records
+	/// the elements appended to and removed from the collection, and writes only the
+	/// rows affected by these operations. This avoids doubling the memory used by a
+	/// very large collection, and a flush-time cost proportional to its size, when
+	/// only a few elements are added or removed.
+	///
+	/// Other modifications, for example, insertion of an element into the middle of
+	/// a list, or modification of a collection with more than
+	/// [#COLLECTION_OPERATION_LOG_LIMIT] logged operations, fall back to comparison
+	/// with a snapshot, which is then reconstructed from the current elements and the
+	/// operation log.
+	///
+	/// Operation logs are never used for collections of embeddables or basic values,
+	/// nor for bags which are not one-to-many associations.
+	///
+	/// @settingDefault `0`, meaning operation logs are disabled
+	///
+	/// @see #COLLECTION_OPERATION_LOG_LIMIT
+	///
+	/// @since 8.1
+	@Incubating
+	String COLLECTION_OPERATION_LOG_THRESHOLD = "hibernate.flush.collection.operation_log_threshold";
+
+	/// The maximum number of operations recorded in the operation log of a collection
+	/// before Hibernate falls back to comparison with a snapshot.
+	///
+	/// @settingDefault `1000`
+	///
+	/// @see #COLLECTION_OPERATION_LOG_THRESHOLD
+	///
+	/// @since 8.1
+	@Incubating
+	String COLLECTION_OPERATION_LOG_LIMIT = "hibernate.flush.collection.operation_log_limit";
 }
@@ -434,6 +434,26 @@ public interface JdbcSettings extends C3p0Settings, AgroalSettings, HikariCPSett
 	 */
 	String STATEMENT_FETCH_SIZE = "hibernate.jdbc.fetch_size";
 
+	/**
+	 * Specifies the maximum number of idle {@linkplain java.sql.PreparedStatement prepared
+	 * statements} which are retained by a session for reuse while it holds a JDBC connection.
+	 * When a statement is released, it is returned to a cache keyed by its SQL, result set
+	 * type, and generated keys mode, instead of being closed, and the least recently used
+	 * statement is closed when the cache is full. Every cached statement is closed when the
+	 * connection is released.
+	 * <p>
+	 * This is useful when neither the connection pool nor the JDBC driver cache statements.
+	 * If {@code 0}, statements are never reused.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @see org.hibernate.stat.Statistics#getPreparedStatementCacheHitCount()
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String STATEMENT_CACHE_SIZE = "hibernate.jdbc.statement_cache_size";
+
 	/**
 	 * Controls how Hibernate should handle scrollable results:
 	 * <ul>
@@ -361,6 +361,22 @@ public interface MappingSettings {
 	@Incubating
 	String XML_FORMAT_MAPPER_LEGACY_FORMAT = "hibernate.type.xml_format_mapper.legacy_format";
 
+	/**
+	 * Specifies that JSON columns should be read from the JDBC driver as a character
+	 * stream, which is fed incrementally to the {@linkplain #JSON_FORMAT_MAPPER format mapper}
+	 * or, for aggregate embeddables, to the JSON document reader, instead of first being
+	 * materialized as a {@code String}.
+	 * <p>
+	 * This reduces memory pressure when reading very large JSON documents, but might be
+	 * slower for small documents, depending on the JDBC driver.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String JSON_STREAMING = "hibernate.type.json_streaming";
+
 	/**
 	 * Configurable control over how to handle {@code Byte[]} and {@code Character[]} types
 	 * encountered in the application domain model.  Allowable semantics are defined by
@@ -182,8 +182,14 @@ public interface QuerySettings {
 	 * their interpretations in the query plan cache.
 	 * <p>
 	 * If disabled, queries are interpreted on first access without caching.
+	 * <p>
+	 * The cache key of a criteria query is derived from the structure of its tree,
+	 * with its parameters, including the parameters created for values passed to the
+	 * {@linkplain jakarta.persistence.criteria.CriteriaBuilder criteria builder}, treated
+	 * as typed slots. Thus, queries built dynamically with the same structure share a
+	 * cached interpretation.
 	 *
-	 * @settingDefault {@code false} (disabled) - criteria queries do not use query plan caching.
+	 * @settingDefault {@code true} (enabled) - criteria queries use query plan caching.
 	 *
 	 * @since 7.0
 	 */
@@ -306,6 +312,54 @@ public interface QuerySettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * The maximum number of entries which may be added to the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache
+	 * query interpretation cache} on behalf of a single tenant, when
+	 * multitenancy is in use.
+	 * <p>
+	 * Cached query plans and interpretations are still shared between
+	 * tenants, but each entry is charged to the tenant whose query caused
+	 * it to be cached. When a tenant exceeds its quota, the oldest entries
+	 * charged to that tenant are evicted, and so a tenant executing many
+	 * distinct queries cannot evict the entries used by other tenants.
+	 * <p>
+	 * By default, there is no per-tenant quota.
+	 *
+	 * @settingDefault {@code 0} (no quota)
+	 *
+	 * @see org.hibernate.query.spi.QueryInterpretationCache#forTenant
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String QUERY_PLAN_CACHE_TENANT_QUOTA = "hibernate.query.plan_cache_tenant_quota";
+
+	/**
+	 * The maximum number of resolved result set mappings of native SQL
+	 * queries held by the {@linkplain org.hibernate.query.spi.QueryInterpretationCache
+	 * query interpretation cache}.
+	 * <p>
+	 * When enabled, the mapping of the result set of a native query to
+	 * its domain results is resolved against the JDBC result set metadata
+	 * only the first time the query is executed, and the resolved mapping,
+	 * along with its assemblers, is reused by later executions of the same
+	 * SQL with the same result set mapping. It is not reused when a fetch
+	 * profile or entity graph is in effect.
+	 * <p>
+	 * Since the result set metadata is not re-examined, a cached mapping
+	 * should only be enabled when the shape of the result of a given SQL
+	 * query does not change over the lifetime of the session factory.
+	 * Has no effect if the query plan cache is
+	 * {@linkplain #QUERY_PLAN_CACHE_ENABLED disabled}.
+	 *
+	 * @settingDefault {@code 0} (disabled)
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String NATIVE_RESULT_MAPPING_CACHE_MAX_SIZE = "hibernate.query.native_result_mapping_cache_max_size";
+
 	/**
 	 * For databases supporting name parameters this setting allows the use of named parameters in the procedure call.
 	 * <p>
@@ -129,4 +129,40 @@ public interface StateManagementSettings {
 	 */
 	@Incubating
 	String AUDIT_STRATEGY = "hibernate.audit.strategy";
+
+	/**
+	 * When enabled, audit rows for {@linkplain org.hibernate.annotations.Audited
+	 * audited} entities are not written before transaction completion. Instead,
+	 * after the transaction commits, the merged entity changes, together with
+	 * the changeset id, are handed to a bounded in-memory queue, and written by
+	 * a background thread, in large JDBC batches, in a separate transaction.
+	 * <p>
+	 * This reduces the latency of the audited transaction, at the cost of
+	 * durability: audit rows still queued when the JVM terminates abnormally
+	 * are lost. Audit queries may not immediately see changes made by recently
+	 * committed transactions. Collection audit rows and the changelog entity
+	 * are still written synchronously.
+	 *
+	 * @settingDefault {@code false}
+	 * @see org.hibernate.audit.spi.AsyncAuditWriter
+	 * @see #AUDIT_ASYNC_QUEUE_CAPACITY
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String AUDIT_ASYNC_WRITES = "hibernate.audit.async_writes";
+
+	/**
+	 * The maximum number of committed changesets waiting to be written when
+	 * {@linkplain #AUDIT_ASYNC_WRITES asynchronous audit writing} is enabled.
+	 * When the queue is full, a committing transaction waits until there is
+	 * room in the queue.
+	 *
+	 * @settingDefault {@value org.hibernate.audit.spi.AsyncAuditWriter#DEFAULT_QUEUE_CAPACITY}
+	 * @see #AUDIT_ASYNC_WRITES
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String AUDIT_ASYNC_QUEUE_CAPACITY = "hibernate.audit.async_queue_capacity";
 }
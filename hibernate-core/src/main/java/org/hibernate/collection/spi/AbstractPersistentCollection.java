@@ -59,8 +59,12 @@
 
 	private boolean initialized;
 	private transient boolean initializing;
+	private transient boolean prefetched;
 
 	private transient List<DelayedOperation<E>> operationQueue;
+	// records modifications made since the snapshot was taken,
+	// for large collections which don't keep a copy of their elements
+	private transient @Nullable OperationLog operationLog;
 	private transient boolean directlyAccessible;
 	private @Nullable Object owner;
 	private int cachedSize = -1;
@@ -187,6 +191,9 @@ protected boolean readSize() {
 				);
 			}
 		}
+		else if ( prefetched ) {
+			prefetchedAccessed();
+		}
 		return false;
 	}
 
@@ -447,6 +454,89 @@ protected boolean isInitialized() {
 	protected final void write() {
 		initialize( true );
 		dirty();
+		abandonOperationLog();
+	}
+
+	/**
+	 * Called by a writer method which records the modification it
+	 * makes in the {@linkplain OperationLog operation log}, instead
+	 * of calling {@link #write()}.
+	 *
+	 * @param operations the number of operations to be logged
+	 * @return the operation log, or {@code null} if the modification
+	 *         should not be logged
+	 */
+	final @Nullable OperationLog loggedWrite(int operations) {
+		initialize( true );
+		dirty();
+		return getOperationLog( operations );
+	}
+
+	/**
+	 * Obtain the {@linkplain OperationLog operation log}, if there
+	 * is one with room for the given number of operations, or
+	 * {@linkplain #abandonOperationLog abandon it} if it is full.
+	 * Must be called before making the modification to be logged.
+	 */
+	final @Nullable OperationLog getOperationLog(int operations) {
+		final var log = operationLog;
+		if ( log != null && !log.hasRoom( operations ) ) {
+			abandonOperationLog();
+			return null;
+		}
+		else {
+			return log;
+		}
+	}
+
+	/**
+	 * Reconstruct the snapshot from the {@linkplain OperationLog
+	 * operation log}, if any, and stop logging operations. Must be
+	 * called before any modification which is not logged.
+	 */
+	protected final void abandonOperationLog() {
+		final var log = operationLog;
+		if ( log != null ) {
+			log.reconstruct();
+			operationLog = null;
+		}
+	}
+
+	/**
+	 * Start recording the modifications made to the given elements
+	 * in an {@linkplain OperationLog operation log}, which stands in
+	 * for a snapshot, if operation logs are enabled, and the collection
+	 * is a large enough collection of entities.
+	 *
+	 * @param elements the elements of the collection, or {@code null}
+	 *                 if operation logs are not supported
+	 * @return the operation log, or {@code null} if the caller should
+	 *         copy the elements to a snapshot
+	 *
+	 * @see org.hibernate.cfg.FlushSettings#COLLECTION_OPERATION_LOG_THRESHOLD
+	 */
+	final @Nullable OperationLog startOperationLog(CollectionPersister persister, @Nullable List<?> elements) {
+		final var options = persister.getFactory().getSessionFactoryOptions();
+		final int threshold = options.getCollectionOperationLogThreshold();
+		final var log =
+				elements != null
+						&& threshold > 0
+						&& elements.size() >= threshold
+						&& !directlyAccessible
+						&& persister.getElementType().isEntityType()
+								? new OperationLog( elements, options.getCollectionOperationLogLimit() )
+								: null;
+		final var previous = operationLog;
+		if ( previous != null ) {
+			if ( log == null ) {
+				previous.reconstruct();
+			}
+			else {
+				previous.supersede( log );
+			}
+		}
+		operationLog = log;
+		return log;
 	}
 
 	/**
@@ -641,6 +731,28 @@ protected final void initialize(final boolean writing) {
 					}
 			);
 		}
+		else if ( prefetched ) {
+			prefetchedAccessed();
+		}
+	}
+
+	private void prefetchedAccessed() {
+		prefetched = false;
+		if ( session != null && role != null ) {
+			session.getPersistenceContextInternal().getBatchFetchQueue().prefetchedAccessed( role );
+		}
+	}
+
+	/**
+	 * Mark this collection as having been initialized by a batch load which
+	 * was triggered by access to a different collection, so that the first
+	 * access to this collection may be reported to the
+	 * {@link org.hibernate.engine.spi.BatchFetchQueue}.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#BATCH_FETCH_ADAPTIVE
+	 */
+	public final void markPrefetched() {
+		prefetched = true;
 	}
 
 	private void throwLazyInitializationExceptionIfNotConnected() {
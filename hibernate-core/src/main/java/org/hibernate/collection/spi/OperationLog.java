@@ -0,0 +1,275 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.collection.spi;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.annotation.Nullable;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.type.Type;
+
+/**
+ * Stands in for the snapshot of a large {@link PersistentList} or
+ * {@link PersistentBag} of entities, recording the elements added to
+ * and removed from the collection since the snapshot was taken, instead
+ * of holding a copy of its elements.
+ * <p>
+ * The snapshot is only copied if some client actually needs to
+ * iterate it, in which case it is reconstructed from the current
+ * elements of the collection by undoing the logged operations. A
+ * collection {@linkplain AbstractPersistentCollection#abandonOperationLog
+ * abandons} its log, forcing reconstruction of the snapshot, before any
+ * modification which is not logged.
+ *
+ * @see org.hibernate.cfg.FlushSettings#COLLECTION_OPERATION_LOG_THRESHOLD
+ *
+ * @since 8.1
+ */
+final class OperationLog extends AbstractList<Object> implements Serializable {
+
+	private record Operation(boolean addition, int index, Object element) {
+	}
+
+	private final transient List<?> elements;
+	private final int snapshotSize;
+	private final int limit;
+	private transient List<Operation> operations = new ArrayList<>();
+	// true if every logged operation added or removed the last element
+	private transient boolean positional = true;
+	private transient @Nullable Map<Object, Integer> netChanges;
+	// the log which took over recording operations from this one
+	private transient @Nullable OperationLog successor;
+	private @Nullable List<Object> snapshot;
+
+	/**
+	 * @param elements the live elements of the collection
+	 * @param limit the maximum number of operations to record
+	 */
+	OperationLog(List<?> elements, int limit) {
+		this.elements = elements;
+		this.snapshotSize = elements.size();
+		this.limit = limit;
+	}
+
+	/**
+	 * Is there room to record the given number of operations?
+	 */
+	boolean hasRoom(int count) {
+		return isRecording() && operations.size() + count <= limit;
+	}
+
+	/**
+	 * Is this log still recording operations, or has the snapshot been
+	 * reconstructed, or a new log been started?
+	 */
+	boolean isRecording() {
+		return snapshot == null && successor == null;
+	}
+
+	/**
+	 * Did every logged operation append an element to the end of the
+	 * list, or remove the last element, so that no element changed
+	 * position?
+	 */
+	boolean isPositional() {
+		return isRecording() && positional;
+	}
+
+	/**
+	 * Called when a new snapshot was taken, and the given log started
+	 * recording subsequent operations. The snapshot represented by this
+	 * log may still be reconstructed, by undoing the operations logged
+	 * by this log on the snapshot represented by its successor.
+	 */
+	void supersede(OperationLog successor) {
+		if ( isRecording() ) {
+			this.successor = successor;
+		}
+	}
+
+	/**
+	 * Called after the given element was inserted at the given index.
+	 */
+	void added(int index, Object element) {
+		positional = positional && index == elements.size() - 1;
+		operations.add( new Operation( true, index, element ) );
+		netChanges = null;
+	}
+
+	/**
+	 * Called after the given element was removed from the given index.
+	 */
+	void removed(int index, Object element) {
+		positional = positional && index == elements.size();
+		operations.add( new Operation( false, index, element ) );
+		netChanges = null;
+	}
+
+	/**
+	 * Called after the element at the given index was replaced.
+	 */
+	void replaced(int index, Object element, Object replaced) {
+		removed( index, replaced );
+		added( index, element );
+		positional = false;
+	}
+
+	@Override
+	public int size() {
+		return snapshot == null ? snapshotSize : snapshot.size();
+	}
+
+	@Override
+	public Object get(int index) {
+		return reconstruct().get( index );
+	}
+
+	/**
+	 * Reconstruct the snapshot by undoing the logged operations, and
+	 * stop recording operations.
+	 */
+	List<Object> reconstruct() {
+		if ( snapshot == null ) {
+			final List<Object> result = new ArrayList<>( successor == null ? elements : successor.reconstruct() );
+			undo( result, 0 );
+			operations = List.of();
+			netChanges = null;
+			snapshot = result;
+		}
+		return snapshot;
+	}
+
+	private void undo(List<Object> tail, int offset) {
+		for ( int i = operations.size() - 1; i >= 0; i-- ) {
+			final var operation = operations.get( i );
+			if ( operation.addition ) {
+				tail.remove( operation.index - offset );
+			}
+			else {
+				tail.add( operation.index - offset, operation.element );
+			}
+		}
+	}
+
+	/**
+	 * The net change in the number of occurrences of each element,
+	 * ignoring elements which were added and then removed again.
+	 */
+	private Map<Object, Integer> netChanges() {
+		var changes = netChanges;
+		if ( changes == null ) {
+			changes = new IdentityHashMap<>();
+			for ( var operation : operations ) {
+				changes.merge( operation.element, operation.addition ? 1 : -1, Integer::sum );
+			}
+			netChanges = changes;
+		}
+		return changes;
+	}
+
+	/**
+	 * The elements added to the collection since the snapshot was taken.
+	 */
+	List<Object> getAdditions() {
+		return changes( true );
+	}
+
+	/**
+	 * The elements removed from the collection since the snapshot was taken.
+	 */
+	List<Object> getRemovals() {
+		return changes( false );
+	}
+
+	private List<Object> changes(boolean additions) {
+		final List<Object> result = new ArrayList<>();
+		netChanges().forEach( (element, count) -> {
+			for ( int i = 0; i < ( additions ? count : -count ); i++ ) {
+				result.add( element );
+			}
+		} );
+		return result;
+	}
+
+	/**
+	 * Is the given element one of the elements added to the collection
+	 * since the snapshot was taken?
+	 */
+	boolean isAddition(Object element) {
+		return netChanges().getOrDefault( element, 0 ) > 0;
+	}
+
+	/**
+	 * Compute the changes to a list of entities from the log, assuming
+	 * it is {@linkplain #isPositional positional}. Only the elements at
+	 * positions touched by the logged operations are compared.
+	 */
+	CollectionChangeSet getChangeSet(CollectionPersister persister) {
+		assert isPositional();
+		if ( operations.isEmpty() ) {
+			return CollectionChangeSet.EMPTY;
+		}
+
+		int start = Integer.MAX_VALUE;
+		for ( var operation : operations ) {
+			start = Math.min( start, operation.index );
+		}
+		final int currentSize = elements.size();
+		final List<Object> tail = new ArrayList<>( elements.subList( Math.min( start, currentSize ), currentSize ) );
+		undo( tail, start );
+
+		final Type elementType = persister.getElementType();
+		final var factory = persister.getFactory();
+		final List<CollectionChangeSet.Removal> removals = new ArrayList<>();
+		final List<CollectionChangeSet.Addition> additions = new ArrayList<>();
+		final int end = Math.max( snapshotSize, currentSize );
+		for ( int i = start; i < end; i++ ) {
+			final Object snapshotElement = i < snapshotSize ? tail.get( i - start ) : null;
+			final Object currentElement = i < currentSize ? elements.get( i ) : null;
+			if ( snapshotElement == null || currentElement == null
+					|| !elementType.isEqual( snapshotElement, currentElement, factory ) ) {
+				if ( i < snapshotSize ) {
+					removals.add( new CollectionChangeSet.Removal( snapshotElement, i ) );
+				}
+				if ( i < currentSize ) {
+					additions.add( new CollectionChangeSet.Addition( currentElement, i ) );
+				}
+			}
+		}
+
+		// an element removed from one position and added at another was shifted
+		final List<CollectionChangeSet.Shift> shifts = new ArrayList<>();
+		final var additionIterator = additions.iterator();
+		while ( additionIterator.hasNext() ) {
+			final var addition = additionIterator.next();
+			if ( addition.element() != null ) {
+				final var removalIterator = removals.iterator();
+				while ( removalIterator.hasNext() ) {
+					final var removal = removalIterator.next();
+					if ( removal.element() != null
+							&& elementType.isEqual( removal.element(), addition.element(), factory ) ) {
+						shifts.add( new CollectionChangeSet.Shift( addition.element(),
+								removal.snapshotIndex(), addition.index() ) );
+						removalIterator.remove();
+						additionIterator.remove();
+						break;
+					}
+				}
+			}
+		}
+		return new CollectionChangeSet( removals, additions, shifts, List.of() );
+	}
+
+	@Serial
+	private Object writeReplace() {
+		return new ArrayList<>( reconstruct() );
+	}
+}
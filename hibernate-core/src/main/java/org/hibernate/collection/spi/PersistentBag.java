@@ -134,6 +134,9 @@ public boolean equalsSnapshot(CollectionPersister persister) throws HibernateExc
 		if ( sn.size() != collection.size() ) {
 			return false;
 		}
+		if ( sn instanceof OperationLog operationLog && operationLog.isRecording() ) {
+			return operationLog.getAdditions().isEmpty();
+		}
 
 		// HHH-11032 - Group objects by Type.getHashCode() to reduce the complexity of the search
 		final var hashToInstancesBag = groupByEqualityHash( collection, elementType );
@@ -234,6 +237,13 @@ private boolean expectOccurrences(Object element, List<Object> list, Type elemen
 	@Override
 	public Serializable getSnapshot(CollectionPersister persister)
 			throws HibernateException {
+		// for a one-to-many, a bag has set semantics,
+		// and so there's no need to keep track of positions
+		final var operationLog = startOperationLog( persister,
+				persister.isOneToMany() && collection instanceof List<E> list ? list : null );
+		if ( operationLog != null ) {
+			return operationLog;
+		}
 		final ArrayList<E> clonedList = new ArrayList<>( collection.size() );
 		for ( E item : collection ) {
 			clonedList.add( (E) persister.getElementType().deepCopy( item, persister.getFactory() ) );
@@ -243,6 +253,11 @@ public Serializable getSnapshot(CollectionPersister persister)
 
 	@Override
 	public Collection<E> getOrphans(Serializable snapshot, String entityName) throws HibernateException {
+		if ( snapshot instanceof OperationLog operationLog && operationLog.isRecording() ) {
+			// only the removed elements can be orphans
+			return getOrphans( (List<E>) operationLog.getRemovals(), (List<E>) operationLog.getAdditions(),
+					entityName, getSession() );
+		}
 		final List<E> sn = (List<E>) snapshot;
 		return getOrphans( sn, collection, entityName, getSession() );
 	}
@@ -304,6 +319,9 @@ public Iterator<?> getDeletes(CollectionPersister persister, boolean indexIsForm
 		final Type elementType = persister.getElementType();
 		final ArrayList<Object> deletes = new ArrayList<>();
 		final List<?> sn = (List<?>) getSnapshot();
+		if ( sn instanceof OperationLog operationLog && operationLog.isRecording() ) {
+			return operationLog.getRemovals().iterator();
+		}
 		final Iterator<?> olditer = sn.iterator();
 		int i = 0;
 		final Iterator<E> bagiter = collection.iterator();
@@ -341,6 +359,9 @@ public boolean hasDeletes(CollectionPersister persister) {
 			// related to HHH-13053
 			return false;
 		}
+		if ( sn instanceof OperationLog operationLog && operationLog.isRecording() ) {
+			return !operationLog.getRemovals().isEmpty();
+		}
 		final Iterator<?> olditer = sn.iterator();
 		int i = 0;
 		final Iterator<E> bagiter = collection.iterator();
@@ -372,7 +393,10 @@ public boolean hasDeletes(CollectionPersister persister) {
 	@Override
 	public boolean needsInserting(Object entry, int i, Type elemType) throws HibernateException {
 		final List<?> sn = (List<?>) getSnapshot();
-		if ( sn.size() > i && elemType.isSame( sn.get( i ), entry ) ) {
+		if ( sn instanceof OperationLog operationLog && operationLog.isRecording() ) {
+			return operationLog.isAddition( entry );
+		}
+		else if ( sn.size() > i && elemType.isSame( sn.get( i ), entry ) ) {
 			//a shortcut if its location didn't change!
 			return false;
 		}
@@ -435,8 +459,12 @@ public <A> A[] toArray(A[] a) {
 	@Override
 	public boolean add(E object) {
 		if ( !isOperationQueueEnabled() ) {
-			write();
-			return collection.add( object );
+			final var operationLog = loggedWrite( 1 );
+			final boolean added = collection.add( object );
+			if ( operationLog != null ) {
+				operationLog.added( collection.size() - 1, object );
+			}
+			return added;
 		}
 		else {
 			queueOperation( new SimpleAdd( object ) );
@@ -447,7 +475,21 @@ public boolean add(E object) {
 	@Override
 	public boolean remove(Object o) {
 		initialize( true );
-		if ( collection.remove( o ) ) {
+		final var operationLog = getOperationLog( 1 );
+		if ( operationLog != null ) {
+			// the operation log is only used when the bag is a list
+			final int index = bagAsList().indexOf( o );
+			if ( index >= 0 ) {
+				operationLog.removed( index, bagAsList().remove( index ) );
+				elementRemoved = true;
+				dirty();
+				return true;
+			}
+			else {
+				return false;
+			}
+		}
+		else if ( collection.remove( o ) ) {
 			elementRemoved = true;
 			dirty();
 			return true;
@@ -469,8 +511,17 @@ public boolean addAll(Collection<? extends E> values) {
 			return false;
 		}
 		if ( !isOperationQueueEnabled() ) {
-			write();
-			return collection.addAll( values );
+			final var operationLog = loggedWrite( values.size() );
+			if ( operationLog == null ) {
+				return collection.addAll( values );
+			}
+			else {
+				for ( E value : values ) {
+					collection.add( value );
+					operationLog.added( collection.size() - 1, value );
+				}
+				return true;
+			}
 		}
 		else {
 			for ( E value : values ) {
@@ -484,6 +535,7 @@ public boolean addAll(Collection<? extends E> values) {
 	public boolean removeAll(Collection<?> c) {
 		if ( c.size() > 0 ) {
 			initialize( true );
+			abandonOperationLog();
 			if ( collection.removeAll( c ) ) {
 				elementRemoved = true;
 				dirty();
@@ -501,6 +553,7 @@ public boolean removeAll(Collection<?> c) {
 	@Override
 	public boolean retainAll(Collection<?> c) {
 		initialize( true );
+		abandonOperationLog();
 		if ( collection.retainAll( c ) ) {
 			dirty();
 			return true;
@@ -518,6 +571,7 @@ public void clear() {
 		else {
 			initialize( true );
 			if ( !collection.isEmpty() ) {
+				abandonOperationLog();
 				collection.clear();
 				dirty();
 			}
@@ -564,8 +618,11 @@ public int occurrences(Object o) {
 
 	@Override
 	public void add(int i, E o) {
-		write();
+		final var operationLog = loggedWrite( 1 );
 		bagAsList().add( i, o );
+		if ( operationLog != null ) {
+			operationLog.added( i, o );
+		}
 	}
 
 	@Override
@@ -611,14 +668,22 @@ public ListIterator<E> listIterator(int i) {
 
 	@Override
 	public E remove(int i) {
-		write();
-		return bagAsList().remove( i );
+		final var operationLog = loggedWrite( 1 );
+		final E removed = bagAsList().remove( i );
+		if ( operationLog != null ) {
+			operationLog.removed( i, removed );
+		}
+		return removed;
 	}
 
 	@Override
 	public E set(int i, E o) {
-		write();
-		return bagAsList().set( i, o );
+		final var operationLog = loggedWrite( 2 );
+		final E old = bagAsList().set( i, o );
+		if ( operationLog != null ) {
+			operationLog.replaced( i, o, old );
+		}
+		return old;
 	}
 
 	@Override
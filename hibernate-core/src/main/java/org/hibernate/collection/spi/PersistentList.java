@@ -67,6 +67,10 @@ protected List<E> getRawList() {
 
 	@Override
 	public Serializable getSnapshot(CollectionPersister persister) throws HibernateException {
+		final var operationLog = startOperationLog( persister, list );
+		if ( operationLog != null ) {
+			return operationLog;
+		}
 		final ArrayList<Object> clonedList = new ArrayList<>( list.size() );
 		for ( Object element : list ) {
 			final Object deepCopy = persister.getElementType().deepCopy( element, persister.getFactory() );
@@ -77,6 +81,11 @@ public Serializable getSnapshot(CollectionPersister persister) throws HibernateE
 
 	@Override
 	public Collection<E> getOrphans(Serializable snapshot, String entityName) throws HibernateException {
+		if ( snapshot instanceof OperationLog operationLog && operationLog.isRecording() ) {
+			// only the removed elements can be orphans
+			return getOrphans( (List<E>) operationLog.getRemovals(), (List<E>) operationLog.getAdditions(),
+					entityName, getSession() );
+		}
 		return getOrphans( (List<E>) snapshot, list, entityName, getSession() );
 	}
 
@@ -96,6 +105,9 @@ public boolean equalsSnapshot(CollectionPersister persister) throws HibernateExc
 		if ( sn.size() != this.list.size() ) {
 			return false;
 		}
+		if ( sn instanceof OperationLog operationLog && operationLog.isPositional() ) {
+			return operationLog.getChangeSet( persister ).isEmpty();
+		}
 		final Iterator<?> itr = list.iterator();
 		final Iterator<?> snapshotItr = sn.iterator();
 		while ( itr.hasNext() ) {
@@ -184,8 +196,12 @@ public <A> A[] toArray(A[] array) {
 	@Override
 	public boolean add(E object) {
 		if ( !isOperationQueueEnabled() ) {
-			write();
-			return list.add( object );
+			final var operationLog = loggedWrite( 1 );
+			final boolean added = list.add( object );
+			if ( operationLog != null ) {
+				operationLog.added( list.size() - 1, object );
+			}
+			return added;
 		}
 		else {
 			queueOperation( new SimpleAdd( object ) );
@@ -198,7 +214,13 @@ public boolean remove(Object value) {
 		final Boolean exists = isPutQueueEnabled() ? readElementExistence( value ) : null;
 		if ( exists == null ) {
 			initialize( true );
-			if ( list.remove( value ) ) {
+			final int index = list.indexOf( value );
+			if ( index >= 0 ) {
+				final var operationLog = getOperationLog( 1 );
+				final E removed = list.remove( index );
+				if ( operationLog != null ) {
+					operationLog.removed( index, removed );
+				}
 				elementRemoved = true;
 				dirty();
 				return true;
@@ -229,8 +251,17 @@ public boolean addAll(Collection<? extends E> values) {
 			return false;
 		}
 		if ( !isOperationQueueEnabled() ) {
-			write();
-			return list.addAll( values );
+			final var operationLog = loggedWrite( values.size() );
+			if ( operationLog == null ) {
+				return list.addAll( values );
+			}
+			else {
+				for ( E value : values ) {
+					list.add( value );
+					operationLog.added( list.size() - 1, value );
+				}
+				return true;
+			}
 		}
 		else {
 			for ( E value : values ) {
@@ -255,6 +286,7 @@ public boolean addAll(int index, Collection<? extends E> coll) {
 	public boolean removeAll(Collection<?> coll) {
 		if ( coll.size() > 0 ) {
 			initialize( true );
+			abandonOperationLog();
 			if ( list.removeAll( coll ) ) {
 				elementRemoved = true;
 				dirty();
@@ -272,6 +304,7 @@ public boolean removeAll(Collection<?> coll) {
 	@Override
 	public boolean retainAll(Collection<?> coll) {
 		initialize( true );
+		abandonOperationLog();
 		if ( list.retainAll( coll ) ) {
 			dirty();
 			return true;
@@ -289,6 +322,7 @@ public void clear() {
 		else {
 			initialize( true );
 			if ( ! list.isEmpty() ) {
+				abandonOperationLog();
 				list.clear();
 				dirty();
 			}
@@ -315,8 +349,12 @@ && readElementByIndex( index ) instanceof Defined<E> element ) {
 			return old;
 		}
 		else {
-			write();
-			return list.set( index, value );
+			final var operationLog = loggedWrite( 2 );
+			final E old = list.set( index, value );
+			if ( operationLog != null ) {
+				operationLog.replaced( index, value, old );
+			}
+			return old;
 		}
 	}
 
@@ -333,9 +371,12 @@ && readElementByIndex( index ) instanceof Defined<E> element ) {
 			return old;
 		}
 		else {
-			write();
-			dirty();
-			return list.remove( index );
+			final var operationLog = loggedWrite( 1 );
+			final E removed = list.remove( index );
+			if ( operationLog != null ) {
+				operationLog.removed( index, removed );
+			}
+			return removed;
 		}
 	}
 
@@ -344,8 +385,11 @@ public void add(int index, E value) {
 		if ( index < 0 ) {
 			throw new ArrayIndexOutOfBoundsException( "negative index" );
 		}
-		write();
+		final var operationLog = loggedWrite( 1 );
 		list.add( index, value );
+		if ( operationLog != null ) {
+			operationLog.added( index, value );
+		}
 	}
 
 	@Override
@@ -477,6 +521,11 @@ public CollectionChangeSet getChangeSet(CollectionPersister persister) {
 		if (sn == null) {
 			return CollectionChangeSet.EMPTY;
 		}
+		if ( sn instanceof OperationLog operationLog && operationLog.isPositional() ) {
+			// only elements appended or removed from the end,
+			// so compare just the tail of the list
+			return operationLog.getChangeSet( persister );
+		}
 
 		final boolean isEntityCollection = persister.getElementType().isEntityType();
 
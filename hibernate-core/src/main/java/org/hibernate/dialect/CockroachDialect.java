@@ -31,6 +31,7 @@
 import org.hibernate.dialect.sequence.PostgreSQLSequenceSupport;
 import org.hibernate.dialect.sequence.SequenceSupport;
 import org.hibernate.dialect.sql.ast.CockroachSqlAstTranslator;
+import org.hibernate.dialect.sql.ast.SqlAstTranslatorWithOnConflictUpdate;
 import org.hibernate.dialect.type.PgJdbcHelper;
 import org.hibernate.dialect.type.PostgreSQLArrayJdbcTypeConstructor;
 import org.hibernate.dialect.type.PostgreSQLCastingInetJdbcType;
@@ -742,7 +743,10 @@ public MutationOperation createOptionalTableUpdateOperation(
 			EntityMutationTarget mutationTarget,
 			OptionalTableUpdate optionalTableUpdate,
 			SessionFactoryImplementor factory) {
-		return new OptionalTableUpdateWithUpsertOperation( mutationTarget, optionalTableUpdate, factory );
+		return SqlAstTranslatorWithOnConflictUpdate.isSupported( optionalTableUpdate )
+				? new SqlAstTranslatorWithOnConflictUpdate<>( factory, optionalTableUpdate )
+						.createMergeOperation( optionalTableUpdate )
+				: new OptionalTableUpdateWithUpsertOperation( mutationTarget, optionalTableUpdate, factory );
 	}
 
 	@Override
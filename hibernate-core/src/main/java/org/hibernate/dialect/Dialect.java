@@ -27,6 +27,7 @@
 import org.hibernate.audit.internal.AuditColumnFunction;
 import org.hibernate.dialect.aggregate.AggregateSupport;
 import org.hibernate.dialect.aggregate.AggregateSupportImpl;
+import org.hibernate.dialect.bulk.BulkLoader;
 import org.hibernate.dialect.function.CastFunction;
 import org.hibernate.dialect.function.CastStrEmulation;
 import org.hibernate.dialect.function.CoalesceIfnullEmulation;
@@ -5082,6 +5083,21 @@ public boolean useArrayForMultiValuedParameters() {
 		return supportsStandardArrays() && getPreferredSqlTypeCodeForArray() == SqlTypes.ARRAY;
 	}
 
+	/**
+	 * Does this database support {@code unnest()} of multiple arrays
+	 * of the same length, producing a table with one column for each
+	 * array, as in {@code select * from unnest(?, ?)}?
+	 *
+	 * @return {@code false} by default
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#MULTI_LOAD_BULK_THRESHOLD
+	 *
+	 * @since 8.1
+	 */
+	public boolean supportsMultipleArrayUnnest() {
+		return false;
+	}
+
 	/**
 	 * The SQL type name for the array type with elements of the given type name.
 	 * <p>
@@ -5747,6 +5763,20 @@ public MutationOperation createOptionalTableUpdateOperation(
 		return new OptionalTableUpdateOperation( mutationTarget, optionalTableUpdate, factory );
 	}
 
+	/**
+	 * The {@link BulkLoader} for loading rows using the native bulk load
+	 * protocol of the database, or {@code null} if there is no such protocol
+	 * or the JDBC driver does not provide access to it.
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BULK_LOAD
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	public @Nullable BulkLoader getBulkLoader(ServiceRegistry serviceRegistry) {
+		return null;
+	}
+
 	/**
 	 * Is there some way to disable foreign key constraint checking while
 	 * truncating tables? (If there's no way to do it, and if we can't
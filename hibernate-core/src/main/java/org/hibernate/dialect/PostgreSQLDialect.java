@@ -17,6 +17,7 @@
 import org.hibernate.boot.model.TypeContributions;
 import org.hibernate.dialect.aggregate.AggregateSupport;
 import org.hibernate.dialect.aggregate.PostgreSQLAggregateSupport;
+import org.hibernate.dialect.bulk.BulkLoader;
 import org.hibernate.dialect.function.CommonFunctionFactory;
 import org.hibernate.dialect.function.PostgreSQLMinMaxFunction;
 import org.hibernate.dialect.function.PostgreSQLTruncFunction;
@@ -32,6 +33,7 @@
 import org.hibernate.dialect.sequence.PostgreSQLSequenceSupport;
 import org.hibernate.dialect.sequence.SequenceSupport;
 import org.hibernate.dialect.sql.ast.PostgreSQLSqlAstTranslator;
+import org.hibernate.dialect.sql.ast.SqlAstTranslatorWithOnConflictUpdate;
 import org.hibernate.dialect.temporal.PostgreSQLTemporalTableSupport;
 import org.hibernate.dialect.temporal.TemporalTableSupport;
 import org.hibernate.dialect.temptable.StandardLocalTemporaryTableStrategy;
@@ -188,6 +190,8 @@ protected void applyAggregateColumnCheck(StringBuilder buf, AggregateColumn aggr
 	protected final PostgreSQLDriverKind driverKind;
 	private final ParameterMarkerStrategy parameterRenderer;
 	private final boolean supportsMerge;
+	private volatile @Nullable BulkLoader bulkLoader;
+	private volatile boolean bulkLoaderResolved;
 
 	public PostgreSQLDialect() {
 		this( MINIMUM_VERSION );
@@ -1203,6 +1207,11 @@ public boolean supportsStandardArrays() {
 		return true;
 	}
 
+	@Override
+	public boolean supportsMultipleArrayUnnest() {
+		return true;
+	}
+
 	@Override
 	public boolean supportsJdbcConnectionLobCreation(DatabaseMetaData databaseMetaData) {
 		return false;
@@ -1634,10 +1643,27 @@ public MutationOperation createOptionalTableUpdateOperation(
 			EntityMutationTarget mutationTarget,
 			OptionalTableUpdate optionalTableUpdate,
 			SessionFactoryImplementor factory) {
-		return supportsMerge
-				? new PostgreSQLSqlAstTranslator<>( factory, optionalTableUpdate )
-						.createMergeOperation( optionalTableUpdate )
-				: new OptionalTableUpdateWithUpsertOperation( mutationTarget, optionalTableUpdate, factory );
+		if ( supportsMerge ) {
+			return new PostgreSQLSqlAstTranslator<>( factory, optionalTableUpdate )
+					.createMergeOperation( optionalTableUpdate );
+		}
+		else if ( SqlAstTranslatorWithOnConflictUpdate.isSupported( optionalTableUpdate ) ) {
+			return new SqlAstTranslatorWithOnConflictUpdate<>( factory, optionalTableUpdate )
+					.createMergeOperation( optionalTableUpdate );
+		}
+		else {
+			return new OptionalTableUpdateWithUpsertOperation( mutationTarget, optionalTableUpdate, factory );
+		}
+	}
+
+	@Override
+	public BulkLoader getBulkLoader(ServiceRegistry serviceRegistry) {
+		// the loader is stateless, so it is only created once
+		if ( !bulkLoaderResolved ) {
+			bulkLoader = PgJdbcHelper.isUsable( serviceRegistry ) ? PgJdbcHelper.getCopyBulkLoader( serviceRegistry ) : null;
+			bulkLoaderResolved = true;
+		}
+		return bulkLoader;
 	}
 
 	@Override
@@ -0,0 +1,60 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.dialect.bulk;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.hibernate.Incubating;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.type.descriptor.WrapperOptions;
+
+/**
+ * Loads rows into a table using the native bulk load protocol of the
+ * database, which is typically much faster than executing a batch of
+ * {@code insert} statements. Rows are {@linkplain #appendRow encoded}
+ * as text into a buffer, which is then {@linkplain #load loaded} using
+ * a single command.
+ *
+ * @see org.hibernate.dialect.Dialect#getBulkLoader
+ * @see org.hibernate.cfg.BatchSettings#BULK_LOAD
+ *
+ * @since 8.1
+ */
+@Incubating
+public interface BulkLoader {
+	/**
+	 * Does the JDBC driver of the given connection provide access to
+	 * the bulk load protocol?
+	 */
+	boolean isUsable(Connection connection) throws SQLException;
+
+	/**
+	 * Can values of the given type be encoded by {@link #appendRow}?
+	 */
+	boolean supports(JdbcMapping jdbcMapping);
+
+	/**
+	 * The command which loads rows into the given columns of the given table.
+	 */
+	String getLoadSql(String tableName, List<String> columnNames);
+
+	/**
+	 * Encode a row and append it to the given buffer.
+	 *
+	 * @param jdbcValues The JDBC values of the columns, in the order
+	 *                   passed to {@link #getLoadSql}
+	 * @param jdbcMappings The types of the columns
+	 */
+	void appendRow(StringBuilder buffer, Object[] jdbcValues, JdbcMapping[] jdbcMappings, WrapperOptions options);
+
+	/**
+	 * Load the rows encoded in the given buffer using the given command.
+	 *
+	 * @return The number of rows loaded
+	 */
+	long load(Connection connection, String sql, StringBuilder rows) throws SQLException;
+}
@@ -0,0 +1,234 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.dialect.bulk;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.UUID;
+
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.sql.ast.spi.StringBuilderSqlAppender;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.java.PrimitiveByteArrayJavaType;
+
+import org.postgresql.PGConnection;
+
+import static org.hibernate.type.descriptor.DateTimeUtils.appendAsDate;
+import static org.hibernate.type.descriptor.DateTimeUtils.appendAsLocalTime;
+import static org.hibernate.type.descriptor.DateTimeUtils.appendAsTime;
+import static org.hibernate.type.descriptor.DateTimeUtils.appendAsTimestampWithMicros;
+import static org.hibernate.type.descriptor.DateTimeUtils.appendAsTimestampWithMillis;
+
+/**
+ * A {@link BulkLoader} which uses {@code copy ... from stdin} in CSV format,
+ * via the {@code CopyManager} of the PostgreSQL JDBC driver.
+ * Like the other classes which depend on the driver, it is instantiated by
+ * {@link org.hibernate.dialect.type.PgJdbcHelper}.
+ *
+ * @since 8.1
+ */
+public class PostgreSQLCopyBulkLoader implements BulkLoader {
+
+	@Override
+	public boolean isUsable(Connection connection) throws SQLException {
+		return connection.isWrapperFor( PGConnection.class );
+	}
+
+	@Override
+	public boolean supports(JdbcMapping jdbcMapping) {
+		return switch ( jdbcMapping.getJdbcType().getDefaultSqlTypeCode() ) {
+			case SqlTypes.BOOLEAN, SqlTypes.BIT,
+					SqlTypes.TINYINT, SqlTypes.SMALLINT, SqlTypes.INTEGER, SqlTypes.BIGINT,
+					SqlTypes.FLOAT, SqlTypes.REAL, SqlTypes.DOUBLE, SqlTypes.DECIMAL, SqlTypes.NUMERIC,
+					SqlTypes.CHAR, SqlTypes.NCHAR, SqlTypes.VARCHAR, SqlTypes.NVARCHAR,
+					SqlTypes.LONGVARCHAR, SqlTypes.LONGNVARCHAR, SqlTypes.LONG32VARCHAR, SqlTypes.LONG32NVARCHAR,
+					SqlTypes.ENUM, SqlTypes.NAMED_ENUM, SqlTypes.UUID,
+					SqlTypes.DATE, SqlTypes.TIME, SqlTypes.TIME_WITH_TIMEZONE, SqlTypes.TIME_UTC,
+					SqlTypes.TIMESTAMP, SqlTypes.TIMESTAMP_WITH_TIMEZONE, SqlTypes.TIMESTAMP_UTC,
+					SqlTypes.BINARY, SqlTypes.VARBINARY, SqlTypes.LONGVARBINARY, SqlTypes.LONG32VARBINARY -> true;
+			default -> false;
+		};
+	}
+
+	@Override
+	public String getLoadSql(String tableName, List<String> columnNames) {
+		return "copy " + tableName + " (" + String.join( ",", columnNames ) + ") from stdin with (format csv)";
+	}
+
+	@Override
+	public void appendRow(StringBuilder buffer, Object[] jdbcValues, JdbcMapping[] jdbcMappings, WrapperOptions options) {
+		final var appender = new StringBuilderSqlAppender( buffer );
+		for ( int i = 0; i < jdbcValues.length; i++ ) {
+			if ( i > 0 ) {
+				buffer.append( ',' );
+			}
+			final Object value = jdbcValues[i];
+			// an unquoted empty value is null
+			if ( value != null ) {
+				appendValue( appender, jdbcMappings[i], value, options );
+			}
+		}
+		buffer.append( '\n' );
+	}
+
+	@Override
+	public long load(Connection connection, String sql, StringBuilder rows) throws SQLException {
+		try {
+			return connection.unwrap( PGConnection.class ).getCopyAPI()
+					.copyIn( sql, new StringReader( rows.toString() ) );
+		}
+		catch (IOException e) {
+			throw new SQLException( "Could not write rows to copy command", e );
+		}
+	}
+
+	private static void appendValue(
+			StringBuilderSqlAppender appender,
+			JdbcMapping jdbcMapping,
+			Object value,
+			WrapperOptions options) {
+		//noinspection unchecked
+		final var javaType = (JavaType<Object>) jdbcMapping.getJdbcJavaType();
+		final var buffer = appender.getStringBuilder();
+		switch ( jdbcMapping.getJdbcType().getDefaultSqlTypeCode() ) {
+			case SqlTypes.BOOLEAN:
+			case SqlTypes.BIT:
+				buffer.append( javaType.unwrap( value, Boolean.class, options ).booleanValue() );
+				break;
+			case SqlTypes.TINYINT:
+			case SqlTypes.SMALLINT:
+			case SqlTypes.INTEGER:
+				buffer.append( javaType.unwrap( value, Integer.class, options ).intValue() );
+				break;
+			case SqlTypes.BIGINT:
+				buffer.append( javaType.unwrap( value, Long.class, options ).longValue() );
+				break;
+			case SqlTypes.FLOAT:
+			case SqlTypes.REAL:
+			case SqlTypes.DOUBLE:
+				buffer.append( javaType.unwrap( value, Double.class, options ).doubleValue() );
+				break;
+			case SqlTypes.DECIMAL:
+			case SqlTypes.NUMERIC:
+				buffer.append( javaType.unwrap( value, BigDecimal.class, options ).toPlainString() );
+				break;
+			case SqlTypes.UUID:
+				buffer.append( javaType.unwrap( value, UUID.class, options ) );
+				break;
+			case SqlTypes.DATE:
+			case SqlTypes.TIME:
+			case SqlTypes.TIME_WITH_TIMEZONE:
+			case SqlTypes.TIME_UTC:
+			case SqlTypes.TIMESTAMP:
+			case SqlTypes.TIMESTAMP_WITH_TIMEZONE:
+			case SqlTypes.TIMESTAMP_UTC:
+				appendTemporal( appender, jdbcMapping, javaType, value, options );
+				break;
+			case SqlTypes.BINARY:
+			case SqlTypes.VARBINARY:
+			case SqlTypes.LONGVARBINARY:
+			case SqlTypes.LONG32VARBINARY:
+				// the backslash is not an escape character in CSV format
+				buffer.append( "\\x" );
+				PrimitiveByteArrayJavaType.INSTANCE.appendString(
+						appender,
+						javaType.unwrap( value, byte[].class, options )
+				);
+				break;
+			default:
+				appendQuoted( buffer, javaType.unwrap( value, String.class, options ) );
+		}
+	}
+
+	private static void appendQuoted(StringBuilder buffer, String string) {
+		// always quote strings, so that an empty string is not null
+		buffer.append( '"' );
+		for ( int i = 0; i < string.length(); i++ ) {
+			final char c = string.charAt( i );
+			if ( c == '"' ) {
+				buffer.append( '"' );
+			}
+			buffer.append( c );
+		}
+		buffer.append( '"' );
+	}
+
+	private static void appendTemporal(
+			StringBuilderSqlAppender appender,
+			JdbcMapping jdbcMapping,
+			JavaType<Object> javaType,
+			Object value,
+			WrapperOptions options) {
+		final TimeZone jdbcTimeZone =
+				options == null || options.getJdbcTimeZone() == null
+						? TimeZone.getDefault()
+						: options.getJdbcTimeZone();
+		switch ( jdbcMapping.getJdbcType().getJdbcTypeCode() ) {
+			case SqlTypes.DATE:
+				if ( value instanceof java.util.Date date ) {
+					appendAsDate( appender, date );
+				}
+				else if ( value instanceof Calendar calendar ) {
+					appendAsDate( appender, calendar );
+				}
+				else if ( value instanceof TemporalAccessor temporalAccessor ) {
+					appendAsDate( appender, temporalAccessor );
+				}
+				else {
+					appendAsDate( appender, javaType.unwrap( value, java.util.Date.class, options ) );
+				}
+				break;
+			case SqlTypes.TIME:
+			case SqlTypes.TIME_WITH_TIMEZONE:
+			case SqlTypes.TIME_UTC:
+				if ( value instanceof java.util.Date date ) {
+					appendAsTime( appender, date, jdbcTimeZone );
+				}
+				else if ( value instanceof Calendar calendar ) {
+					appendAsTime( appender, calendar, jdbcTimeZone );
+				}
+				else if ( value instanceof TemporalAccessor temporalAccessor ) {
+					if ( temporalAccessor.isSupported( ChronoField.OFFSET_SECONDS ) ) {
+						appendAsTime( appender, temporalAccessor, true, jdbcTimeZone );
+					}
+					else {
+						appendAsLocalTime( appender, temporalAccessor );
+					}
+				}
+				else {
+					appendAsTime( appender, javaType.unwrap( value, java.sql.Time.class, options ), jdbcTimeZone );
+				}
+				break;
+			default:
+				final boolean supportsOffset = jdbcMapping.getJdbcType().getJdbcTypeCode() != SqlTypes.TIMESTAMP;
+				if ( value instanceof java.util.Date date ) {
+					appendAsTimestampWithMicros( appender, date, jdbcTimeZone );
+				}
+				else if ( value instanceof Calendar calendar ) {
+					appendAsTimestampWithMillis( appender, calendar, jdbcTimeZone );
+				}
+				else if ( value instanceof TemporalAccessor temporalAccessor ) {
+					appendAsTimestampWithMicros( appender, temporalAccessor, supportsOffset, jdbcTimeZone );
+				}
+				else {
+					appendAsTimestampWithMicros(
+							appender,
+							javaType.unwrap( value, java.util.Date.class, options ),
+							jdbcTimeZone
+					);
+				}
+		}
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.dialect.sql.ast;
+
+import java.util.List;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.sql.ast.spi.SqlAstTranslatorWithUpsert;
+import org.hibernate.sql.ast.tree.Statement;
+import org.hibernate.sql.exec.spi.JdbcOperation;
+import org.hibernate.sql.model.ast.ColumnValueBinding;
+import org.hibernate.sql.model.internal.OptionalTableUpdate;
+
+/**
+ * A {@link SqlAstTranslatorWithUpsert} rendering the UPSERT as an
+ * {@code insert ... on conflict do update} statement, for databases
+ * which support the {@code on conflict} clause but not {@code merge}.
+ * Unlike the combination of an {@code update} and an {@code insert},
+ * the resulting single statement may be added to a JDBC batch.
+ *
+ * @since 8.1
+ */
+public class SqlAstTranslatorWithOnConflictUpdate<T extends JdbcOperation> extends SqlAstTranslatorWithUpsert<T> {
+
+	public SqlAstTranslatorWithOnConflictUpdate(SessionFactoryImplementor sessionFactory, Statement statement) {
+		super( sessionFactory, statement );
+	}
+
+	/**
+	 * Can the given UPSERT be rendered as an {@code insert ... on conflict}
+	 * statement? This is not possible when a column is updatable but not
+	 * insertable, since the {@code excluded} row only has the inserted values.
+	 */
+	public static boolean isSupported(OptionalTableUpdate optionalTableUpdate) {
+		return !optionalTableUpdate.getMutatingTable().getTableMapping().isOptional()
+			&& optionalTableUpdate.getValueBindings().stream()
+					.allMatch( ColumnValueBinding::isAttributeInsertable );
+	}
+
+	@Override
+	protected void renderUpsertStatement(OptionalTableUpdate optionalTableUpdate) {
+		// template:
+		//
+		// insert into [table] as t ([column-names])
+		// values ([bindings])
+		// on conflict ([key-names])
+		// do update set [column]=excluded.[column]
+		// where t.[version]=[binding]
+
+		renderInsertInto( optionalTableUpdate );
+		appendSql( " " );
+		renderOnConflict( optionalTableUpdate );
+	}
+
+	protected void renderInsertInto(OptionalTableUpdate optionalTableUpdate) {
+		final List<ColumnValueBinding> keyBindings = optionalTableUpdate.getKeyBindings();
+		final List<ColumnValueBinding> valueBindings = optionalTableUpdate.getValueBindings();
+
+		appendSql( "insert into " );
+		appendSql( optionalTableUpdate.getMutatingTable().getTableName() );
+		renderMergeTargetAlias();
+		appendSql( " (" );
+		for ( int i = 0; i < keyBindings.size(); i++ ) {
+			if ( i > 0 ) {
+				appendSql( ", " );
+			}
+			appendSql( keyBindings.get( i ).getColumnReference().getColumnExpression() );
+		}
+		for ( ColumnValueBinding valueBinding : valueBindings ) {
+			appendSql( ", " );
+			appendSql( valueBinding.getColumnReference().getColumnExpression() );
+		}
+
+		appendSql( ") values (" );
+		for ( int i = 0; i < keyBindings.size(); i++ ) {
+			if ( i > 0 ) {
+				appendSql( ", " );
+			}
+			renderColumnWrite( keyBindings.get( i ) );
+		}
+		for ( ColumnValueBinding valueBinding : valueBindings ) {
+			appendSql( ", " );
+			renderColumnWrite( valueBinding );
+		}
+		appendSql( ")" );
+	}
+
+	protected void renderOnConflict(OptionalTableUpdate optionalTableUpdate) {
+		final List<ColumnValueBinding> keyBindings = optionalTableUpdate.getKeyBindings();
+		final List<ColumnValueBinding> valueBindings = optionalTableUpdate.getValueBindings();
+
+		appendSql( "on conflict (" );
+		for ( int i = 0; i < keyBindings.size(); i++ ) {
+			if ( i > 0 ) {
+				appendSql( ", " );
+			}
+			appendSql( keyBindings.get( i ).getColumnReference().getColumnExpression() );
+		}
+		appendSql( ")" );
+
+		if ( valueBindings.stream().anyMatch( ColumnValueBinding::isAttributeUpdatable ) ) {
+			appendSql( " do update set " );
+			boolean first = true;
+			for ( ColumnValueBinding binding : valueBindings ) {
+				if ( binding.isAttributeUpdatable() ) {
+					if ( first ) {
+						first = false;
+					}
+					else {
+						appendSql( ", " );
+					}
+					final String columnName = binding.getColumnReference().getColumnExpression();
+					appendSql( columnName );
+					appendSql( "=excluded." );
+					appendSql( columnName );
+				}
+			}
+			renderMatchedWhere( optionalTableUpdate.getOptimisticLockBindings() );
+		}
+		else {
+			// Without updatable bindings, the row is left unchanged when matched
+			appendSql( " do nothing" );
+		}
+	}
+}
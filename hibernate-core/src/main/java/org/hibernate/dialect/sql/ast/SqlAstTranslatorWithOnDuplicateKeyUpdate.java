@@ -14,7 +14,6 @@
 import org.hibernate.sql.model.MutationOperation;
 import org.hibernate.sql.model.ast.ColumnValueBinding;
 import org.hibernate.sql.model.internal.OptionalTableUpdate;
-import org.hibernate.sql.model.jdbc.DeleteOrUpsertOperation;
 import org.hibernate.sql.model.jdbc.UpsertOperation;
 
 import java.sql.PreparedStatement;
@@ -44,12 +43,7 @@ public MutationOperation createMergeOperation(OptionalTableUpdate optionalTableU
 				getParameterBinders()
 		);
 
-		return new DeleteOrUpsertOperation(
-				optionalTableUpdate.getMutationTarget(),
-				optionalTableUpdate.getMutatingTable().getTableMapping(),
-				upsertOperation,
-				optionalTableUpdate
-		);
+		return deleteOrUpsertOperation( upsertOperation, optionalTableUpdate );
 	}
 
 	private static class MySQLRowCountExpectation implements Expectation {
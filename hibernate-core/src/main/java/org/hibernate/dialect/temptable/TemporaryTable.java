@@ -58,6 +58,11 @@ public class TemporaryTable implements Exportable, Contributable {
 
 	public static final String ID_TABLE_PREFIX = "HT_";
 	public static final String ENTITY_TABLE_PREFIX = "HTE_";
+	/**
+	 * @see org.hibernate.cfg.FetchSettings#MULTI_LOAD_BULK_THRESHOLD
+	 * @since 8.1
+	 */
+	public static final String MULTI_LOAD_TABLE_PREFIX = "HTL_";
 	public static final String DEFAULT_ALIAS = "temptable_";
 	public static final String ENTITY_TABLE_IDENTITY_COLUMN = "HTE_IDENTITY";
 	public static final String ENTITY_ROW_NUMBER_COLUMN = "rn_";
@@ -14,6 +14,7 @@
 import org.hibernate.type.descriptor.ValueExtractor;
 import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.java.spi.LazyJsonJavaType;
 import org.hibernate.type.descriptor.jdbc.AggregateJdbcType;
 import org.hibernate.type.descriptor.jdbc.BasicBinder;
 import org.hibernate.type.descriptor.jdbc.BasicExtractor;
@@ -64,7 +65,8 @@ public AggregateJdbcType resolveAggregateJdbcType(
 	@Override
 	public <X> ValueBinder<X> getBinder(JavaType<X> javaType) {
 
-		if ( javaType.getJavaType() == String.class || javaType.getJavaType() == Object.class ) {
+		if ( javaType.getJavaType() == String.class || javaType.getJavaType() == Object.class
+				|| javaType instanceof LazyJsonJavaType<?> ) {
 			return super.getBinder( javaType );
 		}
 
@@ -143,7 +145,8 @@ protected void doBind(CallableStatement st, X value, String name, WrapperOptions
 	@Override
 	public <X> ValueExtractor<X> getExtractor(JavaType<X> javaType) {
 
-		if ( javaType.getJavaType() == String.class || javaType.getJavaType() == Object.class ) {
+		if ( javaType.getJavaType() == String.class || javaType.getJavaType() == Object.class
+				|| javaType instanceof LazyJsonJavaType<?> ) {
 			return super.getExtractor( javaType );
 		}
 
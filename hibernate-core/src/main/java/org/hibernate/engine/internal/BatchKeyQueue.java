@@ -0,0 +1,209 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * An insertion-ordered queue of the keys of a single entity or collection
+ * role which are available for batch fetching, used by
+ * {@link org.hibernate.engine.spi.BatchFetchQueue}.
+ * <p>
+ * Keys are held in an array, in insertion order, along with an index from
+ * each key to its position in the array. A removed key leaves a tombstone
+ * behind, and the array is compacted once tombstones outnumber live keys.
+ * So a batch of keys adjacent to a given key is found without scanning the
+ * whole queue.
+ *
+ * @param <K> the type of key
+ * @param <V> the type of the value associated with each key
+ *
+ * @since 8.1
+ */
+public final class BatchKeyQueue<K, V> {
+
+	/**
+	 * Receives the keys adjacent to the requested key.
+	 */
+	@FunctionalInterface
+	public interface Visitor<K, V> {
+		/**
+		 * @return {@code true} if the key was added to the batch
+		 */
+		boolean visit(K key, @Nullable V value);
+	}
+
+	private static final int MIN_TOMBSTONES_BEFORE_COMPACTION = 16;
+
+	private final Map<K, Integer> positions;
+	private Object[] keys;
+	private Object[] values;
+	// the number of used slots, including tombstones
+	private int limit;
+	// the position of the first slot which might not be a tombstone
+	private int head;
+	private int tombstones;
+	private boolean visiting;
+
+	public BatchKeyQueue(int initialCapacity) {
+		final int capacity = Math.max( initialCapacity, 8 );
+		positions = new HashMap<>( capacity );
+		keys = new Object[capacity];
+		values = new Object[capacity];
+	}
+
+	/**
+	 * Add the given key to the end of the queue, unless it is already
+	 * queued, in which case only its value is replaced.
+	 */
+	public void add(K key, @Nullable V value) {
+		final Integer position = positions.get( key );
+		if ( position == null ) {
+			if ( limit == keys.length ) {
+				if ( tombstones > size() && !visiting ) {
+					compact();
+				}
+				else {
+					keys = Arrays.copyOf( keys, keys.length * 2 );
+					values = Arrays.copyOf( values, values.length * 2 );
+				}
+			}
+			keys[limit] = key;
+			values[limit] = value;
+			positions.put( key, limit++ );
+		}
+		else {
+			values[position] = value;
+		}
+	}
+
+	/**
+	 * Remove the given key from the queue.
+	 *
+	 * @return the value associated with the removed key, or {@code null}
+	 */
+	public @Nullable V remove(K key) {
+		final Integer position = positions.remove( key );
+		if ( position == null ) {
+			return null;
+		}
+		else {
+			@SuppressWarnings("unchecked")
+			final V value = (V) values[position];
+			tombstone( position );
+			compactIfNecessary();
+			return value;
+		}
+	}
+
+	public boolean contains(K key) {
+		return positions.containsKey( key );
+	}
+
+	public @Nullable V get(K key) {
+		final Integer position = positions.get( key );
+		//noinspection unchecked
+		return position == null ? null : (V) values[position];
+	}
+
+	public int size() {
+		return positions.size();
+	}
+
+	public boolean isEmpty() {
+		return positions.isEmpty();
+	}
+
+	/**
+	 * Visit the keys queued after the given key, in insertion order, and
+	 * then, if the batch is still not full, the keys queued before it, in
+	 * reverse insertion order, until the visitor has accepted the given
+	 * number of keys. If the given key is not queued, visit the keys at
+	 * the end of the queue, in reverse insertion order.
+	 * <p>
+	 * The visitor may {@linkplain #remove remove} the key it is visiting.
+	 *
+	 * @param key the key being loaded, which is never visited
+	 * @param count the maximum number of keys to accept
+	 */
+	public void visitAdjacent(@Nullable K key, int count, Visitor<K, V> visitor) {
+		final Integer position = key == null ? null : positions.get( key );
+		// the visitor might remove keys, so don't move them around
+		visiting = true;
+		try {
+			int accepted = 0;
+			final int start;
+			if ( position == null ) {
+				start = limit;
+			}
+			else {
+				start = position;
+				for ( int i = start + 1; i < limit && accepted < count; i++ ) {
+					if ( visit( i, visitor ) ) {
+						accepted++;
+					}
+				}
+			}
+			for ( int i = start - 1; i >= head && accepted < count; i-- ) {
+				if ( visit( i, visitor ) ) {
+					accepted++;
+				}
+			}
+		}
+		finally {
+			visiting = false;
+		}
+		compactIfNecessary();
+	}
+
+	private boolean visit(int position, Visitor<K, V> visitor) {
+		@SuppressWarnings("unchecked")
+		final K key = (K) keys[position];
+		//noinspection unchecked
+		return key != null && visitor.visit( key, (V) values[position] );
+	}
+
+	private void tombstone(int position) {
+		keys[position] = null;
+		values[position] = null;
+		tombstones++;
+		if ( position == head ) {
+			while ( head < limit && keys[head] == null ) {
+				head++;
+			}
+		}
+	}
+
+	private void compactIfNecessary() {
+		if ( !visiting && tombstones > MIN_TOMBSTONES_BEFORE_COMPACTION && tombstones > size() ) {
+			compact();
+		}
+	}
+
+	private void compact() {
+		int target = 0;
+		for ( int i = head; i < limit; i++ ) {
+			final Object key = keys[i];
+			if ( key != null ) {
+				if ( target != i ) {
+					keys[target] = key;
+					values[target] = values[i];
+					//noinspection unchecked
+					positions.put( (K) key, target );
+				}
+				target++;
+			}
+		}
+		Arrays.fill( keys, target, limit, null );
+		Arrays.fill( values, target, limit, null );
+		limit = target;
+		head = 0;
+		tombstones = 0;
+	}
+}
@@ -252,6 +252,29 @@ EntityEntry getEntityEntry(Object entity) {
 				: managedEntity.$$_hibernate_getEntityEntry();
 	}
 
+	/**
+	 * Replace the {@link EntityEntry} associated with the given entity, without
+	 * changing its position in this context.
+	 *
+	 * @param entity The entity
+	 * @param entityEntry The entry currently associated with the entity
+	 * @param replacement The entry to associate with the entity instead
+	 *
+	 * @return {@code true} if the given entry was associated with the entity, and was replaced
+	 */
+	boolean replaceEntityEntry(Object entity, EntityEntry entityEntry, EntityEntry replacement) {
+		final var managedEntity = getAssociatedManagedEntity( entity );
+		if ( managedEntity == null || managedEntity.$$_hibernate_getEntityEntry() != entityEntry ) {
+			return false;
+		}
+		else {
+			// the cross-ref array holds the entries
+			dirty = true;
+			managedEntity.$$_hibernate_setEntityEntry( replacement );
+			return true;
+		}
+	}
+
 	/**
 	 * Remove an entity from the context, returning its {@link EntityEntry}.
 	 *
@@ -8,6 +8,7 @@
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.CachedNaturalIdValueSource;
+import org.hibernate.engine.spi.NaturalIdResolutionCache;
 import org.hibernate.engine.spi.NaturalIdResolutions;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.Resolution;
@@ -218,6 +219,9 @@ public void manageSharedResolution(
 			Object previousNaturalId,
 			EntityMappingType entityDescriptor,
 			CachedNaturalIdValueSource source) {
+		if ( source == CachedNaturalIdValueSource.INSERT ) {
+			invalidateFactoryResolution( naturalId, entityDescriptor );
+		}
 		final var naturalIdMapping = entityDescriptor.getNaturalIdMapping();
 		if ( naturalIdMapping != null && naturalIdMapping.getCacheAccess() != null ) {
 			manageSharedResolution(
@@ -458,6 +462,8 @@ public void removeSharedResolution(Object id, Object naturalId, EntityMappingTyp
 			return;
 		}
 
+		invalidateFactoryResolution( naturalId, entityDescriptor );
+
 		final var cacheAccess = naturalIdMapping.getCacheAccess();
 		if ( cacheAccess == null ) {
 			// nothing to do
@@ -491,6 +497,18 @@ public void removeSharedResolution(Object id, Object naturalId, EntityMappingTyp
 //			}
 	}
 
+	/**
+	 * Invalidate any resolution of the given natural id held by the
+	 * factory-level {@link NaturalIdResolutionCache}.
+	 */
+	private void invalidateFactoryResolution(Object naturalId, EntityMappingType entityDescriptor) {
+		final var session = session();
+		final var resolutionCache = session.getFactory().getNaturalIdResolutionCache();
+		if ( resolutionCache != null ) {
+			resolutionCache.invalidate( naturalId, entityDescriptor, session );
+		}
+	}
+
 	@Override
 	public void handleSynchronization(Object pk, Object entity, EntityMappingType entityDescriptor) {
 		final var naturalIdMapping = entityDescriptor.getNaturalIdMapping();
@@ -0,0 +1,376 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+import org.hibernate.AssertionFailure;
+import org.hibernate.HibernateException;
+import org.hibernate.LockMode;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityEntryExtraState;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.internal.util.ImmutableBitSet;
+import org.hibernate.persister.entity.EntityPersister;
+
+import jakarta.annotation.Nullable;
+
+import static org.hibernate.LockMode.PESSIMISTIC_FORCE_INCREMENT;
+import static org.hibernate.engine.spi.Status.DELETED;
+import static org.hibernate.engine.spi.Status.GONE;
+import static org.hibernate.engine.spi.Status.MANAGED;
+import static org.hibernate.engine.spi.Status.READ_ONLY;
+import static org.hibernate.engine.spi.Status.SAVING;
+import static org.hibernate.internal.util.StringHelper.nullIfEmpty;
+import static org.hibernate.pretty.MessageHelper.infoString;
+
+/**
+ * A compact {@link EntityEntry} for a loaded read-only entity of a
+ * mutable type which is not bytecode enhanced. Unlike {@link EntityEntryImpl},
+ * it never holds loaded state, a row id, a cached {@link EntityKey}, or a
+ * reference to the persistence context, and it stores the status and lock
+ * mode as ordinals.
+ * <p>
+ * Since there is no loaded state, this entry cannot itself be made
+ * modifiable. Instead, {@link StatefulPersistenceContext} replaces it with
+ * an {@link EntityEntryImpl} when the entity is
+ * {@linkplain PersistenceContext#setReadOnly made modifiable}.
+ *
+ * @see org.hibernate.cfg.FetchSettings#COMPACT_READ_ONLY_ENTRIES
+ *
+ * @since 8.1
+ */
+final class ReadOnlyEntityEntry implements Serializable, EntityEntry {
+
+	private final Object id;
+	private Object version;
+	private final EntityPersister persister;
+	private transient @Nullable ImmutableBitSet maybeLazySet;
+	private EntityEntryExtraState next;
+	private transient byte status;
+	private transient byte previousStatus;
+	private transient byte lockMode;
+	private transient boolean existsInDatabase;
+
+	/**
+	 * Create a compact copy of the given entry of a loaded read-only entity.
+	 */
+	ReadOnlyEntityEntry(EntityEntry entry) {
+		this(
+				entry.getId(),
+				entry.getStatus(),
+				null,
+				entry.getVersion(),
+				entry.getLockMode(),
+				entry.isExistsInDatabase(),
+				entry.getPersister()
+		);
+		assert entry.getStatus() == READ_ONLY;
+		this.maybeLazySet = entry.getMaybeLazySet();
+	}
+
+	private ReadOnlyEntityEntry(
+			final Object id,
+			final Status status,
+			final Status previousStatus,
+			final Object version,
+			final LockMode lockMode,
+			final boolean existsInDatabase,
+			final EntityPersister persister) {
+		this.id = id;
+		this.status = (byte) status.ordinal();
+		this.previousStatus = previousStatus == null ? -1 : (byte) previousStatus.ordinal();
+		this.version = version;
+		this.lockMode = (byte) lockMode.ordinal();
+		this.existsInDatabase = existsInDatabase;
+		this.persister = persister;
+	}
+
+	@Override
+	public LockMode getLockMode() {
+		return LockMode.values()[lockMode];
+	}
+
+	@Override
+	public void setLockMode(LockMode lockMode) {
+		this.lockMode = (byte) lockMode.ordinal();
+	}
+
+	@Override
+	public Status getStatus() {
+		return Status.fromOrdinal( status );
+	}
+
+	@Override
+	public void setStatus(Status status) {
+		if ( this.status != status.ordinal() ) {
+			previousStatus = this.status;
+			this.status = (byte) status.ordinal();
+		}
+	}
+
+	private Status getPreviousStatus() {
+		return Status.fromOrdinal( previousStatus );
+	}
+
+	@Override
+	public Object getId() {
+		return id;
+	}
+
+	@Override
+	public Object[] getLoadedState() {
+		return null;
+	}
+
+	@Override
+	public Object getLoadedValue(String propertyName) {
+		return null;
+	}
+
+	@Override
+	public void overwriteLoadedStateCollectionValue(String propertyName, PersistentCollection<?> collection) {
+		// nothing to do, there is no loaded state
+	}
+
+	@Override
+	public Object[] getDeletedState() {
+		final var extra = getExtraState( EntityEntryExtraStateHolder.class );
+		return extra == null ? null : extra.getDeletedState();
+	}
+
+	@Override
+	public void setDeletedState(Object[] deletedState) {
+		final var existingExtra = getExtraState( EntityEntryExtraStateHolder.class );
+		if ( existingExtra != null ) {
+			existingExtra.setDeletedState( deletedState );
+		}
+		else if ( deletedState != null ) {
+			final var newExtra = new EntityEntryExtraStateHolder();
+			newExtra.setDeletedState( deletedState );
+			addExtraState( newExtra );
+		}
+	}
+
+	@Override
+	public boolean isExistsInDatabase() {
+		return existsInDatabase;
+	}
+
+	@Override
+	public Object getVersion() {
+		return version;
+	}
+
+	@Override
+	public void postInsert(Object version) {
+		this.version = version;
+	}
+
+	@Override
+	public EntityPersister getPersister() {
+		return persister;
+	}
+
+	@Override
+	public EntityKey getEntityKey() {
+		// not cached, to keep the entry small
+		return new EntityKey( id, persister );
+	}
+
+	@Override
+	public String getEntityName() {
+		return persister == null ? null : persister.getEntityName();
+	}
+
+	@Override
+	public Object getRowId() {
+		return null;
+	}
+
+	@Override
+	public void postLoad(Object entity) {
+		// the entry only replaces a full entry once the entity is loaded
+	}
+
+	@Override
+	public void postUpdate(Object entity, Object[] updatedState, Object nextVersion) {
+		setLockMode( LockMode.WRITE );
+		if ( persister.isVersioned() ) {
+			version = nextVersion;
+			persister.setValue( entity, persister.getVersionPropertyIndex(), nextVersion );
+		}
+	}
+
+	@Override
+	public void postDelete() {
+		previousStatus = status;
+		status = (byte) GONE.ordinal();
+		existsInDatabase = false;
+	}
+
+	@Override
+	public void postInsert(Object[] insertedState) {
+		existsInDatabase = true;
+	}
+
+	@Override
+	public boolean isNullifiable(boolean earlyInsert, SharedSessionContractImplementor session) {
+		final Status status = getStatus();
+		if ( earlyInsert ) {
+			return status == SAVING || !existsInDatabase;
+		}
+		else if ( status == SAVING ) {
+			return true;
+		}
+		else {
+			return session.getPersistenceContextInternal()
+					.containsNullifiableEntityKey( this::getEntityKey );
+		}
+	}
+
+	@Override
+	public boolean requiresDirtyCheck(Object entity) {
+		// without a snapshot, a modifiable entity must always be checked
+		return isModifiableEntity();
+	}
+
+	@Override
+	public boolean isModifiableEntity() {
+		final Status status = getStatus();
+		return persister.isMutable()
+			&& status != READ_ONLY
+			&& !( status == DELETED && getPreviousStatus() == READ_ONLY );
+	}
+
+	@Override
+	public void forceLocked(Object entity, Object nextVersion) {
+		version = nextVersion;
+		setLockMode( PESSIMISTIC_FORCE_INCREMENT );
+		persister.setValue( entity, persister.getVersionPropertyIndex(), nextVersion );
+	}
+
+	@Override
+	public boolean isReadOnly() {
+		final Status status = getStatus();
+		if ( status != MANAGED && status != READ_ONLY ) {
+			throw new HibernateException( "instance was not in a valid state" );
+		}
+		return status == READ_ONLY;
+	}
+
+	@Override
+	public boolean setReadOnly(boolean readOnly, Object entity) {
+		final boolean changed = readOnly != isReadOnly();
+		if ( changed ) {
+			if ( !readOnly ) {
+				throw new AssertionFailure( "Compact entry must be replaced before entity is made modifiable: "
+						+ infoString( persister.getEntityName(), id ) );
+			}
+			setStatus( READ_ONLY );
+		}
+		return changed;
+	}
+
+	@Override
+	public @Nullable ImmutableBitSet getMaybeLazySet() {
+		return maybeLazySet;
+	}
+
+	@Override
+	public void setMaybeLazySet(@Nullable ImmutableBitSet maybeLazySet) {
+		this.maybeLazySet = maybeLazySet;
+	}
+
+	@Override
+	public String toString() {
+		return "EntityEntry"
+			+ infoString( persister.getEntityName(), id )
+			+ '(' + getStatus() + ')';
+	}
+
+	@Override
+	public void serialize(ObjectOutputStream oos) throws IOException {
+		final Status previousStatus = getPreviousStatus();
+		final String entityName = getEntityName();
+		oos.writeUTF( entityName == null ? "" : entityName );
+		oos.writeObject( id );
+		oos.writeInt( getStatus().ordinal() );
+		oos.writeInt( previousStatus == null ? -1 : previousStatus.ordinal() );
+		oos.writeObject( getDeletedState() );
+		oos.writeObject( version );
+		oos.writeInt( getLockMode().ordinal() );
+		oos.writeBoolean( existsInDatabase );
+	}
+
+	/**
+	 * Custom deserialization routine used during deserialization
+	 * of a {@link PersistenceContext} for increased performance.
+	 * <p>
+	 * This method is called reflectively by {@link EntityEntryContext}.
+	 *
+	 * @param ois The stream from which to read the entry
+	 * @param persistenceContext The context being deserialized
+	 *
+	 * @return The deserialized {@code EntityEntry}
+	 *
+	 * @throws IOException If a stream error occurs
+	 * @throws ClassNotFoundException If any of the classes declared
+	 *                                in the stream cannot be found
+	 */
+	public static EntityEntry deserialize(ObjectInputStream ois, PersistenceContext persistenceContext)
+			throws IOException, ClassNotFoundException {
+		final String entityName = nullIfEmpty( ois.readUTF() );
+		final var factory = persistenceContext.getSession().getFactory();
+		final var persister =
+				factory == null
+						? null
+						: factory.getMappingMetamodel().getEntityDescriptor( entityName );
+		final var entry = new ReadOnlyEntityEntry(
+				ois.readObject(),
+				Status.fromOrdinal( ois.readInt() ),
+				Status.fromOrdinal( ois.readInt() ),
+				null,
+				LockMode.NONE,
+				true,
+				persister
+		);
+		entry.setDeletedState( (Object[]) ois.readObject() );
+		entry.version = ois.readObject();
+		entry.setLockMode( LockMode.values()[ ois.readInt() ] );
+		entry.existsInDatabase = ois.readBoolean();
+		return entry;
+	}
+
+	@Override
+	public void addExtraState(EntityEntryExtraState extraState) {
+		if ( next == null ) {
+			next = extraState;
+		}
+		else {
+			next.addExtraState( extraState );
+		}
+	}
+
+	@Override
+	public <T extends EntityEntryExtraState> T getExtraState(Class<T> extraStateType) {
+		if ( next == null ) {
+			return null;
+		}
+		else if ( extraStateType.isInstance( next ) ) {
+			return extraStateType.cast( next );
+		}
+		else {
+			return next.getExtraState( extraStateType );
+		}
+	}
+}
@@ -39,6 +39,7 @@
 import org.hibernate.engine.spi.CollectionFlushActionTracker;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityEntryExtraState;
 import org.hibernate.engine.spi.EntityHolder;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.EntityUniqueKey;
@@ -69,6 +70,7 @@
 import static org.hibernate.engine.internal.ManagedTypeHelper.asHibernateProxy;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asManagedEntity;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
+import static org.hibernate.engine.internal.ManagedTypeHelper.isManagedEntity;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.PersistenceContextLogging.PERSISTENCE_CONTEXT_LOGGER;
 import static org.hibernate.internal.util.collections.CollectionHelper.mapOfSize;
@@ -430,19 +432,22 @@ public boolean containsEntityHolder(EntityKey key) {
 	@Override
 	public void postLoad(JdbcValuesSourceProcessingState processingState, Consumer<EntityHolder> holderConsumer) {
 		final var callback = processingState.getExecutionContext().getCallback();
+		final boolean compactReadOnlyEntries =
+				getSession().getFactory().getSessionFactoryOptions().isCompactReadOnlyEntriesEnabled();
 		final var loadingEntityHolders = processingState.getLoadingEntityHolders();
 		if ( loadingEntityHolders != null ) {
 			final var listenerGroup = getSession().getFactory().getEventListenerGroups().eventListenerGroup_POST_LOAD;
 			final var postLoadEvent = processingState.getPostLoadEvent();
 			for ( final var holder : loadingEntityHolders ) {
-				processLoadedEntityHolder( holder, listenerGroup, postLoadEvent, callback, holderConsumer );
+				processLoadedEntityHolder( holder, listenerGroup, postLoadEvent, callback, holderConsumer,
+						compactReadOnlyEntries );
 			}
 			loadingEntityHolders.clear();
 		}
 		final var reloadedEntityHolders = processingState.getReloadedEntityHolders();
 		if ( reloadedEntityHolders != null ) {
 			for ( final var holder : reloadedEntityHolders ) {
-				processLoadedEntityHolder( holder, null, null, callback, holderConsumer );
+				processLoadedEntityHolder( holder, null, null, callback, holderConsumer, compactReadOnlyEntries );
 			}
 			reloadedEntityHolders.clear();
 		}
@@ -453,7 +458,8 @@ private void processLoadedEntityHolder(
 			EventListenerGroup<PostLoadEventListener> listenerGroup,
 			PostLoadEvent postLoadEvent,
 			Callback callback,
-			Consumer<EntityHolder> holderConsumer) {
+			Consumer<EntityHolder> holderConsumer,
+			boolean compactReadOnlyEntries) {
 		if ( holderConsumer != null ) {
 			holderConsumer.accept( holder );
 		}
@@ -476,7 +482,59 @@ private void processLoadedEntityHolder(
 				callback.invokeAfterLoadActions( entity, holder.getDescriptor(), getSession() );
 			}
 			holder.resetEntityInitialier();
+			if ( compactReadOnlyEntries ) {
+				compactEntry( holder, entity );
+			}
+		}
+	}
+
+	/**
+	 * Replace the entry of a loaded read-only entity with a {@link ReadOnlyEntityEntry}.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#COMPACT_READ_ONLY_ENTRIES
+	 */
+	private void compactEntry(EntityHolder holder, Object entity) {
+		final var entry = holder.getEntityEntry();
+		if ( entry instanceof EntityEntryImpl
+				&& entry.getStatus() == Status.READ_ONLY
+				&& entry.getRowId() == null
+				&& entry.getPersister().isMutable()
+				&& entry.getExtraState( EntityEntryExtraState.class ) == null
+				&& !isManagedEntity( entity ) ) {
+			final var compactEntry = new ReadOnlyEntityEntry( entry );
+			if ( entityEntryContext.replaceEntityEntry( entity, entry, compactEntry ) ) {
+				holder.setEntityEntry( compactEntry );
+			}
+		}
+	}
+
+	/**
+	 * Replace the {@link ReadOnlyEntityEntry} of an entity which is being made
+	 * modifiable with a full entry.
+	 */
+	private EntityEntry expandEntry(Object entity, ReadOnlyEntityEntry entry) {
+		final var fullEntry = new EntityEntryImpl(
+				entry.getStatus(),
+				null,
+				null,
+				entry.getId(),
+				entry.getVersion(),
+				entry.getLockMode(),
+				entry.isExistsInDatabase(),
+				entry.getPersister(),
+				this
+		);
+		fullEntry.setMaybeLazySet( entry.getMaybeLazySet() );
+		final var deletedState = entry.getDeletedState();
+		if ( deletedState != null ) {
+			fullEntry.setDeletedState( deletedState );
 		}
+		entityEntryContext.replaceEntityEntry( entity, entry, fullEntry );
+		final var holder = entitiesByKey == null ? null : entitiesByKey.get( entry.getEntityKey() );
+		if ( holder != null && holder.entityEntry == entry ) {
+			holder.entityEntry = fullEntry;
+		}
+		return fullEntry;
 	}
 
 	@Override
@@ -1728,10 +1786,14 @@ private void setProxyReadOnly(LazyInitializer hibernateLazyInitializer, boolean
 	}
 
 	private void setEntityReadOnly(Object entity, boolean readOnly) {
-		final var entry = getEntry( entity );
-		if ( entry == null ) {
+		final var existingEntry = getEntry( entity );
+		if ( existingEntry == null ) {
 			throw new IllegalArgumentException( "Given entity is not associated with the persistence context" );
 		}
+		final var entry =
+				!readOnly && existingEntry instanceof ReadOnlyEntityEntry compactEntry
+						? expandEntry( entity, compactEntry )
+						: existingEntry;
 		if ( entry.setReadOnly( readOnly, entity ) ) {
 			hasNonReadOnlyEntities = hasNonReadOnlyEntities || !readOnly;
 			if ( collectionEntries != null && entry.getPersister().hasCollections() ) {
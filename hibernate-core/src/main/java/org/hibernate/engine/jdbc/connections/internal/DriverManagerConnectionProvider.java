@@ -17,6 +17,7 @@
 import org.hibernate.dialect.SimpleDatabaseVersion;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProviderConfigurationException;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionSchemaTracker;
 import org.hibernate.engine.jdbc.connections.spi.DatabaseConnectionInfo;
 import org.hibernate.exception.JDBCConnectionException;
 import org.hibernate.service.ServiceRegistry;
@@ -287,7 +288,38 @@ public Connection getConnection() throws SQLException {
 		if ( state == null ) {
 			throw new IllegalStateException( "Cannot get a connection as the driver manager is not properly initialized" );
 		}
-		return state.getConnection();
+		final var connection = state.getConnection();
+		try {
+			state.getPool().getSchemaTracker().resetSchema( connection );
+		}
+		catch (SQLException e) {
+			// the schema of the connection is unknown
+			state.getPool().closeConnection( connection, e );
+			throw e;
+		}
+		return connection;
+	}
+
+	@Override
+	public boolean supportsSchemaAffinity() {
+		return true;
+	}
+
+	@Override
+	public Connection getConnectionForSchema(String schema) throws SQLException {
+		if ( state == null ) {
+			throw new IllegalStateException( "Cannot get a connection as the driver manager is not properly initialized" );
+		}
+		final var connection = state.getConnection( schema );
+		try {
+			state.getPool().getSchemaTracker().setSchema( connection, schema );
+		}
+		catch (SQLException e) {
+			// the schema of the connection is unknown
+			state.getPool().closeConnection( connection, e );
+			throw e;
+		}
+		return connection;
 	}
 
 	@Override
@@ -325,7 +357,8 @@ public DatabaseConnectionInfo getDatabaseConnectionInfo(Dialect dialect) {
 
 	@Override
 	public boolean isUnwrappableAs(@Nonnull Class<?> unwrapType) {
-		return unwrapType.isAssignableFrom( DriverManagerConnectionProvider.class );
+		return unwrapType.isAssignableFrom( DriverManagerConnectionProvider.class )
+			|| unwrapType.isAssignableFrom( ConnectionSchemaTracker.class );
 	}
 
 	@Override
@@ -333,6 +366,9 @@ public <T> T unwrap(@Nonnull Class<T> unwrapType) {
 		if ( unwrapType.isAssignableFrom( DriverManagerConnectionProvider.class ) ) {
 			return unwrapType.cast( this );
 		}
+		else if ( unwrapType.isAssignableFrom( ConnectionSchemaTracker.class ) ) {
+			return unwrapType.cast( state.getPool().getSchemaTracker() );
+		}
 		else {
 			throw new UnknownUnwrapTypeException( unwrapType );
 		}
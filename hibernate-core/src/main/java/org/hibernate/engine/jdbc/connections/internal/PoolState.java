@@ -105,6 +105,17 @@ Connection getConnection() {
 		}
 	}
 
+	Connection getConnection(String schema) {
+		startIfNeeded();
+		statelock.readLock().lock();
+		try {
+			return pool.poll( schema );
+		}
+		finally {
+			statelock.readLock().unlock();
+		}
+	}
+
 	void closeConnection(Connection conn) {
 		if ( conn == null ) {
 			return;
@@ -5,6 +5,7 @@
 package org.hibernate.engine.jdbc.connections.internal;
 
 import org.hibernate.HibernateException;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionSchemaTracker;
 
 import java.sql.Connection;
 import java.sql.SQLException;
@@ -20,6 +21,7 @@ class PooledConnections {
 
 	private final ConcurrentLinkedQueue<Connection> allConnections = new ConcurrentLinkedQueue<>();
 	private final ConcurrentLinkedQueue<Connection> availableConnections = new ConcurrentLinkedQueue<>();
+	private final ConnectionSchemaTracker schemaTracker = new ConnectionSchemaTracker();
 
 	private final ConnectionCreator connectionCreator;
 	private final ConnectionValidator connectionValidator;
@@ -108,6 +110,24 @@ Connection poll() {
 		return conn;
 	}
 
+	/**
+	 * Obtain a connection, preferring an available connection
+	 * which is already set to the given schema.
+	 */
+	Connection poll(String schema) {
+		for ( var conn : availableConnections ) {
+			if ( schemaTracker.hasSchema( conn, schema )
+					// another thread might have taken it
+					&& availableConnections.remove( conn ) ) {
+				final Connection prepared = prepareConnection( conn );
+				if ( prepared != null ) {
+					return prepared;
+				}
+			}
+		}
+		return poll();
+	}
+
 	protected Connection prepareConnection(Connection conn) {
 		Exception t = null;
 		try {
@@ -135,6 +155,7 @@ protected void closeConnection(Connection conn, Throwable t) {
 			}
 		}
 		finally {
+			schemaTracker.forget( conn );
 			if ( !allConnections.remove( conn ) ) {
 				CONNECTION_INFO_LOGGER.connectionRemoveFailed();
 			}
@@ -184,6 +205,10 @@ int getOpenConnectionCount() {
 		return allConnections.size() - availableConnections.size();
 	}
 
+	ConnectionSchemaTracker getSchemaTracker() {
+		return schemaTracker;
+	}
+
 	public Iterable<Connection> getAllConnections() {
 		return allConnections;
 	}
@@ -152,6 +152,53 @@ default boolean handlesConnectionSchema() {
 		return false;
 	}
 
+	/**
+	 * Does this connection provider support {@link #getConnectionForSchema}?
+	 * A connection provider which supports schema affinity remembers the
+	 * {@linkplain java.sql.Connection#getSchema current schema} of each
+	 * pooled connection, avoids redundant calls to
+	 * {@link java.sql.Connection#setSchema}, and does not reset the schema
+	 * of a connection when it is returned to the pool. Instead,
+	 * {@link #getConnection()} restores the original schema of a pooled
+	 * connection if, and only if, it was changed.
+	 * <p>
+	 * When schema-based multitenancy is enabled, a session obtains its
+	 * connection from {@link #getConnectionForSchema}, instead of setting
+	 * and resetting the schema itself.
+	 *
+	 * @return {@code true} if schema affinity is supported
+	 *
+	 * @see ConnectionSchemaTracker
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default boolean supportsSchemaAffinity() {
+		return false;
+	}
+
+	/**
+	 * Obtains a connection whose {@linkplain java.sql.Connection#getSchema
+	 * current schema} is the given schema, preferring a pooled connection
+	 * which is already set to that schema.
+	 *
+	 * @param schema The schema belonging to the current tenant
+	 * @return The obtained JDBC connection
+	 *
+	 * @throws SQLException Indicates a problem opening a connection or setting its schema
+	 * @throws org.hibernate.HibernateException Indicates a problem obtaining a connection.
+	 *
+	 * @see #supportsSchemaAffinity()
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default Connection getConnectionForSchema(String schema) throws SQLException {
+		throw new UnsupportedOperationException(
+				"ConnectionProvider does not support schema affinity: "
+						+ getClass().getTypeName() );
+	}
+
 	/**
 	 * Does this connection provider correctly set the
 	 * {@linkplain java.sql.Connection#setReadOnly read-only mode}
@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.connections.spi;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.annotation.Nullable;
+import org.hibernate.Incubating;
+
+import static java.util.Collections.synchronizedMap;
+
+/**
+ * Remembers the current {@linkplain Connection#getSchema schema} of each
+ * physical connection belonging to a pool, allowing a pooling
+ * {@link ConnectionProvider} to
+ * {@linkplain ConnectionProvider#supportsSchemaAffinity hand out connections
+ * already set to the schema of a tenant}, and to avoid redundant calls to
+ * {@link Connection#setSchema}, each of which costs a round trip to the
+ * database server on most platforms.
+ * <p>
+ * The schema is always set on the physical connection obtained by
+ * {@linkplain Connection#unwrap unwrapping} the connection handed out by
+ * the pool, so that the pool does not itself reset the schema when the
+ * connection is returned.
+ * <p>
+ * A {@code ConnectionProvider} which uses a {@code ConnectionSchemaTracker}
+ * should make it available via {@link ConnectionProvider#unwrap}, so that
+ * the {@linkplain #getSchemaSwitchCount rate of schema switches} may be
+ * monitored.
+ *
+ * @since 8.1
+ */
+@Incubating
+public class ConnectionSchemaTracker {
+
+	private static final class SchemaState {
+		private final @Nullable String initialSchema;
+		private @Nullable String currentSchema;
+
+		private SchemaState(@Nullable String initialSchema) {
+			this.initialSchema = initialSchema;
+			this.currentSchema = initialSchema;
+		}
+	}
+
+	private final Map<Connection, SchemaState> schemaStates = synchronizedMap( new WeakHashMap<>() );
+	private final LongAdder schemaSwitchCount = new LongAdder();
+	private final LongAdder elidedSchemaSwitchCount = new LongAdder();
+
+	/**
+	 * Set the current schema of the given connection, unless it is already
+	 * set to the given schema.
+	 */
+	public void setSchema(Connection connection, @Nullable String schema) throws SQLException {
+		final var physicalConnection = physicalConnection( connection );
+		var state = schemaStates.get( physicalConnection );
+		if ( state == null ) {
+			// first time we see this connection
+			state = new SchemaState( physicalConnection.getSchema() );
+			schemaStates.put( physicalConnection, state );
+		}
+		switchSchema( physicalConnection, state, schema );
+	}
+
+	/**
+	 * Restore the schema the given connection had when it was first seen
+	 * by this tracker, unless it already has that schema.
+	 */
+	public void resetSchema(Connection connection) throws SQLException {
+		if ( !schemaStates.isEmpty() ) {
+			final var physicalConnection = physicalConnection( connection );
+			final var state = schemaStates.get( physicalConnection );
+			if ( state != null ) {
+				switchSchema( physicalConnection, state, state.initialSchema );
+			}
+		}
+	}
+
+	/**
+	 * Is the given connection known to be set to the given schema?
+	 */
+	public boolean hasSchema(Connection connection, @Nullable String schema) {
+		final var state = schemaStates.get( physicalConnection( connection ) );
+		return state != null && Objects.equals( state.currentSchema, schema );
+	}
+
+	/**
+	 * Forget the given connection, usually because it was closed.
+	 */
+	public void forget(Connection connection) {
+		schemaStates.remove( physicalConnection( connection ) );
+	}
+
+	/**
+	 * The number of calls to {@link Connection#setSchema}.
+	 */
+	public long getSchemaSwitchCount() {
+		return schemaSwitchCount.sum();
+	}
+
+	/**
+	 * The number of calls to {@link Connection#setSchema} which were
+	 * avoided because the connection was already set to the requested
+	 * schema.
+	 */
+	public long getElidedSchemaSwitchCount() {
+		return elidedSchemaSwitchCount.sum();
+	}
+
+	private void switchSchema(Connection physicalConnection, SchemaState state, @Nullable String schema)
+			throws SQLException {
+		if ( Objects.equals( state.currentSchema, schema ) ) {
+			elidedSchemaSwitchCount.increment();
+		}
+		else {
+			try {
+				physicalConnection.setSchema( schema );
+			}
+			catch (SQLException e) {
+				// we no longer know the state of the connection
+				schemaStates.remove( physicalConnection );
+				throw e;
+			}
+			state.currentSchema = schema;
+			schemaSwitchCount.increment();
+		}
+	}
+
+	private static Connection physicalConnection(Connection connection) {
+		try {
+			return connection.unwrap( Connection.class );
+		}
+		catch (SQLException e) {
+			return connection;
+		}
+	}
+}
@@ -25,6 +25,7 @@
 import org.hibernate.jdbc.WorkExecutorVisitable;
 import org.hibernate.resource.jdbc.internal.LogicalConnectionManagedImpl;
 import org.hibernate.resource.jdbc.internal.LogicalConnectionProvidedImpl;
+import org.hibernate.resource.jdbc.internal.PreparedStatementCache;
 import org.hibernate.resource.jdbc.internal.ResourceRegistryStandardImpl;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
@@ -39,6 +40,8 @@
 import java.sql.Statement;
 import java.util.function.Supplier;
 
+import jakarta.annotation.Nullable;
+
 import static org.hibernate.ConnectionReleaseMode.AFTER_STATEMENT;
 import static org.hibernate.engine.jdbc.JdbcLogging.JDBC_LOGGER;
 import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_MESSAGE_LOGGER;
@@ -54,6 +57,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 	private static final boolean TRACE_ENABLED = JDBC_LOGGER.isTraceEnabled();
 
 	private transient final LogicalConnectionImplementor logicalConnection;
+	private transient final @Nullable PreparedStatementCache statementCache;
 	private transient final JdbcSessionOwner owner;
 
 	private transient final JdbcServices jdbcServices;
@@ -82,17 +86,27 @@ public JdbcCoordinatorImpl(
 		this.owner = owner;
 		this.jdbcServices = jdbcServices;
 		this.isUserSuppliedConnection = userSuppliedConnection != null;
-		this.logicalConnection = createLogicalConnection( userSuppliedConnection, owner );
+		this.statementCache = createStatementCache( owner );
+		this.logicalConnection = createLogicalConnection( userSuppliedConnection, owner, statementCache );
 		if ( TRACE_ENABLED ) {
 			JDBC_LOGGER.createdJdbcCoordinator( hashCode() );
 		}
 	}
 
+	private static @Nullable PreparedStatementCache createStatementCache(JdbcSessionOwner owner) {
+		final var context = owner.getJdbcSessionContext();
+		final int statementCacheSize = context.getStatementCacheSize();
+		return statementCacheSize > 0
+				? new PreparedStatementCache( statementCacheSize, context.getEventHandler() )
+				: null;
+	}
+
 	private static LogicalConnectionImplementor createLogicalConnection(
 			Connection userSuppliedConnection,
-			JdbcSessionOwner owner) {
+			JdbcSessionOwner owner,
+			@Nullable PreparedStatementCache statementCache) {
 		final var resourceRegistry =
-				new ResourceRegistryStandardImpl( owner.getJdbcSessionContext().getEventHandler() );
+				new ResourceRegistryStandardImpl( owner.getJdbcSessionContext().getEventHandler(), statementCache );
 		return userSuppliedConnection == null
 				? new LogicalConnectionManagedImpl( owner, resourceRegistry )
 				: new LogicalConnectionProvidedImpl( userSuppliedConnection, resourceRegistry );
@@ -103,6 +117,7 @@ private JdbcCoordinatorImpl(
 			boolean isUserSuppliedConnection,
 			JdbcSessionOwner owner) {
 		this.logicalConnection = logicalConnection;
+		this.statementCache = null;
 		this.isUserSuppliedConnection = isUserSuppliedConnection;
 		this.owner = owner;
 		this.jdbcServices = owner.getJdbcSessionContext().getJdbcServices();
@@ -116,6 +131,15 @@ public LogicalConnectionImplementor getLogicalConnection() {
 		return logicalConnection;
 	}
 
+	/**
+	 * The cache of idle prepared statements, if statement caching is enabled.
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 */
+	@Nullable PreparedStatementCache getStatementCache() {
+		return statementCache;
+	}
+
 	/**
 	 * Access to the {@link SqlExceptionHelper}
 	 *
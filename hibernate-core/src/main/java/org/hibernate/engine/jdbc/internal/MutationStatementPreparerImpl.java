@@ -6,12 +6,18 @@
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import jakarta.annotation.Nullable;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.MutationStatementPreparer;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.resource.jdbc.internal.PreparedStatementCache;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 
@@ -41,6 +47,12 @@ protected PreparedStatement doPrepare() throws SQLException {
 						? connection().prepareCall( sql )
 						: connection().prepareStatement( sql );
 			}
+
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return new PreparedStatementCache.Key( sql, isCallable,
+						ResultSet.TYPE_FORWARD_ONLY, Statement.NO_GENERATED_KEYS, null );
+			}
 		};
 	}
 
@@ -54,6 +66,12 @@ public PreparedStatement doPrepare() throws SQLException {
 				//noinspection resource
 				return connection().prepareStatement( sql, autoGeneratedKeys );
 			}
+
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return new PreparedStatementCache.Key( sql, false,
+						ResultSet.TYPE_FORWARD_ONLY, autoGeneratedKeys, null );
+			}
 		}.prepareStatement();
 	}
 
@@ -71,6 +89,12 @@ public PreparedStatement doPrepare() throws SQLException {
 				//noinspection resource
 				return connection().prepareStatement( sql, columnNames );
 			}
+
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return new PreparedStatementCache.Key( sql, false,
+						ResultSet.TYPE_FORWARD_ONLY, Statement.RETURN_GENERATED_KEYS, List.of( columnNames ) );
+			}
 		}.prepareStatement();
 	}
 
@@ -86,6 +110,17 @@ protected StatementPreparationTemplate(String incomingSql) {
 
 		public PreparedStatement prepareStatement() {
 			try {
+				final var statementCache = jdbcCoordinator.getStatementCache();
+				final var cacheKey = statementCache == null ? null : cacheKey();
+				if ( cacheKey != null ) {
+					final var cachedStatement = statementCache.checkOut( cacheKey );
+					if ( cachedStatement != null ) {
+						setStatementTimeout( cachedStatement );
+						postProcess( cachedStatement );
+						return cachedStatement;
+					}
+				}
+
 				final var jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
 				final var jdbcEventHandler = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
 				final var eventMonitor = jdbcSessionOwner.getEventMonitor();
@@ -100,6 +135,9 @@ public PreparedStatement prepareStatement() {
 					eventMonitor.completeJdbcPreparedStatementCreationEvent( jdbcPreparedStatementCreation, sql );
 					jdbcEventHandler.jdbcPrepareStatementEnd();
 				}
+				if ( cacheKey != null ) {
+					statementCache.track( cacheKey, preparedStatement );
+				}
 				postProcess( preparedStatement );
 				return preparedStatement;
 			}
@@ -110,6 +148,15 @@ public PreparedStatement prepareStatement() {
 
 		protected abstract PreparedStatement doPrepare() throws SQLException;
 
+		/**
+		 * The key identifying statements which may be reused in place
+		 * of the statement prepared by {@link #doPrepare()}, or
+		 * {@code null} if the statement should never be reused.
+		 */
+		protected @Nullable PreparedStatementCache.Key cacheKey() {
+			return null;
+		}
+
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
 			jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( preparedStatement, true );
 //			logicalConnection().notifyObserversStatementPrepared();
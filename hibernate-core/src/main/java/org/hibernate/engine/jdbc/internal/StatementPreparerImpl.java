@@ -10,12 +10,14 @@
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.List;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.ScrollMode;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.StatementPreparer;
+import org.hibernate.resource.jdbc.internal.PreparedStatementCache;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 
@@ -98,6 +100,12 @@ protected PreparedStatement doPrepare() throws SQLException {
 						? connection().prepareCall( sql )
 						: connection().prepareStatement( sql );
 			}
+
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return new PreparedStatementCache.Key( sql, isCallable,
+						ResultSet.TYPE_FORWARD_ONLY, Statement.NO_GENERATED_KEYS, null );
+			}
 		};
 	}
 
@@ -117,6 +125,12 @@ public PreparedStatement prepareStatement(String sql, final int autoGeneratedKey
 			public PreparedStatement doPrepare() throws SQLException {
 				return connection().prepareStatement( sql, autoGeneratedKeys );
 			}
+
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return new PreparedStatementCache.Key( sql, false,
+						ResultSet.TYPE_FORWARD_ONLY, autoGeneratedKeys, null );
+			}
 		}.prepareStatement();
 	}
 
@@ -128,6 +142,12 @@ public PreparedStatement prepareStatement(String sql, final String[] columnNames
 			public PreparedStatement doPrepare() throws SQLException {
 				return connection().prepareStatement( sql, columnNames );
 			}
+
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return new PreparedStatementCache.Key( sql, false,
+						ResultSet.TYPE_FORWARD_ONLY, Statement.RETURN_GENERATED_KEYS, List.of( columnNames ) );
+			}
 		}.prepareStatement();
 	}
 
@@ -154,6 +174,12 @@ public PreparedStatement doPrepare() throws SQLException {
 								? connection().prepareCall( sql, resultSetType, ResultSet.CONCUR_READ_ONLY )
 								: connection().prepareStatement( sql, resultSetType, ResultSet.CONCUR_READ_ONLY );
 					}
+
+					@Override
+					protected PreparedStatementCache.Key cacheKey() {
+						return new PreparedStatementCache.Key( sql, isCallable,
+								resultSetType, Statement.NO_GENERATED_KEYS, null );
+					}
 				}.prepareStatement();
 		jdbcCoordinator.registerLastQuery( preparedStatement );
 		return preparedStatement;
@@ -174,6 +200,17 @@ public PreparedStatement prepareStatement() {
 				jdbcServices.getSqlStatementLogger().logStatement( sql );
 				jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getStatementObserver().performingSql( sql, -1 );
 
+				final var statementCache = jdbcCoordinator.getStatementCache();
+				final var cacheKey = statementCache == null ? null : cacheKey();
+				if ( cacheKey != null ) {
+					final var cachedStatement = statementCache.checkOut( cacheKey );
+					if ( cachedStatement != null ) {
+						setStatementTimeout( cachedStatement );
+						postProcess( cachedStatement );
+						return cachedStatement;
+					}
+				}
+
 				final var jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
 				final var observer = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
 				final var eventMonitor = jdbcSessionOwner.getEventMonitor();
@@ -188,6 +225,9 @@ public PreparedStatement prepareStatement() {
 					eventMonitor.completeJdbcPreparedStatementCreationEvent( jdbcPreparedStatementCreation, sql );
 					observer.jdbcPrepareStatementEnd();
 				}
+				if ( cacheKey != null ) {
+					statementCache.track( cacheKey, preparedStatement );
+				}
 				postProcess( preparedStatement );
 				return preparedStatement;
 			}
@@ -198,6 +238,15 @@ public PreparedStatement prepareStatement() {
 
 		protected abstract PreparedStatement doPrepare() throws SQLException;
 
+		/**
+		 * The key identifying statements which may be reused in place
+		 * of the statement prepared by {@link #doPrepare()}, or
+		 * {@code null} if the statement should never be reused.
+		 */
+		protected @Nullable PreparedStatementCache.Key cacheKey() {
+			return null;
+		}
+
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
 			jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( preparedStatement, true );
 //			logicalConnection().notifyObserversStatementPrepared();
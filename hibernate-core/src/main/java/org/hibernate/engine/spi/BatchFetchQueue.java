@@ -4,13 +4,15 @@
  */
 package org.hibernate.engine.spi;
 
-import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
+import java.util.Arrays;
 import java.util.Map;
 
 import org.hibernate.AssertionFailure;
+import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.internal.BatchKeyQueue;
 import org.hibernate.internal.util.IndexedConsumer;
+import org.hibernate.loader.ast.internal.AdaptiveBatchSizer;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.persister.collection.CollectionPersister;
@@ -21,9 +23,9 @@
 import org.jboss.logging.Logger;
 
 import static org.hibernate.engine.internal.CacheHelper.fromSharedCache;
+import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
+import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
 import static org.hibernate.internal.util.NullnessUtil.castNonNull;
-import static org.hibernate.internal.util.collections.CollectionHelper.linkedMapOfSize;
-import static org.hibernate.internal.util.collections.CollectionHelper.linkedSetOfSize;
 import static org.hibernate.internal.util.collections.CollectionHelper.mapOfSize;
 
 /**
@@ -53,15 +55,30 @@ public class BatchFetchQueue {
 	 * used by {@link #getBatchLoadableEntityIds} to build entity load batches.
 	 * <p>
 	 * A Map structure is used to segment the keys by entity type since loading can only be done for a particular entity
-	 * type at a time.
+	 * type at a time. Each {@link BatchKeyQueue} is indexed by key, so that a batch is built from the keys adjacent to
+	 * the key being loaded without iterating over the whole queue.
 	 */
-	private @Nullable Map <String,LinkedHashSet<EntityKey>> batchLoadableEntityKeys;
+	private @Nullable Map<String, BatchKeyQueue<EntityKey, Object>> batchLoadableEntityKeys;
+
+	/**
+	 * Used with {@linkplain org.hibernate.cfg.FetchSettings#ENHANCED_PROXY_BATCH_RESOLUTION
+	 * batch resolution of enhanced proxies} to hold the keys of the uninitialized enhanced
+	 * proxies of entities which are not otherwise batch loadable, segmented by entity type.
+	 */
+	private @Nullable Map<String, BatchKeyQueue<EntityKey, Object>> pendingEnhancedProxyKeys;
 
 	/**
 	 * Used to hold information about the collections that are currently eligible for batch-fetching. Ultimately
 	 * used by {@link #getCollectionBatch} to build collection load batches.
 	 */
-	private @Nullable Map<String, LinkedHashMap<CollectionEntry, PersistentCollection<?>>> batchLoadableCollections;
+	private @Nullable Map<String, BatchLoadableCollections> batchLoadableCollections;
+
+	/**
+	 * Used with {@linkplain org.hibernate.cfg.FetchSettings#BATCH_FETCH_ADAPTIVE adaptive
+	 * batch fetching} to keep track, for each entity name or collection role, of how many
+	 * of the keys fetched by the most recent batch were subsequently accessed.
+	 */
+	private @Nullable Map<String, PrefetchUsage> prefetchUsages;
 
 	/**
 	 * Constructs a queue for the given context.
@@ -79,8 +96,72 @@ public BatchFetchQueue(PersistenceContext context) {
 	 */
 	public void clear() {
 		batchLoadableEntityKeys = null;
+		pendingEnhancedProxyKeys = null;
 		batchLoadableCollections = null;
 		subselectsByEntityKey = null;
+		if ( prefetchUsages != null ) {
+			prefetchUsages.values().forEach( PrefetchUsage::report );
+			prefetchUsages = null;
+		}
+	}
+
+
+	// adaptive batch fetching support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	/**
+	 * Register that a batch load fetched the given number of entities or collections
+	 * in addition to the one actually requested. The usage observed for the previous
+	 * batch of the same entity or collection role is reported to the given sizer.
+	 *
+	 * @param sizer The sizer for the entity or collection role
+	 * @param prefetched The number of keys fetched in addition to the requested key
+	 */
+	public void registerPrefetched(AdaptiveBatchSizer sizer, int prefetched) {
+		if ( prefetchUsages == null ) {
+			prefetchUsages = mapOfSize( 8 );
+		}
+		final var usage = prefetchUsages.get( sizer.getRole() );
+		if ( usage == null ) {
+			prefetchUsages.put( sizer.getRole(), new PrefetchUsage( sizer, prefetched ) );
+		}
+		else {
+			usage.report();
+			usage.prefetched = prefetched;
+		}
+	}
+
+	/**
+	 * Called when a batch-fetched entity or collection which was not the
+	 * one actually requested by the batch load is accessed for the first time.
+	 *
+	 * @param role The entity name or collection role
+	 */
+	public void prefetchedAccessed(String role) {
+		if ( prefetchUsages != null ) {
+			final var usage = prefetchUsages.get( role );
+			if ( usage != null && usage.accessed < usage.prefetched ) {
+				usage.accessed++;
+			}
+		}
+	}
+
+	private static final class PrefetchUsage {
+		private final AdaptiveBatchSizer sizer;
+		private int prefetched;
+		private int accessed;
+
+		private PrefetchUsage(AdaptiveBatchSizer sizer, int prefetched) {
+			this.sizer = sizer;
+			this.prefetched = prefetched;
+		}
+
+		private void report() {
+			if ( prefetched > 0 ) {
+				sizer.prefetchUsage( prefetched, accessed );
+			}
+			prefetched = 0;
+			accessed = 0;
+		}
 	}
 
 
@@ -151,8 +232,8 @@ public void addBatchLoadableEntityKey(EntityKey key) {
 			if ( batchLoadableEntityKeys == null ) {
 				batchLoadableEntityKeys = mapOfSize( 12 );
 			}
-			batchLoadableEntityKeys.computeIfAbsent( key.getEntityName(), k -> linkedSetOfSize( 8 ) )
-					.add( key );
+			batchLoadableEntityKeys.computeIfAbsent( key.getEntityName(), k -> new BatchKeyQueue<>( 8 ) )
+					.add( key, null );
 		}
 	}
 
@@ -170,6 +251,85 @@ public void removeBatchLoadableEntityKey(EntityKey key) {
 				entityKeys.remove( key );
 			}
 		}
+		if ( pendingEnhancedProxyKeys != null ) {
+			final var entityKeys = pendingEnhancedProxyKeys.get( key.getEntityName() );
+			if ( entityKeys != null ) {
+				entityKeys.remove( key );
+			}
+		}
+	}
+
+	/**
+	 * Add the key of an uninitialized enhanced proxy to the queue, so
+	 * that it is initialized along with the next enhanced proxy of the
+	 * same entity type to be initialized.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#ENHANCED_PROXY_BATCH_RESOLUTION
+	 *
+	 * @since 8.1
+	 */
+	public void addPendingEnhancedProxyKey(EntityKey key) {
+		if ( pendingEnhancedProxyKeys == null ) {
+			pendingEnhancedProxyKeys = mapOfSize( 12 );
+		}
+		pendingEnhancedProxyKeys.computeIfAbsent( key.getEntityName(), k -> new BatchKeyQueue<>( 8 ) )
+				.add( key, null );
+	}
+
+	/**
+	 * Remove every queued enhanced proxy key of the entity type of the
+	 * given key from the queue, and return the identifiers of those which
+	 * are still uninitialized, beginning with the identifier of the given
+	 * key.
+	 *
+	 * @param loadingKey The key of the enhanced proxy being initialized
+	 *
+	 * @return the identifiers, or just the identifier of the given key if
+	 *         no other enhanced proxy of the entity type is pending
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#ENHANCED_PROXY_BATCH_RESOLUTION
+	 *
+	 * @since 8.1
+	 */
+	public Object[] takePendingEnhancedProxyIds(EntityKey loadingKey) {
+		final var entityKeys =
+				pendingEnhancedProxyKeys == null
+						? null
+						: pendingEnhancedProxyKeys.remove( loadingKey.getEntityName() );
+		if ( entityKeys == null || entityKeys.isEmpty() ) {
+			return new Object[] { loadingKey.getIdentifier() };
+		}
+		else {
+			final Object[] ids = new Object[entityKeys.size() + 1];
+			ids[0] = loadingKey.getIdentifier();
+			final int[] count = { 1 };
+			entityKeys.visitAdjacent(
+					loadingKey,
+					entityKeys.size(),
+					(entityKey, value) -> {
+						final var holder = context.getEntityHolder( entityKey );
+						if ( holder != null && isPendingEnhancedProxy( holder.getEntity() ) ) {
+							ids[count[0]++] = entityKey.getIdentifier();
+							return true;
+						}
+						else {
+							return false;
+						}
+					}
+			);
+			return count[0] == ids.length ? ids : Arrays.copyOf( ids, count[0] );
+		}
+	}
+
+	private static boolean isPendingEnhancedProxy(@Nullable Object entity) {
+		// an enhanced proxy with explicitly written attributes is left
+		// to be initialized by itself, so that the values are replayed
+		return isPersistentAttributeInterceptable( entity )
+			&& asPersistentAttributeInterceptable( entity ).$$_hibernate_getInterceptor()
+					instanceof EnhancementAsProxyLazinessInterceptor interceptor
+			&& !interceptor.isInitialized()
+			&& !interceptor.isInitializing()
+			&& !interceptor.hasWrittenFieldNames();
 	}
 
 	/**
@@ -205,41 +365,32 @@ public <T> void collectBatchLoadableEntityIds(
 			if ( entityKeys != null ) {
 				final var session = context.getSession();
 				final var identifierMapping = entityDescriptor.getIdentifierMapping();
-				int batchPosition = 1;
-				int end = -1;
-				boolean checkForEnd = false;
-				for ( var entityKey : entityKeys ) {
-					if ( checkForEnd && batchPosition == end ) {
-						// the first id found after the given id
-						return; // end the loop
-					}
-					else {
-						final Object identifier = entityKey.getIdentifier();
-						if ( identifierMapping.areEqual( loadingId, identifier, session ) ) {
-							end = batchPosition;
-						}
-						else if ( !isCached( entityKey, entityDescriptor.getEntityPersister() ) ) {
-							//noinspection unchecked
-							collector.accept( batchPosition++, (T) identifier );
-						}
-					}
-
-					if ( batchPosition == domainBatchSize ) {
-						// end of array, start filling again from start
-						batchPosition = 1;
-						if ( end != -1 ) {
-							checkForEnd = true;
+				final var entityPersister = entityDescriptor.getEntityPersister();
+				final int[] batchPosition = { 1 };
+				entityKeys.visitAdjacent(
+						new EntityKey( loadingId, entityPersister ),
+						domainBatchSize - 1,
+						(entityKey, value) -> {
+							final Object identifier = entityKey.getIdentifier();
+							if ( identifierMapping.areEqual( loadingId, identifier, session )
+									|| isCached( entityKeys, entityKey, entityPersister ) ) {
+								return false;
+							}
+							else {
+								//noinspection unchecked
+								collector.accept( batchPosition[0]++, (T) identifier );
+								return true;
+							}
 						}
-					}
-				}
+				);
 			}
 		}
 	}
 
 	/**
-	 * Get a batch of unloaded identifiers for this class, using a slightly
-	 * complex algorithm that tries to grab keys registered immediately after
-	 * the given key.
+	 * Get a batch of unloaded identifiers for this class, preferring the keys
+	 * registered immediately after the given key, and then the keys registered
+	 * immediately before it.
 	 */
 	public Object [] getBatchLoadableEntityIds(
 			final EntityMappingType entityDescriptor,
@@ -251,35 +402,27 @@ else if ( !isCached( entityKey, entityDescriptor.getEntityPersister() ) ) {
 		ids[0] = loadingId;
 
 		if ( batchLoadableEntityKeys != null ) {
-			int i = 1;
-			int end = -1;
-			boolean checkForEnd = false;
 			// TODO: this needn't exclude subclasses...
 			final var entityKeys = batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
 			if ( entityKeys != null ) {
 				final var entityPersister = entityDescriptor.getEntityPersister();
 				final var identifierType = entityPersister.getIdentifierType();
-				for ( var entityKey : entityKeys ) {
-					if ( checkForEnd && i == end ) {
-						// the first id found after the given id
-						return ids;
-					}
-					else if ( identifierType.isEqual( loadingId, entityKey.getIdentifier() ) ) {
-						end = i;
-					}
-					else if ( !isCached( entityKey, entityPersister ) ) {
-						ids[i++] = entityKey.getIdentifier();
-					}
-
-					if ( i == maxBatchSize ) {
-						i = 1; // end of array, start filling again from start
-						if ( end != -1 ) {
-							checkForEnd = true;
+				final int[] i = { 1 };
+				entityKeys.visitAdjacent(
+						new EntityKey( loadingId, entityPersister ),
+						maxBatchSize - 1,
+						(entityKey, value) -> {
+							if ( identifierType.isEqual( loadingId, entityKey.getIdentifier() )
+									|| isCached( entityKeys, entityKey, entityPersister ) ) {
+								return false;
+							}
+							else {
+								ids[i[0]++] = entityKey.getIdentifier();
+								return true;
+							}
 						}
-					}
-				}
+				);
 			}
-			//we ran out of ids to try
 		}
 		return ids;
 	}
@@ -299,8 +442,8 @@ public void addBatchLoadableCollection(PersistentCollection<?> collection, Colle
 		if ( batchLoadableCollections == null ) {
 			batchLoadableCollections = mapOfSize( 12 );
 		}
-		batchLoadableCollections.computeIfAbsent( persister.getRole(), k -> linkedMapOfSize( 16 ) )
-				.put( ce, collection );
+		batchLoadableCollections.computeIfAbsent( persister.getRole(), k -> new BatchLoadableCollections() )
+				.add( ce, collection, persister );
 	}
 
 	/**
@@ -314,9 +457,9 @@ public void removeBatchLoadableCollection(CollectionEntry collectionEntry) {
 		//   or make sure this method is only called when it is non-null.
 		final var persister = castNonNull( collectionEntry.getLoadedPersister() );
 		if ( batchLoadableCollections != null ) {
-			final var map = batchLoadableCollections.get( persister.getRole() );
-			if ( map != null ) {
-				map.remove( collectionEntry );
+			final var collections = batchLoadableCollections.get( persister.getRole() );
+			if ( collections != null ) {
+				collections.remove( collectionEntry );
 			}
 		}
 	}
@@ -336,53 +479,29 @@ public <T> void collectBatchLoadableCollectionKeys(
 		collector.accept( 0, keyBeingLoaded );
 
 		if ( batchLoadableCollections != null ) {
-			final var map = batchLoadableCollections.get( pluralAttributeMapping.getNavigableRole().getFullPath() );
-			if ( map != null ) {
-				int i = 1;
-				int end = -1;
-				boolean checkForEnd = false;
-				for ( var me : map.entrySet() ) {
-					final var ce = me.getKey();
-					final Object loadedKey = ce.getLoadedKey();
-					final var collection = me.getValue();
-
-					// the loadedKey of the collectionEntry might be null as it might have been reset to null
-					// (see for example Collections.processDereferencedCollection()
-					// and CollectionEntry.afterAction())
-					// though we clear the queue on flush, it seems like a good idea to guard
-					// against potentially null loadedKeys (which leads to various NPEs as demonstrated in HHH-7821).
-
-					if ( loadedKey != null ) {
-						if ( collection.wasInitialized() ) {
-							throw new AssertionFailure( "Encountered initialized collection in BatchFetchQueue" );
-						}
-						else if ( checkForEnd && i == end ) {
-							// the first key found after the given key
-							return;
-						}
-						else {
-							final boolean isEqual =
-									pluralAttributeMapping.getKeyDescriptor()
-											.areEqual( keyBeingLoaded, loadedKey, context.getSession() );
-							if ( isEqual ) {
-								end = i;
+			final var collections =
+					batchLoadableCollections.get( pluralAttributeMapping.getNavigableRole().getFullPath() );
+			if ( collections != null ) {
+				final var session = context.getSession();
+				final var keyDescriptor = pluralAttributeMapping.getKeyDescriptor();
+				final var collectionPersister = pluralAttributeMapping.getCollectionDescriptor();
+				final int[] i = { 1 };
+				collections.visitAdjacent(
+						keyBeingLoaded,
+						collectionPersister,
+						batchSize - 1,
+						(collectionEntry, loadedKey) -> {
+							if ( keyDescriptor.areEqual( keyBeingLoaded, loadedKey, session )
+									|| isCached( collections, collectionEntry, loadedKey, collectionPersister ) ) {
+								return false;
 							}
-							else if ( !isCached( loadedKey, pluralAttributeMapping.getCollectionDescriptor() ) ) {
+							else {
 								//noinspection unchecked
-								collector.accept( i++, (T) loadedKey );
-							}
-
-							if ( i == batchSize ) {
-								//end of array, start filling again from start
-								i = 1;
-								if ( end != -1 ) {
-									checkForEnd = true;
-								}
+								collector.accept( i[0]++, (T) loadedKey );
+								return true;
 							}
 						}
-					}
-				}
-				//we ran out of keys to try
+				);
 			}
 		}
 	}
@@ -404,54 +523,27 @@ else if ( !isCached( loadedKey, pluralAttributeMapping.getCollectionDescriptor()
 		keys[0] = id;
 
 		if ( batchLoadableCollections != null ) {
-			int i = 1;
-			int end = -1;
-			boolean checkForEnd = false;
-
-			final var map = batchLoadableCollections.get( collectionPersister.getRole() );
-			if ( map != null ) {
-				for ( var me : map.entrySet() ) {
-					final var collectionEntry = me.getKey();
-					final Object loadedKey = collectionEntry.getLoadedKey();
-					final var collection = me.getValue();
-
-					// the loadedKey of the collectionEntry might be null as it might have been reset to null
-					// (see for example Collections.processDereferencedCollection()
-					// and CollectionEntry.afterAction())
-					// though we clear the queue on flush, it seems like a good idea to guard
-					// against potentially null loadedKeys (which leads to various NPEs as demonstrated in HHH-7821).
-
-					if ( loadedKey != null ) {
-						if ( collection.wasInitialized() ) {
-							throw new AssertionFailure( "Encountered initialized collection in BatchFetchQueue" );
-						}
-						else if ( checkForEnd && i == end ) {
-							return keys; //the first key found after the given key
-						}
-						else {
-							final boolean isEqual =
-									collectionPersister.getKeyType()
-											.isEqual( id, loadedKey, collectionPersister.getFactory() );
-							if ( isEqual ) {
-								end = i;
-								//checkForEnd = false;
+			final var collections = batchLoadableCollections.get( collectionPersister.getRole() );
+			if ( collections != null ) {
+				final var factory = collectionPersister.getFactory();
+				final var keyType = collectionPersister.getKeyType();
+				final int[] i = { 1 };
+				collections.visitAdjacent(
+						id,
+						collectionPersister,
+						batchSize - 1,
+						(collectionEntry, loadedKey) -> {
+							if ( keyType.isEqual( id, loadedKey, factory )
+									|| isCached( collections, collectionEntry, loadedKey, collectionPersister ) ) {
+								return false;
 							}
-							else if ( !isCached( loadedKey, collectionPersister ) ) {
-								keys[i++] = loadedKey;
-								//count++;
-							}
-
-							if ( i == batchSize ) {
-								i = 1; //end of array, start filling again from start
-								if ( end != -1 ) {
-									checkForEnd = true;
-								}
+							else {
+								keys[i[0]++] = loadedKey;
+								return true;
 							}
 						}
-					}
-				}
+				);
 			}
-			//we ran out of keys to try
 		}
 		return keys;
 	}
@@ -460,6 +552,37 @@ public SharedSessionContractImplementor getSession() {
 		return context.getSession();
 	}
 
+	/**
+	 * A key found in the second-level cache is dropped from the queue, so
+	 * that the cache is not consulted again for the same key by a later batch.
+	 */
+	private boolean isCached(
+			BatchLoadableCollections collections,
+			CollectionEntry collectionEntry,
+			Object collectionKey,
+			CollectionPersister persister) {
+		if ( isCached( collectionKey, persister ) ) {
+			collections.remove( collectionEntry );
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
+	private boolean isCached(
+			BatchKeyQueue<EntityKey, Object> entityKeys,
+			EntityKey entityKey,
+			EntityPersister persister) {
+		if ( isCached( entityKey, persister ) ) {
+			entityKeys.remove( entityKey );
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
 	private boolean isCached(Object collectionKey, CollectionPersister persister) {
 		final var session = getSession();
 		if ( session.getCacheMode().isGetEnabled() && persister.hasCache() ) {
@@ -487,4 +610,71 @@ private boolean isCached(EntityKey entityKey, EntityPersister persister) {
 			return false;
 		}
 	}
+
+	/**
+	 * The uninitialized collections of a given role, along with an index by
+	 * {@linkplain CollectionEntry#getLoadedKey loaded key}, used to locate the
+	 * collection being loaded in the queue.
+	 */
+	private static final class BatchLoadableCollections {
+		private final BatchKeyQueue<CollectionEntry, QueuedCollection> queue = new BatchKeyQueue<>( 16 );
+		private final Map<CollectionKey, CollectionEntry> entriesByKey = mapOfSize( 16 );
+
+		private void add(PersistentCollection<?> collection, CollectionEntry entry, CollectionPersister persister) {
+			final Object loadedKey = entry.getLoadedKey();
+			final var collectionKey = loadedKey == null ? null : new CollectionKey( persister, loadedKey );
+			final var previous = queue.get( entry );
+			if ( previous != null && previous.key != null ) {
+				entriesByKey.remove( previous.key, entry );
+			}
+			// an entry which is already queued keeps its position
+			queue.add( entry, new QueuedCollection( collection, collectionKey ) );
+			if ( collectionKey != null ) {
+				entriesByKey.put( collectionKey, entry );
+			}
+		}
+
+		private void remove(CollectionEntry entry) {
+			final var removed = queue.remove( entry );
+			if ( removed != null && removed.key != null ) {
+				entriesByKey.remove( removed.key, entry );
+			}
+		}
+
+		private void visitAdjacent(
+				Object keyBeingLoaded,
+				CollectionPersister persister,
+				int count,
+				CollectionVisitor visitor) {
+			queue.visitAdjacent(
+					entriesByKey.get( new CollectionKey( persister, keyBeingLoaded ) ),
+					count,
+					(entry, queued) -> {
+						final Object loadedKey = entry.getLoadedKey();
+						// the loadedKey of the collectionEntry might be null as it might have been reset to null
+						// (see for example Collections.processDereferencedCollection()
+						// and CollectionEntry.afterAction())
+						// though we clear the queue on flush, it seems like a good idea to guard
+						// against potentially null loadedKeys (which leads to various NPEs as demonstrated in HHH-7821).
+						if ( loadedKey == null || queued == null ) {
+							return false;
+						}
+						else if ( queued.collection.wasInitialized() ) {
+							throw new AssertionFailure( "Encountered initialized collection in BatchFetchQueue" );
+						}
+						else {
+							return visitor.visit( entry, loadedKey );
+						}
+					}
+			);
+		}
+	}
+
+	private record QueuedCollection(PersistentCollection<?> collection, @Nullable CollectionKey key) {
+	}
+
+	@FunctionalInterface
+	private interface CollectionVisitor {
+		boolean visit(CollectionEntry entry, Object loadedKey);
+	}
 }
@@ -108,6 +108,38 @@ public EffectiveEntityGraph applyEntityGraph(RootGraphImplementor<?> rootGraph,
 		return effectiveEntityGraph;
 	}
 
+	/**
+	 * A copy of these influencers which is not affected by later changes
+	 * to this instance, or to its enabled filters, for use when building
+	 * a loader which is cached and shared between sessions.
+	 */
+	@Internal
+	public LoadQueryInfluencers makeSnapshot() {
+		final var snapshot = new LoadQueryInfluencers( sessionFactory );
+		snapshot.enabledCascadingFetchProfile = enabledCascadingFetchProfile;
+		if ( enabledFetchProfileNames != null ) {
+			snapshot.enabledFetchProfileNames = new HashSet<>( enabledFetchProfileNames );
+		}
+		if ( enabledFilters != null ) {
+			final var filters = new TreeMap<String,Filter>();
+			for ( var entry : enabledFilters.entrySet() ) {
+				filters.put( entry.getKey(), ( (FilterImpl) entry.getValue() ).makeCopy() );
+			}
+			snapshot.enabledFilters = filters;
+		}
+		snapshot.subselectFetchEnabled = subselectFetchEnabled;
+		snapshot.batchSize = batchSize;
+		snapshot.fetchOptions = fetchOptions;
+		snapshot.readOnly = readOnly;
+		snapshot.temporalIdentifier = temporalIdentifier;
+		final var semantic = effectiveEntityGraph.getSemantic();
+		final var graph = effectiveEntityGraph.getGraph();
+		if ( semantic != null && graph != null ) {
+			snapshot.effectiveEntityGraph.applyGraph( graph.makeCopy( false ), semantic );
+		}
+		return snapshot;
+	}
+
 	public SessionFactoryImplementor getSessionFactory() {
 		return sessionFactory;
 	}
@@ -337,6 +369,13 @@ public boolean hasBatchSizeOverride() {
 		return fetchOptions.hasBatchSize();
 	}
 
+	/**
+	 * The {@linkplain #withFetchOptions fetch options} currently in effect.
+	 */
+	public FetchOptions getFetchOptions() {
+		return fetchOptions;
+	}
+
 	public <T> T withFetchOptions(SharedSessionContractImplementor session, FetchOptions options, Supplier<T> supplier) {
 		if ( !options.hasOptions() && !fetchOptions.hasOptions() ) {
 			return supplier.get();
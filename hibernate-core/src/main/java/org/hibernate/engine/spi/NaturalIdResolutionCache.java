@@ -0,0 +1,215 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.spi;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.Incubating;
+import org.hibernate.cache.internal.NaturalIdCacheKey;
+import org.hibernate.internal.util.cache.InternalCache;
+import org.hibernate.internal.util.cache.InternalCacheFactory;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+
+import jakarta.annotation.Nullable;
+
+import static org.hibernate.engine.spi.NaturalIdResolutions.INVALID_NATURAL_ID_REFERENCE;
+
+/**
+ * A bounded cache of natural-id resolutions shared by all sessions of a
+ * {@linkplain SessionFactoryImplementor session factory}. Unlike the
+ * {@linkplain NaturalIdResolutions resolutions} held by a persistence context,
+ * or the second-level {@linkplain org.hibernate.cache.spi.access.NaturalIdDataAccess
+ * natural-id cache}, it also remembers that no entity has a given natural id,
+ * so that repeatedly checking the existence of natural ids which do not exist
+ * does not require a round trip to the database.
+ * <p>
+ * Only resolutions of {@linkplain org.hibernate.metamodel.mapping.NaturalIdMapping#isMutable
+ * immutable} natural ids are cached. The entry for a natural id is invalidated
+ * when an entity with the natural id is inserted or deleted, both immediately
+ * and again after completion of the transaction. A resolution read from the
+ * database is only cached if no entity with the same natural id was inserted
+ * or deleted, and the cache was not {@linkplain #clear cleared}, after the
+ * {@linkplain #beginResolution stamp} obtained before reading it. This ensures
+ * that a resolution read concurrently with an insert or delete is never cached.
+ *
+ * @see org.hibernate.cfg.FetchSettings#NATURAL_ID_RESOLUTION_CACHE_SIZE
+ *
+ * @since 8.1
+ */
+@Incubating
+public final class NaturalIdResolutionCache {
+
+	private static final int STRIPES = 64;
+
+	private final InternalCache<NaturalIdCacheKey, CachedResolution> resolutions;
+	private final AtomicLong clock = new AtomicLong();
+	private final long[] invalidationStamps = new long[STRIPES];
+	private final Object[] locks = new Object[STRIPES];
+	private volatile long clearStamp;
+
+	public NaturalIdResolutionCache(InternalCacheFactory cacheFactory, int maxSize) {
+		resolutions = cacheFactory.createInternalCache( maxSize );
+		for ( int i = 0; i < STRIPES; i++ ) {
+			locks[i] = new Object();
+		}
+	}
+
+	/**
+	 * A cached resolution, where a null identifier indicates that no entity
+	 * has the natural id, along with the stamp obtained before it was read.
+	 */
+	private record CachedResolution(@Nullable Object id, long stamp) {
+	}
+
+	/**
+	 * May resolutions of natural ids of the given entity type be cached, or
+	 * read from the cache, in the given session? Resolutions are not cached
+	 * when filters are enabled, or when reading historical data.
+	 */
+	public boolean isCacheable(EntityMappingType entityDescriptor, SharedSessionContractImplementor session) {
+		final var naturalIdMapping = entityDescriptor.getNaturalIdMapping();
+		if ( naturalIdMapping == null || naturalIdMapping.isMutable() ) {
+			return false;
+		}
+		else {
+			final var influencers = session.getLoadQueryInfluencers();
+			return !influencers.hasEnabledFilters()
+				&& influencers.getTemporalIdentifier() == null;
+		}
+	}
+
+	/**
+	 * Find the cached resolution of the given natural id.
+	 *
+	 * @param naturalId The natural id, in normalized form
+	 *
+	 * @return The identifier of the entity with the given natural id,
+	 *         {@link NaturalIdResolutions#INVALID_NATURAL_ID_REFERENCE}
+	 *         if no entity has the natural id, or {@code null} if the
+	 *         resolution is not cached.
+	 */
+	public @Nullable Object findCachedId(
+			Object naturalId,
+			EntityMappingType entityDescriptor,
+			SharedSessionContractImplementor session) {
+		final var resolution = resolutions.get( key( naturalId, entityDescriptor, session ) );
+		if ( resolution == null || resolution.stamp < clearStamp ) {
+			return null;
+		}
+		else {
+			final Object id = resolution.id;
+			return id == null ? INVALID_NATURAL_ID_REFERENCE : id;
+		}
+	}
+
+	/**
+	 * Obtain the stamp to pass to {@link #cacheResolution} when resolving
+	 * natural ids which were not found in the cache. Must be called before
+	 * the database is queried.
+	 */
+	public long beginResolution() {
+		return clock.get();
+	}
+
+	/**
+	 * Cache the resolution of the given natural id, unless an entity with
+	 * the natural id was inserted or deleted after the given stamp was
+	 * obtained.
+	 *
+	 * @param naturalId The natural id, in normalized form
+	 * @param id The identifier of the entity with the natural id, or
+	 *           {@code null} if no entity has the natural id
+	 * @param stamp The stamp obtained from {@link #beginResolution}
+	 */
+	public void cacheResolution(
+			Object naturalId,
+			@Nullable Object id,
+			EntityMappingType entityDescriptor,
+			long stamp,
+			SharedSessionContractImplementor session) {
+		if ( stamp >= clearStamp ) {
+			final var key = key( naturalId, entityDescriptor, session );
+			final int stripe = stripe( key );
+			synchronized ( locks[stripe] ) {
+				if ( invalidationStamps[stripe] <= stamp ) {
+					resolutions.put( key, new CachedResolution( id, stamp ) );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Invalidate the cached resolution of the given natural id, now and
+	 * again after completion of the current transaction, since an entity
+	 * with the natural id was inserted or deleted.
+	 *
+	 * @param naturalId The natural id, in normalized form
+	 */
+	public void invalidate(
+			Object naturalId,
+			EntityMappingType entityDescriptor,
+			SharedSessionContractImplementor session) {
+		final var naturalIdMapping = entityDescriptor.getNaturalIdMapping();
+		if ( naturalIdMapping != null && !naturalIdMapping.isMutable() ) {
+			final var key = key( naturalId, entityDescriptor, session );
+			invalidate( key );
+			session.getTransactionCompletionCallbacks()
+					.registerCallback( (success, s) -> invalidate( key ) );
+		}
+	}
+
+	/**
+	 * Invalidate the cached resolution of the natural id of the given entity.
+	 *
+	 * @see #invalidate(Object, EntityMappingType, SharedSessionContractImplementor)
+	 */
+	public void invalidateEntity(
+			Object entity,
+			EntityMappingType entityDescriptor,
+			SharedSessionContractImplementor session) {
+		final var naturalIdMapping = entityDescriptor.getNaturalIdMapping();
+		if ( naturalIdMapping != null && !naturalIdMapping.isMutable() ) {
+			invalidate( naturalIdMapping.extractNaturalIdFromEntity( entity ), entityDescriptor, session );
+		}
+	}
+
+	private void invalidate(NaturalIdCacheKey key) {
+		final int stripe = stripe( key );
+		synchronized ( locks[stripe] ) {
+			invalidationStamps[stripe] = clock.incrementAndGet();
+			resolutions.remove( key );
+		}
+	}
+
+	/**
+	 * Discard every cached resolution, for example, after a bulk mutation
+	 * which might have inserted or deleted entities.
+	 */
+	public void clear() {
+		// resolutions cached before this stamp are ignored,
+		// even if the underlying cache does not drop them
+		clearStamp = clock.incrementAndGet();
+		resolutions.clear();
+	}
+
+	/**
+	 * An estimate of the number of cached resolutions.
+	 */
+	public int size() {
+		return resolutions.heldElementsEstimate();
+	}
+
+	private static NaturalIdCacheKey key(
+			Object naturalId,
+			EntityMappingType entityDescriptor,
+			SharedSessionContractImplementor session) {
+		return NaturalIdCacheKey.from( naturalId, entityDescriptor.getEntityPersister(), session );
+	}
+
+	private static int stripe(NaturalIdCacheKey key) {
+		final int hash = key.hashCode();
+		return ( hash ^ ( hash >>> 16 ) ) & ( STRIPES - 1 );
+	}
+}
@@ -11,6 +11,7 @@
 import jakarta.annotation.Nullable;
 import org.hibernate.CustomEntityDirtinessStrategy;
 import org.hibernate.Incubating;
+import org.hibernate.audit.spi.AsyncAuditWriter;
 import org.hibernate.Internal;
 import org.hibernate.SessionFactory;
 import org.hibernate.SessionFactoryObserver;
@@ -274,6 +275,28 @@ default JpaMetamodel getJpaMetamodel() {
 	@Nonnull
 	ChangesetCoordinator getChangesetCoordinator();
 
+	/**
+	 * The {@link AsyncAuditWriter}, if asynchronous audit writing is enabled.
+	 *
+	 * @see org.hibernate.cfg.StateManagementSettings#AUDIT_ASYNC_WRITES
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	@Nullable
+	AsyncAuditWriter getAsyncAuditWriter();
+
+	/**
+	 * The {@link NaturalIdResolutionCache}, if natural-id resolution caching is enabled.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#NATURAL_ID_RESOLUTION_CACHE_SIZE
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	@Nullable
+	NaturalIdResolutionCache getNaturalIdResolutionCache();
+
 	/**
 	 * Configuration for graph planning as part of the ActionQueue.
 	 */
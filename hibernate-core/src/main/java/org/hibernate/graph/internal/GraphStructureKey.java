@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.graph.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.annotation.Nullable;
+import jakarta.persistence.FetchOption;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.graph.spi.AttributeNodeImplementor;
+import org.hibernate.graph.spi.GraphImplementor;
+import org.hibernate.metamodel.model.domain.ManagedDomainType;
+import org.hibernate.metamodel.model.domain.PersistentAttribute;
+
+import static java.util.Collections.emptyMap;
+
+/**
+ * An immutable snapshot of the structure of an {@linkplain org.hibernate.graph.spi.AppliedGraph
+ * applied graph}, that is, the tree of attribute nodes, fetch options, and subgraphs, which may
+ * be used as part of a cache key for the translation of a query to which the graph is applied.
+ * <p>
+ * Two graphs with the same structure produce equal keys, whether they were obtained from a
+ * {@linkplain jakarta.persistence.NamedEntityGraph named graph}, parsed, or built dynamically.
+ *
+ * @param semantic The semantic under which the graph is applied
+ * @param root The structure of the root graph
+ *
+ * @since 8.1
+ */
+public record GraphStructureKey(GraphSemantic semantic, Node root) {
+
+	/**
+	 * Create a key for the given graph applied with the given semantic.
+	 */
+	public static GraphStructureKey of(GraphSemantic semantic, GraphImplementor<?> graph) {
+		return new GraphStructureKey( semantic, node( graph ) );
+	}
+
+	/**
+	 * The structure of a graph or subgraph.
+	 *
+	 * @param graphedType The type of the graph
+	 * @param attributeNodes The structure of the attribute nodes of the graph
+	 * @param treatedSubgraphs The structure of the treated subgraphs of the graph
+	 */
+	public record Node(
+			ManagedDomainType<?> graphedType,
+			Map<PersistentAttribute<?, ?>, AttributeNode> attributeNodes,
+			Map<Class<?>, Node> treatedSubgraphs) {
+	}
+
+	/**
+	 * The structure of an attribute node.
+	 *
+	 * @param options The fetch options of the attribute node
+	 * @param valueSubgraph The structure of the value subgraph, if any
+	 * @param keySubgraph The structure of the key subgraph, if any
+	 */
+	public record AttributeNode(
+			Set<FetchOption> options,
+			@Nullable Node valueSubgraph,
+			@Nullable Node keySubgraph) {
+	}
+
+	private static @Nullable Node node(@Nullable GraphImplementor<?> graph) {
+		if ( graph == null ) {
+			return null;
+		}
+		else {
+			return new Node(
+					graph.getGraphedType(),
+					attributeNodes( graph.getNodes() ),
+					treatedSubgraphs( graph.getTreatedSubgraphs() )
+			);
+		}
+	}
+
+	private static Map<PersistentAttribute<?, ?>, AttributeNode> attributeNodes(
+			Map<? extends PersistentAttribute<?, ?>, AttributeNodeImplementor<?, ?, ?>> nodes) {
+		if ( nodes.isEmpty() ) {
+			return emptyMap();
+		}
+		else {
+			final Map<PersistentAttribute<?, ?>, AttributeNode> result = new HashMap<>( nodes.size() );
+			for ( var entry : nodes.entrySet() ) {
+				final var node = entry.getValue();
+				result.put( entry.getKey(), new AttributeNode(
+						Set.copyOf( node.getOptions() ),
+						node( node.getValueSubgraph() ),
+						node( node.getKeySubgraph() )
+				) );
+			}
+			return Map.copyOf( result );
+		}
+	}
+
+	private static Map<Class<?>, Node> treatedSubgraphs(Map<? extends Class<?>, ? extends GraphImplementor<?>> subgraphs) {
+		if ( subgraphs.isEmpty() ) {
+			return emptyMap();
+		}
+		else {
+			final Map<Class<?>, Node> result = new HashMap<>( subgraphs.size() );
+			for ( var entry : subgraphs.entrySet() ) {
+				result.put( entry.getKey(), node( entry.getValue() ) );
+			}
+			return Map.copyOf( result );
+		}
+	}
+}
@@ -1397,6 +1397,7 @@ public JdbcConnectionAccess getJdbcConnectionAccess() {
 				// we might still be using schema-based multitenancy
 				jdbcConnectionAccess = new NonContextualJdbcConnectionAccess(
 						readOnly,
+						useSchemaAffinity() ? tenantSchema() : null,
 						sessionEventsManager,
 						factory.connectionProvider,
 						this
@@ -1424,6 +1425,19 @@ private boolean manageSchema() {
 		return !factory.connectionProviderHandlesConnectionSchema();
 	}
 
+	/**
+	 * Should we let the {@link org.hibernate.engine.jdbc.connections.spi.ConnectionProvider}
+	 * hand us a connection already set to the schema of the tenant?
+	 */
+	private boolean useSchemaAffinity() {
+		return !readOnly
+			&& !factoryOptions.isMultiTenancyEnabled()
+			&& useSchemaBasedMultiTenancy()
+			&& manageSchema()
+			&& getSessionFactoryOptions().getTenantCredentialsMapper() == null
+			&& factory.connectionProvider.supportsSchemaAffinity();
+	}
+
 	private boolean useSchemaBasedMultiTenancy() {
 		return tenantIdentifier != null
 			&& getSessionFactoryOptions().getTenantSchemaMapper() != null;
@@ -1443,7 +1457,7 @@ private String normalizeSchemaName(String schemaName) {
 
 	@Override
 	public void afterObtainConnection(Connection connection) throws SQLException {
-		if ( useSchemaBasedMultiTenancy() && manageSchema() ) {
+		if ( useSchemaBasedMultiTenancy() && manageSchema() && !useSchemaAffinity() ) {
 			initialSchema = connection.getSchema();
 			connection.setSchema( tenantSchema() );
 		}
@@ -1455,7 +1469,7 @@ public void afterObtainConnection(Connection connection) throws SQLException {
 
 	@Override
 	public void beforeReleaseConnection(Connection connection) throws SQLException {
-		if ( useSchemaBasedMultiTenancy() && manageSchema() ) {
+		if ( useSchemaBasedMultiTenancy() && manageSchema() && !useSchemaAffinity() ) {
 			connection.setSchema( initialSchema );
 		}
 		if ( readOnly && manageReadOnly() ) {
@@ -2005,7 +2019,12 @@ protected HqlInterpretation<?> interpretHql(String hql) {
 	}
 
 	protected <R> HqlInterpretation<R> interpretHql(String hql, Class<R> resultType) {
-		return getFactory().getQueryEngine().interpretHql( hql, resultType );
+		final var queryEngine = getFactory().getQueryEngine();
+		return tenantIdentifier == null
+				? queryEngine.interpretHql( hql, resultType )
+				// charge the interpretation to the tenant
+				: queryEngine.getInterpretationCache().forTenant( tenantIdentifier )
+						.resolveHqlInterpretation( hql, resultType, queryEngine.getHqlTranslator() );
 	}
 
 	protected static void checkSelectionQuery(String hql, HqlInterpretation<?> hqlInterpretation) {
@@ -634,6 +634,14 @@ void unableToLocateStaticMetamodelField(
 	@Message(id = 6594, value = "Version unsaved-value [%s]")
 	void versionUnsavedValue(Object value);
 
+	@LogMessage(level = WARN)
+	@Message(id = 6595, value = "Failed to write audit rows for %s committed changesets asynchronously")
+	void asyncAuditWriteFailed(int changesets, @Cause Exception e);
+
+	@LogMessage(level = WARN)
+	@Message(id = 6596, value = "Interrupted while writing queued audit rows, %s changesets were not written")
+	void asyncAuditWriteInterrupted(int changesets);
+
 	@LogMessage(level = TRACE)
 	@Message(id = 601, value = "Attempting to resolve script source setting: %s")
 	void attemptingToResolveScriptSourceSetting(String scriptSourceSettingString);
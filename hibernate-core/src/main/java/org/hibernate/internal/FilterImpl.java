@@ -5,6 +5,7 @@
 package org.hibernate.internal;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
@@ -57,6 +58,25 @@ public FilterImpl(FilterDefinition configuration) {
 		this.applyToLoadByKey = definition.isAppliedToLoadByKey();
 	}
 
+	/**
+	 * A copy of this filter which is not affected by later changes to the
+	 * arguments of this filter, or to the collections passed as arguments
+	 * to its multivalued parameters.
+	 */
+	public FilterImpl makeCopy() {
+		final var copy = new FilterImpl( definition );
+		if ( parameters != null ) {
+			final var copiedParameters = new TreeMap<String,Object>();
+			for ( var entry : parameters.entrySet() ) {
+				final Object argument = entry.getValue();
+				copiedParameters.put( entry.getKey(),
+						argument instanceof Collection<?> values ? new ArrayList<>( values ) : argument );
+			}
+			copy.parameters = copiedParameters;
+		}
+		return copy;
+	}
+
 	public FilterDefinition getFilterDefinition() {
 		return definition;
 	}
@@ -9,6 +9,7 @@
 import java.sql.SQLException;
 import java.util.Objects;
 
+import jakarta.annotation.Nullable;
 import org.hibernate.HibernateException;
 import org.hibernate.SessionEventListener;
 import org.hibernate.context.spi.TenantCredentialsMapper;
@@ -21,18 +22,21 @@
  */
 class NonContextualJdbcConnectionAccess implements JdbcConnectionAccess, Serializable {
 	private final boolean readOnly;
+	private final @Nullable String tenantSchema;
 	private final SessionEventListener listener;
 	private final ConnectionProvider connectionProvider;
 	private final SharedSessionContractImplementor session;
 
 	NonContextualJdbcConnectionAccess(
 			boolean readOnly,
+			@Nullable String tenantSchema,
 			SessionEventListener listener,
 			ConnectionProvider connectionProvider,
 			SharedSessionContractImplementor session) {
 		Objects.requireNonNull( listener );
 		Objects.requireNonNull( connectionProvider );
 		this.readOnly = readOnly;
+		this.tenantSchema = tenantSchema;
 		this.listener = listener;
 		this.connectionProvider = connectionProvider;
 		this.session = session;
@@ -57,6 +61,10 @@ public Connection obtainConnection() throws SQLException {
 					);
 				}
 			}
+			if ( tenantSchema != null ) {
+				// the connection provider sets the schema
+				return connectionProvider.getConnectionForSchema( tenantSchema );
+			}
 			return readOnly
 					? connectionProvider.getReadOnlyConnection()
 					: connectionProvider.getConnection();
@@ -36,6 +36,7 @@
 import org.hibernate.action.queue.spi.ActionQueueFactory;
 import org.hibernate.action.queue.spi.PlanningOptions;
 import org.hibernate.action.queue.internal.support.ActionQueueFactoryService;
+import org.hibernate.audit.spi.AsyncAuditWriter;
 import org.hibernate.binder.internal.TenantIdBinder;
 import org.hibernate.boot.model.relational.SqlStringGenerationContext;
 import org.hibernate.boot.model.relational.internal.SqlStringGenerationContextImpl;
@@ -65,6 +66,7 @@
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.profile.FetchProfile;
 import org.hibernate.engine.spi.FilterDefinition;
+import org.hibernate.engine.spi.NaturalIdResolutionCache;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.StatelessSessionImplementor;
@@ -80,6 +82,7 @@
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.integrator.spi.Integrator;
 import org.hibernate.integrator.spi.IntegratorService;
+import org.hibernate.internal.util.cache.InternalCacheFactory;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.jpa.event.spi.CallbackType;
 import org.hibernate.jpa.internal.PersistenceUnitUtilImpl;
@@ -231,6 +234,8 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 	final transient ParameterMarkerStrategy parameterMarkerStrategy;
 	final transient JdbcValuesMappingProducerProvider jdbcValuesMappingProducerProvider;
 	final transient ChangesetCoordinator changesetCoordinator;
+	private final transient @Nullable AsyncAuditWriter asyncAuditWriter;
+	private final transient @Nullable NaturalIdResolutionCache naturalIdResolutionCache;
 
 	private final PlanningOptions graphPlanningOptions;
 	private final transient ActionQueueFactory actionQueueFactory;
@@ -292,6 +297,12 @@ public SessionFactoryImpl(
 		jdbcValuesMappingProducerProvider = serviceRegistry.requireService( JdbcValuesMappingProducerProvider.class );
 
 		changesetCoordinator = serviceRegistry.requireService( ChangesetCoordinator.class );
+		asyncAuditWriter = createAsyncAuditWriter( options );
+		naturalIdResolutionCache =
+				options.getNaturalIdResolutionCacheSize() > 0
+						? new NaturalIdResolutionCache( serviceRegistry.requireService( InternalCacheFactory.class ),
+								options.getNaturalIdResolutionCacheSize() )
+						: null;
 
 		final var integratorObserver = new IntegratorObserver();
 		observerChain.addObserver( integratorObserver );
@@ -981,6 +992,14 @@ public void close() {
 			// NOTE: the null checks below handle cases where close is called
 			//		 from a failed attempt to create the SessionFactory
 
+			if ( asyncAuditWriter != null ) {
+				asyncAuditWriter.close();
+			}
+
+			if ( naturalIdResolutionCache != null ) {
+				naturalIdResolutionCache.clear();
+			}
+
 			if ( cacheAccess != null ) {
 				cacheAccess.close();
 			}
@@ -1363,6 +1382,30 @@ public ChangesetCoordinator getChangesetCoordinator() {
 		return changesetCoordinator;
 	}
 
+	@Override
+	public @Nullable AsyncAuditWriter getAsyncAuditWriter() {
+		return asyncAuditWriter;
+	}
+
+	@Override
+	public @Nullable NaturalIdResolutionCache getNaturalIdResolutionCache() {
+		return naturalIdResolutionCache;
+	}
+
+	private @Nullable AsyncAuditWriter createAsyncAuditWriter(SessionFactoryOptions options) {
+		if ( !options.isAuditAsyncWritesEnabled() ) {
+			return null;
+		}
+		else if ( changesetCoordinator.useServerTimestamp( jdbcServices.getDialect() ) ) {
+			// the changeset timestamp would be the timestamp of the writer transaction
+			SESSION_FACTORY_LOGGER.asyncAuditWritesIgnored();
+			return null;
+		}
+		else {
+			return new AsyncAuditWriter( this, options.getAuditAsyncQueueCapacity() );
+		}
+	}
+
 	// Serialization handling ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	/**
@@ -104,4 +104,9 @@ public interface SessionFactoryLogging extends BasicLogger {
 	@Message(value = "Unable to construct current session context [%s]", id = 90020030)
 	void unableToConstructCurrentSessionContext(String sessionContextType, @Cause Throwable throwable);
 
+	@LogMessage(level = WARN)
+	@Message(value = "Asynchronous audit writing is not supported when the database server assigns changeset timestamps, audit rows will be written before transaction completion",
+			id = 90020031)
+	void asyncAuditWritesIgnored();
+
 }
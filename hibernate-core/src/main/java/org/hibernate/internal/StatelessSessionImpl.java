@@ -81,10 +81,12 @@
 import org.hibernate.loader.internal.CacheLoadHelper;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.mutation.BulkLoadCoordinator;
 import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.TypeHelper;
 
+import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -157,6 +159,8 @@
 	private final FlushMode flushMode;
 	private final EventListenerGroups eventListenerGroups;
 
+	private BulkLoadCoordinator bulkLoad;
+
 	public StatelessSessionImpl(SessionFactoryImpl factory, StatelessOptions options) {
 		super( factory, options );
 		connectionProvided = options.getConnection() != null;
@@ -338,9 +342,13 @@ public void insertMultiple(@Nonnull List<?> entities) {
 		final Integer batchSize = getJdbcBatchSize();
 		setJdbcBatchSize( entities.size() );
 		try {
+			bulkLoad = createBulkLoadCoordinator( entities );
 			for ( Object entity : entities ) {
 				doInsert( null, entity );
 			}
+			if ( bulkLoad != null ) {
+				bulkLoad.flush( this );
+			}
 			getJdbcCoordinator().executeBatch();
 		}
 		catch ( MappingException e ) {
@@ -350,10 +358,39 @@ public void insertMultiple(@Nonnull List<?> entities) {
 			throw getExceptionConverter().convert( e );
 		}
 		finally {
+			bulkLoad = null;
 			setJdbcBatchSize( batchSize );
 		}
 	}
 
+	/**
+	 * A {@link BulkLoadCoordinator} for the given entities, if bulk loading is
+	 * enabled, and they are all of the same type, which the dialect can load.
+	 */
+	private @Nullable BulkLoadCoordinator createBulkLoadCoordinator(List<?> entities) {
+		final var factory = getFactory();
+		if ( !factory.getSessionFactoryOptions().isBulkLoadEnabled() || entities.isEmpty() ) {
+			return null;
+		}
+		final var persister = getEntityPersister( null, entities.get( 0 ) );
+		for ( Object entity : entities ) {
+			if ( getEntityPersister( null, entity ) != persister ) {
+				return null;
+			}
+		}
+		final var bulkLoader = getJdbcServices().getDialect().getBulkLoader( factory.getServiceRegistry() );
+		if ( bulkLoader == null || !BulkLoadCoordinator.isSupported( persister, bulkLoader ) ) {
+			return null;
+		}
+		try {
+			final var connection = getJdbcCoordinator().getLogicalConnection().getPhysicalConnection();
+			return bulkLoader.isUsable( connection ) ? new BulkLoadCoordinator( persister, bulkLoader ) : null;
+		}
+		catch (SQLException e) {
+			throw getJdbcServices().getSqlExceptionHelper().convert( e, "Could not access bulk load protocol" );
+		}
+	}
+
 	@Override
 	public Object insert(@Nullable String entityName, @Nonnull Object entity) {
 		checkOpen();
@@ -396,7 +433,7 @@ private Object doInsert(String entityName, Object entity) {
 				final var event = eventMonitor.beginEntityInsertEvent();
 				boolean success = false;
 				try {
-					persister.getInsertCoordinator().insert( entity, id, state, this );
+					insertRow( persister, entity, id, state );
 					success = true;
 				}
 				catch (ConstraintViolationException cve) {
@@ -451,7 +488,7 @@ else if ( generator.generatedOnExecution( entity, this ) ) {
 				final var event = eventMonitor.beginEntityInsertEvent();
 				boolean success = false;
 				try {
-					persister.getInsertCoordinator().insert( entity, id, state, this );
+					insertRow( persister, entity, id, state );
 					success = true;
 				}
 				catch (ConstraintViolationException cve) {
@@ -463,6 +500,7 @@ else if ( generator.generatedOnExecution( entity, this ) ) {
 			}
 		}
 		recreateCollections( entity, id, persister );
+		invalidateNaturalIdResolution( entity, persister );
 		firePostInsert( entity, id, state, persister );
 		final var statistics = getStatistics();
 		if ( statistics.isStatisticsEnabled() ) {
@@ -568,6 +606,7 @@ private void doDelete(String entityName, Object entity) {
 				eventMonitor.completeEntityDeleteEvent( event, id, persister.getEntityName(), success, this );
 			}
 			removeCacheItem( cacheKey, persister );
+			invalidateNaturalIdResolution( entity, persister );
 			firePostDelete( entity, id, persister );
 			final var statistics = getStatistics();
 			if ( statistics.isStatisticsEnabled() ) {
@@ -576,6 +615,22 @@ private void doDelete(String entityName, Object entity) {
 		}
 	}
 
+	private void insertRow(EntityPersister persister, Object entity, Object id, Object[] state) {
+		if ( bulkLoad != null && bulkLoad.getEntityPersister() == persister ) {
+			bulkLoad.addRow( id, state, this );
+		}
+		else {
+			persister.getInsertCoordinator().insert( entity, id, state, this );
+		}
+	}
+
+	private void invalidateNaturalIdResolution(Object entity, EntityPersister persister) {
+		final var resolutionCache = getFactory().getNaturalIdResolutionCache();
+		if ( resolutionCache != null ) {
+			resolutionCache.invalidateEntity( entity, persister, this );
+		}
+	}
+
 	private void removeCollections(Object entity, Object id, EntityPersister persister) {
 		if ( persister.hasOwnedCollections() ) {
 			final String entityName = persister.getEntityName();
@@ -775,6 +830,7 @@ private void doUpsert(String entityName, Object entity) {
 				eventMonitor.completeEntityUpsertEvent( event, id, persister.getEntityName(), success, this );
 			}
 			removeCacheItem( cacheKey, persister );
+			invalidateNaturalIdResolution( entity, persister );
 			final var statistics = getStatistics();
 			if ( statistics.isStatisticsEnabled() ) {
 				statistics.upsertEntity( persister.getEntityName() );
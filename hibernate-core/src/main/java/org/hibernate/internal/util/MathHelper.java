@@ -22,6 +22,24 @@ public static int ceilingPowerOfTwo(int value) {
 		return 1 << -Integer.numberOfLeadingZeros(value - 1);
 	}
 
+	/**
+	 * Returns the smallest power of two number that is greater than or equal to {@code value},
+	 * or, if that number exceeds the given {@code chunkSize}, the smallest multiple of
+	 * {@code chunkSize} by a power of two that is greater than or equal to {@code value}.
+	 *
+	 * @param value reference number
+	 * @param chunkSize the maximum size of a chunk, or a non-positive number if unlimited
+	 */
+	public static int ceilingPowerOfTwo(int value, int chunkSize) {
+		final int ceilingPowerOfTwo = ceilingPowerOfTwo( value );
+		if ( chunkSize <= 0 || ceilingPowerOfTwo <= chunkSize ) {
+			return ceilingPowerOfTwo;
+		}
+		else {
+			return ceilingPowerOfTwo( divideRoundingUp( value, chunkSize ) ) * chunkSize;
+		}
+	}
+
 	/**
 	 * Returns the result of dividing a positive {@code numerator} by a positive {@code denominator} rounded up.
 	 * <p>
@@ -46,6 +46,21 @@
 	 */
 	void clear();
 
+	/**
+	 * Attempts to remove the value stored for the given key. As with
+	 * {@link #put(Object, Object)}, this is a "best effort" operation.
+	 */
+	default void remove(K key) {
+	}
+
+	/**
+	 * Attempts to remove the given value if it is still stored for the
+	 * given key. As with {@link #put(Object, Object)}, this is a "best
+	 * effort" operation.
+	 */
+	default void remove(K key, V value) {
+	}
+
 	/**
 	 * This should be the preferred main strategy to benefit from the cache: it allows to implement
 	 * the general pattern of "try to read, or produce a value and then cache it" but avoiding
@@ -4,6 +4,8 @@
  */
 package org.hibernate.internal.util.cache;
 
+import java.util.function.BiConsumer;
+
 import org.hibernate.service.Service;
 
 /**
@@ -17,4 +19,17 @@ public interface InternalCacheFactory extends Service {
 
 	<K,V> InternalCache<K,V> createInternalCache(int intendedApproximateSize);
 
+	/**
+	 * Create a cache which notifies the given listener of each entry it evicts
+	 * to respect its size. The listener must be fast, and must not access the
+	 * cache. Implementations which cannot report evictions may ignore it.
+	 *
+	 * @since 8.1
+	 */
+	default <K,V> InternalCache<K,V> createInternalCache(
+			int intendedApproximateSize,
+			BiConsumer<? super K, ? super V> evictionListener) {
+		return createInternalCache( intendedApproximateSize );
+	}
+
 }
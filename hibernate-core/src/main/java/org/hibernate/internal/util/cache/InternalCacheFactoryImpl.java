@@ -4,10 +4,19 @@
  */
 package org.hibernate.internal.util.cache;
 
+import java.util.function.BiConsumer;
+
 final class InternalCacheFactoryImpl implements InternalCacheFactory {
 
 	@Override
 	public <K, V> InternalCache<K, V> createInternalCache(int intendedApproximateSize) {
 		return new LegacyInternalCacheImplementation<>( intendedApproximateSize );
 	}
+
+	@Override
+	public <K, V> InternalCache<K, V> createInternalCache(
+			int intendedApproximateSize,
+			BiConsumer<? super K, ? super V> evictionListener) {
+		return new LegacyInternalCacheImplementation<>( intendedApproximateSize, evictionListener );
+	}
 }
@@ -7,6 +7,7 @@
 import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 
 import java.io.Serializable;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 /**
@@ -19,8 +20,14 @@
 	private final BoundedConcurrentHashMap<K,V> map;
 
 	public LegacyInternalCacheImplementation(int intendedApproximateSize) {
+		this( intendedApproximateSize, null );
+	}
+
+	public LegacyInternalCacheImplementation(
+			int intendedApproximateSize,
+			BiConsumer<? super K, ? super V> evictionListener) {
 		map = new BoundedConcurrentHashMap<>(
-				intendedApproximateSize, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+				intendedApproximateSize, 20, BoundedConcurrentHashMap.Eviction.LIRS, evictionListener );
 	}
 
 	@Override
@@ -43,6 +50,16 @@ public void clear() {
 		map.clear();
 	}
 
+	@Override
+	public void remove(K key) {
+		map.remove( key );
+	}
+
+	@Override
+	public void remove(K key, V value) {
+		map.remove( key, value );
+	}
+
 	@Override
 	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
 		return map.computeIfAbsent( key, mappingFunction );
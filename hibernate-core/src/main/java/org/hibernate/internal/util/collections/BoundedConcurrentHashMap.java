@@ -24,6 +24,7 @@
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
 
 /**
  * A hash table supporting full concurrency of retrievals and
@@ -422,7 +423,7 @@ protected boolean removeEldestEntry(Map.Entry<HashEntry<K, V>, V> eldest) {
 			boolean aboveThreshold = isAboveThreshold();
 			if ( aboveThreshold ) {
 				HashEntry<K, V> evictedEntry = eldest.getKey();
-				segment.remove( evictedEntry.key, evictedEntry.hash, null );
+				segment.evict( evictedEntry );
 				evicted.add( evictedEntry );
 			}
 			return aboveThreshold;
@@ -976,7 +977,7 @@ public void onEntryMiss(HashEntry<K, V> en) {
 		private void removeFromSegment(Set<HashEntry<K, V>> evicted) {
 			for ( HashEntry<K, V> e : evicted ) {
 				( (LIRSHashEntry<K, V>) e ).evict();
-				segment.remove( e.key, e.hash, null );
+				segment.evict( e );
 			}
 		}
 
@@ -1144,9 +1145,12 @@ public HashEntry<K, V> createNewEntry(K key, int hash, HashEntry<K, V> next, V v
 
 		transient final EvictionPolicy<K, V> eviction;
 
-		Segment(int cap, int evictCap, float lf, Eviction es) {
+		transient final BiConsumer<? super K, ? super V> evictionListener;
+
+		Segment(int cap, int evictCap, float lf, Eviction es, BiConsumer<? super K, ? super V> evictionListener) {
 			loadFactor = lf;
 			this.evictCap = evictCap;
+			this.evictionListener = evictionListener;
 			eviction = es.make( this, evictCap, lf );
 			setTable( HashEntry.newArray( cap ) );
 		}
@@ -1343,6 +1347,17 @@ V put(K key, int hash, V value, boolean onlyIfAbsent) {
 			}
 		}
 
+		/**
+		 * Remove an entry chosen by the eviction policy, and notify the
+		 * eviction listener, if any. Call only while holding lock.
+		 */
+		void evict(HashEntry<K, V> e) {
+			final V value = remove( e.key, e.hash, null );
+			if ( value != null && evictionListener != null ) {
+				evictionListener.accept( e.key, value );
+			}
+		}
+
 		/**
 		 * Remove; match on key only if value null, else match both.
 		 */
@@ -1449,6 +1464,27 @@ private void attemptEviction(boolean lockedAlready) {
 	public BoundedConcurrentHashMap(
 			int capacity, int concurrencyLevel,
 			Eviction evictionStrategy) {
+		this( capacity, concurrencyLevel, evictionStrategy, null );
+	}
+
+	/**
+	 * Creates a new, empty map with the specified maximum capacity, load factor, concurrency
+	 * level and eviction listener.
+	 *
+	 * @param capacity is the upper bound capacity for the number of elements in this map
+	 * @param concurrencyLevel the estimated number of concurrently updating threads. The implementation performs
+	 * internal sizing to try to accommodate this many threads.
+	 * @param evictionStrategy the algorithm used to evict elements from this map
+	 * @param evictionListener notified of each entry evicted from this map, while the segment of the entry
+	 * is locked, or {@code null}
+	 *
+	 * @throws IllegalArgumentException if the initial capacity is negative or the load factor or concurrencyLevel are
+	 * nonpositive.
+	 */
+	public BoundedConcurrentHashMap(
+			int capacity, int concurrencyLevel,
+			Eviction evictionStrategy,
+			BiConsumer<? super K, ? super V> evictionListener) {
 		if ( capacity < 0 || concurrencyLevel <= 0 ) {
 			throw new IllegalArgumentException();
 		}
@@ -1490,7 +1526,7 @@ public BoundedConcurrentHashMap(
 		}
 
 		for ( int i = 0; i < this.segments.length; ++i ) {
-			this.segments[i] = new Segment<>( cap, c, DEFAULT_LOAD_FACTOR, evictionStrategy );
+			this.segments[i] = new Segment<>( cap, c, DEFAULT_LOAD_FACTOR, evictionStrategy, evictionListener );
 		}
 	}
 
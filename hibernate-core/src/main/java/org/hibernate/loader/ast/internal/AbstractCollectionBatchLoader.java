@@ -4,6 +4,7 @@
  */
 package org.hibernate.loader.ast.internal;
 
+import org.hibernate.collection.spi.AbstractPersistentCollection;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
@@ -14,6 +15,7 @@
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.sql.results.internal.ResultsHelper;
 
+import jakarta.annotation.Nullable;
 
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.hasSingleId;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.trimIdBatch;
@@ -25,6 +27,7 @@
  */
 public abstract class AbstractCollectionBatchLoader implements CollectionBatchLoader {
 	private final int domainBatchSize;
+	private final @Nullable AdaptiveBatchSizer batchSizer;
 	private final PluralAttributeMapping attributeMapping;
 	private final LoadQueryInfluencers influencers;
 	private final SessionFactoryImplementor sessionFactory;
@@ -38,7 +41,17 @@ public AbstractCollectionBatchLoader(
 			LoadQueryInfluencers influencers,
 			PluralAttributeMapping attributeMapping,
 			SessionFactoryImplementor sessionFactory) {
+		this( domainBatchSize, null, influencers, attributeMapping, sessionFactory );
+	}
+
+	public AbstractCollectionBatchLoader(
+			int domainBatchSize,
+			@Nullable AdaptiveBatchSizer batchSizer,
+			LoadQueryInfluencers influencers,
+			PluralAttributeMapping attributeMapping,
+			SessionFactoryImplementor sessionFactory) {
 		this.domainBatchSize = domainBatchSize;
+		this.batchSizer = batchSizer;
 		this.attributeMapping = attributeMapping;
 
 		this.keyJdbcCount = attributeMapping.getJdbcTypeCount();
@@ -53,6 +66,16 @@ public int getDomainBatchSize() {
 		return domainBatchSize;
 	}
 
+	/**
+	 * The number of keys to actually load in a batch, which is less than or equal
+	 * to the {@linkplain #getDomainBatchSize domain batch size}.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#BATCH_FETCH_ADAPTIVE
+	 */
+	int getEffectiveBatchSize() {
+		return batchSizer == null ? domainBatchSize : batchSizer.getBatchSize();
+	}
+
 	@Override
 	public PluralAttributeMapping getLoadable() {
 		return attributeMapping;
@@ -89,6 +112,7 @@ public PersistentCollection<?> load(Object key, SharedSessionContractImplementor
 		}
 		initializeKeys( key, keys, session );
 		finishInitializingKeys( keys, session );
+		markPrefetched( keys, session );
 
 		return session.getPersistenceContext().getCollection( collectionKey( key, session ) );
 	}
@@ -119,9 +143,37 @@ protected void finishInitializingKey(Object key, SharedSessionContractImplemento
 		}
 	}
 
+	/**
+	 * Mark the collections loaded along with the collection actually being
+	 * loaded, the first of the given keys, and report their number to the
+	 * {@link org.hibernate.engine.spi.BatchFetchQueue}.
+	 */
+	void markPrefetched(Object[] keys, SharedSessionContractImplementor session) {
+		if ( batchSizer != null ) {
+			final var persistenceContext = session.getPersistenceContextInternal();
+			int prefetched = 0;
+			for ( int i = 1; i < keys.length; i++ ) {
+				final Object key = keys[i];
+				if ( key != null
+						&& persistenceContext.getCollection( collectionKey( key, session ) )
+								instanceof AbstractPersistentCollection<?> collection ) {
+					collection.markPrefetched();
+					prefetched++;
+				}
+			}
+			persistenceContext.getBatchFetchQueue().registerPrefetched( batchSizer, prefetched );
+		}
+	}
+
+	void batchLoaded(int keyCount, int batchSize) {
+		if ( batchSizer != null ) {
+			batchSizer.batchLoaded( keyCount, batchSize );
+		}
+	}
+
 	@AllowReflection
 	Object[] resolveKeysToInitialize(Object keyBeingLoaded, SharedSessionContractImplementor session) {
-		final int length = getDomainBatchSize();
+		final int length = getEffectiveBatchSize();
 		final Object[] keysToInitialize = new Object[length];
 		session.getPersistenceContextInternal().getBatchFetchQueue()
 				.collectBatchLoadableCollectionKeys(
@@ -131,6 +183,8 @@ Object[] resolveKeysToInitialize(Object keyBeingLoaded, SharedSessionContractImp
 						getLoadable()
 				);
 		// now trim down the array to the number of keys we found
-		return trimIdBatch( length, keysToInitialize );
+		final var keys = trimIdBatch( length, keysToInitialize );
+		batchLoaded( keys.length, length );
+		return keys;
 	}
 }
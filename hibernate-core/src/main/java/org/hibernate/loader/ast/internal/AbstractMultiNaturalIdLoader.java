@@ -8,6 +8,7 @@
 import org.hibernate.FindMultipleOption;
 import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.NaturalIdResolutionCache;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.loader.ast.spi.MultiNaturalIdLoadOptions;
@@ -18,6 +19,7 @@
 import java.util.function.Consumer;
 
 import static java.util.Collections.emptyList;
+import static org.hibernate.engine.spi.NaturalIdResolutions.INVALID_NATURAL_ID_REFERENCE;
 import static org.hibernate.internal.util.collections.CollectionHelper.arrayList;
 import static org.hibernate.internal.util.collections.CollectionHelper.isEmpty;
 import static org.hibernate.loader.ast.internal.LoaderHelper.upgradeLock;
@@ -70,11 +72,57 @@ private <K> List<E> unorderedMultiLoad(
 		final var unresolvedIds =
 				checkPersistenceContextForCachedResults( naturalIds, loadOptions, session, lockOptions, results::add );
 		if ( !isEmpty( unresolvedIds ) ) {
-			results.addAll( loadEntitiesWithUnresolvedIds( unresolvedIds, loadOptions, lockOptions, session ) );
+			results.addAll( loadUnresolvedEntities( unresolvedIds, loadOptions, lockOptions, session ) );
 		}
 		return results;
 	}
 
+	/**
+	 * Load the entities with the given natural ids, which were not found in
+	 * the persistence context, skipping natural ids which the factory-level
+	 * {@link NaturalIdResolutionCache} knows do not exist, and recording the
+	 * resolutions of the others in that cache.
+	 */
+	private List<E> loadUnresolvedEntities(
+			Object[] unresolvedIds,
+			MultiNaturalIdLoadOptions loadOptions,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		final var resolutionCache = session.getFactory().getNaturalIdResolutionCache();
+		if ( resolutionCache == null
+				|| lockOptions.getLockMode().isPessimistic()
+				|| !resolutionCache.isCacheable( entityDescriptor, session ) ) {
+			return loadEntitiesWithUnresolvedIds( unresolvedIds, loadOptions, lockOptions, session );
+		}
+		else {
+			final var naturalIdMapping = entityDescriptor.getNaturalIdMapping();
+			final List<Object> naturalIdsToLoad = arrayList( unresolvedIds.length );
+			for ( Object naturalId : unresolvedIds ) {
+				final Object normalizedNaturalId = naturalIdMapping.normalizeInput( naturalId );
+				if ( resolutionCache.findCachedId( normalizedNaturalId, entityDescriptor, session )
+						!= INVALID_NATURAL_ID_REFERENCE ) {
+					naturalIdsToLoad.add( normalizedNaturalId );
+				}
+			}
+			if ( naturalIdsToLoad.isEmpty() ) {
+				return emptyList();
+			}
+			else {
+				final long stamp = resolutionCache.beginResolution();
+				final List<E> loaded =
+						loadEntitiesWithUnresolvedIds( naturalIdsToLoad.toArray(), loadOptions, lockOptions, session );
+				final var resolutions = session.getPersistenceContextInternal().getNaturalIdResolutions();
+				for ( Object naturalId : naturalIdsToLoad ) {
+					final Object id = resolutions.findCachedIdByNaturalId( naturalId, entityDescriptor );
+					if ( id != INVALID_NATURAL_ID_REFERENCE ) {
+						resolutionCache.cacheResolution( naturalId, id, entityDescriptor, stamp, session );
+					}
+				}
+				return loaded;
+			}
+		}
+	}
+
 	protected abstract List<E> loadEntitiesWithUnresolvedIds(
 			Object[] unresolvedIds,
 			MultiNaturalIdLoadOptions loadOptions,
@@ -99,7 +147,7 @@ private <K> List<E> orderedMultiLoad(
 		final var unresolvedIds =
 				checkPersistenceContextForCachedResults( naturalIds, loadOptions, session, lockOptions, result -> {} );
 		if ( !isEmpty( unresolvedIds ) ) {
-			loadEntitiesWithUnresolvedIds( unresolvedIds, loadOptions, lockOptions, session );
+			loadUnresolvedEntities( unresolvedIds, loadOptions, lockOptions, session );
 		}
 		return sortResults( naturalIds, loadOptions, session );
 	}
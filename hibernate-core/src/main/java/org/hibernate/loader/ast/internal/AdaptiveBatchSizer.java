@@ -0,0 +1,163 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.Locale;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.loader.ast.spi.MultiKeyLoadSizingStrategy;
+
+import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
+
+/**
+ * Determines the batch size used by a batch loader when
+ * {@linkplain org.hibernate.cfg.FetchSettings#BATCH_FETCH_ADAPTIVE adaptive
+ * batch fetching} is enabled.
+ * <p>
+ * The sizer is shared by all sessions of the factory, and by every batch loader
+ * built for the same entity or collection role. It is fed two signals:
+ * <ul>
+ * <li>whether batches are {@linkplain #batchLoaded saturated}, that is, whether
+ *     the batch fetch queue held at least as many keys as the current batch size, and
+ * <li>how many of the keys fetched along with the key actually being loaded were
+ *     subsequently {@linkplain #prefetchUsage accessed} by the program.
+ * </ul>
+ * When most prefetched keys are accessed and batches are saturated, the batch
+ * size grows, as determined by the {@link MultiKeyLoadSizingStrategy}, up to the
+ * maximum size. When less than half of the prefetched keys are accessed, the batch
+ * size shrinks, down to the minimum size.
+ */
+public class AdaptiveBatchSizer {
+	/**
+	 * The minimum batch size, below which batching is pointless.
+	 */
+	public static final int MIN_BATCH_SIZE = 2;
+
+	private static final double SHRINK_THRESHOLD = 0.5;
+	private static final double GROW_THRESHOLD = 0.9;
+
+	private final String role;
+	private final boolean collection;
+	private final int minSize;
+	private final int maxSize;
+	private final MultiKeyLoadSizingStrategy sizingStrategy;
+	private final SessionFactoryImplementor sessionFactory;
+
+	private volatile int batchSize;
+
+	private int prefetchedCount;
+	private int accessedCount;
+	private int saturatedCount;
+
+	public AdaptiveBatchSizer(
+			String role,
+			boolean collection,
+			int initialSize,
+			int maxSize,
+			SessionFactoryImplementor sessionFactory) {
+		this.role = role;
+		this.collection = collection;
+		this.sessionFactory = sessionFactory;
+		this.minSize = Math.min( MIN_BATCH_SIZE, initialSize );
+		this.maxSize = Math.max( maxSize, initialSize );
+		this.batchSize = initialSize;
+		this.sizingStrategy = sessionFactory.getJdbcServices().getDialect().getBatchLoadSizingStrategy();
+	}
+
+	/**
+	 * The entity name or collection role
+	 */
+	public String getRole() {
+		return role;
+	}
+
+	/**
+	 * The factory whose sessions share this sizer.
+	 */
+	public SessionFactoryImplementor getSessionFactory() {
+		return sessionFactory;
+	}
+
+	/**
+	 * The current batch size.
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * The upper bound on the batch size, which is also the length of any
+	 * array of keys passed to the batch loader.
+	 */
+	public int getMaxBatchSize() {
+		return maxSize;
+	}
+
+	public int getMinBatchSize() {
+		return minSize;
+	}
+
+	/**
+	 * Called after a batch of keys has been collected from the batch fetch queue.
+	 *
+	 * @param keyCount the number of keys in the batch, including the key being loaded
+	 * @param size the batch size in effect when the batch was collected
+	 */
+	public synchronized void batchLoaded(int keyCount, int size) {
+		if ( keyCount >= size ) {
+			saturatedCount++;
+		}
+	}
+
+	/**
+	 * Called when the batch fetch queue learns how many of the keys which were
+	 * fetched along with the key actually being loaded were later accessed.
+	 *
+	 * @param prefetched the number of keys fetched in addition to the requested key
+	 * @param accessed the number of those keys which were subsequently accessed
+	 */
+	public synchronized void prefetchUsage(int prefetched, int accessed) {
+		prefetchedCount += prefetched;
+		accessedCount += accessed;
+		final int currentSize = batchSize;
+		// wait until we have observed (roughly) a whole batch worth of keys
+		if ( prefetchedCount >= currentSize - 1 && prefetchedCount > 0 ) {
+			final double ratio = (double) accessedCount / prefetchedCount;
+			if ( ratio < SHRINK_THRESHOLD ) {
+				adjust( currentSize, Math.max( minSize, currentSize / 2 ) );
+			}
+			else if ( ratio >= GROW_THRESHOLD && saturatedCount > 0 ) {
+				final int optimalSize = sizingStrategy.determineOptimalBatchLoadSize( 1, currentSize * 2, true );
+				adjust( currentSize, Math.min( maxSize, Math.max( currentSize, optimalSize ) ) );
+			}
+			prefetchedCount = 0;
+			accessedCount = 0;
+			saturatedCount = 0;
+		}
+	}
+
+	private void adjust(int currentSize, int newSize) {
+		if ( newSize != currentSize ) {
+			batchSize = newSize;
+			if ( MULTI_KEY_LOAD_LOGGER.isDebugEnabled() ) {
+				MULTI_KEY_LOAD_LOGGER.debugf( "Adjusted batch size for '%s' from %s to %s", role, currentSize, newSize );
+			}
+			final var statistics = sessionFactory.getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				if ( collection ) {
+					statistics.collectionBatchFetchSizeAdjusted( role, newSize );
+				}
+				else {
+					statistics.entityBatchFetchSizeAdjusted( role, newSize );
+				}
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return String.format( Locale.ROOT, "AdaptiveBatchSizer(%s [%s..%s] %s)", role, minSize, maxSize, batchSize );
+	}
+}
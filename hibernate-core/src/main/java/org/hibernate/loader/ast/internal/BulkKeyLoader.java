@@ -0,0 +1,427 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.lang.reflect.Array;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Function;
+
+import jakarta.annotation.Nullable;
+import org.hibernate.LockOptions;
+import org.hibernate.dialect.temptable.TemporaryTable;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.build.AllowReflection;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.metamodel.mapping.JdbcMappingContainer;
+import org.hibernate.metamodel.mapping.ModelPart;
+import org.hibernate.metamodel.mapping.SelectableMapping;
+import org.hibernate.metamodel.mapping.SqlTypedMapping;
+import org.hibernate.metamodel.mapping.internal.SqlTypedMappingImpl;
+import org.hibernate.query.spi.QueryOptionsAdapter;
+import org.hibernate.query.sqm.mutation.spi.AfterUseAction;
+import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
+import org.hibernate.sql.ast.SqlAstTranslator;
+import org.hibernate.sql.ast.spi.SqlAliasBaseManager;
+import org.hibernate.sql.ast.spi.SqlAppender;
+import org.hibernate.sql.ast.tree.expression.Expression;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.ast.tree.expression.SelfRenderingExpression;
+import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
+import org.hibernate.sql.ast.tree.predicate.Predicate;
+import org.hibernate.sql.ast.tree.predicate.SelfRenderingPredicate;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.internal.SqlTypedMappingJdbcParameter;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcParametersList;
+import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
+import org.hibernate.sql.results.spi.ListResultsConsumer;
+
+import static org.hibernate.engine.spi.SubselectFetch.createRegistrationHandler;
+import static org.hibernate.internal.util.NullnessUtil.castNonNull;
+import static org.hibernate.loader.ast.internal.LoaderSelectBuilder.createSelectByKeyRestriction;
+import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.resolveArrayJdbcMapping;
+import static org.hibernate.query.sqm.mutation.internal.temptable.ExecuteWithTemporaryTableHelper.createIdTableSelectQuerySpec;
+import static org.hibernate.query.sqm.mutation.internal.temptable.ExecuteWithTemporaryTableHelper.performAfterTemporaryTableUseActions;
+import static org.hibernate.query.sqm.mutation.internal.temptable.ExecuteWithTemporaryTableHelper.performBeforeTemporaryTableUseActions;
+import static org.hibernate.sql.exec.spi.JdbcParameterBindings.NO_BINDINGS;
+
+/**
+ * Loads entities by a large number of ids or natural ids using a single SQL
+ * statement, instead of splitting the keys into chunks of SQL {@code in} lists.
+ * The keys are either:
+ * <ul>
+ * <li>passed as one SQL {@code ARRAY} parameter per key column, and turned back
+ *     into rows using {@code unnest()}, if the dialect
+ *     {@linkplain org.hibernate.dialect.Dialect#supportsMultipleArrayUnnest supports it},
+ *     or
+ * <li>inserted, without repetitions, into a local temporary table using a JDBC
+ *     batch, and the entities are then restricted to keys occurring in the
+ *     temporary table, which is cleaned up immediately afterward.
+ * </ul>
+ *
+ * @see org.hibernate.cfg.FetchSettings#MULTI_LOAD_BULK_THRESHOLD
+ *
+ * @since 8.1
+ */
+class BulkKeyLoader {
+
+	private static final int INSERT_BATCH_SIZE = 1_000;
+
+	private final EntityMappingType entityDescriptor;
+	private final ModelPart keyPart;
+	private final int threshold;
+	private final SessionFactoryImplementor sessionFactory;
+
+	// non-null when the keys are passed as arrays
+	private final @Nullable List<SqlTypedMapping> arraySqlTypedMappings;
+	// non-null when the keys are inserted into a temporary table
+	private final @Nullable TemporaryTable keyTable;
+	private final @Nullable String insertSql;
+
+	private BulkKeyLoader(
+			EntityMappingType entityDescriptor,
+			ModelPart keyPart,
+			int threshold,
+			@Nullable List<SqlTypedMapping> arraySqlTypedMappings,
+			@Nullable TemporaryTable keyTable,
+			SessionFactoryImplementor sessionFactory) {
+		this.entityDescriptor = entityDescriptor;
+		this.keyPart = keyPart;
+		this.threshold = threshold;
+		this.arraySqlTypedMappings = arraySqlTypedMappings;
+		this.keyTable = keyTable;
+		this.insertSql = keyTable == null ? null : insertSql( keyTable, keyPart.getJdbcTypeCount() );
+		this.sessionFactory = sessionFactory;
+	}
+
+	/**
+	 * Create a loader for the given key of the given entity, or return
+	 * {@code null} if bulk loading is disabled, or if neither strategy
+	 * is available.
+	 *
+	 * @param keyPart the identifier or natural id
+	 * @param keyTable a local temporary table with columns for the key, if any
+	 */
+	static @Nullable BulkKeyLoader create(
+			EntityMappingType entityDescriptor,
+			ModelPart keyPart,
+			@Nullable TemporaryTable keyTable,
+			SessionFactoryImplementor sessionFactory) {
+		final int threshold = sessionFactory.getSessionFactoryOptions().getMultiLoadBulkThreshold();
+		if ( threshold <= 0 ) {
+			return null;
+		}
+		final var dialect = sessionFactory.getJdbcServices().getDialect();
+		if ( dialect.supportsMultipleArrayUnnest() ) {
+			final var arraySqlTypedMappings = arraySqlTypedMappings( keyPart, sessionFactory );
+			if ( arraySqlTypedMappings != null ) {
+				return new BulkKeyLoader( entityDescriptor, keyPart, threshold,
+						arraySqlTypedMappings, null, sessionFactory );
+			}
+		}
+		return keyTable != null && dialect.getLocalTemporaryTableStrategy() != null
+				? new BulkKeyLoader( entityDescriptor, keyPart, threshold, null, keyTable, sessionFactory )
+				: null;
+	}
+
+	private static @Nullable List<SqlTypedMapping> arraySqlTypedMappings(
+			ModelPart keyPart,
+			SessionFactoryImplementor sessionFactory) {
+		final List<SelectableMapping> selectables = new ArrayList<>( keyPart.getJdbcTypeCount() );
+		keyPart.forEachSelectable( (index, selectable) -> selectables.add( selectable ) );
+		final List<SqlTypedMapping> arraySqlTypedMappings = new ArrayList<>( selectables.size() );
+		for ( var selectable : selectables ) {
+			final var jdbcMapping = selectable.getJdbcMapping();
+			if ( jdbcMapping.getValueConverter() != null ) {
+				// the JDBC values of converted columns are not
+				// necessarily of the Java type of the array
+				return null;
+			}
+			arraySqlTypedMappings.add( new SqlTypedMappingImpl(
+					selectable.getLength(),
+					selectable.getArrayLength(),
+					selectable.getPrecision(),
+					selectable.getScale(),
+					selectable.getTemporalPrecision(),
+					resolveArrayJdbcMapping(
+							jdbcMapping,
+							jdbcMapping.getJdbcJavaType().getJavaTypeClass(),
+							sessionFactory
+					)
+			) );
+		}
+		return arraySqlTypedMappings;
+	}
+
+	private static String insertSql(TemporaryTable keyTable, int columnCount) {
+		final var columns = new StringBuilder();
+		final var parameters = new StringBuilder();
+		for ( int i = 0; i < columnCount; i++ ) {
+			if ( i > 0 ) {
+				columns.append( ',' );
+				parameters.append( ',' );
+			}
+			columns.append( keyTable.getColumns().get( i ).getColumnName() );
+			parameters.append( '?' );
+		}
+		return "insert into " + keyTable.getQualifiedTableName()
+				+ " (" + columns + ") values (" + parameters + ")";
+	}
+
+	/**
+	 * Should the given number of keys be loaded by this loader?
+	 */
+	boolean isBulkLoad(int numberOfKeys) {
+		return numberOfKeys >= threshold;
+	}
+
+	/**
+	 * Load the entities with the given keys, which must not be null.
+	 */
+	<E> List<E> load(
+			List<Object> keys,
+			LockOptions lockOptions,
+			boolean readOnly,
+			SharedSessionContractImplementor session) {
+		return arraySqlTypedMappings != null
+				? loadByArrays( keys, arraySqlTypedMappings, lockOptions, readOnly, session )
+				: loadByTemporaryTable( keys, castNonNull( keyTable ), lockOptions, readOnly, session );
+	}
+
+	private <E> List<E> loadByArrays(
+			List<Object> keys,
+			List<SqlTypedMapping> arraySqlTypedMappings,
+			LockOptions lockOptions,
+			boolean readOnly,
+			SharedSessionContractImplementor session) {
+		final Object[][] columnValues = toColumnArrays( keys, arraySqlTypedMappings, session );
+		final List<JdbcParameter> jdbcParameters = new ArrayList<>( arraySqlTypedMappings.size() );
+		final var bindings = new JdbcParameterBindingsImpl( arraySqlTypedMappings.size() );
+		for ( int i = 0; i < arraySqlTypedMappings.size(); i++ ) {
+			final var arraySqlTypedMapping = arraySqlTypedMappings.get( i );
+			final var jdbcParameter = new SqlTypedMappingJdbcParameter( arraySqlTypedMapping );
+			jdbcParameters.add( jdbcParameter );
+			bindings.addBinding( jdbcParameter,
+					new JdbcParameterBindingImpl( arraySqlTypedMapping.getJdbcMapping(), columnValues[i] ) );
+		}
+
+		final var sqlAst = createSelect(
+				key -> new SelfRenderingPredicate( new UnnestRestriction( key, jdbcParameters ) ),
+				lockOptions,
+				session
+		);
+		final var subselectFetchableKeysHandler =
+				session.getLoadQueryInfluencers()
+						.hasSubselectLoadableAttributes( entityDescriptor.getEntityPersister() )
+						? createRegistrationHandler(
+								session.getPersistenceContext().getBatchFetchQueue(),
+								sqlAst,
+								JdbcParametersList.fromList( jdbcParameters ),
+								bindings
+						)
+						: null;
+		return list(
+				sqlAst,
+				bindings,
+				new ExecutionContextWithSubselectFetchHandler( session, subselectFetchableKeysHandler,
+						readOnly, lockOptions ),
+				lockOptions,
+				keys.size()
+		);
+	}
+
+	@AllowReflection
+	private Object[][] toColumnArrays(
+			List<Object> keys,
+			List<SqlTypedMapping> arraySqlTypedMappings,
+			SharedSessionContractImplementor session) {
+		final Object[][] columnValues = new Object[arraySqlTypedMappings.size()][];
+		keyPart.forEachSelectable( (column, selectable) -> {
+			final var elementClass = selectable.getJdbcMapping().getJdbcJavaType().getJavaTypeClass();
+			columnValues[column] = (Object[]) Array.newInstance( elementClass, keys.size() );
+		} );
+		for ( int row = 0; row < keys.size(); row++ ) {
+			final int index = row;
+			keyPart.forEachJdbcValue(
+					keys.get( row ),
+					(column, jdbcValue, jdbcMapping) -> columnValues[column][index] = jdbcValue,
+					session
+			);
+		}
+		return columnValues;
+	}
+
+	private <E> List<E> loadByTemporaryTable(
+			List<Object> keys,
+			TemporaryTable keyTable,
+			LockOptions lockOptions,
+			boolean readOnly,
+			SharedSessionContractImplementor session) {
+		// the temporary table usually has a primary key
+		final List<Object> distinctKeys = new ArrayList<>( new LinkedHashSet<>( keys ) );
+		final var temporaryTableStrategy =
+				castNonNull( sessionFactory.getJdbcServices().getDialect().getLocalTemporaryTableStrategy() );
+		// the keys are only in the temporary table until we clean it,
+		// so we can't register the keys for subselect fetching
+		final var executionContext =
+				new ExecutionContextWithSubselectFetchHandler( session, null, readOnly, lockOptions );
+		performBeforeTemporaryTableUseActions( keyTable, temporaryTableStrategy, executionContext );
+		try {
+			insertKeys( distinctKeys, session );
+			final var sqlAst = createSelect(
+					key -> new InSubQueryPredicate(
+							key,
+							createIdTableSelectQuerySpec( keyTable, null, entityDescriptor, executionContext ),
+							false
+					),
+					lockOptions,
+					session
+			);
+			return list( sqlAst, NO_BINDINGS, executionContext, lockOptions, distinctKeys.size() );
+		}
+		finally {
+			performAfterTemporaryTableUseActions(
+					keyTable,
+					s -> {
+						throw new UnsupportedOperationException( "Unexpected call to access Session uid" );
+					},
+					temporaryTableStrategy.getTemporaryTableAfterUseAction() == AfterUseAction.DROP
+							? AfterUseAction.DROP
+							: AfterUseAction.CLEAN,
+					executionContext
+			);
+		}
+	}
+
+	private void insertKeys(List<Object> keys, SharedSessionContractImplementor session) {
+		final String sql = castNonNull( insertSql );
+		final var jdbcCoordinator = session.getJdbcCoordinator();
+		final var eventHandler = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getEventHandler();
+		final PreparedStatement statement = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
+		try {
+			final Object[] values = new Object[keyPart.getJdbcTypeCount()];
+			final JdbcMapping[] jdbcMappings = new JdbcMapping[values.length];
+			int batchPosition = 0;
+			for ( Object key : keys ) {
+				keyPart.forEachJdbcValue(
+						key,
+						(column, jdbcValue, jdbcMapping) -> {
+							values[column] = jdbcValue;
+							jdbcMappings[column] = jdbcMapping;
+						},
+						session
+				);
+				for ( int i = 0; i < values.length; i++ ) {
+					//noinspection unchecked
+					jdbcMappings[i].getJdbcValueBinder().bind( statement, values[i], i + 1, session );
+				}
+				statement.addBatch();
+				if ( ++batchPosition == INSERT_BATCH_SIZE ) {
+					executeBatch( statement, eventHandler );
+					batchPosition = 0;
+				}
+			}
+			if ( batchPosition > 0 ) {
+				executeBatch( statement, eventHandler );
+			}
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper()
+					.convert( e, "could not insert keys into temporary table", sql );
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+			jdbcCoordinator.afterStatementExecution();
+		}
+	}
+
+	private static void executeBatch(PreparedStatement statement, JdbcEventHandler eventHandler)
+			throws SQLException {
+		eventHandler.jdbcExecuteBatchStart();
+		try {
+			statement.executeBatch();
+		}
+		finally {
+			eventHandler.jdbcExecuteBatchEnd();
+		}
+	}
+
+	private SelectStatement createSelect(
+			Function<Expression, Predicate> restriction,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		return createSelectByKeyRestriction(
+				entityDescriptor,
+				keyPart,
+				session.getLoadQueryInfluencers(),
+				lockOptions,
+				restriction,
+				new SqlAliasBaseManager(),
+				sessionFactory
+		);
+	}
+
+	private <E> List<E> list(
+			SelectStatement sqlAst,
+			JdbcParameterBindings bindings,
+			ExecutionContextWithSubselectFetchHandler executionContext,
+			LockOptions lockOptions,
+			int size) {
+		final var jdbcServices = sessionFactory.getJdbcServices();
+		final var jdbcSelect =
+				jdbcServices.getJdbcEnvironment().getSqlAstTranslatorFactory()
+						.buildSelectTranslator( sessionFactory, sqlAst )
+						.translate( NO_BINDINGS, new QueryOptionsAdapter() {
+							@Override
+							public LockOptions getLockOptions() {
+								return lockOptions;
+							}
+						} );
+		return jdbcServices.getJdbcSelectExecutor().list(
+				jdbcSelect,
+				bindings,
+				executionContext,
+				RowTransformerStandardImpl.instance(),
+				null,
+				ListResultsConsumer.UniqueSemantic.FILTER,
+				size
+		);
+	}
+
+	/**
+	 * Renders {@code (k1, k2) in (select * from unnest(?, ?))}.
+	 */
+	private record UnnestRestriction(Expression key, List<JdbcParameter> arrayParameters)
+			implements SelfRenderingExpression {
+		@Override
+		public void renderToSql(
+				SqlAppender sqlAppender,
+				SqlAstTranslator<?> walker,
+				SessionFactoryImplementor sessionFactory) {
+			key.accept( walker );
+			sqlAppender.appendSql( " in (select * from unnest(" );
+			for ( int i = 0; i < arrayParameters.size(); i++ ) {
+				if ( i > 0 ) {
+					sqlAppender.appendSql( ',' );
+				}
+				arrayParameters.get( i ).accept( walker );
+			}
+			sqlAppender.appendSql( "))" );
+		}
+
+		@Override
+		public @Nullable JdbcMappingContainer getExpressionType() {
+			return null;
+		}
+	}
+}
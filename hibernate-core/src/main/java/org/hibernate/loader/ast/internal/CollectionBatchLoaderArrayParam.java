@@ -32,6 +32,8 @@
 import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
 
+import jakarta.annotation.Nullable;
+
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.hasSingleId;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.trimIdBatch;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
@@ -56,7 +58,22 @@ public CollectionBatchLoaderArrayParam(
 			LoadQueryInfluencers loadQueryInfluencers,
 			PluralAttributeMapping attributeMapping,
 			SessionFactoryImplementor sessionFactory) {
-		super( domainBatchSize, loadQueryInfluencers, attributeMapping, sessionFactory );
+		this( domainBatchSize, null, loadQueryInfluencers, attributeMapping, sessionFactory );
+	}
+
+	/**
+	 * @param batchSizer If not null, determines the number of keys actually
+	 * loaded, which never exceeds {@code domainBatchSize}
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#BATCH_FETCH_ADAPTIVE
+	 */
+	public CollectionBatchLoaderArrayParam(
+			int domainBatchSize,
+			@Nullable AdaptiveBatchSizer batchSizer,
+			LoadQueryInfluencers loadQueryInfluencers,
+			PluralAttributeMapping attributeMapping,
+			SessionFactoryImplementor sessionFactory) {
+		super( domainBatchSize, batchSizer, loadQueryInfluencers, attributeMapping, sessionFactory );
 
 		if ( MULTI_KEY_LOAD_LOGGER.isTraceEnabled() ) {
 			MULTI_KEY_LOAD_LOGGER.enabledCollectionArray(
@@ -135,7 +152,7 @@ private PersistentCollection<?> loadWithConversion(
 					collectionInfoString( getLoadable(), keyBeingLoaded ) );
 		}
 
-		final int length = getDomainBatchSize();
+		final int length = getEffectiveBatchSize();
 		final Object[] keysToInitialize = new Object[length];
 		final Object[] domainKeys = new Object[length];
 		session.getPersistenceContextInternal().getBatchFetchQueue()
@@ -156,6 +173,7 @@ private PersistentCollection<?> loadWithConversion(
 				);
 		// now trim down the array to the number of keys we found
 		final var keys = trimIdBatch( length, keysToInitialize );
+		batchLoaded( keys.length, length );
 
 		if ( hasSingleId( keys ) ) {
 			return singleKeyLoader.load( keyBeingLoaded, session );
@@ -168,6 +186,7 @@ private PersistentCollection<?> loadWithConversion(
 				finishInitializingKey( initializedKey, session );
 			}
 		}
+		markPrefetched( domainKeys, session );
 		return session.getPersistenceContext()
 				.getCollection( collectionKey( keyBeingLoaded, session ) );
 	}
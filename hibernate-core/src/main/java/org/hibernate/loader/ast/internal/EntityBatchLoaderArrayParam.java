@@ -15,6 +15,7 @@
 import org.hibernate.metamodel.mapping.SelectableMapping;
 import org.hibernate.metamodel.mapping.SqlTypedMapping;
 import org.hibernate.metamodel.mapping.internal.SqlTypedMappingImpl;
+import org.hibernate.proxy.AbstractLazyInitializer;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.ast.spi.SqlAliasBaseManager;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
@@ -24,10 +25,13 @@
 
 import java.util.Locale;
 
+import jakarta.annotation.Nullable;
+
 import static org.hibernate.loader.ast.internal.LoaderHelper.loadByArrayParameter;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.trimIdBatch;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
 import static org.hibernate.pretty.MessageHelper.infoString;
+import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
 import static org.hibernate.sql.exec.spi.JdbcParameterBindings.NO_BINDINGS;
 
 /**
@@ -41,6 +45,7 @@
 		extends AbstractEntityBatchLoader<T>
 		implements SqlArrayMultiKeyLoader {
 	private final int domainBatchSize;
+	private final @Nullable AdaptiveBatchSizer batchSizer;
 
 	private final SqlTypedMapping arraySqlTypedMapping;
 	private final JdbcParameter jdbcParameter;
@@ -63,8 +68,26 @@ public EntityBatchLoaderArrayParam(
 			int domainBatchSize,
 			EntityMappingType entityDescriptor,
 			LoadQueryInfluencers loadQueryInfluencers) {
+		this( domainBatchSize, null, entityDescriptor, loadQueryInfluencers );
+	}
+
+	/**
+	 * Instantiates the loader
+	 *
+	 * @param domainBatchSize The number of domain model parts (up to)
+	 * @param batchSizer If not null, determines the number of domain model
+	 * parts actually loaded, which never exceeds {@code domainBatchSize}
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#BATCH_FETCH_ADAPTIVE
+	 */
+	public EntityBatchLoaderArrayParam(
+			int domainBatchSize,
+			@Nullable AdaptiveBatchSizer batchSizer,
+			EntityMappingType entityDescriptor,
+			LoadQueryInfluencers loadQueryInfluencers) {
 		super( entityDescriptor, loadQueryInfluencers );
 		this.domainBatchSize = domainBatchSize;
+		this.batchSizer = batchSizer;
 
 		if ( MULTI_KEY_LOAD_LOGGER.isTraceEnabled() ) {
 			MULTI_KEY_LOAD_LOGGER.enabledEntityArray(
@@ -114,15 +137,20 @@ public int getDomainBatchSize() {
 	@AllowReflection
 	protected Object[] resolveIdsToInitialize(Object pkValue, SharedSessionContractImplementor session) {
 		//TODO: should this really be different to EntityBatchLoaderInPredicate impl?
-		final Object[] idsToLoad = new Object[domainBatchSize];
+		final int batchSize = batchSizer == null ? domainBatchSize : batchSizer.getBatchSize();
+		final Object[] idsToLoad = new Object[batchSize];
 		session.getPersistenceContextInternal().getBatchFetchQueue()
 				.collectBatchLoadableEntityIds(
-						domainBatchSize,
+						batchSize,
 						(index, value) -> idsToLoad[index] = value,
 						pkValue,
 						getLoadable()
 				);
-		return trimIdBatch( domainBatchSize, idsToLoad );
+		final var ids = trimIdBatch( batchSize, idsToLoad );
+		if ( batchSizer != null ) {
+			batchSizer.batchLoaded( ids.length, batchSize );
+		}
+		return ids;
 	}
 
 	@Override
@@ -153,6 +181,31 @@ protected void initializeEntities(
 				readOnly,
 				session
 		);
+
+		if ( batchSizer != null ) {
+			markPrefetched( idsToInitialize, batchSizer, session );
+		}
+	}
+
+	private void markPrefetched(
+			Object[] idsToInitialize,
+			AdaptiveBatchSizer batchSizer,
+			SharedSessionContractImplementor session) {
+		final var persistenceContext = session.getPersistenceContextInternal();
+		final var persister = getLoadable().getEntityPersister();
+		int prefetched = 0;
+		// the first id is the one actually being loaded
+		for ( int i = 1; i < idsToInitialize.length; i++ ) {
+			final Object initializedId = idsToInitialize[i];
+			if ( initializedId != null ) {
+				final Object proxy = persistenceContext.getProxy( session.generateEntityKey( initializedId, persister ) );
+				if ( extractLazyInitializer( proxy ) instanceof AbstractLazyInitializer lazyInitializer ) {
+					lazyInitializer.markPrefetched();
+					prefetched++;
+				}
+			}
+		}
+		persistenceContext.getBatchFetchQueue().registerPrefetched( batchSizer, prefetched );
 	}
 
 	private void removeBatchLoadableEntityKeys(Object[] idsToInitialize, SharedSessionContractImplementor session) {
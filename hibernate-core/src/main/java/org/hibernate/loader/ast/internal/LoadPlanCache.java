@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.function.BiFunction;
+
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.cache.InternalCache;
+import org.hibernate.internal.util.cache.InternalCacheFactory;
+
+/**
+ * A bounded cache of the loaders or load plans of a given entity or
+ * collection which were built for non-default {@link LoadQueryInfluencers},
+ * for example, for a session with an enabled fetch profile or filter, keyed
+ * by {@link LoadPlanKey}. Cached loaders are shared between sessions, and
+ * so they are built from a {@linkplain LoadQueryInfluencers#makeSnapshot
+ * snapshot} of the influencers, never from the influencers of the session.
+ *
+ * @param <V> the type of loader or load plan
+ *
+ * @see org.hibernate.stat.Statistics#getLoadPlanCacheHitCount()
+ */
+public class LoadPlanCache<V> {
+	/**
+	 * The maximum number of distinct influencer combinations
+	 * for which loaders are kept, per entity or collection.
+	 */
+	public static final int MAX_LOAD_PLANS = 32;
+
+	private final String role;
+	private final SessionFactoryImplementor factory;
+	private volatile InternalCache<LoadPlanKey, V> cache;
+
+	/**
+	 * @param role the entity name or collection role, for statistics
+	 */
+	public LoadPlanCache(String role, SessionFactoryImplementor factory) {
+		this.role = role;
+		this.factory = factory;
+	}
+
+	/**
+	 * Obtain the cached loader for the given lock options and influencers,
+	 * or build and cache a new one, passing copies of the lock options and
+	 * influencers to the given creator.
+	 */
+	public V resolve(
+			LockOptions lockOptions,
+			LoadQueryInfluencers influencers,
+			BiFunction<LockOptions, LoadQueryInfluencers, V> creator) {
+		final var key = LoadPlanKey.of( lockOptions, influencers );
+		final var cache = cache();
+		final var statistics = factory.getStatistics();
+		final V existing = cache.get( key );
+		if ( existing != null ) {
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.loadPlanCacheHit( role );
+			}
+			return existing;
+		}
+		else {
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.loadPlanCacheMiss( role );
+			}
+			// a race here only results in building the loader twice
+			final V created = creator.apply( key.lockOptions(), influencers.makeSnapshot() );
+			cache.put( key, created );
+			return created;
+		}
+	}
+
+	private InternalCache<LoadPlanKey, V> cache() {
+		var result = cache;
+		if ( result == null ) {
+			synchronized ( this ) {
+				result = cache;
+				if ( result == null ) {
+					// created lazily, since most loaders are never influenced
+					result = factory.getServiceRegistry().requireService( InternalCacheFactory.class )
+							.createInternalCache( MAX_LOAD_PLANS );
+					cache = result;
+				}
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.List;
+import java.util.Set;
+
+import jakarta.annotation.Nullable;
+
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.FetchOptions;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.graph.internal.GraphStructureKey;
+import org.hibernate.loader.ast.spi.CascadingFetchProfile;
+
+import static org.hibernate.query.sqm.internal.SqmInterpretationsKey.enabledFilterShapes;
+
+/**
+ * An immutable snapshot of the {@link LoadQueryInfluencers} and
+ * {@link LockOptions} which affect the SQL generated for a loader.
+ * Loaders and load plans built for the same key are interchangeable,
+ * even if they were built for different sessions.
+ * <p>
+ * The arguments of enabled filters, and the temporal identifier of
+ * a historical session, are not part of the key, since they are bound
+ * when the statement is executed.
+ *
+ * @see LoadPlanCache
+ */
+public record LoadPlanKey(
+		LockOptions lockOptions,
+		@Nullable CascadingFetchProfile cascadingFetchProfile,
+		Set<String> enabledFetchProfiles,
+		@Nullable List<String> enabledFilters,
+		@Nullable GraphStructureKey appliedGraph,
+		boolean historical,
+		boolean allRevisions,
+		int batchSize,
+		boolean subselectFetchEnabled,
+		FetchOptions fetchOptions) {
+
+	public static LoadPlanKey of(LockOptions lockOptions, LoadQueryInfluencers influencers) {
+		final var effectiveEntityGraph = influencers.getEffectiveEntityGraph();
+		final var semantic = effectiveEntityGraph.getSemantic();
+		final var graph = effectiveEntityGraph.getGraph();
+		return new LoadPlanKey(
+				lockOptions.makeDefensiveCopy(),
+				influencers.getEnabledCascadingFetchProfile(),
+				influencers.hasEnabledFetchProfiles()
+						? Set.copyOf( influencers.getEnabledFetchProfileNames() )
+						: Set.of(),
+				enabledFilterShapes( influencers ),
+				semantic == null || graph == null ? null : GraphStructureKey.of( semantic, graph ),
+				influencers.getTemporalIdentifier() != null,
+				influencers.isAllRevisions(),
+				influencers.getBatchSize(),
+				influencers.getSubselectFetchEnabled(),
+				influencers.getFetchOptions()
+		);
+	}
+}
@@ -8,6 +8,7 @@
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.hibernate.LockOptions;
 import org.hibernate.engine.FetchStyle;
@@ -54,6 +55,7 @@
 import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
 import org.hibernate.sql.ast.tree.predicate.InListPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
+import org.hibernate.sql.ast.tree.predicate.Predicate;
 import org.hibernate.sql.ast.tree.predicate.PredicateContainer;
 import org.hibernate.sql.ast.tree.select.QueryPart;
 import org.hibernate.sql.ast.tree.select.QuerySpec;
@@ -134,6 +136,36 @@ public static SelectStatement createSelectBySingleArrayParameter(
 			JdbcParameter jdbcArrayParameter,
 			SqlAliasBaseGenerator sqlAliasBaseGenerator,
 			SessionFactoryImplementor sessionFactory) {
+		assert restrictedPart.getJdbcTypeCount() == 1;
+		return createSelectByKeyRestriction(
+				loadable,
+				restrictedPart,
+				influencers,
+				lockOptions,
+				key -> new InArrayPredicate( key, jdbcArrayParameter ),
+				sqlAliasBaseGenerator,
+				sessionFactory
+		);
+	}
+
+	/**
+	 * Create a select-statement (SQL AST) for loading by multiple keys using the given
+	 * restriction on the (possibly composite) key, for example, a subquery against a
+	 * table holding the keys.
+	 *
+	 * @param restriction produces the restriction, given the column reference, or the
+	 *                    tuple of column references, for the restricted part
+	 *
+	 * @since 8.1
+	 */
+	public static SelectStatement createSelectByKeyRestriction(
+			Loadable loadable,
+			ModelPart restrictedPart,
+			LoadQueryInfluencers influencers,
+			LockOptions lockOptions,
+			Function<Expression, Predicate> restriction,
+			SqlAliasBaseGenerator sqlAliasBaseGenerator,
+			SessionFactoryImplementor sessionFactory) {
 		final var builder = new LoaderSelectBuilder(
 				sessionFactory.getSqlTranslationEngine(),
 				loadable,
@@ -167,14 +199,9 @@ public static SelectStatement createSelectBySingleArrayParameter(
 
 		final List<DomainResult<?>> domainResults = singletonList( domainResult );
 
-		applyArrayParamRestriction(
-				rootQuerySpec,
-				rootNavigablePath,
-				rootTableGroup,
-				restrictedPart,
-				jdbcArrayParameter,
-				sqlAstCreationState
-		);
+		rootQuerySpec.applyPredicate( restriction.apply(
+				resolveKeyExpression( rootNavigablePath, rootTableGroup, restrictedPart, sqlAstCreationState )
+		) );
 
 		if ( loadable instanceof PluralAttributeMapping pluralAttributeMapping ) {
 			builder.applyFiltering( rootQuerySpec, rootTableGroup, pluralAttributeMapping, sqlAstCreationState );
@@ -187,26 +214,29 @@ public static SelectStatement createSelectBySingleArrayParameter(
 		return new SelectStatement( rootQuerySpec, domainResults );
 	}
 
-	private static void applyArrayParamRestriction(
-			QuerySpec rootQuerySpec,
+	private static Expression resolveKeyExpression(
 			NavigablePath rootNavigablePath,
 			TableGroup rootTableGroup,
-			ValuedModelPart restrictedPart,
-			JdbcParameter jdbcArrayParameter,
+			ModelPart restrictedPart,
 			LoaderSqlAstCreationState sqlAstCreationState) {
-		assert restrictedPart.getJdbcTypeCount() == 1;
 		final var sqlExpressionResolver = sqlAstCreationState.getSqlExpressionResolver();
-		final var restrictedPartMapping = restrictedPart.getSelectable( 0 );
 		final var restrictionPath =
 				rootNavigablePath.append( restrictedPart.getNavigableRole().getNavigableName() );
-		final var tableReference =
-				rootTableGroup.resolveTableReference( restrictionPath,
-						restrictedPartMapping.getContainingTableExpression() );
-		final var columnRef =
-				(ColumnReference)
-						sqlExpressionResolver.resolveSqlExpression( tableReference, restrictedPartMapping );
-
-		rootQuerySpec.applyPredicate( new InArrayPredicate( columnRef, jdbcArrayParameter ) );
+		final List<ColumnReference> columnReferences = new ArrayList<>( restrictedPart.getJdbcTypeCount() );
+		restrictedPart.forEachSelectable(
+				(columnIndex, selection) -> {
+					final var tableReference =
+							rootTableGroup.resolveTableReference( restrictionPath,
+									selection.getContainingTableExpression() );
+					columnReferences.add(
+							(ColumnReference)
+									sqlExpressionResolver.resolveSqlExpression( tableReference, selection )
+					);
+				}
+		);
+		return columnReferences.size() == 1
+				? columnReferences.get( 0 )
+				: new SqlTuple( columnReferences, restrictedPart );
 	}
 
 	/**
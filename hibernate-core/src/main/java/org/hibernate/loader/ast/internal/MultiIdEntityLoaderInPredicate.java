@@ -6,7 +6,9 @@
 
 import java.util.List;
 
+import jakarta.annotation.Nullable;
 import org.hibernate.LockOptions;
+import org.hibernate.dialect.temptable.TemporaryTable;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -33,20 +35,42 @@
 /**
  * Standard implementation of {@link org.hibernate.loader.ast.spi.MultiIdEntityLoader}
  * which uses a SQL {@code in} condition containing multiple JDBC parameters.
+ * <p>
+ * Large numbers of ids may instead be passed to the database all at once, using
+ * a {@link BulkKeyLoader}.
  *
  * @author Steve Ebersole
  */
 public class MultiIdEntityLoaderInPredicate<T> extends AbstractMultiIdEntityLoader<T> {
 
 	private final int idJdbcTypeCount;
+	private final @Nullable BulkKeyLoader bulkKeyLoader;
 
 	public MultiIdEntityLoaderInPredicate(
 			EntityPersister entityDescriptor,
 			int idColumnSpan,
 			SessionFactoryImplementor sessionFactory) {
+		this( entityDescriptor, idColumnSpan, null, sessionFactory );
+	}
+
+	/**
+	 * @param idTable a local temporary table with columns for the id,
+	 *                for {@linkplain org.hibernate.cfg.FetchSettings#MULTI_LOAD_BULK_THRESHOLD
+	 *                bulk loading}
+	 *
+	 * @since 8.1
+	 */
+	public MultiIdEntityLoaderInPredicate(
+			EntityPersister entityDescriptor,
+			int idColumnSpan,
+			@Nullable TemporaryTable idTable,
+			SessionFactoryImplementor sessionFactory) {
 		super( entityDescriptor, sessionFactory );
 		idJdbcTypeCount = idColumnSpan;
 		assert idJdbcTypeCount > 0;
+		bulkKeyLoader =
+				BulkKeyLoader.create( entityDescriptor, entityDescriptor.getIdentifierMapping(),
+						idTable, sessionFactory );
 	}
 
 	private boolean isInClauseParameterPaddingEnabled() {
@@ -60,11 +84,18 @@ private MultiKeyLoadSizingStrategy getBatchLoadSizingStrategy() {
 	@Override
 	protected int maxBatchSize(Object[] ids, MultiIdLoadOptions loadOptions) {
 		final Integer explicitBatchSize = loadOptions.getBatchSize();
-		return explicitBatchSize != null && explicitBatchSize > 0
-				? explicitBatchSize
-				: getBatchLoadSizingStrategy()
-						.determineOptimalBatchLoadSize( idJdbcTypeCount, ids.length,
-								isInClauseParameterPaddingEnabled() );
+		if ( explicitBatchSize != null && explicitBatchSize > 0 ) {
+			return explicitBatchSize;
+		}
+		else if ( bulkKeyLoader != null && bulkKeyLoader.isBulkLoad( ids.length ) ) {
+			// load them all at once
+			return ids.length;
+		}
+		else {
+			return getBatchLoadSizingStrategy()
+					.determineOptimalBatchLoadSize( idJdbcTypeCount, ids.length,
+							isInClauseParameterPaddingEnabled() );
+		}
 	}
 
 	@Override
@@ -84,9 +115,21 @@ private List<T> listEntitiesById(
 			MultiIdLoadOptions loadOptions,
 			SharedSessionContractImplementor session) {
 		final int numberOfIdsInBatch = idsInBatch.size();
-		return numberOfIdsInBatch == 1
-				? performSingleMultiLoad( idsInBatch.get( 0 ), lockOptions, session )
-				: performRegularMultiLoad( idsInBatch, lockOptions, loadOptions, session, numberOfIdsInBatch );
+		if ( numberOfIdsInBatch == 1 ) {
+			return performSingleMultiLoad( idsInBatch.get( 0 ), lockOptions, session );
+		}
+		else if ( bulkKeyLoader != null && bulkKeyLoader.isBulkLoad( numberOfIdsInBatch ) ) {
+			return bulkKeyLoader.load( idsInBatch, lockOptions, isReadOnly( loadOptions, session ), session );
+		}
+		else {
+			return performRegularMultiLoad( idsInBatch, lockOptions, loadOptions, session, numberOfIdsInBatch );
+		}
+	}
+
+	private static boolean isReadOnly(MultiIdLoadOptions loadOptions, SharedSessionContractImplementor session) {
+		// stateless sessions don't have a read-only mode
+		return session instanceof SessionImplementor statefulSession
+			&& TRUE.equals( loadOptions.getReadOnly( statefulSession ) );
 	}
 
 	private List<T> performRegularMultiLoad(
@@ -145,8 +188,7 @@ public LockOptions getLockOptions() {
 				new ExecutionContextWithSubselectFetchHandler(
 						session,
 						fetchableKeysHandler( session, sqlAst, jdbcParameters, jdbcParameterBindings ),
-						session instanceof SessionImplementor statefulSession
-								&& TRUE.equals( loadOptions.getReadOnly( statefulSession ) ),
+						isReadOnly( loadOptions, session ),
 						lockOptions
 				),
 				RowTransformerStandardImpl.instance(),
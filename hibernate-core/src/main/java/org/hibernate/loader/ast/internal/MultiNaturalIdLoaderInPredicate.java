@@ -4,8 +4,10 @@
  */
 package org.hibernate.loader.ast.internal;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import jakarta.annotation.Nullable;
 import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.loader.ast.spi.MultiNaturalIdLoadOptions;
@@ -14,11 +16,20 @@
 
 /**
  * MultiNaturalIdLoader implementation using SQL IN predicate to specify the ids
+ * <p>
+ * Large numbers of natural ids may instead be passed to the database all at once,
+ * using a {@link BulkKeyLoader}, if the dialect supports {@code unnest()} of
+ * multiple arrays.
  */
 public class MultiNaturalIdLoaderInPredicate<E> extends AbstractMultiNaturalIdLoader<E> implements SqlInPredicateMultiKeyLoader {
 
+	private final @Nullable BulkKeyLoader bulkKeyLoader;
+
 	public MultiNaturalIdLoaderInPredicate(EntityMappingType entityDescriptor) {
 		super(entityDescriptor);
+		bulkKeyLoader =
+				BulkKeyLoader.create( entityDescriptor, entityDescriptor.getNaturalIdMapping(), null,
+						entityDescriptor.getEntityPersister().getFactory() );
 	}
 
 	@Override
@@ -27,8 +38,23 @@ public List<E> loadEntitiesWithUnresolvedIds(
 			MultiNaturalIdLoadOptions loadOptions,
 			LockOptions lockOptions,
 			SharedSessionContractImplementor session) {
-		return getBatcher( naturalIds, loadOptions, lockOptions, session )
-				.multiLoad( naturalIds, session );
+		final Integer batchSize = loadOptions.getBatchSize();
+		if ( bulkKeyLoader != null && bulkKeyLoader.isBulkLoad( naturalIds.length )
+				&& ( batchSize == null || batchSize <= 0 ) ) {
+			final var naturalIdMapping = getEntityDescriptor().getNaturalIdMapping();
+			final List<Object> keys = new ArrayList<>( naturalIds.length );
+			for ( Object naturalId : naturalIds ) {
+				final Object key = naturalIdMapping.normalizeInput( naturalId );
+				if ( key != null ) {
+					keys.add( key );
+				}
+			}
+			return bulkKeyLoader.load( keys, lockOptions, false, session );
+		}
+		else {
+			return getBatcher( naturalIds, loadOptions, lockOptions, session )
+					.multiLoad( naturalIds, session );
+		}
 	}
 
 	private MultiNaturalIdLoadingBatcher getBatcher(
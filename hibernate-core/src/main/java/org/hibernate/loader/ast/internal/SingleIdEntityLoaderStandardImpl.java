@@ -30,6 +30,7 @@
 			new EnumMap<>( CascadingFetchProfile.class );
 
 	private final BiFunction<LockOptions, LoadQueryInfluencers, SingleIdLoadPlan<T>> loadPlanCreator;
+	private final LoadPlanCache<SingleIdLoadPlan<T>> influencedLoadPlans;
 
 	public SingleIdEntityLoaderStandardImpl(
 			EntityMappingType entityDescriptor,
@@ -51,6 +52,8 @@ protected SingleIdEntityLoaderStandardImpl(
 		// todo (6.0) : consider creating a base AST and "cloning" it
 		super( entityDescriptor, influencers.getSessionFactory() );
 		this.loadPlanCreator = loadPlanCreator;
+		this.influencedLoadPlans =
+				new LoadPlanCache<>( entityDescriptor.getEntityName(), influencers.getSessionFactory() );
 		// Preload some load plans (for now only do it for LockMode.NONE)
 		final var singleIdLoadPlan = loadPlanCreator.apply( LockOptions.NONE, influencers );
 //		if ( isLoadPlanReusable( LockOptions.NONE, influencers ) ) {
@@ -81,13 +84,13 @@ public SingleIdLoadPlan<T> resolveLoadPlan(LockOptions lockOptions, LoadQueryInf
 			// This case is special because the filters need to be applied in order to
 			// properly restrict the SQL/JDBC results.  For this reason it has higher
 			// precedence than even "internal" fetch profiles.
-			return loadPlanCreator.apply( lockOptions, influencers );
+			return getInfluencedLoadPlan( lockOptions, influencers );
 		}
 		else if ( influencers.getTemporalIdentifier() != null
 				&& getLoadable().getEntityPersister().getAuditMapping() != null ) {
-			// Audit context requires a fresh plan that excludes @Audited.Excluded
+			// Audit context requires a distinct plan that excludes @Audited.Excluded
 			// columns (which don't exist in the audit table)
-			return loadPlanCreator.apply( lockOptions, influencers );
+			return getInfluencedLoadPlan( lockOptions, influencers );
 		}
 		else if ( influencers.hasEnabledCascadingFetchProfile()
 				// and if it's a non-exclusive (optimistic) lock
@@ -114,10 +117,18 @@ private SingleIdLoadPlan<T> getRegularLoadPlan(LockOptions lockOptions, LoadQuer
 			}
 		}
 		else {
-			return loadPlanCreator.apply( lockOptions, influencers );
+			return getInfluencedLoadPlan( lockOptions, influencers );
 		}
 	}
 
+	/**
+	 * A plan for a load affected by filters, fetch profiles, an entity graph,
+	 * or non-default lock options, which is cached by {@link LoadPlanKey}.
+	 */
+	private SingleIdLoadPlan<T> getInfluencedLoadPlan(LockOptions lockOptions, LoadQueryInfluencers influencers) {
+		return influencedLoadPlans.resolve( lockOptions, influencers, loadPlanCreator );
+	}
+
 	private SingleIdLoadPlan<T> getInternalCascadeLoadPlan(LockOptions lockOptions, LoadQueryInfluencers influencers) {
 		// TODO: It might be more efficient to just instantiate a LoadPlanKey
 		//       object here than it is to maintain an EnumMap of EnumMaps
@@ -141,20 +152,19 @@ private SingleIdLoadPlan<T> getInternalCascadeLoadPlan(LockOptions lockOptions,
 			}
 		}
 		else {
-			map = null;
+			return getInfluencedLoadPlan( lockOptions, influencers );
 		}
 
 		final var plan = loadPlanCreator.apply( lockOptions, influencers );
-		if ( map != null ) {
-			map.put( lockMode, plan );
-		}
+		map.put( lockMode, plan );
 		return plan;
 	}
 
 	/**
-	 * We key the caches only by {@link LockMode} and {@link CascadingFetchProfile}.
+	 * We key these caches only by {@link LockMode} and {@link CascadingFetchProfile}.
 	 * If there is a pessimistic lock with non-default options like timeout, a custom
-	 * fetch profile, or an entity graph, we don't cache and reuse the plan.
+	 * fetch profile, or an entity graph, the plan is instead kept in the bounded
+	 * cache of {@linkplain #getInfluencedLoadPlan influenced plans}.
 	 */
 	private boolean isLoadPlanReusable(LockOptions lockOptions, LoadQueryInfluencers influencers) {
 		if ( lockOptions.getLockMode().isPessimistic() && lockOptions.hasNonDefaultOptions() ) {
@@ -5,6 +5,7 @@
 package org.hibernate.loader.ast.internal;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -16,6 +17,10 @@
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.type.BasicType;
 
+import static org.hibernate.cfg.FetchSettings.BATCH_FETCH_ADAPTIVE;
+import static org.hibernate.cfg.FetchSettings.BATCH_FETCH_ADAPTIVE_MAX_SIZE;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.supportsSqlArrayType;
 
 /**
@@ -24,8 +29,26 @@
  * @author Steve Ebersole
  */
 public class StandardBatchLoaderFactory implements BatchLoaderFactory {
+	/**
+	 * The default {@linkplain org.hibernate.cfg.FetchSettings#BATCH_FETCH_ADAPTIVE_MAX_SIZE
+	 * upper bound} for adaptive batch sizes.
+	 */
+	public static final int DEFAULT_ADAPTIVE_MAX_SIZE = 256;
+
+	private final boolean adaptive;
+	private final int adaptiveMaxSize;
+	// shared by the loaders built for the same entity name or collection role,
+	// including those built for non-default load query influencers, so that
+	// the learned batch size survives rebuilding the loader
+	private final Map<SizerKey, AdaptiveBatchSizer> batchSizers = new ConcurrentHashMap<>();
+
+	private record SizerKey(String role, boolean collection, int domainBatchSize) {
+	}
+
 	@SuppressWarnings("unused")
 	public StandardBatchLoaderFactory(Map<String, Object> configurationValues, ServiceRegistryImplementor registry) {
+		adaptive = getBoolean( BATCH_FETCH_ADAPTIVE, configurationValues );
+		adaptiveMaxSize = getInt( BATCH_FETCH_ADAPTIVE_MAX_SIZE, configurationValues, DEFAULT_ADAPTIVE_MAX_SIZE );
 	}
 
 	@Override
@@ -40,7 +63,21 @@ public <T> EntityBatchLoader<T> createEntityBatchLoader(
 				&& supportsSqlArrayType( factory.getJdbcServices().getDialect() )
 				&& identifierType instanceof BasicType ) {
 			// we can use a single ARRAY parameter to send all the ids
-			return new EntityBatchLoaderArrayParam<>( domainBatchSize, entityDescriptor, influencers );
+			if ( adaptive ) {
+				// and since the SQL does not depend on the number of ids,
+				// we can adjust the batch size on the fly
+				final var batchSizer =
+						resolveBatchSizer( entityDescriptor.getEntityName(), false, domainBatchSize, factory );
+				return new EntityBatchLoaderArrayParam<>(
+						batchSizer.getMaxBatchSize(),
+						batchSizer,
+						entityDescriptor,
+						influencers
+				);
+			}
+			else {
+				return new EntityBatchLoaderArrayParam<>( domainBatchSize, entityDescriptor, influencers );
+			}
 		}
 		else {
 			return new EntityBatchLoaderInPredicate<>( domainBatchSize, entityDescriptor, influencers );
@@ -56,10 +93,38 @@ public CollectionBatchLoader createCollectionBatchLoader(
 		if ( attributeMapping.getKeyDescriptor().getJdbcTypeCount() == 1
 				&& supportsSqlArrayType( factory.getJdbcServices().getDialect() ) ) {
 			// we can use a single ARRAY parameter to send all the ids
-			return new CollectionBatchLoaderArrayParam( domainBatchSize, influencers, attributeMapping, factory );
+			if ( adaptive ) {
+				// and since the SQL does not depend on the number of ids,
+				// we can adjust the batch size on the fly
+				final var batchSizer =
+						resolveBatchSizer( attributeMapping.getNavigableRole().getFullPath(), true, domainBatchSize, factory );
+				return new CollectionBatchLoaderArrayParam(
+						batchSizer.getMaxBatchSize(),
+						batchSizer,
+						influencers,
+						attributeMapping,
+						factory
+				);
+			}
+			else {
+				return new CollectionBatchLoaderArrayParam( domainBatchSize, influencers, attributeMapping, factory );
+			}
 		}
 		else {
 			return new CollectionBatchLoaderInPredicate( domainBatchSize, influencers, attributeMapping, factory );
 		}
 	}
+
+	private AdaptiveBatchSizer resolveBatchSizer(
+			String role,
+			boolean collection,
+			int domainBatchSize,
+			SessionFactoryImplementor factory) {
+		return batchSizers.compute(
+				new SizerKey( role, collection, domainBatchSize ),
+				(key, existing) -> existing != null && existing.getSessionFactory() == factory
+						? existing
+						: new AdaptiveBatchSizer( role, collection, domainBatchSize, adaptiveMaxSize, factory )
+		);
+	}
 }
@@ -7,6 +7,7 @@
 import java.util.HashSet;
 import java.util.Set;
 
+import jakarta.annotation.Nullable;
 import jakarta.persistence.EntityGraph;
 
 import jakarta.persistence.PessimisticLockScope;
@@ -16,6 +17,7 @@
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.UnknownProfileException;
+import org.hibernate.engine.spi.NaturalIdResolutionCache;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.Status;
 import org.hibernate.graph.GraphSemantic;
@@ -152,9 +154,34 @@ private Object getCachedResolution(Object normalizedNaturalIdValue) {
 		context.checkOpenOrWaitingForAutoClose();
 		context.pulseTransactionCoordinator();
 
-		return session.getPersistenceContextInternal()
-				.getNaturalIdResolutions()
-				.findCachedIdByNaturalId( normalizedNaturalIdValue, entityPersister() );
+		final Object cachedId =
+				session.getPersistenceContextInternal()
+						.getNaturalIdResolutions()
+						.findCachedIdByNaturalId( normalizedNaturalIdValue, entityPersister() );
+		if ( cachedId == null ) {
+			final var resolutionCache = getResolutionCache();
+			return resolutionCache == null
+					? null
+					: resolutionCache.findCachedId( normalizedNaturalIdValue, entityDescriptor, session );
+		}
+		else {
+			return cachedId;
+		}
+	}
+
+	/**
+	 * The factory-level {@link NaturalIdResolutionCache}, if it is enabled and
+	 * may be used for this load, which it may not be if a pessimistic lock was
+	 * requested.
+	 */
+	private @Nullable NaturalIdResolutionCache getResolutionCache() {
+		final SessionImplementor session = context.getSession();
+		final var resolutionCache = session.getFactory().getNaturalIdResolutionCache();
+		return resolutionCache != null
+			&& ( lockOptions == null || !lockOptions.getLockMode().isPessimistic() )
+			&& resolutionCache.isCacheable( entityDescriptor, session )
+				? resolutionCache
+				: null;
 	}
 
 	protected final T doGetReference(Object normalizedNaturalIdValue) {
@@ -167,9 +194,16 @@ else if ( cachedResolution != null ) {
 			return identifierLoadAccess().getReference( cachedResolution );
 		}
 		else {
+			final SessionImplementor session = context.getSession();
+			final var resolutionCache = getResolutionCache();
+			final long stamp = resolutionCache == null ? 0L : resolutionCache.beginResolution();
 			final Object idFromDatabase =
 					entityPersister().getNaturalIdLoader()
-							.resolveNaturalIdToId( normalizedNaturalIdValue, context.getSession() );
+							.resolveNaturalIdToId( normalizedNaturalIdValue, session );
+			if ( resolutionCache != null ) {
+				resolutionCache.cacheResolution( normalizedNaturalIdValue, idFromDatabase,
+						entityDescriptor, stamp, session );
+			}
 			return idFromDatabase == null ? null : identifierLoadAccess().getReference( idFromDatabase );
 		}
 	}
@@ -188,11 +222,9 @@ protected final T doLoad(Object normalizedNaturalIdValue) {
 							? null
 							: influencers.applyEntityGraph( rootGraph, graphSemantic );
 			try {
-				@SuppressWarnings("unchecked")
 				final T loaded = cachedResolution != null
 						? identifierLoadAccess().load( cachedResolution )
-						: (T) entityPersister().getNaturalIdLoader()
-								.load( normalizedNaturalIdValue, this, session );
+						: loadFromDatabase( normalizedNaturalIdValue, session );
 				if ( loaded != null ) {
 					final var persistenceContext = session.getPersistenceContextInternal();
 					final var lazyInitializer = HibernateProxy.extractLazyInitializer( loaded );
@@ -215,6 +247,28 @@ protected final T doLoad(Object normalizedNaturalIdValue) {
 		}
 	}
 
+	private T loadFromDatabase(Object normalizedNaturalIdValue, SessionImplementor session) {
+		final var resolutionCache = getResolutionCache();
+		final long stamp = resolutionCache == null ? 0L : resolutionCache.beginResolution();
+		@SuppressWarnings("unchecked")
+		final T loaded = (T) entityPersister().getNaturalIdLoader()
+				.load( normalizedNaturalIdValue, this, session );
+		if ( resolutionCache != null ) {
+			final Object id;
+			if ( loaded == null ) {
+				id = null;
+			}
+			else {
+				final var lazyInitializer = HibernateProxy.extractLazyInitializer( loaded );
+				id = lazyInitializer != null
+						? lazyInitializer.getInternalIdentifier()
+						: entityPersister().getIdentifier( loaded, session );
+			}
+			resolutionCache.cacheResolution( normalizedNaturalIdValue, id, entityDescriptor, stamp, session );
+		}
+		return loaded;
+	}
+
 	protected final IdentifierLoadAccess<T> identifierLoadAccess() {
 		final IdentifierLoadAccessImpl<T> loadAccess =
 				new IdentifierLoadAccessImpl<>( context, entityPersister() );
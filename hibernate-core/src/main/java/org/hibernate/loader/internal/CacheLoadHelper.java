@@ -4,6 +4,8 @@
  */
 package org.hibernate.loader.internal;
 
+import java.util.Comparator;
+
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
@@ -23,6 +25,9 @@
 import org.hibernate.type.Type;
 import org.hibernate.type.TypeHelper;
 
+import jakarta.annotation.Nullable;
+
+import static org.hibernate.audit.AuditLog.ALL_CHANGESETS;
 import static org.hibernate.engine.internal.CacheHelper.fromSharedCache;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isManagedEntity;
@@ -131,7 +136,11 @@ public static Object loadFromSecondLevelCache(
 						&& source.getCacheMode().isGetEnabled()
 						&& lockMode.lessThan( LockMode.READ );
 		if ( useCache ) {
-			final Object cacheEntry = getFromSharedCache( entityKey.getIdentifier(), persister, source );
+			final Object cacheEntry =
+					isTemporalSnapshot( persister, entityKey, source )
+							// a historical snapshot is never read from the entity cache
+							? getFromTemporalDataCache( entityKey.getIdentifier(), persister, source )
+							: getFromSharedCache( entityKey.getIdentifier(), persister, source );
 			return cacheEntry == null ? null : processCachedEntry( entity, persister, cacheEntry, source, entityKey );
 		}
 		else {
@@ -162,6 +171,59 @@ private static Object getFromSharedCache(
 		return cacheEntry;
 	}
 
+	private static boolean isTemporalSnapshot(
+			final EntityPersister persister,
+			final EntityKey entityKey,
+			final SharedSessionContractImplementor source) {
+		if ( entityKey.isTemporal() ) {
+			return true;
+		}
+		else {
+			final var temporalMapping = persister.getTemporalMapping();
+			return temporalMapping != null
+				&& temporalMapping.isAffectedByInfluencers( source.getLoadQueryInfluencers() );
+		}
+	}
+
+	private static @Nullable Object getFromTemporalDataCache(
+			final Object entityId,
+			final EntityPersister persister,
+			final SharedSessionContractImplementor source) {
+		final var factory = source.getFactory();
+		final var temporalDataCache = factory.getCache().getTemporalDataCache();
+		final var temporalMapping = persister.getTemporalMapping();
+		final Object temporalIdentifier = source.getLoadQueryInfluencers().getTemporalIdentifier();
+		if ( temporalDataCache == null || temporalMapping == null
+				|| temporalIdentifier == null || temporalIdentifier == ALL_CHANGESETS ) {
+			return null;
+		}
+		else {
+			final var javaType = temporalMapping.getJdbcMapping().getJavaTypeDescriptor();
+			final Object cacheKey =
+					persister.getCacheAccessStrategy()
+							.generateCacheKey( entityId, persister, factory, source.getTenantIdentifier() );
+			//noinspection unchecked
+			final Object cacheEntry = temporalDataCache.get(
+					cacheKey,
+					javaType.wrap( temporalIdentifier, source ),
+					(Comparator<Object>) javaType.getComparator(),
+					source
+			);
+			final var statistics = factory.getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				final var rootEntityRole = getRootEntityRole( persister );
+				final String regionName = temporalDataCache.getRegion().getName();
+				if ( cacheEntry == null ) {
+					statistics.entityCacheMiss( rootEntityRole, regionName );
+				}
+				else {
+					statistics.entityCacheHit( rootEntityRole, regionName );
+				}
+			}
+			return cacheEntry;
+		}
+	}
+
 	private static Object processCachedEntry(
 			final Object instanceToLoad,
 			final EntityPersister persister,
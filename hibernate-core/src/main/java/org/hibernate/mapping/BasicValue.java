@@ -19,6 +19,7 @@
 import org.hibernate.Internal;
 import org.hibernate.MappingException;
 import org.hibernate.boot.model.internal.Constructors;
+import org.hibernate.internal.util.ReflectHelper;
 import org.hibernate.models.spi.MemberDetails;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.type.TimeZoneStorageStrategy;
@@ -62,11 +63,13 @@
 import org.hibernate.type.descriptor.java.JavaType;
 import org.hibernate.type.descriptor.java.MutabilityPlan;
 import org.hibernate.type.descriptor.java.spi.JsonJavaType;
+import org.hibernate.type.descriptor.java.spi.LazyJsonJavaType;
 import org.hibernate.type.descriptor.java.spi.RegistryHelper;
 import org.hibernate.type.descriptor.java.spi.XmlJavaType;
 import org.hibernate.type.descriptor.jdbc.BooleanJdbcType;
 import org.hibernate.type.descriptor.jdbc.JdbcType;
 import org.hibernate.type.descriptor.jdbc.JdbcTypeIndicators;
+import org.hibernate.type.format.LazyJson;
 import org.hibernate.type.internal.BasicTypeImpl;
 import org.hibernate.type.internal.ConvertedBasicTypeImpl;
 import org.hibernate.type.spi.TypeConfiguration;
@@ -792,9 +795,11 @@ private JavaType<?> specialJavaType(
 			switch ( jdbcTypeCode ) {
 				case SqlTypes.JSON:
 					final var jsonJavaType =
-							new JsonJavaType<>( impliedJavaType,
-									mutabilityPlan( typeConfiguration, impliedJavaType ),
-									typeConfiguration );
+							ReflectHelper.getClass( impliedJavaType ) == LazyJson.class
+									? new LazyJsonJavaType<>( impliedJavaType, typeConfiguration )
+									: new JsonJavaType<>( impliedJavaType,
+											mutabilityPlan( typeConfiguration, impliedJavaType ),
+											typeConfiguration );
 					javaTypeRegistry.addDescriptor( jsonJavaType );
 					return jsonJavaType;
 				case SqlTypes.SQLXML:
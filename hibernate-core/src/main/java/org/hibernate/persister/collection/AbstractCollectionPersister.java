@@ -46,6 +46,7 @@
 import org.hibernate.loader.ast.internal.CollectionLoaderSingleKey;
 import org.hibernate.loader.ast.internal.CollectionLoaderSubSelectFetch;
 import org.hibernate.loader.ast.internal.LoaderSqlAstCreationState;
+import org.hibernate.loader.ast.internal.LoadPlanCache;
 import org.hibernate.loader.ast.spi.BatchLoaderFactory;
 import org.hibernate.loader.ast.spi.CollectionLoader;
 import org.hibernate.mapping.Any;
@@ -241,6 +242,7 @@
 	private final Comparator<?> comparator;
 
 	private CollectionLoader collectionLoader;
+	private final LoadPlanCache<CollectionLoader> influencedCollectionLoaders;
 	private CollectionElementLoaderByIndex collectionElementLoaderByIndex;
 
 	private PluralAttributeMapping attributeMapping;
@@ -271,6 +273,7 @@ public AbstractCollectionPersister(
 		sqlExceptionHelper = creationContext.getJdbcServices().getSqlExceptionHelper();
 		collectionType = collectionBootDescriptor.getCollectionType();
 		navigableRole = new NavigableRole( collectionBootDescriptor.getRole() );
+		influencedCollectionLoaders = new LoadPlanCache<>( collectionBootDescriptor.getRole(), factory );
 		ownerPersister =
 				creationContext.getDomainModel()
 						.getEntityDescriptor( collectionBootDescriptor.getOwnerEntityName() );
@@ -824,7 +827,8 @@ protected CollectionLoader determineLoaderToUse(Object key, SharedSessionContrac
 				}
 			}
 			return attributeMapping.isAffectedByInfluencers( influencers, true )
-					? createCollectionLoader( influencers )
+					? influencedCollectionLoaders.resolve( LockOptions.NONE, influencers,
+							(lockOptions, snapshot) -> createCollectionLoader( snapshot ) )
 					: getCollectionLoader();
 		}
 	}
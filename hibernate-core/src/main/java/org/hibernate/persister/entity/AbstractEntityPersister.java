@@ -9,6 +9,7 @@
 import jakarta.annotation.Nonnull;
 import org.hibernate.AssertionFailure;
 import org.hibernate.Filter;
+import org.hibernate.FindMultipleOption;
 import org.hibernate.HibernateException;
 import org.hibernate.Internal;
 import org.hibernate.JDBCException;
@@ -43,6 +44,8 @@
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.lock.LockingStrategy;
+import org.hibernate.dialect.temptable.TemporaryTable;
+import org.hibernate.dialect.temptable.TemporaryTableKind;
 import org.hibernate.engine.FetchStyle;
 import org.hibernate.engine.FetchTiming;
 import org.hibernate.engine.OptimisticLockStyle;
@@ -73,6 +76,7 @@
 import org.hibernate.internal.util.collections.LockModeEnumMap;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.loader.ast.internal.EntityConcreteTypeLoader;
+import org.hibernate.loader.ast.internal.LoadPlanCache;
 import org.hibernate.loader.ast.internal.LoaderSelectBuilder;
 import org.hibernate.loader.ast.internal.LoaderSqlAstCreationState;
 import org.hibernate.loader.ast.internal.MultiIdEntityLoaderArrayParam;
@@ -331,7 +335,9 @@
 	private final EntityCallbacks<Object> jpaCallbacks;
 
 	private SingleIdEntityLoader<?> singleIdLoader;
+	private final LoadPlanCache<SingleIdEntityLoader<?>> influencedSingleIdLoaders;
 	private MultiIdEntityLoader<?> multiIdLoader;
+	private @Nullable TemporaryTable multiLoadIdTable;
 	private NaturalIdLoader<?> naturalIdLoader;
 	private MultiNaturalIdLoader<?> multiNaturalIdLoader;
 
@@ -495,6 +501,7 @@ protected AbstractEntityPersister(
 		sqlAliasStem = SqlAliasStemHelper.INSTANCE.generateStemFromEntityName( persistentClass.getEntityName() );
 
 		navigableRole = new NavigableRole( persistentClass.getEntityName() );
+		influencedSingleIdLoaders = new LoadPlanCache<>( persistentClass.getEntityName(), factory );
 
 		if ( factoryOptions.isSecondLevelCacheEnabled() ) {
 			this.cacheAccessStrategy = cacheAccessStrategy;
@@ -915,7 +922,7 @@ protected MultiIdEntityLoader<?> buildMultiIdLoader() {
 		return getIdentifierType() instanceof BasicType
 			&& supportsSqlArrayType( getDialect() )
 				? new MultiIdEntityLoaderArrayParam<>( this, factory )
-				: new MultiIdEntityLoaderInPredicate<>( this, identifierColumnSpan, factory );
+				: new MultiIdEntityLoaderInPredicate<>( this, identifierColumnSpan, multiLoadIdTable, factory );
 	}
 
 	private String getIdentitySelectString(Dialect dialect) {
@@ -4158,7 +4165,11 @@ protected SingleIdEntityLoader<?> determineLoaderToUse(SharedSessionContractImpl
 
 		final var influencers = session.getLoadQueryInfluencers();
 		if ( isAffectedByInfluencers( influencers, true ) ) {
-			return buildSingleIdEntityLoader( influencers, lockOptions );
+			// the loader only depends on the lock options if it is a one-off loader
+			final var effectiveLockOptions =
+					lockOptions != null && needsOneOffLoader( lockOptions ) ? lockOptions : LockOptions.NONE;
+			return influencedSingleIdLoaders.resolve( effectiveLockOptions, influencers,
+					(lockOptionsCopy, snapshot) -> buildSingleIdEntityLoader( snapshot, lockOptionsCopy ) );
 		}
 		return getSingleIdLoader();
 //		if ( hasNamedQueryLoader() ) {
@@ -4220,11 +4231,68 @@ private Object loadEnhancedEntityUsedAsProxy(
 				return cachedEntity;
 			}
 		}
+		if ( !hasNamedQueryLoader()
+				&& !isAffectedByInfluencers( session.getLoadQueryInfluencers(), true ) ) {
+			final Object[] ids =
+					session.getPersistenceContextInternal().getBatchFetchQueue()
+							.takePendingEnhancedProxyIds( entityKey );
+			if ( ids.length > 1 ) {
+				// initialize every pending enhanced proxy of this entity type at once
+				multiLoad( ids, session, ENHANCED_PROXY_LOAD_OPTIONS );
+				return getBytecodeEnhancementMetadata().extractLazyInterceptor( entity )
+						instanceof EnhancementAsProxyLazinessInterceptor
+						? null // the row was not found
+						: entity;
+			}
+		}
 		final var lockOptions = new LockOptions();
 		return determineLoaderToUse( session, lockOptions )
 				.load( entityKey.getIdentifier(), entity, lockOptions, session );
 	}
 
+	/**
+	 * The options for the multi-load which initializes the
+	 * {@linkplain org.hibernate.cfg.FetchSettings#ENHANCED_PROXY_BATCH_RESOLUTION
+	 * pending enhanced proxies} of an entity type. The enhanced proxies are
+	 * already in the persistence context, so it is not checked.
+	 */
+	private static final MultiIdLoadOptions ENHANCED_PROXY_LOAD_OPTIONS = new MultiIdLoadOptions() {
+		@Override
+		public FindMultipleOption.SessionCheckMode getSessionCheckMode() {
+			return FindMultipleOption.SessionCheckMode.DISABLED;
+		}
+
+		@Override
+		public boolean isSecondLevelCacheCheckingEnabled() {
+			return false;
+		}
+
+		@Override
+		public Boolean getReadOnly(SessionImplementor session) {
+			return null;
+		}
+
+		@Override
+		public FindMultipleOption.RemovalsMode getRemovalsMode() {
+			return FindMultipleOption.RemovalsMode.REPLACE;
+		}
+
+		@Override
+		public FindMultipleOption.OrderingMode getOrderingMode() {
+			return FindMultipleOption.OrderingMode.UNORDERED;
+		}
+
+		@Override
+		public LockOptions getLockOptions() {
+			return null;
+		}
+
+		@Override
+		public Integer getBatchSize() {
+			return null;
+		}
+	};
+
 	private Object readEnhancedEntityAttribute(
 			Object entity, Object id, String nameOfAttributeBeingAccessed,
 			SharedSessionContractImplementor session) {
@@ -5287,6 +5355,7 @@ public void prepareMappingModel(MappingModelCreationProcess creationProcess) {
 			handleSubtypeMappings( creationProcess );
 			prepareMultiTableMutationStrategy( creationProcess );
 			prepareMultiTableInsertStrategy( creationProcess );
+			prepareMultiLoadIdTable( creationProcess );
 		}
 	}
 
@@ -5461,6 +5530,23 @@ private void prepareMultiTableInsertStrategy(MappingModelCreationProcess creatio
 		}
 	}
 
+	private void prepareMultiLoadIdTable(MappingModelCreationProcess creationProcess) {
+		final var creationContext = creationProcess.getCreationContext();
+		final var dialect = creationContext.getDialect();
+		final var temporaryTableStrategy = dialect.getLocalTemporaryTableStrategy();
+		if ( temporaryTableStrategy != null && !isSubselect()
+				&& factory.getSessionFactoryOptions().getMultiLoadBulkThreshold() > 0 ) {
+			multiLoadIdTable = TemporaryTable.createIdTable(
+					creationContext.getBootModel().getEntityBinding( getRootEntityName() ),
+					basename -> temporaryTableStrategy.adjustTemporaryTableName(
+							TemporaryTable.MULTI_LOAD_TABLE_PREFIX + basename ),
+					TemporaryTableKind.LOCAL,
+					dialect,
+					creationContext
+			);
+		}
+	}
+
 	private boolean isSubselect() {
 		// For the lack of a
 		return getRootTableName().charAt( 0 ) == '(';
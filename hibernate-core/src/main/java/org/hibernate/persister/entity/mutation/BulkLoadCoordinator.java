@@ -0,0 +1,182 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.persister.entity.mutation;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.hibernate.Incubating;
+import org.hibernate.dialect.bulk.BulkLoader;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.metamodel.mapping.ModelPart.JdbcValueBiConsumer;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.metamodel.mapping.SelectableMapping;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Coordinates the insertion of rows of an entity type using a {@link BulkLoader}
+ * instead of {@code insert} statements. Each {@linkplain #addRow added row} is
+ * encoded into a buffer, which is loaded when it grows large, and when the
+ * coordinator is {@linkplain #flush flushed}.
+ * <p>
+ * Only entities {@linkplain #isSupported supported} by the bulk loader may be
+ * inserted this way, that is, entities mapped to a single table, whose rows may
+ * be written without executing any SQL to generate, transform, or read back
+ * values.
+ *
+ * @see org.hibernate.cfg.BatchSettings#BULK_LOAD
+ *
+ * @since 8.1
+ */
+@Incubating
+public class BulkLoadCoordinator {
+	private static final int MAX_BUFFER_LENGTH = 1 << 20;
+
+	private final EntityPersister entityPersister;
+	private final BulkLoader bulkLoader;
+	private final String sql;
+	private final JdbcMapping[] jdbcMappings;
+	private final StringBuilder buffer = new StringBuilder();
+	private int bufferedRows;
+
+	public BulkLoadCoordinator(EntityPersister entityPersister, BulkLoader bulkLoader) {
+		this.entityPersister = entityPersister;
+		this.bulkLoader = bulkLoader;
+		final List<String> columnNames = new ArrayList<>();
+		final List<JdbcMapping> jdbcMappings = new ArrayList<>();
+		forEachColumn( entityPersister, selectable -> {
+			columnNames.add( selectable.getSelectionExpression() );
+			jdbcMappings.add( selectable.getJdbcMapping() );
+		} );
+		this.sql = bulkLoader.getLoadSql(
+				entityPersister.getIdentifierTableMapping().getTableName(),
+				columnNames
+		);
+		this.jdbcMappings = jdbcMappings.toArray( new JdbcMapping[0] );
+	}
+
+	/**
+	 * Can rows of the given entity type be loaded by the given bulk loader?
+	 */
+	public static boolean isSupported(EntityPersister persister, BulkLoader bulkLoader) {
+		final var tableMapping = persister.getIdentifierTableMapping();
+		final int[] tableCount = new int[1];
+		persister.forEachMutableTable( table -> tableCount[0]++ );
+		if ( tableCount[0] != 1
+				|| tableMapping.getInsertDetails().getCustomSql() != null
+				|| persister.isInherited()
+				|| persister.hasSubclasses()
+				|| persister.hasCollections()
+				|| persister.isDynamicInsert()
+				|| persister.getGenerator().generatedOnExecution()
+				|| persister.hasPreInsertGeneratedProperties()
+				|| persister.hasInsertGeneratedProperties()
+				|| persister.getSoftDeleteMapping() != null
+				|| persister.getTemporalMapping() != null
+				|| persister.getAuditMapping() != null ) {
+			return false;
+		}
+		else {
+			final boolean[] supported = {true};
+			forEachColumn( persister, selectable -> {
+				// a custom write expression can't be applied to a loaded value
+				if ( selectable.getCustomWriteExpression() != null
+						|| !bulkLoader.supports( selectable.getJdbcMapping() ) ) {
+					supported[0] = false;
+				}
+			} );
+			return supported[0];
+		}
+	}
+
+	public EntityPersister getEntityPersister() {
+		return entityPersister;
+	}
+
+	/**
+	 * Encode the row of an entity with the given identifier and state.
+	 * The row is only written to the database when the buffer is loaded.
+	 */
+	public void addRow(Object id, Object[] state, SharedSessionContractImplementor session) {
+		final Object[] jdbcValues = new Object[jdbcMappings.length];
+		final int[] position = new int[1];
+		final JdbcValueBiConsumer<Object[], Object> consumer = (valueIndex, values, noop, jdbcValue, selectable) -> {
+			if ( isIncluded( selectable ) ) {
+				values[position[0]++] = jdbcValue;
+			}
+		};
+		entityPersister.getIdentifierMapping().decompose( id, 0, jdbcValues, null, consumer, session );
+		final boolean[] insertability = entityPersister.getPropertyInsertability();
+		final var attributeMappings = entityPersister.getAttributeMappings();
+		for ( int i = 0; i < attributeMappings.size(); i++ ) {
+			final var attributeMapping = attributeMappings.get( i );
+			if ( isIncluded( attributeMapping, insertability[i] ) ) {
+				attributeMapping.decompose( state[i], 0, jdbcValues, null, consumer, session );
+			}
+		}
+		assert position[0] == jdbcValues.length;
+		bulkLoader.appendRow( buffer, jdbcValues, jdbcMappings, session );
+		bufferedRows++;
+		if ( buffer.length() >= MAX_BUFFER_LENGTH ) {
+			flush( session );
+		}
+	}
+
+	/**
+	 * Load the rows in the buffer, after executing any pending JDBC batch,
+	 * since the rows might reference rows inserted by the batch.
+	 */
+	public void flush(SharedSessionContractImplementor session) {
+		if ( bufferedRows > 0 ) {
+			final var jdbcCoordinator = session.getJdbcCoordinator();
+			jdbcCoordinator.executeBatch();
+			final var jdbcServices = session.getJdbcServices();
+			jdbcServices.getSqlStatementLogger().logStatement( sql );
+			session.getJdbcSessionContext().getStatementObserver().performingSql( sql, -1 );
+			try {
+				bulkLoader.load( jdbcCoordinator.getLogicalConnection().getPhysicalConnection(), sql, buffer );
+			}
+			catch (SQLException e) {
+				throw jdbcServices.getSqlExceptionHelper().convert( e, "Could not bulk load rows", sql );
+			}
+			finally {
+				buffer.setLength( 0 );
+				bufferedRows = 0;
+			}
+		}
+	}
+
+	private static void forEachColumn(EntityPersister persister, Consumer<SelectableMapping> consumer) {
+		persister.getIdentifierMapping().forEachSelectable( (index, selectable) -> {
+			if ( isIncluded( selectable ) ) {
+				consumer.accept( selectable );
+			}
+		} );
+		final boolean[] insertability = persister.getPropertyInsertability();
+		final var attributeMappings = persister.getAttributeMappings();
+		for ( int i = 0; i < attributeMappings.size(); i++ ) {
+			final var attributeMapping = attributeMappings.get( i );
+			if ( isIncluded( attributeMapping, insertability[i] ) ) {
+				attributeMapping.forEachSelectable( (index, selectable) -> {
+					if ( isIncluded( selectable ) ) {
+						consumer.accept( selectable );
+					}
+				} );
+			}
+		}
+	}
+
+	private static boolean isIncluded(AttributeMapping attributeMapping, boolean insertable) {
+		return insertable && !( attributeMapping instanceof PluralAttributeMapping );
+	}
+
+	private static boolean isIncluded(SelectableMapping selectable) {
+		return selectable.isInsertable() && !selectable.isFormula();
+	}
+}
@@ -4,6 +4,8 @@
  */
 package org.hibernate.persister.entity.mutation;
 
+import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.metamodel.mapping.AttributeMapping;
@@ -21,9 +23,20 @@
  * @author Gavin King
  */
 public class MergeCoordinatorStandard extends UpdateCoordinatorStandard {
+	private final BatchKey batchKey;
 
 	public MergeCoordinatorStandard(EntityPersister entityPersister, SessionFactoryImplementor factory) {
 		super( entityPersister, factory );
+		// upserts must not join a JDBC batch of updates of the same entity,
+		// since the batch executes the statements it was created with
+		batchKey = entityPersister.hasUpdateGeneratedProperties()
+				? null
+				: new BasicBatchKey( entityPersister.getEntityName() + "#MERGE" );
+	}
+
+	@Override
+	protected BatchKey getBatchKey() {
+		return batchKey;
 	}
 
 	@Override
@@ -34,6 +34,7 @@ public abstract class AbstractLazyInitializer implements LazyInitializer {
 	private boolean initialized;
 	private boolean readOnly;
 	private boolean unwrap;
+	private transient boolean prefetched;
 	private transient SharedSessionContractImplementor session;
 	private Boolean readOnlyBeforeAttachedToSession;
 
@@ -199,10 +200,29 @@ else if ( !session.isConnected() ) {
 			}
 		}
 		else {
+			if ( prefetched ) {
+				prefetched = false;
+				if ( session != null ) {
+					session.getPersistenceContextInternal().getBatchFetchQueue()
+							.prefetchedAccessed( entityName );
+				}
+			}
 			checkTargetState( session );
 		}
 	}
 
+	/**
+	 * Mark the proxied entity as having been loaded by a batch load which
+	 * was triggered by access to a different entity, so that the first
+	 * access to this proxy may be reported to the
+	 * {@link org.hibernate.engine.spi.BatchFetchQueue}.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#BATCH_FETCH_ADAPTIVE
+	 */
+	public final void markPrefetched() {
+		prefetched = true;
+	}
+
 	protected void permissiveInitialization() {
 		if ( session == null ) {
 			//we have a detached collection that is set to null, reattach
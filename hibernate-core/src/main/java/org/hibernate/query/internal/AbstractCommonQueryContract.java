@@ -818,7 +818,8 @@ public final TypeConfiguration getTypeConfiguration() {
 	}
 
 	protected QueryInterpretationCache getInterpretationCache() {
-		return session.getFactory().getQueryEngine().getInterpretationCache();
+		return session.getFactory().getQueryEngine().getInterpretationCache()
+				.forTenant( session.getTenantIdentifierValue() );
 	}
 
 	protected final ExceptionConverter getExceptionConverter() {
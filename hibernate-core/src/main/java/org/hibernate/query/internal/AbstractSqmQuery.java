@@ -28,6 +28,7 @@
 import java.util.function.BooleanSupplier;
 
 import static java.lang.Boolean.TRUE;
+import static org.hibernate.internal.util.MathHelper.ceilingPowerOfTwo;
 
 /// Support for {@linkplain org.hibernate.query.spi.QueryImplementor}
 /// implementations based on SQM AST.
@@ -164,6 +165,31 @@ protected boolean hasMultiValuedParameterBindings() {
 			|| getParameterMetadata().hasAnyMatching( QueryParameter::allowsMultiValuedBinding );
 	}
 
+	@Override
+	public int[] multiValuedParameterBindingShape() {
+		final var factory = session.getFactory();
+		final boolean padded = factory.getSessionFactoryOptions().inClauseParameterPaddingEnabled();
+		final int inExprLimit = factory.getJdbcServices().getDialect().getInExpressionCountLimit();
+		final var queryParameters = getDomainParameterXref().getQueryParameters().keySet();
+		final var parameterBindings = getQueryParameterBindings();
+		final int[] shape = new int[queryParameters.size()];
+		int i = 0;
+		for ( var queryParameter : queryParameters ) {
+			final var binding = parameterBindings.getBinding( queryParameter );
+			if ( binding.isMultiValued() ) {
+				final int bindValueCount = binding.getBindValues().size();
+				shape[i] = padded && bindValueCount > 0
+						? ceilingPowerOfTwo( bindValueCount, inExprLimit )
+						: bindValueCount;
+			}
+			else {
+				shape[i] = -1;
+			}
+			i++;
+		}
+		return shape;
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Execution infrastructure
@@ -167,6 +167,8 @@ public MutationQueryImpl(
 		hql = CRITERIA_HQL_STRING;
 		sqm = SqmUtil.asDmlStatement( copyAst ? criteria.copy( simpleContext() ) : criteria, hql );
 		queryStringCacheKey = sqm;
+		// Cache immutable query plans by default
+		setQueryPlanCacheable( !copyAst || session.isCriteriaPlanCacheEnabled() );
 		targetType = criteria.getTarget().getNodeJavaType().getJavaTypeClass();
 
 		domainParameterXref = DomainParameterXref.from( sqm );
@@ -201,6 +203,14 @@ public Object getQueryStringCacheKey() {
 		return queryStringCacheKey;
 	}
 
+	@Override
+	public boolean isQueryPlanCacheable() {
+		return CRITERIA_HQL_STRING.equals( hql )
+				// For criteria queries, query plan caching requires an explicit opt-in
+				? getQueryOptions().getQueryPlanCachingEnabled() == Boolean.TRUE
+				: getQueryOptions().getQueryPlanCachingEnabled() != Boolean.FALSE;
+	}
+
 	@Override
 	public SqmDmlStatement<T> getSqmStatement() {
 		return sqm;
@@ -227,12 +237,7 @@ public int execute() {
 	}
 
 	private int doExecute() {
-		try {
-			return resolveNonSelectQueryPlan().executeUpdate( this );
-		}
-		finally {
-			domainParameterXref.clearExpansions();
-		}
+		return resolveNonSelectQueryPlan().executeUpdate( this );
 	}
 
 	@Override @SuppressWarnings("removal")
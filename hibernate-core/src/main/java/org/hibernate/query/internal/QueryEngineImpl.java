@@ -38,9 +38,12 @@
 import java.util.Map;
 
 import static java.util.Comparator.comparingInt;
+import static org.hibernate.cfg.QuerySettings.NATIVE_RESULT_MAPPING_CACHE_MAX_SIZE;
 import static org.hibernate.cfg.QuerySettings.QUERY_PLAN_CACHE_ENABLED;
 import static org.hibernate.cfg.QuerySettings.QUERY_PLAN_CACHE_MAX_SIZE;
+import static org.hibernate.cfg.QuerySettings.QUERY_PLAN_CACHE_TENANT_QUOTA;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getInteger;
 
 /**
@@ -202,8 +205,21 @@ public static QueryInterpretationCache buildInterpretationCache(
 												+ QUERY_PLAN_CACHE_ENABLED + "' to 'false')" );
 		}
 
+		final int tenantQuota = getInt( QUERY_PLAN_CACHE_TENANT_QUOTA, properties, 0 );
+		if ( tenantQuota < 0 ) {
+			throw new ConfigurationException( "Inconsistent configuration: '" + QUERY_PLAN_CACHE_TENANT_QUOTA
+												+ "' can't be set to a negative value" );
+		}
+
+		final int maxNativeResultMappings = getInt( NATIVE_RESULT_MAPPING_CACHE_MAX_SIZE, properties, 0 );
+		if ( maxNativeResultMappings < 0 ) {
+			throw new ConfigurationException( "Inconsistent configuration: '" + NATIVE_RESULT_MAPPING_CACHE_MAX_SIZE
+												+ "' can't be set to a negative value" );
+		}
+
 		return useCache
-				? new QueryInterpretationCacheStandardImpl( appliedMaxPlanSize, serviceRegistry )
+				? new QueryInterpretationCacheStandardImpl( appliedMaxPlanSize, tenantQuota,
+						maxNativeResultMappings, serviceRegistry )
 				: new QueryInterpretationCacheDisabledImpl( serviceRegistry ); // disabled
 	}
 
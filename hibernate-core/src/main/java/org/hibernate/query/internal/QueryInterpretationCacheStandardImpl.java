@@ -4,10 +4,18 @@
  */
 package org.hibernate.query.internal;
 
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import jakarta.annotation.Nullable;
 import org.hibernate.internal.util.cache.InternalCache;
 import org.hibernate.internal.util.cache.InternalCacheFactory;
 import org.hibernate.query.hql.spi.HqlTranslator;
@@ -20,12 +28,22 @@
 import org.hibernate.query.sql.spi.ParameterInterpretation;
 import org.hibernate.query.sqm.internal.DomainParameterXref;
 import org.hibernate.service.ServiceRegistry;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static org.hibernate.query.internal.QueryLogging.QUERY_PLAN_CACHE_MESSAGE_LOGGER;
 
 /**
  * Standard QueryInterpretationCache implementation
+ * <p>
+ * When a {@linkplain org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_TENANT_QUOTA
+ * per-tenant quota} is configured, each query plan and HQL interpretation added
+ * via a {@linkplain #forTenant tenant view} is charged to that tenant, and once
+ * the tenant exceeds its quota, the oldest entries charged to the tenant are
+ * evicted. Entries remain visible to every tenant. A charge is released when
+ * its entry is evicted by the cache itself, or replaced by an entry added on
+ * behalf of another tenant, so that a tenant never evicts an entry it does
+ * not own.
  *
  * @author Steve Ebersole
  */
@@ -34,19 +52,69 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	 * the cache of the actual plans...
 	 */
 	private final InternalCache<Key, QueryPlan> queryPlanCache;
+	private final ConcurrentMap<Object, TenantEntry> queryPlanCharges = new ConcurrentHashMap<>();
 
 	private final ServiceRegistry serviceRegistry;
 	private final InternalCache<Object, HqlInterpretation<?>> hqlInterpretationCache;
+	private final ConcurrentMap<Object, TenantEntry> hqlInterpretationCharges = new ConcurrentHashMap<>();
 	private final InternalCache<String, ParameterInterpretation> nativeQueryParamCache;
+	private final @Nullable InternalCache<Key, JdbcValuesMapping> nativeResultMappingCache;
+
+	private final int maxQueryPlanCountPerTenant;
+	// never evicted, since a tenant would otherwise lose track of
+	// the entries charged to it, and start over with a fresh quota
+	private final @Nullable ConcurrentMap<Object, TenantPartition> tenantPartitions;
 
 	private StatisticsImplementor statistics;
 
 	public QueryInterpretationCacheStandardImpl(int maxQueryPlanCount, ServiceRegistry serviceRegistry) {
+		this( maxQueryPlanCount, 0, serviceRegistry );
+	}
+
+	/**
+	 * @param maxQueryPlanCountPerTenant the maximum number of entries charged
+	 *                                   to a single tenant, or zero for no quota
+	 */
+	public QueryInterpretationCacheStandardImpl(
+			int maxQueryPlanCount,
+			int maxQueryPlanCountPerTenant,
+			ServiceRegistry serviceRegistry) {
+		this( maxQueryPlanCount, maxQueryPlanCountPerTenant, 0, serviceRegistry );
+	}
+
+	/**
+	 * @param maxQueryPlanCountPerTenant the maximum number of entries charged
+	 *                                   to a single tenant, or zero for no quota
+	 * @param maxNativeResultMappingCount the maximum number of resolved result
+	 *                                    set mappings of native queries, or zero
+	 *                                    if they are not cached
+	 */
+	public QueryInterpretationCacheStandardImpl(
+			int maxQueryPlanCount,
+			int maxQueryPlanCountPerTenant,
+			int maxNativeResultMappingCount,
+			ServiceRegistry serviceRegistry) {
 		QUERY_PLAN_CACHE_MESSAGE_LOGGER.startingQueryInterpretationCache( maxQueryPlanCount );
+		this.maxQueryPlanCountPerTenant = maxQueryPlanCountPerTenant;
 		final var cacheFactory = serviceRegistry.requireService( InternalCacheFactory.class );
-		this.queryPlanCache = cacheFactory.createInternalCache( maxQueryPlanCount );
-		this.hqlInterpretationCache = cacheFactory.createInternalCache( maxQueryPlanCount );
+		if ( maxQueryPlanCountPerTenant > 0 ) {
+			// release the charge of each entry the cache evicts
+			this.queryPlanCache = cacheFactory.createInternalCache( maxQueryPlanCount,
+					(key, plan) -> evicted( queryPlanCharges, key, plan ) );
+			this.hqlInterpretationCache = cacheFactory.createInternalCache( maxQueryPlanCount,
+					(key, interpretation) -> evicted( hqlInterpretationCharges, key, interpretation ) );
+			this.tenantPartitions = new ConcurrentHashMap<>();
+		}
+		else {
+			this.queryPlanCache = cacheFactory.createInternalCache( maxQueryPlanCount );
+			this.hqlInterpretationCache = cacheFactory.createInternalCache( maxQueryPlanCount );
+			this.tenantPartitions = null;
+		}
 		this.nativeQueryParamCache = cacheFactory.createInternalCache( maxQueryPlanCount );
+		this.nativeResultMappingCache =
+				maxNativeResultMappingCount > 0
+						? cacheFactory.createInternalCache( maxNativeResultMappingCount )
+						: null;
 		this.serviceRegistry = serviceRegistry;
 	}
 
@@ -78,6 +146,13 @@ public <R> SelectQueryPlan<R> resolveSelectQueryPlan(
 	public <K extends Key, R> SelectQueryPlan<R> resolveSelectQueryPlan(
 			K key,
 			Function<K, SelectQueryPlan<R>> creator) {
+		return resolveSelectQueryPlan( key, creator, null );
+	}
+
+	private <K extends Key, R> SelectQueryPlan<R> resolveSelectQueryPlan(
+			K key,
+			Function<K, SelectQueryPlan<R>> creator,
+			@Nullable TenantPartition tenant) {
 		QUERY_PLAN_CACHE_MESSAGE_LOGGER.resolvingCachedQueryPlan( key );
 		final var statistics = getStatistics();
 		final boolean statisticsEnabled = statistics.isStatisticsEnabled();
@@ -88,11 +163,17 @@ public <K extends Key, R> SelectQueryPlan<R> resolveSelectQueryPlan(
 			if ( statisticsEnabled ) {
 				statistics.queryPlanCacheHit( key.getQueryString() );
 			}
+			if ( tenant != null ) {
+				tenant.hits.increment();
+			}
 			return cached;
 		}
 
 		final var plan = creator.apply( key );
-		queryPlanCache.put( key.prepareForStore(), plan );
+		storeQueryPlan( key.prepareForStore(), plan, tenant );
+		if ( tenant != null ) {
+			tenant.misses.increment();
+		}
 		if ( statisticsEnabled ) {
 			statistics.queryPlanCacheMiss( key.getQueryString() );
 		}
@@ -101,11 +182,40 @@ public <K extends Key, R> SelectQueryPlan<R> resolveSelectQueryPlan(
 
 	@Override
 	public NonSelectQueryPlan getNonSelectQueryPlan(Key key) {
-		return null;
+		return getNonSelectQueryPlan( key, null );
+	}
+
+	private NonSelectQueryPlan getNonSelectQueryPlan(Key key, @Nullable TenantPartition tenant) {
+		QUERY_PLAN_CACHE_MESSAGE_LOGGER.resolvingCachedQueryPlan( key );
+		if ( queryPlanCache.get( key ) instanceof NonSelectQueryPlan cached ) {
+			final var statistics = getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.queryPlanCacheHit( key.getQueryString() );
+			}
+			if ( tenant != null ) {
+				tenant.hits.increment();
+			}
+			return cached;
+		}
+		else {
+			return null;
+		}
 	}
 
 	@Override
 	public void cacheNonSelectQueryPlan(Key key, NonSelectQueryPlan plan) {
+		cacheNonSelectQueryPlan( key, plan, null );
+	}
+
+	private void cacheNonSelectQueryPlan(Key key, NonSelectQueryPlan plan, @Nullable TenantPartition tenant) {
+		storeQueryPlan( key.prepareForStore(), plan, tenant );
+		if ( tenant != null ) {
+			tenant.misses.increment();
+		}
+		final var statistics = getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryPlanCacheMiss( key.getQueryString() );
+		}
 	}
 
 	@Override
@@ -113,6 +223,14 @@ public <R> HqlInterpretation<R> resolveHqlInterpretation(
 			String queryString,
 			Class<R> expectedResultType,
 			HqlTranslator translator) {
+		return resolveHqlInterpretation( queryString, expectedResultType, translator, null );
+	}
+
+	private <R> HqlInterpretation<R> resolveHqlInterpretation(
+			String queryString,
+			Class<R> expectedResultType,
+			HqlTranslator translator,
+			@Nullable TenantPartition tenant) {
 		QUERY_PLAN_CACHE_MESSAGE_LOGGER.resolvingHqlInterpretation( queryString );
 		final var statistics = getStatistics();
 
@@ -126,6 +244,9 @@ public <R> HqlInterpretation<R> resolveHqlInterpretation(
 			if ( statistics.isStatisticsEnabled() ) {
 				statistics.queryPlanCacheHit( queryString );
 			}
+			if ( tenant != null ) {
+				tenant.hits.increment();
+			}
 			//noinspection unchecked
 			return (HqlInterpretation<R>) existing;
 		}
@@ -135,6 +256,9 @@ else if ( expectedResultType != null ) {
 				if ( statistics.isStatisticsEnabled() ) {
 					statistics.queryPlanCacheHit( queryString );
 				}
+				if ( tenant != null ) {
+					tenant.hits.increment();
+				}
 				//noinspection unchecked
 				return (HqlInterpretation<R>) existingQueryOnly;
 			}
@@ -142,13 +266,33 @@ else if ( expectedResultType != null ) {
 
 		final var hqlInterpretation =
 				createHqlInterpretation( queryString, expectedResultType, translator, statistics );
-		hqlInterpretationCache.put( cacheKey, hqlInterpretation );
+		cacheHqlInterpretation( cacheKey, hqlInterpretation, tenant );
+		if ( tenant != null ) {
+			tenant.misses.increment();
+		}
 		return hqlInterpretation;
 	}
 
 	@Override
 	public <R> void cacheHqlInterpretation(Object cacheKey, HqlInterpretation<R> hqlInterpretation) {
+		cacheHqlInterpretation( cacheKey, hqlInterpretation, null );
+	}
+
+	private <R> void cacheHqlInterpretation(
+			Object cacheKey,
+			HqlInterpretation<R> hqlInterpretation,
+			@Nullable TenantPartition tenant) {
 		hqlInterpretationCache.put( cacheKey, hqlInterpretation );
+		if ( tenantPartitions != null ) {
+			charge( tenant, hqlInterpretationCache, hqlInterpretationCharges, cacheKey, hqlInterpretation );
+		}
+	}
+
+	private void storeQueryPlan(Key storedKey, QueryPlan plan, @Nullable TenantPartition tenant) {
+		queryPlanCache.put( storedKey, plan );
+		if ( tenantPartitions != null ) {
+			charge( tenant, queryPlanCache, queryPlanCharges, storedKey, plan );
+		}
 	}
 
 	protected static <R> HqlInterpretation<R> createHqlInterpretation(
@@ -194,12 +338,304 @@ public boolean isEnabled() {
 		return true;
 	}
 
+	@Override
+	public boolean isNativeResultMappingCacheEnabled() {
+		return nativeResultMappingCache != null;
+	}
+
+	@Override
+	public int getNumberOfCachedNativeResultMappings() {
+		return nativeResultMappingCache == null ? 0 : nativeResultMappingCache.heldElementsEstimate();
+	}
+
+	@Override
+	public @Nullable JdbcValuesMapping getNativeResultMapping(Key key) {
+		return nativeResultMappingCache == null ? null : nativeResultMappingCache.get( key );
+	}
+
+	@Override
+	public void cacheNativeResultMapping(Key key, JdbcValuesMapping mapping) {
+		if ( nativeResultMappingCache != null ) {
+			nativeResultMappingCache.put( key.prepareForStore(), mapping );
+		}
+	}
+
+	@Override
+	public QueryInterpretationCache forTenant(@Nullable Object tenantIdentifier) {
+		return tenantIdentifier == null || tenantPartitions == null
+				? this
+				: tenantPartitions.computeIfAbsent( tenantIdentifier, id -> new TenantPartition() ).view;
+	}
+
+	private @Nullable TenantPartition getTenantPartition(Object tenantIdentifier) {
+		return tenantPartitions == null ? null : tenantPartitions.get( tenantIdentifier );
+	}
+
+	@Override
+	public long getTenantHitCount(Object tenantIdentifier) {
+		final var tenant = getTenantPartition( tenantIdentifier );
+		return tenant == null ? 0 : tenant.hits.sum();
+	}
+
+	@Override
+	public long getTenantMissCount(Object tenantIdentifier) {
+		final var tenant = getTenantPartition( tenantIdentifier );
+		return tenant == null ? 0 : tenant.misses.sum();
+	}
+
+	@Override
+	public int getNumberOfTenantEntries(Object tenantIdentifier) {
+		final var tenant = getTenantPartition( tenantIdentifier );
+		return tenant == null ? 0 : tenant.entryCount.get();
+	}
+
+	/**
+	 * Charge a newly cached entry to the given tenant, releasing the
+	 * charge of the entry it replaced, and evict the oldest entries
+	 * charged to the tenant if it is over its quota.
+	 *
+	 * @param tenant the tenant, or {@code null} if the entry is not
+	 *               added on behalf of a tenant
+	 */
+	@SuppressWarnings("unchecked")
+	private void charge(
+			@Nullable TenantPartition tenant,
+			InternalCache<?, ?> cache,
+			ConcurrentMap<Object, TenantEntry> charges,
+			Object key,
+			Object value) {
+		final TenantEntry previous;
+		if ( tenant == null ) {
+			previous = charges.remove( key );
+		}
+		else {
+			final var entry = new TenantEntry( tenant, (InternalCache<Object, Object>) cache, charges, key, value );
+			previous = charges.put( key, entry );
+			tenant.add( entry );
+		}
+		if ( previous != null ) {
+			previous.release();
+		}
+	}
+
+	/**
+	 * Release the charge of an entry evicted by the cache.
+	 */
+	private static void evicted(ConcurrentMap<Object, TenantEntry> charges, Object key, Object value) {
+		final var entry = charges.get( key );
+		if ( entry != null && entry.value == value && charges.remove( key, entry ) ) {
+			entry.release();
+		}
+	}
+
 	@Override
 	public void close() {
 		QUERY_PLAN_CACHE_MESSAGE_LOGGER.destroyingQueryInterpretationCache();
 		hqlInterpretationCache.clear();
 		nativeQueryParamCache.clear();
+		if ( nativeResultMappingCache != null ) {
+			nativeResultMappingCache.clear();
+		}
 		queryPlanCache.clear();
+		queryPlanCharges.clear();
+		hqlInterpretationCharges.clear();
+		if ( tenantPartitions != null ) {
+			tenantPartitions.clear();
+		}
+	}
+
+	/**
+	 * The entries charged to a tenant, oldest first, along with the
+	 * hit and miss counts of the tenant, and its view of the cache.
+	 */
+	private final class TenantPartition {
+		private final Queue<TenantEntry> entries = new ConcurrentLinkedQueue<>();
+		private final AtomicInteger queuedCount = new AtomicInteger();
+		private final AtomicInteger entryCount = new AtomicInteger();
+		private final LongAdder hits = new LongAdder();
+		private final LongAdder misses = new LongAdder();
+		private final TenantView view = new TenantView( this );
+
+		private void add(TenantEntry entry) {
+			entries.add( entry );
+			if ( queuedCount.incrementAndGet() > 2 * maxQueryPlanCountPerTenant ) {
+				// discard the released charges, which are otherwise only
+				// discarded when they reach the head of the queue
+				entries.removeIf( TenantEntry::isReleased );
+				queuedCount.set( entries.size() );
+			}
+			if ( entryCount.incrementAndGet() > maxQueryPlanCountPerTenant ) {
+				TenantEntry oldest;
+				while ( entryCount.get() > maxQueryPlanCountPerTenant
+						&& ( oldest = entries.poll() ) != null ) {
+					queuedCount.decrementAndGet();
+					// skip entries which no longer belong to this tenant
+					if ( oldest.release() ) {
+						oldest.charges.remove( oldest.key, oldest );
+						oldest.cache.remove( oldest.key, oldest.value );
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * The charge of a cached entry to the tenant on whose behalf it was
+	 * added. The charge is released when the entry is evicted, or when
+	 * the entry is replaced.
+	 */
+	private static final class TenantEntry {
+		private final TenantPartition tenant;
+		private final InternalCache<Object, Object> cache;
+		private final ConcurrentMap<Object, TenantEntry> charges;
+		private final Object key;
+		private final Object value;
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		private TenantEntry(
+				TenantPartition tenant,
+				InternalCache<Object, Object> cache,
+				ConcurrentMap<Object, TenantEntry> charges,
+				Object key,
+				Object value) {
+			this.tenant = tenant;
+			this.cache = cache;
+			this.charges = charges;
+			this.key = key;
+			this.value = value;
+		}
+
+		private boolean isReleased() {
+			return released.get();
+		}
+
+		/**
+		 * @return {@code true} if the entry was still charged to the tenant
+		 */
+		private boolean release() {
+			if ( released.compareAndSet( false, true ) ) {
+				tenant.entryCount.decrementAndGet();
+				return true;
+			}
+			else {
+				return false;
+			}
+		}
+	}
+
+	/**
+	 * A view of the cache which charges new entries to a tenant.
+	 */
+	private final class TenantView implements QueryInterpretationCache {
+		private final TenantPartition tenant;
+
+		private TenantView(TenantPartition tenant) {
+			this.tenant = tenant;
+		}
+
+		@Override
+		public int getNumberOfCachedHqlInterpretations() {
+			return QueryInterpretationCacheStandardImpl.this.getNumberOfCachedHqlInterpretations();
+		}
+
+		@Override
+		public int getNumberOfCachedQueryPlans() {
+			return QueryInterpretationCacheStandardImpl.this.getNumberOfCachedQueryPlans();
+		}
+
+		@Override
+		public <R> HqlInterpretation<R> resolveHqlInterpretation(
+				String queryString,
+				Class<R> expectedResultType,
+				HqlTranslator translator) {
+			return QueryInterpretationCacheStandardImpl.this
+					.resolveHqlInterpretation( queryString, expectedResultType, translator, tenant );
+		}
+
+		@Override
+		public <R> void cacheHqlInterpretation(Object cacheKey, HqlInterpretation<R> hqlInterpretation) {
+			QueryInterpretationCacheStandardImpl.this.cacheHqlInterpretation( cacheKey, hqlInterpretation, tenant );
+		}
+
+		@Override
+		public <R> SelectQueryPlan<R> resolveSelectQueryPlan(Key key, Supplier<SelectQueryPlan<R>> creator) {
+			return resolveSelectQueryPlan( key, k -> creator.get() );
+		}
+
+		@Override
+		public <K extends Key, R> SelectQueryPlan<R> resolveSelectQueryPlan(
+				K key,
+				Function<K, SelectQueryPlan<R>> creator) {
+			return QueryInterpretationCacheStandardImpl.this.resolveSelectQueryPlan( key, creator, tenant );
+		}
+
+		@Override
+		public NonSelectQueryPlan getNonSelectQueryPlan(Key key) {
+			return QueryInterpretationCacheStandardImpl.this.getNonSelectQueryPlan( key, tenant );
+		}
+
+		@Override
+		public void cacheNonSelectQueryPlan(Key key, NonSelectQueryPlan plan) {
+			QueryInterpretationCacheStandardImpl.this.cacheNonSelectQueryPlan( key, plan, tenant );
+		}
+
+		@Override
+		public ParameterInterpretation resolveNativeQueryParameters(
+				String queryString,
+				Function<String, ParameterInterpretation> creator) {
+			return QueryInterpretationCacheStandardImpl.this.resolveNativeQueryParameters( queryString, creator );
+		}
+
+		@Override
+		public boolean isEnabled() {
+			return true;
+		}
+
+		@Override
+		public boolean isNativeResultMappingCacheEnabled() {
+			return QueryInterpretationCacheStandardImpl.this.isNativeResultMappingCacheEnabled();
+		}
+
+		@Override
+		public int getNumberOfCachedNativeResultMappings() {
+			return QueryInterpretationCacheStandardImpl.this.getNumberOfCachedNativeResultMappings();
+		}
+
+		@Override
+		public @Nullable JdbcValuesMapping getNativeResultMapping(Key key) {
+			return QueryInterpretationCacheStandardImpl.this.getNativeResultMapping( key );
+		}
+
+		@Override
+		public void cacheNativeResultMapping(Key key, JdbcValuesMapping mapping) {
+			// like native query parameter interpretations, these are not charged to the tenant
+			QueryInterpretationCacheStandardImpl.this.cacheNativeResultMapping( key, mapping );
+		}
+
+		@Override
+		public QueryInterpretationCache forTenant(@Nullable Object tenantIdentifier) {
+			return QueryInterpretationCacheStandardImpl.this.forTenant( tenantIdentifier );
+		}
+
+		@Override
+		public long getTenantHitCount(Object tenantIdentifier) {
+			return QueryInterpretationCacheStandardImpl.this.getTenantHitCount( tenantIdentifier );
+		}
+
+		@Override
+		public long getTenantMissCount(Object tenantIdentifier) {
+			return QueryInterpretationCacheStandardImpl.this.getTenantMissCount( tenantIdentifier );
+		}
+
+		@Override
+		public int getNumberOfTenantEntries(Object tenantIdentifier) {
+			return QueryInterpretationCacheStandardImpl.this.getNumberOfTenantEntries( tenantIdentifier );
+		}
+
+		@Override
+		public void close() {
+			// the view does not own the cache
+		}
 	}
 
 	/**
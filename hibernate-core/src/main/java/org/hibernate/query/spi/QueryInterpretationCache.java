@@ -7,17 +7,21 @@
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import jakarta.annotation.Nullable;
 import org.hibernate.Incubating;
 import org.hibernate.query.hql.spi.HqlTranslator;
 import org.hibernate.query.sql.spi.ParameterInterpretation;
 import org.hibernate.query.sqm.internal.SqmInterpretationsKey;
 import org.hibernate.query.sqm.spi.InterpretationsKeySource;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 
 /**
  * Cache for various parts of translating or interpreting queries.
  *
  * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_ENABLED
  * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_MAX_SIZE
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_TENANT_QUOTA
+ * @see org.hibernate.cfg.AvailableSettings#NATIVE_RESULT_MAPPING_CACHE_MAX_SIZE
  *
  * @author Steve Ebersole
  */
@@ -56,6 +60,91 @@ default <K extends Key, R> SelectQueryPlan<R> resolveSelectQueryPlan(K key, Func
 
 	boolean isEnabled();
 
+	/**
+	 * Obtain a view of this cache which charges the entries it adds to
+	 * the given tenant, and enforces the
+	 * {@linkplain org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_TENANT_QUOTA
+	 * per-tenant quota}, if any.
+	 *
+	 * @param tenantIdentifier the current tenant, or {@code null}
+	 *
+	 * @since 8.1
+	 */
+	default QueryInterpretationCache forTenant(@Nullable Object tenantIdentifier) {
+		return this;
+	}
+
+	/**
+	 * The number of lookups on behalf of the given tenant which found
+	 * a cached entry, or zero if there is no per-tenant quota.
+	 *
+	 * @since 8.1
+	 */
+	default long getTenantHitCount(Object tenantIdentifier) {
+		return 0;
+	}
+
+	/**
+	 * The number of lookups on behalf of the given tenant which did
+	 * not find a cached entry, or zero if there is no per-tenant quota.
+	 *
+	 * @since 8.1
+	 */
+	default long getTenantMissCount(Object tenantIdentifier) {
+		return 0;
+	}
+
+	/**
+	 * The number of cached entries charged to the given tenant, or
+	 * zero if there is no per-tenant quota.
+	 *
+	 * @since 8.1
+	 */
+	default int getNumberOfTenantEntries(Object tenantIdentifier) {
+		return 0;
+	}
+
+	/**
+	 * Whether resolved result set mappings of native queries are cached.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#NATIVE_RESULT_MAPPING_CACHE_MAX_SIZE
+	 *
+	 * @since 8.1
+	 */
+	default boolean isNativeResultMappingCacheEnabled() {
+		return false;
+	}
+
+	/**
+	 * The number of resolved result set mappings of native queries
+	 * currently cached.
+	 *
+	 * @since 8.1
+	 */
+	default int getNumberOfCachedNativeResultMappings() {
+		return 0;
+	}
+
+	/**
+	 * Obtain the cached resolution of the result set mapping of a
+	 * native query.
+	 *
+	 * @return the cached mapping, or {@code null} if there is none
+	 *
+	 * @since 8.1
+	 */
+	default @Nullable JdbcValuesMapping getNativeResultMapping(Key key) {
+		return null;
+	}
+
+	/**
+	 * Cache the resolution of the result set mapping of a native query.
+	 *
+	 * @since 8.1
+	 */
+	default void cacheNativeResultMapping(Key key, JdbcValuesMapping mapping) {
+	}
+
 	/**
 	 * Close the cache when the SessionFactory is closed.
 	 * <p>
@@ -0,0 +1,98 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.sql.internal;
+
+import java.util.Set;
+
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.results.spi.ResultSetMapping;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.sql.results.jdbc.internal.ResultSetAccess;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingProducer;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
+
+/**
+ * Resolves the result set mapping of a native query against the JDBC
+ * metadata of its first execution, and then reuses the resolved mapping,
+ * and so its assemblers and initializers, for later executions of the
+ * same SQL with the same mapping, via the
+ * {@linkplain QueryInterpretationCache#getNativeResultMapping query interpretation cache}.
+ * <p>
+ * A cached mapping is only reused when it has the same number of columns
+ * as the result set. The mapping is resolved without the cache when the
+ * result comes from the query cache, or when the
+ * {@linkplain LoadQueryInfluencers load query influencers} could affect
+ * the resolved domain results.
+ *
+ * @see org.hibernate.cfg.QuerySettings#NATIVE_RESULT_MAPPING_CACHE_MAX_SIZE
+ *
+ * @since 8.1
+ */
+final class CachingJdbcValuesMappingProducer implements JdbcValuesMappingProducer {
+	private final JdbcValuesMappingProducer delegate;
+	private final NativeResultMappingKey key;
+
+	CachingJdbcValuesMappingProducer(
+			JdbcValuesMappingProducer delegate,
+			String sql,
+			ResultSetMapping resultSetMapping) {
+		this.delegate = delegate;
+		this.key = new NativeResultMappingKey( sql, resultSetMapping.cacheKeyInstance() );
+	}
+
+	@Override
+	public JdbcValuesMapping resolve(
+			JdbcValuesMetadata jdbcResultsMetadata,
+			LoadQueryInfluencers loadQueryInfluencers,
+			SessionFactoryImplementor sessionFactory) {
+		// the mapping must still be resolved against the metadata when the
+		// metadata is being captured for, or read from, the query cache
+		if ( jdbcResultsMetadata instanceof ResultSetAccess
+				&& isCacheable( loadQueryInfluencers ) ) {
+			final var interpretationCache = sessionFactory.getQueryEngine().getInterpretationCache();
+			final var cached = interpretationCache.getNativeResultMapping( key );
+			if ( cached != null && cached.getRowSize() == jdbcResultsMetadata.getColumnCount() ) {
+				return cached;
+			}
+			final var resolved = delegate.resolve( jdbcResultsMetadata, loadQueryInfluencers, sessionFactory );
+			interpretationCache.cacheNativeResultMapping( key, resolved );
+			return resolved;
+		}
+		else {
+			return delegate.resolve( jdbcResultsMetadata, loadQueryInfluencers, sessionFactory );
+		}
+	}
+
+	private static boolean isCacheable(LoadQueryInfluencers influencers) {
+		return !influencers.hasEnabledFetchProfiles()
+			&& !influencers.hasEnabledCascadingFetchProfile()
+			&& influencers.getEffectiveEntityGraph().getSemantic() == null
+			&& !influencers.isAllRevisions()
+			&& influencers.getTemporalIdentifier() == null;
+	}
+
+	@Override
+	public void addAffectedTableNames(Set<String> affectedTableNames, SessionFactoryImplementor sessionFactory) {
+		delegate.addAffectedTableNames( affectedTableNames, sessionFactory );
+	}
+
+	@Override
+	public JdbcValuesMappingProducer cacheKeyInstance() {
+		return delegate.cacheKeyInstance();
+	}
+
+	/**
+	 * Interpretation-cache key used for resolved native result set mappings
+	 */
+	private record NativeResultMappingKey(String sql, ResultSetMapping resultSetMapping)
+			implements QueryInterpretationCache.Key {
+		@Override
+		public String getQueryString() {
+			return sql;
+		}
+	}
+}
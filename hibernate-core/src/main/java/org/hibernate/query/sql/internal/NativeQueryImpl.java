@@ -2197,6 +2197,7 @@ private <T> boolean hasJavaTypeDescriptor(Class<T> resultClass) {
 	}
 
 	private static QueryInterpretationCache getInterpretationCache(SharedSessionContractImplementor session) {
-		return session.getFactory().getQueryEngine().getInterpretationCache();
+		return session.getFactory().getQueryEngine().getInterpretationCache()
+				.forTenant( session.getTenantIdentifierValue() );
 	}
 }
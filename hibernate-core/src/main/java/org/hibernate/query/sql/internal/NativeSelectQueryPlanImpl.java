@@ -56,7 +56,12 @@ public NativeSelectQueryPlanImpl(
 		final SQLQueryParser parser = new SQLQueryParser( sql, processor.process(), sessionFactory );
 		this.sql = parser.process();
 		this.parameterList = parameterList;
-		this.resultSetMapping = processor.generateResultMapping( parser.queryHasAliases() );
+		final var resultMapping = processor.generateResultMapping( parser.queryHasAliases() );
+		this.resultSetMapping =
+				resultSetMapping != null
+						&& sessionFactory.getQueryEngine().getInterpretationCache().isNativeResultMappingCacheEnabled()
+						? new CachingJdbcValuesMappingProducer( resultMapping, this.sql, resultSetMapping )
+						: resultMapping;
 		if ( affectedTableNames == null ) {
 			affectedTableNames = new HashSet<>();
 		}
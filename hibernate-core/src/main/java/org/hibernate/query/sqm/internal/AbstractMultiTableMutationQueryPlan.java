@@ -22,7 +22,7 @@
 	private final DomainParameterXref domainParameterXref;
 	private final F strategy;
 
-	private volatile MultiTableHandler handler;
+	private volatile BuiltHandler handler;
 
 	public AbstractMultiTableMutationQueryPlan(S statement, DomainParameterXref domainParameterXref, F strategy) {
 		this.statement = statement;
@@ -50,20 +50,13 @@ protected S getStatement() {
 
 	// For Hibernate Reactive
 	protected Interpretation getInterpretation(DomainQueryExecutionContext context) {
-		MultiTableHandler localCopy = handler;
+		BuiltHandler localCopy = handler;
 		final Interpretation builtInterpretation;
 		if ( localCopy == null ) {
 			synchronized (this) {
 				localCopy = handler;
 				if ( localCopy == null ) {
-					final var buildResult =
-							buildHandler( statement, domainParameterXref, strategy, context );
-					builtInterpretation = new Interpretation(
-							buildResult.multiTableHandler(),
-							buildResult.firstJdbcParameterBindings()
-					);
-					localCopy = buildResult.multiTableHandler();
-					handler = localCopy;
+					builtInterpretation = buildInterpretation( context );
 				}
 				else {
 					builtInterpretation = updateInterpretation( localCopy, context );
@@ -73,37 +66,52 @@ protected Interpretation getInterpretation(DomainQueryExecutionContext context)
 		else {
 			builtInterpretation = updateInterpretation( localCopy, context );
 		}
-		return builtInterpretation == null
-				? new Interpretation( localCopy, localCopy.createJdbcParameterBindings( context ) )
-				: builtInterpretation;
+		if ( builtInterpretation == null ) {
+			final var multiTableHandler = localCopy.multiTableHandler();
+			return new Interpretation( multiTableHandler, multiTableHandler.createJdbcParameterBindings( context ) );
+		}
+		else {
+			return builtInterpretation;
+		}
+	}
+
+	private Interpretation buildInterpretation(DomainQueryExecutionContext context) {
+		// The plan may be cached and shared between queries, and the handler
+		// refers to the expansions of multivalued parameters, so these are
+		// recorded in a copy which belongs to the handler
+		final var handlerParameterXref = domainParameterXref.copy();
+		final var buildResult = buildHandler( statement, handlerParameterXref, strategy, context );
+		handler = new BuiltHandler( buildResult.multiTableHandler(), handlerParameterXref );
+		return new Interpretation(
+				buildResult.multiTableHandler(),
+				buildResult.firstJdbcParameterBindings()
+		);
 	}
 
 	private @Nullable Interpretation updateInterpretation(
-			MultiTableHandler localCopy,
+			BuiltHandler localCopy,
 			DomainQueryExecutionContext context) {
-		Interpretation builtInterpretation = null;
-
+		final var multiTableHandler = localCopy.multiTableHandler();
+		if ( !localCopy.domainParameterXref().hasCompatibleExpansions( context.getQueryParameterBindings() ) ) {
+			// The multivalued parameters were expanded for a different number of values
+			return buildInterpretation( context );
+		}
 		// If the translation depends on parameter bindings or it isn't compatible with the current query options,
 		// we have to rebuild the JdbcSelect, which is still better than having to translate from SQM to SQL AST again
-		if ( localCopy.dependsOnParameterBindings() ) {
-			final var jdbcParameterBindings = localCopy.createJdbcParameterBindings( context );
+		else if ( multiTableHandler.dependsOnParameterBindings() ) {
+			final var jdbcParameterBindings = multiTableHandler.createJdbcParameterBindings( context );
 			// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
 			// We could avoid this by putting the lock options into the cache key
-			if ( !localCopy.isCompatibleWith( jdbcParameterBindings, context.getQueryOptions() ) ) {
-				final var buildResult =
-						buildHandler( statement, domainParameterXref, strategy, context );
-				localCopy = buildResult.multiTableHandler();
-				builtInterpretation = new Interpretation(
-						buildResult.multiTableHandler(),
-						buildResult.firstJdbcParameterBindings()
-				);
-				handler = localCopy;
-			}
-			else {
-				builtInterpretation = new Interpretation( localCopy, jdbcParameterBindings );
-			}
+			return multiTableHandler.isCompatibleWith( jdbcParameterBindings, context.getQueryOptions() )
+					? new Interpretation( multiTableHandler, jdbcParameterBindings )
+					: buildInterpretation( context );
+		}
+		else {
+			return null;
 		}
-		return builtInterpretation;
+	}
+
+	private record BuiltHandler(MultiTableHandler multiTableHandler, DomainParameterXref domainParameterXref) {
 	}
 
 	// For Hibernate Reactive
@@ -4,6 +4,7 @@
  */
 package org.hibernate.query.sqm.internal;
 
+import jakarta.annotation.Nullable;
 import org.hibernate.metamodel.mapping.MappingModelExpressible;
 import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.sqm.tree.spi.expression.SqmParameter;
@@ -15,12 +16,24 @@
 import java.util.Map;
 
 /**
+ * @param domainParameterXref The {@link DomainParameterXref} holding the expansions of
+ *                            multivalued parameters performed by the translation, if it
+ *                            is specific to this interpretation
+ *
  * @since 7.1
  */
 public record CacheableSqmInterpretation<S extends Statement, J extends JdbcOperation>(
 		S statement,
 		J jdbcOperation,
 		Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref,
-		Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes) {
+		Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes,
+		@Nullable DomainParameterXref domainParameterXref) {
 
+	public CacheableSqmInterpretation(
+			S statement,
+			J jdbcOperation,
+			Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref,
+			Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes) {
+		this( statement, jdbcOperation, jdbcParamsXref, sqmParameterMappingModelTypes, null );
+	}
 }
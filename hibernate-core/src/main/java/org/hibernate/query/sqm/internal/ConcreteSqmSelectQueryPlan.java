@@ -97,60 +97,50 @@ public ConcreteSqmSelectQueryPlan(
 			final var session = executionContext.getSession();
 			final var options = executionContext.getQueryOptions();
 			final var jdbcSelect = sqmInterpretation.jdbcOperation();
-			try {
-				final var subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
-						session.getPersistenceContext().getBatchFetchQueue(),
-						sqmInterpretation.statement(),
-						JdbcParametersList.empty(),
-						jdbcParameterBindings,
-						options.getAppliedGraph()
-				);
-				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), skipPreFlush );
-				return session.getFactory().getJdbcServices().getJdbcSelectExecutor().executeQuery(
-						jdbcSelect,
-						jdbcParameterBindings,
-						listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
-						options.getTupleTransformer() != null
-								? makeRowTransformerTupleTransformerAdapter( sqm, options )
-								: rowTransformer,
-						null,
-						resultCountEstimate( sqmInterpretation, jdbcParameterBindings, executionContext ),
-						resultsConsumer
-				);
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+			final var subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+					session.getPersistenceContext().getBatchFetchQueue(),
+					sqmInterpretation.statement(),
+					JdbcParametersList.empty(),
+					jdbcParameterBindings,
+					options.getAppliedGraph()
+			);
+			session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), skipPreFlush );
+			return session.getFactory().getJdbcServices().getJdbcSelectExecutor().executeQuery(
+					jdbcSelect,
+					jdbcParameterBindings,
+					listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
+					options.getTupleTransformer() != null
+							? makeRowTransformerTupleTransformerAdapter( sqm, options )
+							: rowTransformer,
+					null,
+					resultCountEstimate( sqmInterpretation, jdbcParameterBindings, executionContext ),
+					resultsConsumer
+			);
 		};
 		listInterpreter = (unused, executionContext, sqmInterpretation, jdbcParameterBindings, skipPreFlush) -> {
 			final var session = executionContext.getSession();
 			final var options = executionContext.getQueryOptions();
 			final var jdbcSelect = sqmInterpretation.jdbcOperation();
-			try {
-				final var subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
-						session.getPersistenceContext().getBatchFetchQueue(),
-						sqmInterpretation.statement(),
-						JdbcParametersList.empty(),
-						jdbcParameterBindings,
-						options.getAppliedGraph()
-				);
-				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), skipPreFlush );
-				//noinspection unchecked
-				return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
-						jdbcSelect,
-						jdbcParameterBindings,
-						listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
-						options.getTupleTransformer() != null
-								? makeRowTransformerTupleTransformerAdapter( sqm, options )
-								: rowTransformer,
-						(Class<R>) executionContext.getResultType(),
-						uniqueSemantic,
-						resultCountEstimate( sqmInterpretation, jdbcParameterBindings, executionContext )
-				);
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+			final var subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+					session.getPersistenceContext().getBatchFetchQueue(),
+					sqmInterpretation.statement(),
+					JdbcParametersList.empty(),
+					jdbcParameterBindings,
+					options.getAppliedGraph()
+			);
+			session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), skipPreFlush );
+			//noinspection unchecked
+			return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
+					jdbcSelect,
+					jdbcParameterBindings,
+					listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
+					options.getTupleTransformer() != null
+							? makeRowTransformerTupleTransformerAdapter( sqm, options )
+							: rowTransformer,
+					(Class<R>) executionContext.getResultType(),
+					uniqueSemantic,
+					resultCountEstimate( sqmInterpretation, jdbcParameterBindings, executionContext )
+			);
 		};
 
 		scrollInterpreter =
@@ -158,22 +148,17 @@ public ConcreteSqmSelectQueryPlan(
 			final var session = executionContext.getSession();
 					final var options = executionContext.getQueryOptions();
 			final var jdbcSelect = sqmInterpretation.jdbcOperation();
-			try {
-				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), skipPreFlush );
-				return session.getFactory().getJdbcServices().getJdbcSelectExecutor().scroll(
-						jdbcSelect,
-						scrollMode,
-						jdbcParameterBindings,
-						new SqmJdbcExecutionContextAdapter( executionContext, jdbcSelect ),
-						options.getTupleTransformer() != null
-								? makeRowTransformerTupleTransformerAdapter( sqm, options )
-								: rowTransformer,
-						resultCountEstimate( sqmInterpretation, jdbcParameterBindings, executionContext )
-				);
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+			session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), skipPreFlush );
+			return session.getFactory().getJdbcServices().getJdbcSelectExecutor().scroll(
+					jdbcSelect,
+					scrollMode,
+					jdbcParameterBindings,
+					new SqmJdbcExecutionContextAdapter( executionContext, jdbcSelect ),
+					options.getTupleTransformer() != null
+							? makeRowTransformerTupleTransformerAdapter( sqm, options )
+							: rowTransformer,
+					resultCountEstimate( sqmInterpretation, jdbcParameterBindings, executionContext )
+			);
 		};
 	}
 
@@ -448,12 +433,14 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 					// If the translation depends on parameter bindings or it isn't compatible with the current query options,
 					// we have to rebuild the JdbcSelect, which is still better than having to translate from SQM to SQL AST again
 					final var jdbcSelect = localCopy.jdbcOperation();
-					if ( jdbcSelect.dependsOnParameterBindings() ) {
+					final boolean compatibleExpansions = hasCompatibleExpansions( localCopy, executionContext );
+					if ( compatibleExpansions && jdbcSelect.dependsOnParameterBindings() ) {
 						jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
 					}
-					// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
-					// We could avoid this by putting the lock options into the cache key
-					if ( !jdbcSelect.isCompatibleWith( jdbcParameterBindings, queryOptions ) ) {
+					// If the translation depends on the limit or lock options, or if the multivalued
+					// parameters were expanded for a different number of values, we have to rebuild
+					// the JdbcSelect. We could avoid this by putting the lock options into the cache key
+					if ( !compatibleExpansions || !jdbcSelect.isCompatibleWith( jdbcParameterBindings, queryOptions ) ) {
 						final MutableObject<JdbcParameterBindings> mutableValue = new MutableObject<>();
 						localCopy = buildInterpretation( sqm, domainParameterXref, executionContext, mutableValue );
 						jdbcParameterBindings = mutableValue.get();
@@ -466,12 +453,14 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 			// If the translation depends on parameter bindings or it isn't compatible with the current query options,
 			// we have to rebuild the JdbcSelect, which is still better than having to translate from SQM to SQL AST again
 			final var jdbcSelect = localCopy.jdbcOperation();
-			if ( jdbcSelect.dependsOnParameterBindings() ) {
+			final boolean compatibleExpansions = hasCompatibleExpansions( localCopy, executionContext );
+			if ( compatibleExpansions && jdbcSelect.dependsOnParameterBindings() ) {
 				jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
 			}
-			// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
-			// We could avoid this by putting the lock options into the cache key
-			if ( !jdbcSelect.isCompatibleWith( jdbcParameterBindings, queryOptions ) ) {
+			// If the translation depends on the limit or lock options, or if the multivalued
+			// parameters were expanded for a different number of values, we have to rebuild
+			// the JdbcSelect. We could avoid this by putting the lock options into the cache key
+			if ( !compatibleExpansions || !jdbcSelect.isCompatibleWith( jdbcParameterBindings, queryOptions ) ) {
 				final MutableObject<JdbcParameterBindings> mutableValue = new MutableObject<>();
 				localCopy = buildInterpretation( sqm, domainParameterXref, executionContext, mutableValue );
 				jdbcParameterBindings = mutableValue.get();
@@ -486,13 +475,27 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 		return interpreter.interpret( context, executionContext, localCopy, jdbcParameterBindings, preFlushed );
 	}
 
+	/**
+	 * Were the multivalued parameters expanded by the translation for bindings
+	 * with the same number of values as the current bindings? If not, the
+	 * interpretation must be rebuilt.
+	 */
+	private static boolean hasCompatibleExpansions(
+			CacheableSqmInterpretation<SelectStatement, JdbcSelect> sqmInterpretation,
+			DomainQueryExecutionContext executionContext) {
+		final var interpretationParameterXref = sqmInterpretation.domainParameterXref();
+		return interpretationParameterXref == null
+			|| interpretationParameterXref.hasCompatibleExpansions( executionContext.getQueryParameterBindings() );
+	}
+
 	// For Hibernate Reactive
 	protected JdbcParameterBindings createJdbcParameterBindings(
 			CacheableSqmInterpretation<SelectStatement, JdbcSelect> sqmInterpretation,
 			DomainQueryExecutionContext executionContext) {
+		final var interpretationParameterXref = sqmInterpretation.domainParameterXref();
 		return SqmUtil.createJdbcParameterBindings(
 				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
+				interpretationParameterXref == null ? domainParameterXref : interpretationParameterXref,
 				sqmInterpretation.jdbcParamsXref(),
 				new SqmParameterMappingModelResolutionAccess() {
 					//this is pretty ugly!
@@ -516,13 +519,17 @@ protected static CacheableSqmInterpretation<SelectStatement, JdbcSelect> buildIn
 		final var session = executionContext.getSession();
 		final var sessionFactory = session.getFactory();
 		final var queryOptions = executionContext.getQueryOptions();
+		// the translation adds the expansions of multivalued parameters to the
+		// DomainParameterXref, so use a copy which belongs to this interpretation,
+		// since the plan may be cached and executed concurrently
+		final var interpretationParameterXref = domainParameterXref.copy();
 
 		final var sqmTranslator =
 				sessionFactory.getQueryEngine().getSqmTranslatorFactory()
 						.createSelectTranslator(
 								sqm,
 								queryOptions,
-								domainParameterXref,
+								interpretationParameterXref,
 								executionContext.getQueryParameterBindings(),
 								executionContext.getSession().getLoadQueryInfluencers(),
 								sessionFactory.getSqlTranslationEngine(),
@@ -536,11 +543,11 @@ protected static CacheableSqmInterpretation<SelectStatement, JdbcSelect> buildIn
 						.buildSelectTranslator( sessionFactory, sqmInterpretation.getSqlAst() );
 
 		final var jdbcParamsXref =
-				generateJdbcParamsXref( domainParameterXref, sqmInterpretation::getJdbcParamsBySqmParam );
+				generateJdbcParamsXref( interpretationParameterXref, sqmInterpretation::getJdbcParamsBySqmParam );
 
 		final var jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
 				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
+				interpretationParameterXref,
 				jdbcParamsXref,
 				new SqmParameterMappingModelResolutionAccess() {
 					@Override @SuppressWarnings("unchecked")
@@ -556,7 +563,8 @@ public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T
 				sqmInterpretation.getSqlAst(),
 				selectTranslator.translate( jdbcParameterBindings, queryOptions ),
 				jdbcParamsXref,
-				sqmInterpretation.getSqmParameterMappingModelTypeResolutions()
+				sqmInterpretation.getSqmParameterMappingModelTypeResolutions(),
+				interpretationParameterXref
 		);
 	}
 
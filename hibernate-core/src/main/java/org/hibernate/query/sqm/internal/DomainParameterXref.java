@@ -8,6 +8,8 @@
 import org.hibernate.query.internal.QueryParameterIdentifiedImpl;
 import org.hibernate.query.internal.QueryParameterNamedImpl;
 import org.hibernate.query.internal.QueryParameterPositionalImpl;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.sqm.tree.spi.SqmStatement;
 import org.hibernate.query.sqm.tree.spi.expression.JpaCriteriaParameter;
@@ -23,6 +25,7 @@
 import java.util.Set;
 
 import static java.util.Collections.emptyList;
+import static org.hibernate.internal.util.MathHelper.ceilingPowerOfTwo;
 
 /**
  * Maintains a cross-reference between SqmParameter and QueryParameter references.
@@ -53,6 +56,7 @@ public static DomainParameterXref from(SqmStatement<?> sqmStatement) {
 	private final IdentityHashMap<SqmParameter<?>, QueryParameterImplementor<?>> queryParamBySqmParam;
 
 	private Map<SqmParameter<?>,List<SqmParameter<?>>> expansions;
+	private Map<QueryParameterImplementor<?>,ExpansionSize> expansionSizes;
 
 	private DomainParameterXref() {
 		sqmParamsByQueryParam = new LinkedHashMap<>( 0 );
@@ -190,5 +194,75 @@ public void clearExpansions() {
 			}
 			expansions.clear();
 		}
+		if ( expansionSizes != null ) {
+			expansionSizes.clear();
+		}
+	}
+
+	/**
+	 * Record the number of values of a multivalued parameter binding for which
+	 * the parameter was expanded.
+	 *
+	 * @param bindValueCount The number of values of the binding
+	 * @param inExprLimit The {@linkplain org.hibernate.dialect.Dialect#getInExpressionCountLimit()
+	 * maximum number of elements} of an {@code in} list
+	 * @param padded Whether the expansion was padded to a power of two number of elements,
+	 * by repeating the last value
+	 */
+	public void recordExpansion(
+			QueryParameterImplementor<?> domainParam,
+			int bindValueCount,
+			int inExprLimit,
+			boolean padded) {
+		if ( expansionSizes == null ) {
+			expansionSizes = new IdentityHashMap<>();
+		}
+		final var existing = expansionSizes.get( domainParam );
+		expansionSizes.put( domainParam,
+				new ExpansionSize( bindValueCount, inExprLimit,
+						padded && ( existing == null || existing.padded() ) ) );
+	}
+
+	/**
+	 * Is the {@linkplain #recordExpansion recorded expansion} of the given parameter,
+	 * if any, applicable to the given binding? This is the case if the binding has the
+	 * same number of values, or if every expansion was padded and the binding pads to
+	 * the same number of values.
+	 */
+	public boolean isExpansionCompatible(QueryParameterImplementor<?> domainParam, QueryParameterBinding<?> binding) {
+		final var expansionSize = expansionSizes == null ? null : expansionSizes.get( domainParam );
+		if ( !binding.isMultiValued() ) {
+			return expansionSize == null;
+		}
+		else if ( expansionSize == null ) {
+			return false;
+		}
+		else {
+			final int bindValueCount = binding.getBindValues().size();
+			return bindValueCount == expansionSize.bindValueCount()
+				|| expansionSize.padded()
+					&& bindValueCount > 0 && expansionSize.bindValueCount() > 0
+					&& ceilingPowerOfTwo( bindValueCount, expansionSize.inExprLimit() )
+							== ceilingPowerOfTwo( expansionSize.bindValueCount(), expansionSize.inExprLimit() );
+		}
+	}
+
+	/**
+	 * Are the {@linkplain #recordExpansion recorded expansions} applicable to the
+	 * given bindings of every parameter which accepts multivalued bindings?
+	 *
+	 * @see #isExpansionCompatible(QueryParameterImplementor, QueryParameterBinding)
+	 */
+	public boolean hasCompatibleExpansions(QueryParameterBindings bindings) {
+		for ( var queryParameter : sqmParamsByQueryParam.keySet() ) {
+			if ( queryParameter.allowsMultiValuedBinding()
+					&& !isExpansionCompatible( queryParameter, bindings.getBinding( queryParameter ) ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private record ExpansionSize(int bindValueCount, int inExprLimit, boolean padded) {
 	}
 }
@@ -75,9 +75,10 @@ protected int execute(
 	private JdbcParameterBindings createJdbcParameterBindings(
 			CacheableSqmInterpretation<MutationStatement, JdbcOperationQueryMutation> sqmInterpretation,
 			DomainQueryExecutionContext executionContext) {
+		final var interpretationParameterXref = sqmInterpretation.domainParameterXref();
 		return SqmUtil.createJdbcParameterBindings(
 				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
+				interpretationParameterXref == null ? domainParameterXref : interpretationParameterXref,
 				sqmInterpretation.jdbcParamsXref(),
 				new SqmParameterMappingModelResolutionAccess() {
 					//this is pretty ugly!
@@ -116,7 +117,9 @@ protected Interpretation getInterpretation(DomainQueryExecutionContext context)
 			synchronized ( this ) {
 				localCopy = interpretation;
 				if ( localCopy == null ) {
-					builtInterpretation = buildInterpretation( statement, domainParameterXref, context );
+					// the plan may be cached and shared between queries, so the
+					// expansions of multivalued parameters are recorded in a copy
+					builtInterpretation = buildInterpretation( statement, domainParameterXref.copy(), context );
 					localCopy = builtInterpretation.interpretation;
 					interpretation = builtInterpretation.interpretation;
 				}
@@ -137,7 +140,12 @@ protected Interpretation getInterpretation(DomainQueryExecutionContext context)
 			CacheableSqmInterpretation<MutationStatement, JdbcOperationQueryMutation> localCopy,
 			DomainQueryExecutionContext context) {
 		Interpretation builtInterpretation = null;
-		if ( localCopy.jdbcOperation().dependsOnParameterBindings() ) {
+		if ( !hasCompatibleExpansions( localCopy, context ) ) {
+			// The multivalued parameters were expanded for a different number of values
+			builtInterpretation = buildInterpretation( statement, domainParameterXref.copy(), context );
+			interpretation = builtInterpretation.interpretation;
+		}
+		else if ( localCopy.jdbcOperation().dependsOnParameterBindings() ) {
 			final var jdbcParameterBindings = createJdbcParameterBindings( localCopy, context );
 			// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
 			// We could avoid this by putting the lock options into the cache key
@@ -147,6 +155,7 @@ protected Interpretation getInterpretation(DomainQueryExecutionContext context)
 						localCopy.statement(),
 						localCopy.jdbcParamsXref(),
 						localCopy.sqmParameterMappingModelTypes(),
+						localCopy.domainParameterXref(),
 						jdbcParameterBindings,
 						context
 				);
@@ -159,6 +168,14 @@ protected Interpretation getInterpretation(DomainQueryExecutionContext context)
 		return builtInterpretation;
 	}
 
+	private static boolean hasCompatibleExpansions(
+			CacheableSqmInterpretation<MutationStatement, JdbcOperationQueryMutation> sqmInterpretation,
+			DomainQueryExecutionContext context) {
+		final var interpretationParameterXref = sqmInterpretation.domainParameterXref();
+		return interpretationParameterXref == null
+			|| interpretationParameterXref.hasCompatibleExpansions( context.getQueryParameterBindings() );
+	}
+
 	// For Hibernate Reactive
 	protected record Interpretation(
 			CacheableSqmInterpretation<MutationStatement, JdbcOperationQueryMutation> interpretation,
@@ -195,6 +212,23 @@ public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T
 				sqmInterpretation.getSqlAst(),
 				jdbcParamsXref,
 				parameterModelTypeResolutions,
+				domainParameterXref,
+				jdbcParameterBindings,
+				executionContext
+		);
+	}
+
+	protected Interpretation buildInterpretation(
+			MutationStatement mutationStatement,
+			Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref,
+			Map<SqmParameter<?>, MappingModelExpressible<?>> parameterModelTypeResolutions,
+			JdbcParameterBindings jdbcParameterBindings,
+			DomainQueryExecutionContext executionContext) {
+		return buildInterpretation(
+				mutationStatement,
+				jdbcParamsXref,
+				parameterModelTypeResolutions,
+				null,
 				jdbcParameterBindings,
 				executionContext
 		);
@@ -204,6 +238,7 @@ protected Interpretation buildInterpretation(
 			MutationStatement mutationStatement,
 			Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref,
 			Map<SqmParameter<?>, MappingModelExpressible<?>> parameterModelTypeResolutions,
+			@Nullable DomainParameterXref domainParameterXref,
 			JdbcParameterBindings jdbcParameterBindings,
 			DomainQueryExecutionContext executionContext) {
 		final var sessionFactory = executionContext.getSession().getFactory();
@@ -216,7 +251,8 @@ protected Interpretation buildInterpretation(
 						mutationTranslator.translate( jdbcParameterBindings,
 								executionContext.getQueryOptions() ),
 						jdbcParamsXref,
-						parameterModelTypeResolutions
+						parameterModelTypeResolutions,
+						domainParameterXref
 				),
 				jdbcParameterBindings
 		);
@@ -6,10 +6,15 @@
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
+import org.hibernate.Filter;
 import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.graph.internal.GraphStructureKey;
+import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.sqm.spi.InterpretationsKeySource;
 import org.hibernate.query.sqm.tree.spi.SqmStatement;
@@ -22,15 +27,32 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 
 	public static SqmInterpretationsKey createInterpretationsKey(InterpretationsKeySource keySource) {
 		if ( isCacheable ( keySource ) ) {
+			final int[] multiValuedBindingShape;
+			if ( keySource.hasMultiValuedParameterBindingsChecker().getAsBoolean() ) {
+				multiValuedBindingShape = keySource.multiValuedParameterBindingShape();
+				if ( multiValuedBindingShape == null ) {
+					return null;
+				}
+			}
+			else {
+				multiValuedBindingShape = null;
+			}
 			final Object query = keySource.getQueryStringCacheKey();
+			final var loadQueryInfluencers = keySource.getLoadQueryInfluencers();
+			final var appliedGraph = appliedGraph( keySource.getQueryOptions() );
+			final int queryHashCode =
+					query instanceof SqmStatement<?> statement ? statement.cacheHashCode() : query.hashCode();
 			return new SqmInterpretationsKey(
 					query,
 					keySource.unnamedParameterIndices(),
-					query instanceof SqmStatement<?> statement ? statement.cacheHashCode() : query.hashCode(),
+					multiValuedBindingShape,
+					hashCode( queryHashCode, multiValuedBindingShape, appliedGraph ),
 					keySource.getResultType(),
 					keySource.getQueryOptions().getLockOptions(),
-					memoryEfficientDefensiveSetCopy( keySource.getLoadQueryInfluencers().getEnabledFetchProfileNames() ),
-					keySource.getLoadQueryInfluencers().getTemporalIdentifier() != null
+					memoryEfficientDefensiveSetCopy( loadQueryInfluencers.getEnabledFetchProfileNames() ),
+					enabledFilterShapes( loadQueryInfluencers ),
+					appliedGraph,
+					loadQueryInfluencers.getTemporalIdentifier() != null
 			);
 		}
 		else {
@@ -55,6 +77,75 @@ private static Collection<String> memoryEfficientDefensiveSetCopy(final Set<Stri
 		}
 	}
 
+	private static int hashCode(int queryHashCode, int[] multiValuedBindingShape, GraphStructureKey appliedGraph) {
+		int hashCode = queryHashCode;
+		if ( multiValuedBindingShape != null ) {
+			hashCode = 31 * hashCode + Arrays.hashCode( multiValuedBindingShape );
+		}
+		if ( appliedGraph != null ) {
+			hashCode = 31 * hashCode + appliedGraph.hashCode();
+		}
+		return hashCode;
+	}
+
+	private static GraphStructureKey appliedGraph(QueryOptions queryOptions) {
+		final var appliedGraph = queryOptions.getAppliedGraph();
+		final var semantic = appliedGraph.getSemantic();
+		final var graph = appliedGraph.getGraph();
+		return semantic == null || graph == null ? null : GraphStructureKey.of( semantic, graph );
+	}
+
+	/**
+	 * The names of the enabled filters, along with the number of elements of
+	 * each multivalued filter argument, which determines the number of JDBC
+	 * parameters the argument is expanded to. The arguments themselves are
+	 * bound when the statement is executed, and so are not part of the key.
+	 */
+	public static List<String> enabledFilterShapes(LoadQueryInfluencers loadQueryInfluencers) {
+		if ( !loadQueryInfluencers.hasEnabledFilters() ) {
+			return null;
+		}
+		else {
+			final Collection<Filter> filters = loadQueryInfluencers.getEnabledFilters().values();
+			final String[] shapes = new String[filters.size()];
+			int i = 0;
+			for ( Filter filter : filters ) {
+				shapes[i++] = filterShape( filter );
+			}
+			return List.of( shapes );
+		}
+	}
+
+	private static String filterShape(Filter filter) {
+		final var filterDefinition = filter.getFilterDefinition();
+		StringBuilder shape = null;
+		for ( String parameterName : filterDefinition.getParameterNames() ) {
+			final Object value = filter.getParameterValue( parameterName );
+			final var jdbcMapping = filterDefinition.getParameterJdbcMapping( parameterName );
+			if ( value instanceof Iterable<?> iterable
+					&& ( jdbcMapping == null || !jdbcMapping.getJavaTypeDescriptor().isInstance( value ) ) ) {
+				if ( shape == null ) {
+					shape = new StringBuilder( filter.getName() );
+				}
+				shape.append( ':' ).append( parameterName ).append( '=' ).append( size( iterable ) );
+			}
+		}
+		return shape == null ? filter.getName() : shape.toString();
+	}
+
+	private static int size(Iterable<?> iterable) {
+		if ( iterable instanceof Collection<?> collection ) {
+			return collection.size();
+		}
+		else {
+			int size = 0;
+			for ( Object ignored : iterable ) {
+				size++;
+			}
+			return size;
+		}
+	}
+
 	private static boolean isCacheable(InterpretationsKeySource keySource) {
 		assert keySource.getQueryOptions().getAppliedGraph() != null;
 
@@ -62,52 +153,51 @@ private static boolean isCacheable(InterpretationsKeySource keySource) {
 		// - especially wrt parameters atm; this works with HQL because the
 		// parameters are part of the query string; with Criteria, they're not.
 		return keySource.isQueryPlanCacheable()
-			&& keySource.getQueryOptions().isLimitInMemoryEnabled() != Boolean.TRUE
-				// At the moment we cannot cache query plan if there is filter enabled.
-			&& !keySource.getLoadQueryInfluencers().hasEnabledFilters()
-				// At the moment we cannot cache query plan if it has an entity graph
-			&& keySource.getQueryOptions().getAppliedGraph().getSemantic() == null
-				// todo (6.0) : this one may be ok because of how I implemented multi-valued param handling
-				// - the expansion is done per-execution based on the "static" SQM
-				// - Note from Christian: The call to domainParameterXref.clearExpansions()
-				//   in ConcreteSqmSelectQueryPlan is a concurrency issue when cached
-				// - This could be solved by using a method-local clone of domainParameterXref
-				//   when multi-valued params exist
-			&& !keySource.hasMultiValuedParameterBindingsChecker().getAsBoolean();
+			&& keySource.getQueryOptions().isLimitInMemoryEnabled() != Boolean.TRUE;
 	}
 
-	public static QueryInterpretationCache.Key generateNonSelectKey(InterpretationsKeySource keyDetails) {
-		// todo (6.0) : do we want to cache non-select plans?  If so, what requirements?
-		//		- very minimum is that it be a "simple" (non-multi-table) statement
-		//
-		// for now... no caching of non-select plans
-		return null;
+	public static QueryInterpretationCache.Key generateNonSelectKey(InterpretationsKeySource keySource) {
+		// The translation of a mutation depends on the same things as the
+		// translation of a query: the enabled filters, the expansion of any
+		// multivalued parameters, and whether historical data is being read.
+		// The multi-table strategies obtain everything else which depends on
+		// the session, such as the session uid, when the plan is executed.
+		return createInterpretationsKey( keySource );
 	}
 
 	private final Object query;
 	private final int[] unnamedParameterIndices;
+	private final int[] multiValuedBindingShape;
 	private final Class<?> resultType;
 	private final LockOptions lockOptions;
 	private final Collection<String> enabledFetchProfiles;
+	private final List<String> enabledFilters;
+	private final GraphStructureKey appliedGraph;
 	private final boolean historical;
 	private final int hashCode;
 
 	private SqmInterpretationsKey(
 			Object query,
 			int[] unnamedParameterIndices,
+			int[] multiValuedBindingShape,
 			int hashCode,
 			Class<?> resultType,
 			LockOptions lockOptions,
 			Collection<String> enabledFetchProfiles,
+			List<String> enabledFilters,
+			GraphStructureKey appliedGraph,
 			boolean historical) {
 		this.historical = historical;
 		assert query.getClass() == String.class || query instanceof SqmStatement<?>;
 		this.query = query;
 		this.unnamedParameterIndices = unnamedParameterIndices;
+		this.multiValuedBindingShape = multiValuedBindingShape;
 		this.hashCode = hashCode;
 		this.resultType = resultType;
 		this.lockOptions = lockOptions;
 		this.enabledFetchProfiles = enabledFetchProfiles;
+		this.enabledFilters = enabledFilters;
+		this.appliedGraph = appliedGraph;
 	}
 
 	@Override
@@ -115,11 +205,14 @@ public QueryInterpretationCache.Key prepareForStore() {
 		return new SqmInterpretationsKey(
 				query,
 				unnamedParameterIndices,
+				multiValuedBindingShape,
 				hashCode,
 				resultType,
 				// Since lock options might be mutable, we need a copy for the cache key
 				lockOptions.makeDefensiveCopy(),
 				enabledFetchProfiles,
+				enabledFilters,
+				appliedGraph,
 				historical
 		);
 	}
@@ -142,9 +235,12 @@ public boolean equals(Object other) {
 				? query.equals( that.query )
 				: ((SqmStatement<?>) query).isCompatible( that.query ) )
 			&& Arrays.equals( this.unnamedParameterIndices, that.unnamedParameterIndices )
+			&& Arrays.equals( this.multiValuedBindingShape, that.multiValuedBindingShape )
 			&& Objects.equals( this.resultType, that.resultType )
 			&& Objects.equals( this.lockOptions, that.lockOptions )
 			&& Objects.equals( this.enabledFetchProfiles, that.enabledFetchProfiles )
+			&& Objects.equals( this.enabledFilters, that.enabledFilters )
+			&& Objects.equals( this.appliedGraph, that.appliedGraph )
 			&& this.historical == that.historical;
 	}
 
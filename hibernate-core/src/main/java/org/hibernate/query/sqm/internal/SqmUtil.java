@@ -624,12 +624,17 @@ else if ( domainParamBinding.isMultiValued() ) {
 
 				// and then one for each of the expansions
 				final var expansions = domainParameterXref.getExpansions( sqmParameter );
-				final int expansionCount = bindValues.size() - 1;
 				final int parameterUseCount = jdbcParamsBinds.size();
+				// there may be more expansions than values if the in list was padded,
+				// in which case the last value is bound to the remaining expansions
+				final int expansionCount = expansions.size() / parameterUseCount;
 				assert expansions.size() == expansionCount * parameterUseCount;
-				int expansionPosition = 0;
-				while ( valueIterator.hasNext() ) {
-					final Object expandedValue = valueIterator.next();
+				assert expansionCount >= bindValues.size() - 1;
+				Object expandedValue = firstValue;
+				for ( int expansionPosition = 0; expansionPosition < expansionCount; expansionPosition++ ) {
+					if ( valueIterator.hasNext() ) {
+						expandedValue = valueIterator.next();
+					}
 					for ( int j = 0; j < parameterUseCount; j++ ) {
 						final var expansionSqmParam = expansions.get( expansionPosition + j * expansionCount );
 						final var jdbcParamBinds = jdbcParamMap.get( expansionSqmParam );
@@ -646,7 +651,6 @@ else if ( domainParamBinding.isMultiValued() ) {
 							);
 						}
 					}
-					expansionPosition++;
 				}
 			}
 			else {
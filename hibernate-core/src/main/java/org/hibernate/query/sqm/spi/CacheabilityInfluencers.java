@@ -4,6 +4,7 @@
  */
 package org.hibernate.query.sqm.spi;
 
+import jakarta.annotation.Nullable;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.sqm.tree.spi.SqmStatement;
@@ -27,4 +28,20 @@ public interface CacheabilityInfluencers {
 	LoadQueryInfluencers getLoadQueryInfluencers();
 
 	BooleanSupplier hasMultiValuedParameterBindingsChecker();
+
+	/**
+	 * The number of values bound to each parameter which accepts multivalued
+	 * bindings, padded if {@linkplain org.hibernate.cfg.AvailableSettings#IN_CLAUSE_PARAMETER_PADDING
+	 * in clause parameter padding} is enabled, or {@code -1} for a single-valued
+	 * binding. Used as part of the key of a query plan which expands multivalued
+	 * parameters.
+	 *
+	 * @return the shape of the multivalued bindings, or {@code null} if the
+	 *         query plan cannot be cached when there are multivalued bindings
+	 *
+	 * @since 8.1
+	 */
+	default @Nullable int[] multiValuedParameterBindingShape() {
+		return null;
+	}
 }
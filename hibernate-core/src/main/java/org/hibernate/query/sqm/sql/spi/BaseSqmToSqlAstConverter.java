@@ -433,6 +433,7 @@
 import static org.hibernate.boot.model.internal.AuditHelper.isFetchableAuditExcluded;
 import static org.hibernate.boot.model.process.internal.InferredBasicValueResolver.resolveSqlTypeIndicators;
 import static org.hibernate.generator.EventType.INSERT;
+import static org.hibernate.internal.util.MathHelper.ceilingPowerOfTwo;
 import static org.hibernate.internal.util.NullnessHelper.coalesceSuppliedValues;
 import static org.hibernate.internal.util.NullnessUtil.castNonNull;
 import static org.hibernate.metamodel.mapping.EntityDiscriminatorMapping.DISCRIMINATOR_ROLE_NAME;
@@ -6372,6 +6373,7 @@ protected Expression consumeSqmParameter(SqmParameter<?> sqmParameter) {
 	private SqlTuple expandParameter(SqmParameter<?> sqmParameter, QueryParameterBinding<?> domainParamBinding, QueryParameterImplementor<?> domainParam) {
 		final var bindValues = domainParamBinding.getBindValues();
 		final List<Expression> expressions = new ArrayList<>( bindValues.size() );
+		domainParameterXref.recordExpansion( domainParam, bindValues.size(), 0, false );
 		boolean first = true;
 		for ( Object bindValue : bindValues ) {
 			final SqmParameter<?> sqmParamToConsume;
@@ -8716,7 +8718,10 @@ private InListPredicate processInSingleParameter(
 			SqmParameter<?> sqmParameter,
 			QueryParameterImplementor<?> domainParam,
 			QueryParameterBinding<?> domainParamBinding) {
-		final var iterator = domainParamBinding.getBindValues().iterator();
+		final int bindValueCount = domainParamBinding.getBindValues().size();
+		final boolean padded = getSessionFactoryOptions().inClauseParameterPaddingEnabled();
+		final int inExprLimit = getDialect().getInExpressionCountLimit();
+		domainParameterXref.recordExpansion( domainParam, bindValueCount, inExprLimit, padded );
 
 		final var inListPredicate = new InListPredicate(
 				(Expression) sqmPredicate.getTestExpression().accept( this ),
@@ -8726,7 +8731,7 @@ private InListPredicate processInSingleParameter(
 
 		final var fromClauseIndex = fromClauseIndexStack.getCurrent();
 
-		if ( !iterator.hasNext() ) {
+		if ( bindValueCount == 0 ) {
 			final var expressible =
 					determineValueMapping( sqmPredicate.getTestExpression(), fromClauseIndex );
 			domainParamBinding.setType( (MappingModelExpressible) expressible );
@@ -8738,10 +8743,13 @@ private InListPredicate processInSingleParameter(
 		);
 
 		try {
+			// when padding is enabled, the number of expansions depends only on the
+			// padded size of the list, so the translation can be reused for lists
+			// of any size which pad to the same size, with the last value repeated
+			final int expressionCount =
+					padded ? ceilingPowerOfTwo( bindValueCount, inExprLimit ) : bindValueCount;
 			inListPredicate.addExpression( consumeSingleSqmParameter( sqmParameter ) );
-			iterator.next();
-			while ( iterator.hasNext() ) {
-				iterator.next();
+			for ( int i = 1; i < expressionCount; i++ ) {
 				// for each bind value create an "expansion"
 				final var sqmParamToConsume = sqmParameter.copy();
 				domainParameterXref.addExpansion( domainParam, sqmParameter, sqmParamToConsume );
@@ -9416,6 +9424,7 @@ public List<Expression> expandSelfRenderingFunctionMultiValueParameter(SqmParame
 		final var bindValues = domainParamBinding.getBindValues();
 		final int bindValuesSize = bindValues.size();
 		final List<Expression> result = new ArrayList<>( bindValuesSize );
+		domainParameterXref.recordExpansion( domainParam, bindValuesSize, 0, false );
 
 		boolean first = true;
 		for ( int i = 0; i < bindValuesSize; i++ ) {
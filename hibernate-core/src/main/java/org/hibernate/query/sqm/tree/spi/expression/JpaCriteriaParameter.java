@@ -158,12 +158,16 @@ public int hashCode() {
 		return name == null ? super.hashCode() : name.hashCode();
 	}
 
-	// For caching, we can consider two parameters to be compatible if they are unnamed, or they have the same name
+	// For caching, we can consider two parameters to be compatible if they are unnamed, or they have the same name,
+	// and they have the same type, since the type of a parameter may affect the translation of the query
 
 	@Override
 	public boolean isCompatible(Object object) {
 		return getClass() == object.getClass()
-			&& Objects.equals( name, ((JpaCriteriaParameter<?>) object).name );
+			&& object instanceof JpaCriteriaParameter<?> that
+			&& Objects.equals( name, that.name )
+			&& allowsMultiValuedBinding == that.allowsMultiValuedBinding
+			&& Objects.equals( getNodeType(), that.getNodeType() );
 	}
 
 	@Override
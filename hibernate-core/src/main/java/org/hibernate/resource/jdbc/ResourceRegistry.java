@@ -25,6 +25,17 @@ public interface ResourceRegistry {
 
 	void releaseResources();
 
+	/**
+	 * Close any idle statements retained for reuse, since the physical
+	 * connection to which they belong is about to be released.
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 *
+	 * @since 8.1
+	 */
+	default void releaseCachedStatements() {
+	}
+
 	/**
 	 * Register a JDBC statement.
 	 *
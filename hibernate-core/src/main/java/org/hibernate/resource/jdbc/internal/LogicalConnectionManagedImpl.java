@@ -199,6 +199,7 @@ private void release(Connection connection) {
 		try {
 			try {
 				getResourceRegistry().releaseResources();
+				getResourceRegistry().releaseCachedStatements();
 				if ( !connection.isClosed() ) {
 					getExceptionHelper().logAndClearWarnings( connection );
 				}
@@ -54,6 +54,7 @@ public boolean isOpen() {
 	public Connection close() {
 		CONNECTION_LOGGER.closingLogicalConnection();
 		getResourceRegistry().releaseResources();
+		getResourceRegistry().releaseCachedStatements();
 		try {
 			return providedConnection;
 		}
@@ -93,6 +94,7 @@ public Connection manualDisconnect() {
 		errorIfClosed();
 		try {
 			resourceRegistry.releaseResources();
+			resourceRegistry.releaseCachedStatements();
 			return providedConnection;
 		}
 		finally {
@@ -0,0 +1,167 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.resource.jdbc.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.annotation.Nullable;
+import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
+
+import static org.hibernate.resource.jdbc.internal.ResourceRegistryLogger.RESOURCE_REGISTRY_LOGGER;
+
+/**
+ * A bounded, least-recently-used cache of idle {@link PreparedStatement}s
+ * belonging to the current physical connection of a logical connection.
+ * <p>
+ * A statement prepared for a {@linkplain Key cacheable} request is tracked
+ * while it is in use, and returned to the cache by
+ * {@link ResourceRegistryStandardImpl#release(Statement)} instead of being
+ * closed. The cached statements are closed when the physical connection
+ * is released. This class is not threadsafe.
+ *
+ * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+ *
+ * @since 8.1
+ */
+public final class PreparedStatementCache {
+
+	/**
+	 * Identifies statements which may be used interchangeably.
+	 *
+	 * @param sql the SQL, after {@linkplain org.hibernate.resource.jdbc.spi.StatementInspector inspection}
+	 * @param callable whether the statement is a {@link java.sql.CallableStatement}
+	 * @param resultSetType the {@link java.sql.ResultSet} type
+	 * @param autoGeneratedKeys the {@linkplain Statement#RETURN_GENERATED_KEYS generated keys} mode
+	 * @param generatedKeyColumns the names of the generated key columns, if specified
+	 */
+	public record Key(
+			String sql,
+			boolean callable,
+			int resultSetType,
+			int autoGeneratedKeys,
+			@Nullable List<String> generatedKeyColumns) {
+	}
+
+	private record InUse(Key key, int fetchSize) {
+	}
+
+	private final int maxSize;
+	private final JdbcEventHandler jdbcEventHandler;
+	private final LinkedHashMap<Key, PreparedStatement> idle;
+	private final Map<Statement, InUse> inUse = new IdentityHashMap<>();
+
+	public PreparedStatementCache(int maxSize, JdbcEventHandler jdbcEventHandler) {
+		this.maxSize = maxSize;
+		this.jdbcEventHandler = jdbcEventHandler;
+		this.idle = new LinkedHashMap<>( 16, 0.75f, true ) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, PreparedStatement> eldest) {
+				if ( size() > PreparedStatementCache.this.maxSize ) {
+					ResourceRegistryStandardImpl.close( eldest.getValue() );
+					return true;
+				}
+				else {
+					return false;
+				}
+			}
+		};
+	}
+
+	/**
+	 * Obtain an idle statement for the given key, if there is one.
+	 *
+	 * @return the cached statement, or {@code null} if a new statement
+	 *         must be prepared and {@linkplain #track tracked}
+	 */
+	public @Nullable PreparedStatement checkOut(Key key) throws SQLException {
+		final var statement = idle.remove( key );
+		if ( statement == null ) {
+			jdbcEventHandler.jdbcStatementCacheMiss();
+			return null;
+		}
+		else {
+			jdbcEventHandler.jdbcStatementCacheHit();
+			inUse.put( statement, new InUse( key, statement.getFetchSize() ) );
+			return statement;
+		}
+	}
+
+	/**
+	 * Track a newly prepared statement, so that it may be returned to
+	 * the cache when it is released.
+	 */
+	public void track(Key key, PreparedStatement statement) throws SQLException {
+		inUse.put( statement, new InUse( key, statement.getFetchSize() ) );
+	}
+
+	/**
+	 * Return a released statement to the cache, after clearing its
+	 * parameters, pending batch, and warnings, and restoring its
+	 * limits and fetch size.
+	 *
+	 * @return {@code true} if the statement was cached, or {@code false}
+	 *         if it must be closed by the caller
+	 */
+	boolean checkIn(Statement statement) {
+		final var usage = inUse.remove( statement );
+		if ( usage == null
+				|| idle.containsKey( usage.key )
+				|| !( statement instanceof PreparedStatement preparedStatement ) ) {
+			return false;
+		}
+		try {
+			if ( preparedStatement.isClosed() ) {
+				return false;
+			}
+			preparedStatement.clearParameters();
+			preparedStatement.clearBatch();
+			preparedStatement.clearWarnings();
+			if ( preparedStatement.getMaxRows() != 0 ) {
+				preparedStatement.setMaxRows( 0 );
+			}
+			if ( preparedStatement.getQueryTimeout() != 0 ) {
+				preparedStatement.setQueryTimeout( 0 );
+			}
+			if ( preparedStatement.getFetchSize() != usage.fetchSize ) {
+				preparedStatement.setFetchSize( usage.fetchSize );
+			}
+		}
+		catch (SQLException e) {
+			// there was a problem "cleaning" the statement
+			RESOURCE_REGISTRY_LOGGER.unableToCacheStatement( e.getMessage() );
+			return false;
+		}
+		idle.put( usage.key, preparedStatement );
+		return true;
+	}
+
+	/**
+	 * Forget every statement still in use, since it is about to be
+	 * closed by its owner.
+	 */
+	void releaseInUse() {
+		inUse.clear();
+	}
+
+	/**
+	 * Close every idle statement, in preparation for releasing the
+	 * physical connection.
+	 */
+	void clear() {
+		idle.values().forEach( ResourceRegistryStandardImpl::close );
+		idle.clear();
+		inUse.clear();
+	}
+
+	public int size() {
+		return idle.size();
+	}
+}
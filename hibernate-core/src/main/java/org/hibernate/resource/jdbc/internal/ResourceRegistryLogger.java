@@ -103,4 +103,8 @@ public interface ResourceRegistryLogger extends BasicLogger {
 	@Message(value = "Request to release '%s', but none have ever been registered", id = 10002516)
 	void noRegisteredLobs(String lobType);
 
+	@LogMessage(level = DEBUG)
+	@Message(value = "Unable to return JDBC statement to statement cache [%s]", id = 10002517)
+	void unableToCacheStatement(String message);
+
 }
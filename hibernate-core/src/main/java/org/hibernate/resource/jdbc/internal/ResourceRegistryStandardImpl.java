@@ -12,6 +12,7 @@
 import java.sql.Statement;
 import java.util.ArrayList;
 
+import jakarta.annotation.Nullable;
 import org.hibernate.JDBCException;
 import org.hibernate.resource.jdbc.ResourceRegistry;
 import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
@@ -38,6 +39,7 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	private static final boolean IS_TRACE_ENABLED = RESOURCE_REGISTRY_LOGGER.isTraceEnabled();
 
 	private final JdbcEventHandler jdbcEventHandler;
+	private final @Nullable PreparedStatementCache statementCache;
 
 	private final ResultsetsTrackingContainer xref = new ResultsetsTrackingContainer();
 
@@ -49,7 +51,18 @@ public ResourceRegistryStandardImpl() {
 	}
 
 	public ResourceRegistryStandardImpl(JdbcEventHandler jdbcEventHandler) {
+		this( jdbcEventHandler, null );
+	}
+
+	/**
+	 * @param statementCache a cache to which released prepared statements
+	 *                       are returned instead of being closed, if any
+	 */
+	public ResourceRegistryStandardImpl(
+			JdbcEventHandler jdbcEventHandler,
+			@Nullable PreparedStatementCache statementCache) {
 		this.jdbcEventHandler = jdbcEventHandler;
+		this.statementCache = statementCache;
 	}
 
 	@Override
@@ -85,7 +98,9 @@ public void release(Statement statement) {
 			RESOURCE_REGISTRY_LOGGER.unregisteredStatement();
 		}
 
-		close( statement );
+		if ( statementCache == null || !statementCache.checkIn( statement ) ) {
+			close( statement );
+		}
 
 		if ( lastQuery == statement ) {
 			lastQuery = null;
@@ -163,7 +178,7 @@ private static void close(ResultSet resultSet) {
 		}
 	}
 
-	private static void close(Statement statement) {
+	static void close(Statement statement) {
 		if ( IS_TRACE_ENABLED ) {
 			RESOURCE_REGISTRY_LOGGER.closingPreparedStatement(statement);
 		}
@@ -303,6 +318,9 @@ public void releaseResources() {
 
 		xref.forEach( ResourceRegistryStandardImpl::releaseXref );
 		xref.clear();
+		if ( statementCache != null ) {
+			statementCache.releaseInUse();
+		}
 
 		if ( ext != null ) {
 			ext.releaseResources();
@@ -313,6 +331,13 @@ public void releaseResources() {
 		}
 	}
 
+	@Override
+	public void releaseCachedStatements() {
+		if ( statementCache != null ) {
+			statementCache.clear();
+		}
+	}
+
 	private static boolean hasRegistered(final ResultSetsSet resource) {
 		return resource != null && !resource.isEmpty();
 	}
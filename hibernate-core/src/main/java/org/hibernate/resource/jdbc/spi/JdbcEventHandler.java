@@ -96,6 +96,24 @@ public void jdbcPrepareStatementEnd() {
 		}
 	}
 
+	/**
+	 * @since 8.1
+	 */
+	public void jdbcStatementCacheHit() {
+		if ( statistics != null && statistics.isStatisticsEnabled() ) {
+			statistics.preparedStatementCacheHit();
+		}
+	}
+
+	/**
+	 * @since 8.1
+	 */
+	public void jdbcStatementCacheMiss() {
+		if ( statistics != null && statistics.isStatisticsEnabled() ) {
+			statistics.preparedStatementCacheMiss();
+		}
+	}
+
 	public void jdbcExecuteStatementStart() {
 		if ( sessionListener != null ) {
 			sessionListener.jdbcExecuteStatementStart();
@@ -7765,28 +7765,46 @@ private int processFilterParameter(FilterFragmentParameter parameter, String sql
 
 		if ( value instanceof Iterable<?> iterable
 				&& !valueMapping.getJavaTypeDescriptor().isInstance( value ) ) {
-			processIterableFilterParameterValue( valueMapping, iterable.iterator() );
+			processIterableFilterParameterValue( parameter, iterable );
 		}
 		else {
-			processSingularFilterParameterValue( valueMapping, value );
+			processSingularFilterParameterValue( parameter, createFilterArgument( parameter, -1 ), -1 );
 		}
 
 		return markerStart + marker.length();
 	}
 
-	private void processSingularFilterParameterValue(JdbcMapping valueMapping, Object value) {
-		visitParameterAsParameter( new FilterJdbcParameter( valueMapping, value ) );
+	private void processSingularFilterParameterValue(
+			FilterFragmentParameter parameter,
+			FilterJdbcParameter.FilterArgument argument,
+			int index) {
+		visitParameterAsParameter( new FilterJdbcParameter( parameter.getValueMapping(), argument, index ) );
 	}
 
-	private void processIterableFilterParameterValue(JdbcMapping valueMapping, Iterator<?> iterator) {
-		while ( iterator.hasNext() ) {
-			processSingularFilterParameterValue( valueMapping, iterator.next() );
-			if ( iterator.hasNext() ) {
+	private void processIterableFilterParameterValue(FilterFragmentParameter parameter, Iterable<?> iterable) {
+		int size = 0;
+		for ( Object ignored : iterable ) {
+			size++;
+		}
+		final var argument = createFilterArgument( parameter, size );
+		for ( int index = 0; index < size; index++ ) {
+			if ( index > 0 ) {
 				appendSql( "," );
 			}
+			processSingularFilterParameterValue( parameter, argument, index );
 		}
 	}
 
+	private static FilterJdbcParameter.FilterArgument createFilterArgument(
+			FilterFragmentParameter parameter,
+			int size) {
+		return new FilterJdbcParameter.FilterArgument(
+				parameter.getFilterName(),
+				parameter.getParameterName(),
+				size
+		);
+	}
+
 	@Override
 	public void visitSqlFragmentPredicate(SqlFragmentPredicate predicate) {
 		assert isNotEmpty( predicate.getSqlFragment() );
@@ -7975,15 +7993,7 @@ private void appendInClauseSeparator(InListPredicate inListPredicate) {
 	}
 
 	private static int addPadding(int bindValueCount, int inExprLimit) {
-		final int ceilingPowerOfTwo = MathHelper.ceilingPowerOfTwo( bindValueCount );
-		if ( inExprLimit <= 0 || ceilingPowerOfTwo <= inExprLimit ) {
-			return ceilingPowerOfTwo;
-		}
-		else {
-			int numberOfInClauses = MathHelper.divideRoundingUp( bindValueCount, inExprLimit );
-			int numberOfInClausesWithPadding = MathHelper.ceilingPowerOfTwo( numberOfInClauses );
-			return numberOfInClausesWithPadding * inExprLimit;
-		}
+		return MathHelper.ceilingPowerOfTwo( bindValueCount, inExprLimit );
 	}
 
 	@Override
@@ -6,8 +6,12 @@
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
 
 import jakarta.annotation.Nullable;
+import org.hibernate.Filter;
 import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.metamodel.mapping.JdbcMappingContainer;
 import org.hibernate.sql.ast.SqlAstWalker;
@@ -17,15 +21,32 @@
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 
 /**
+ * A parameter of a {@linkplain org.hibernate.Filter filter} restriction.
+ * <p>
+ * The argument of the filter parameter is resolved from the
+ * {@linkplain org.hibernate.engine.spi.LoadQueryInfluencers#getEnabledFilter enabled filter}
+ * of the executing session when the value is bound, so that the translated
+ * statement may be cached and reused with different filter arguments. It is
+ * an error to execute the statement if the filter is not enabled.
+ * <p>
+ * The parameters for the elements of a multivalued argument share a single
+ * {@link FilterArgument}, which resolves the argument once per execution.
+ *
  * @author Nathan Xu
  */
 class FilterJdbcParameter implements JdbcParameter, JdbcParameterBinder {
 	private final JdbcMapping jdbcMapping;
-	private final Object jdbcParameterValue;
+	private final FilterArgument argument;
+	private final int index;
 
-	FilterJdbcParameter(JdbcMapping jdbcMapping, Object jdbcParameterValue) {
+	/**
+	 * @param index the position of the value in a multivalued filter argument,
+	 * or {@code -1} if the argument is single-valued
+	 */
+	FilterJdbcParameter(JdbcMapping jdbcMapping, FilterArgument argument, int index) {
 		this.jdbcMapping = jdbcMapping;
-		this.jdbcParameterValue = jdbcParameterValue;
+		this.argument = argument;
+		this.index = index;
 	}
 
 	@Override
@@ -37,13 +58,99 @@ public JdbcParameterBinder getParameterBinder() {
 	public void bindParameterValue(PreparedStatement statement, int startPosition, JdbcParameterBindings jdbcParameterBindings, ExecutionContext executionContext) throws SQLException {
 		jdbcMapping.getJdbcValueBinder().bind(
 				statement,
-				jdbcMapping.convertToRelationalValue( jdbcParameterValue ),
+				jdbcMapping.convertToRelationalValue( resolveValue( executionContext ) ),
 				startPosition,
 				executionContext.getSession()
 		);
 
 	}
 
+	private Object resolveValue(ExecutionContext executionContext) {
+		return index < 0
+				? argument.resolve( executionContext )
+				: argument.resolveElement( executionContext, index );
+	}
+
+	/**
+	 * The argument of a parameter of a filter, shared by the parameters for
+	 * the elements of the argument if it is multivalued.
+	 */
+	static final class FilterArgument {
+		private final String filterName;
+		private final String parameterName;
+		private final int size;
+
+		/**
+		 * The elements of the argument, resolved when the first element is
+		 * bound and released when the last one is. Another thread binding
+		 * the same statement concurrently sees a different execution context,
+		 * and resolves the argument for itself.
+		 */
+		private volatile @Nullable ResolvedArgument resolved;
+
+		/**
+		 * @param size the number of elements of a multivalued argument,
+		 * or {@code -1} if the argument is single-valued
+		 */
+		FilterArgument(String filterName, String parameterName, int size) {
+			this.filterName = filterName;
+			this.parameterName = parameterName;
+			this.size = size;
+		}
+
+		Object resolve(ExecutionContext executionContext) {
+			final Filter filter =
+					executionContext.getSession().getLoadQueryInfluencers()
+							.getEnabledFilter( filterName );
+			if ( filter == null ) {
+				throw new IllegalStateException( "Filter '" + filterName
+						+ "' is not enabled in the session executing the statement" );
+			}
+			return filter.getParameterValue( parameterName );
+		}
+
+		Object resolveElement(ExecutionContext executionContext, int index) {
+			final var current = resolved;
+			final List<?> elements;
+			if ( index > 0 && current != null && current.executionContext == executionContext ) {
+				elements = current.elements;
+			}
+			else {
+				// the first element is bound first, so the argument
+				// is resolved again by every execution of the statement
+				elements = materialize( resolve( executionContext ) );
+				resolved = new ResolvedArgument( executionContext, elements );
+			}
+			if ( index == size - 1 ) {
+				resolved = null;
+			}
+			return elements.get( index );
+		}
+
+		private List<?> materialize(Object value) {
+			final List<?> elements;
+			if ( value instanceof List<?> list && list instanceof RandomAccess ) {
+				elements = list;
+			}
+			else {
+				final var copy = new ArrayList<>( size );
+				for ( Object element : (Iterable<?>) value ) {
+					copy.add( element );
+				}
+				elements = copy;
+			}
+			// the interpretation is keyed on the size of the argument
+			if ( elements.size() != size ) {
+				throw new IllegalStateException( "Argument of filter parameter '" + filterName + "." + parameterName
+						+ "' has " + elements.size() + " elements, but " + size + " were expected" );
+			}
+			return elements;
+		}
+	}
+
+	private record ResolvedArgument(ExecutionContext executionContext, List<?> elements) {
+	}
+
 	@Override
 	public JdbcMappingContainer getExpressionType() {
 		return jdbcMapping;
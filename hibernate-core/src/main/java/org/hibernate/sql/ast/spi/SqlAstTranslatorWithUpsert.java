@@ -41,12 +41,27 @@ public MutationOperation createMergeOperation(OptionalTableUpdate optionalTableU
 				getParameterBinders()
 		);
 
-		return new DeleteOrUpsertOperation(
-				optionalTableUpdate.getMutationTarget(),
-				optionalTableUpdate.getMutatingTable().getTableMapping(),
-				upsertOperation,
-				optionalTableUpdate
-		);
+		return deleteOrUpsertOperation( upsertOperation, optionalTableUpdate );
+	}
+
+	/**
+	 * Wrap the given {@link UpsertOperation} in a {@link DeleteOrUpsertOperation}
+	 * if the table is optional, since its row must be deleted when all the new
+	 * values are null. Otherwise, the upsert is always executed and is returned
+	 * as is, so that it may be added to a JDBC batch.
+	 */
+	protected MutationOperation deleteOrUpsertOperation(
+			UpsertOperation upsertOperation,
+			OptionalTableUpdate optionalTableUpdate) {
+		final var tableMapping = optionalTableUpdate.getMutatingTable().getTableMapping();
+		return tableMapping.isOptional()
+				? new DeleteOrUpsertOperation(
+						optionalTableUpdate.getMutationTarget(),
+						tableMapping,
+						upsertOperation,
+						optionalTableUpdate
+				)
+				: upsertOperation;
 	}
 
 	private static Expectation expectation(OptionalTableUpdate optionalTableUpdate) {
@@ -223,7 +238,7 @@ protected void renderMergeUpdate(OptionalTableUpdate optionalTableUpdate) {
 		}
 	}
 
-	private void renderMatchedWhere(List<ColumnValueBinding> optimisticLockBindings) {
+	protected void renderMatchedWhere(List<ColumnValueBinding> optimisticLockBindings) {
 		if ( !optimisticLockBindings.isEmpty() ) {
 			appendSql( " where " );
 			for (int i = 0; i < optimisticLockBindings.size(); i++) {
@@ -8,6 +8,8 @@
 
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.mapping.EntityValuedModelPart;
+import org.hibernate.metamodel.mapping.SelectableMapping;
+import org.hibernate.metamodel.mapping.TemporalMapping;
 import org.hibernate.persister.entity.AbstractEntityPersister;
 import org.hibernate.spi.NavigablePath;
 import org.hibernate.sql.ast.tree.from.TableGroup;
@@ -33,6 +35,8 @@ public abstract class AbstractEntityResultGraphNode extends AbstractFetchParent
 	private BasicFetch<?> discriminatorFetch;
 	private DomainResult<Object> rowIdResult;
 	private @Nullable DomainResult<?> auditChangesetIdResult;
+	private @Nullable DomainResult<?> temporalStartingResult;
+	private @Nullable DomainResult<?> temporalEndingResult;
 	private final EntityValuedModelPart fetchContainer;
 
 	public AbstractEntityResultGraphNode(EntityValuedModelPart referencedModelPart, NavigablePath navigablePath) {
@@ -54,6 +58,13 @@ public void afterInitialize(FetchParent fetchParent, DomainResultCreationState c
 		rowIdResult = rowIdResult( creationState, navigablePath, entityTableGroup );
 		if ( fetchParent == this ) {
 			auditChangesetIdResult = auditChangesetIdResult( creationState, entityTableGroup );
+			final var temporalMapping = temporalMappingForCaching( creationState );
+			if ( temporalMapping != null ) {
+				temporalStartingResult = temporalResult( temporalMapping,
+						temporalMapping.getStartingColumnMapping(), "temporal_start", creationState, entityTableGroup );
+				temporalEndingResult = temporalResult( temporalMapping,
+						temporalMapping.getEndingColumnMapping(), "temporal_end", creationState, entityTableGroup );
+			}
 		}
 
 		super.afterInitialize( fetchParent, creationState );
@@ -125,6 +136,48 @@ private Fetch identifierFetch(
 		return null;
 	}
 
+	/**
+	 * The temporal mapping of the entity, if the historical rows read
+	 * by this result are stored in the temporal data cache.
+	 */
+	private @Nullable TemporalMapping temporalMappingForCaching(DomainResultCreationState creationState) {
+		final var entityMappingType = getEntityValuedModelPart().getEntityMappingType();
+		final var temporalMapping = entityMappingType.getTemporalMapping();
+		if ( temporalMapping != null && entityMappingType.getEntityPersister().canWriteToCache() ) {
+			final var sqlAstCreationState = creationState.getSqlAstCreationState();
+			final var influencers = sqlAstCreationState.getLoadQueryInfluencers();
+			if ( influencers.getTemporalIdentifier() != null && !influencers.isAllRevisions()
+					&& sqlAstCreationState.getCreationContext().getSessionFactory().getCache()
+							.getTemporalDataCache() != null ) {
+				return temporalMapping;
+			}
+		}
+		return null;
+	}
+
+	private static DomainResult<?> temporalResult(
+			TemporalMapping temporalMapping,
+			SelectableMapping columnMapping,
+			String resultVariable,
+			DomainResultCreationState creationState,
+			TableGroup entityTableGroup) {
+		final var sqlAstCreationState = creationState.getSqlAstCreationState();
+		final var expressionResolver = sqlAstCreationState.getSqlExpressionResolver();
+		final var tableReference = entityTableGroup.resolveTableReference( temporalMapping.getTableName() );
+		final var expression = expressionResolver.resolveSqlExpression( tableReference, columnMapping );
+		final var sqlSelection = expressionResolver.resolveSqlSelection(
+				expression,
+				columnMapping.getJdbcMapping().getJdbcJavaType(),
+				null,
+				sqlAstCreationState.getCreationContext().getTypeConfiguration()
+		);
+		return new BasicResult<>(
+				sqlSelection.getValuesArrayPosition(),
+				resultVariable,
+				columnMapping.getJdbcMapping()
+		);
+	}
+
 	@Override
 	public EntityMappingType getReferencedMappingContainer() {
 		return getEntityValuedModelPart().getEntityMappingType();
@@ -161,6 +214,16 @@ public DomainResult<Object> getRowIdResult() {
 		return auditChangesetIdResult;
 	}
 
+	@Override
+	public @Nullable DomainResult<?> getTemporalStartingResult() {
+		return temporalStartingResult;
+	}
+
+	@Override
+	public @Nullable DomainResult<?> getTemporalEndingResult() {
+		return temporalEndingResult;
+	}
+
 	@Override
 	public void collectValueIndexesToCache(BitSet valueIndexes) {
 		final var entityPersister = fetchContainer.getEntityMappingType().getEntityPersister();
@@ -4,17 +4,21 @@
  */
 package org.hibernate.sql.results.graph.entity;
 
+import org.hibernate.Incubating;
 import org.hibernate.engine.spi.FetchOptions;
 import org.hibernate.graph.spi.GraphHelper;
 import org.hibernate.graph.spi.GraphImplementor;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.model.domain.JpaMetamodel;
+import org.hibernate.sql.results.graph.DomainResult;
 import org.hibernate.sql.results.graph.DomainResultGraphNode;
 import org.hibernate.sql.results.graph.FetchParent;
 import org.hibernate.metamodel.mapping.EntityValuedModelPart;
 import org.hibernate.spi.NavigablePath;
 import org.hibernate.type.descriptor.java.JavaType;
 
+import jakarta.annotation.Nullable;
+
 /**
  * Represents a reference to an entity either as a return, fetch, or collection element or index.
  *
@@ -30,6 +34,34 @@ default FetchOptions getFetchOptions() {
 		return FetchOptions.NONE;
 	}
 
+	/**
+	 * The result reading the starting instant of the effective interval
+	 * of a historical row of a {@linkplain org.hibernate.annotations.Temporal
+	 * temporal entity}, if it is selected for the temporal data cache.
+	 *
+	 * @see org.hibernate.cache.spi.TemporalDataCache
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default @Nullable DomainResult<?> getTemporalStartingResult() {
+		return null;
+	}
+
+	/**
+	 * The result reading the ending instant of the effective interval
+	 * of a historical row of a {@linkplain org.hibernate.annotations.Temporal
+	 * temporal entity}, if it is selected for the temporal data cache.
+	 *
+	 * @see org.hibernate.cache.spi.TemporalDataCache
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default @Nullable DomainResult<?> getTemporalEndingResult() {
+		return null;
+	}
+
 	@Override
 	default boolean containsAnyNonScalarResults() {
 		return true;
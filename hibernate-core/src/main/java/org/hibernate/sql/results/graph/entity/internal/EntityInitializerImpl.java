@@ -6,6 +6,7 @@
 
 import java.util.Arrays;
 import java.util.BitSet;
+import java.util.Comparator;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
@@ -129,6 +130,8 @@
 	private final @Nullable DomainResultAssembler<?> versionAssembler;
 	private final @Nullable DomainResultAssembler<Object> rowIdAssembler;
 	private final @Nullable DomainResultAssembler<?> auditChangesetIdAssembler;
+	private final @Nullable DomainResultAssembler<?> temporalStartingAssembler;
+	private final @Nullable DomainResultAssembler<?> temporalEndingAssembler;
 
 	private final DomainResultAssembler<?>[][] assemblers;
 	private final @Nullable Initializer<?>[] allInitializers;
@@ -311,6 +314,17 @@ public EntityInitializerImpl(
 						? null
 						: auditChangesetIdResult.createResultAssembler( this, creationState );
 
+		final var temporalStartingResult = resultDescriptor.getTemporalStartingResult();
+		final var temporalEndingResult = resultDescriptor.getTemporalEndingResult();
+		if ( temporalStartingResult != null && temporalEndingResult != null ) {
+			temporalStartingAssembler = temporalStartingResult.createResultAssembler( this, creationState );
+			temporalEndingAssembler = temporalEndingResult.createResultAssembler( this, creationState );
+		}
+		else {
+			temporalStartingAssembler = null;
+			temporalEndingAssembler = null;
+		}
+
 		final int fetchableCount = entityDescriptor.getNumberOfFetchables();
 		final var subMappingTypes = rootEntityDescriptor.getSubMappingTypes();
 		final int size = subMappingTypes.size() + 1;
@@ -1808,12 +1822,75 @@ protected void updateCaches(
 		if ( data.concreteDescriptor.canWriteToCache()
 				// No need to put into the entity cache if this is coming from the query cache already
 				&& !data.getRowProcessingState().isQueryCacheHit()
-				&& isCachePutEnabled( session )
-				// Don't cache temporal snapshots in the 2LC
-				&& ( data.entityKey == null || !data.entityKey.isTemporal() ) ) {
+				&& isCachePutEnabled( session ) ) {
 			final var cacheAccess = data.concreteDescriptor.getCacheAccessStrategy();
 			if ( cacheAccess != null  ) {
-				putInCache( data, session, persistenceContext, resolvedEntityState, version, cacheAccess );
+				if ( temporalEndingAssembler != null ) {
+					putInTemporalDataCache( data, session, resolvedEntityState, version, cacheAccess );
+				}
+				// Don't cache temporal snapshots in the 2LC
+				else if ( !isTemporalSnapshot( data, session ) ) {
+					putInCache( data, session, persistenceContext, resolvedEntityState, version, cacheAccess );
+				}
+			}
+		}
+	}
+
+	private static boolean isTemporalSnapshot(EntityInitializerData data, SharedSessionContractImplementor session) {
+		if ( data.entityKey != null && data.entityKey.isTemporal() ) {
+			return true;
+		}
+		else {
+			final var temporalMapping = data.concreteDescriptor.getTemporalMapping();
+			return temporalMapping != null
+				&& temporalMapping.isAffectedByInfluencers( session.getLoadQueryInfluencers() );
+		}
+	}
+
+	private void putInTemporalDataCache(
+			EntityInitializerData data,
+			SharedSessionContractImplementor session,
+			Object[] resolvedEntityState,
+			Object version,
+			EntityDataAccess cacheAccess) {
+		assert temporalStartingAssembler != null && temporalEndingAssembler != null;
+		final var rowProcessingState = data.getRowProcessingState();
+		final Object effectiveTo = temporalEndingAssembler.assemble( rowProcessingState );
+		// Only a row which has been superseded is immutable
+		if ( effectiveTo != null ) {
+			final var factory = session.getFactory();
+			final var temporalDataCache = factory.getCache().getTemporalDataCache();
+			final var temporalMapping = data.concreteDescriptor.getTemporalMapping();
+			if ( temporalDataCache != null && temporalMapping != null ) {
+				final Object effectiveFrom = temporalStartingAssembler.assemble( rowProcessingState );
+				final var cacheEntry =
+						data.concreteDescriptor.buildCacheEntry(
+								data.entityInstanceForNotify,
+								resolvedEntityState,
+								version,
+								session
+						);
+				final Object cacheKey =
+						cacheAccess.generateCacheKey(
+								data.entityKey.getIdentifier(),
+								rootEntityDescriptor,
+								factory,
+								session.getTenantIdentifier()
+						);
+				//noinspection unchecked
+				temporalDataCache.put(
+						cacheKey,
+						effectiveFrom,
+						effectiveTo,
+						data.concreteDescriptor.getCacheEntryStructure().structure( cacheEntry ),
+						(Comparator<Object>) temporalMapping.getJdbcMapping().getJavaTypeDescriptor().getComparator(),
+						session
+				);
+				final var statistics = factory.getStatistics();
+				if ( statistics.isStatisticsEnabled() ) {
+					statistics.entityCachePut( rootEntityDescriptor.getNavigableRole(),
+							temporalDataCache.getRegion().getName() );
+				}
 			}
 		}
 	}
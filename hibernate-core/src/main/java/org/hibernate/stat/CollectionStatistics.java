@@ -42,4 +42,16 @@ public interface CollectionStatistics extends CacheableDataStatistics, Serializa
 	 * has been updated
 	 */
 	long getUpdateCount();
+
+	/**
+	 * The batch size currently used to batch fetch this collection, as
+	 * determined by {@linkplain org.hibernate.cfg.FetchSettings#BATCH_FETCH_ADAPTIVE
+	 * adaptive batch fetching}, or {@code -1} if the batch size has never
+	 * been adjusted at runtime.
+	 *
+	 * @since 8.1
+	 */
+	default int getBatchFetchSize() {
+		return -1;
+	}
 }
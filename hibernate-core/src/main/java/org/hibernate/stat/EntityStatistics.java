@@ -48,4 +48,16 @@ public interface EntityStatistics extends CacheableDataStatistics, Serializable
 	 * has experienced an optimistic lock failure.
 	 */
 	long getOptimisticFailureCount();
+
+	/**
+	 * The batch size currently used to batch fetch this entity, as
+	 * determined by {@linkplain org.hibernate.cfg.FetchSettings#BATCH_FETCH_ADAPTIVE
+	 * adaptive batch fetching}, or {@code -1} if the batch size has never
+	 * been adjusted at runtime.
+	 *
+	 * @since 8.1
+	 */
+	default int getBatchFetchSize() {
+		return -1;
+	}
 }
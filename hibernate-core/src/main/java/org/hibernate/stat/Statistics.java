@@ -400,4 +400,43 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * The global number of entity and collection loaders, built for
+	 * sessions with enabled filters, fetch profiles, or entity graphs,
+	 * or for non-default lock options, which were retrieved from cache.
+	 *
+	 * @since 8.1
+	 */
+	long getLoadPlanCacheHitCount();
+
+	/**
+	 * The global number of entity and collection loaders, built for
+	 * sessions with enabled filters, fetch profiles, or entity graphs,
+	 * or for non-default lock options, which were <em>not</em> found
+	 * in cache.
+	 *
+	 * @since 8.1
+	 */
+	long getLoadPlanCacheMissCount();
+
+	/**
+	 * The global number of prepared statements reused from the statement
+	 * cache of a session.
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 *
+	 * @since 8.1
+	 */
+	long getPreparedStatementCacheHitCount();
+
+	/**
+	 * The global number of prepared statements <em>not</em> found in the
+	 * statement cache of a session, when the cache is enabled.
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 *
+	 * @since 8.1
+	 */
+	long getPreparedStatementCacheMissCount();
 }
@@ -23,6 +23,7 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 	private final LongAdder updateCount = new LongAdder();
 	private final LongAdder removeCount = new LongAdder();
 	private final LongAdder recreateCount = new LongAdder();
+	private volatile int batchFetchSize = -1;
 
 	CollectionStatisticsImpl(CollectionPersister persister) {
 		super( () -> {
@@ -72,6 +73,15 @@ void incrementRemoveCount() {
 		removeCount.increment();
 	}
 
+	@Override
+	public int getBatchFetchSize() {
+		return batchFetchSize;
+	}
+
+	void setBatchFetchSize(int batchFetchSize) {
+		this.batchFetchSize = batchFetchSize;
+	}
+
 	public String toString() {
 		final var text = new StringBuilder()
 				.append( "CollectionStatistics" )
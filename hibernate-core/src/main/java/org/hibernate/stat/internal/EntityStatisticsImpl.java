@@ -25,6 +25,7 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 	private final LongAdder deleteCount = new LongAdder();
 	private final LongAdder fetchCount = new LongAdder();
 	private final LongAdder optimisticFailureCount = new LongAdder();
+	private volatile int batchFetchSize = -1;
 
 	EntityStatisticsImpl(EntityPersister rootEntityDescriptor) {
 		super( () -> {
@@ -90,6 +91,15 @@ void incrementOptimisticFailureCount() {
 		optimisticFailureCount.increment();
 	}
 
+	@Override
+	public int getBatchFetchSize() {
+		return batchFetchSize;
+	}
+
+	void setBatchFetchSize(int batchFetchSize) {
+		this.batchFetchSize = batchFetchSize;
+	}
+
 	public String toString() {
 		final var text = new StringBuilder()
 				.append( "EntityStatistics" )
@@ -91,6 +91,10 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
+	private final LongAdder loadPlanCacheHitCount = new LongAdder();
+	private final LongAdder loadPlanCacheMissCount = new LongAdder();
+	private final LongAdder preparedStatementCacheHitCount = new LongAdder();
+	private final LongAdder preparedStatementCacheMissCount = new LongAdder();
 
 	private final LongAdder updateTimestampsCacheHitCount = new LongAdder();
 	private final LongAdder updateTimestampsCacheMissCount = new LongAdder();
@@ -203,6 +207,10 @@ public void clear() {
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
+		loadPlanCacheHitCount.reset();
+		loadPlanCacheMissCount.reset();
+		preparedStatementCacheHitCount.reset();
+		preparedStatementCacheMissCount.reset();
 
 		resetStart();
 
@@ -433,6 +441,16 @@ public void removeCollection(String role) {
 		getCollectionStatistics( role ).incrementRemoveCount();
 	}
 
+	@Override
+	public void entityBatchFetchSizeAdjusted(String entityName, int batchSize) {
+		getEntityStatistics( entityName ).setBatchFetchSize( batchSize );
+	}
+
+	@Override
+	public void collectionBatchFetchSizeAdjusted(String role, int batchSize) {
+		getCollectionStatistics( role ).setBatchFetchSize( batchSize );
+	}
+
 	@Override
 	public void collectionCachePut(NavigableRole collectionRole, String regionName) {
 		secondLevelCachePutCount.increment();
@@ -803,6 +821,46 @@ public void queryPlanCacheMiss(String query) {
 		}
 	}
 
+	@Override
+	public long getLoadPlanCacheHitCount() {
+		return loadPlanCacheHitCount.sum();
+	}
+
+	@Override
+	public long getLoadPlanCacheMissCount() {
+		return loadPlanCacheMissCount.sum();
+	}
+
+	@Override
+	public void loadPlanCacheHit(String role) {
+		loadPlanCacheHitCount.increment();
+	}
+
+	@Override
+	public void loadPlanCacheMiss(String role) {
+		loadPlanCacheMissCount.increment();
+	}
+
+	@Override
+	public long getPreparedStatementCacheHitCount() {
+		return preparedStatementCacheHitCount.sum();
+	}
+
+	@Override
+	public long getPreparedStatementCacheMissCount() {
+		return preparedStatementCacheMissCount.sum();
+	}
+
+	@Override
+	public void preparedStatementCacheHit() {
+		preparedStatementCacheHitCount.increment();
+	}
+
+	@Override
+	public void preparedStatementCacheMiss() {
+		preparedStatementCacheMissCount.increment();
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return NullnessUtil.castNonNull(
 					l2CacheStatsMap.getOrCompute(
@@ -980,6 +1038,10 @@ public String toString() {
 				",max query time=" + queryExecutionMaxTime +
 				",query plan cache hits=" + queryPlanCacheHitCount +
 				",query plan cache misses=" + queryPlanCacheMissCount +
+				",load plan cache hits=" + loadPlanCacheHitCount +
+				",load plan cache misses=" + loadPlanCacheMissCount +
+				",statement cache hits=" + preparedStatementCacheHitCount +
+				",statement cache misses=" + preparedStatementCacheMissCount +
 				']';
 	}
 
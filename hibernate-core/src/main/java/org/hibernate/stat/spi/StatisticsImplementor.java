@@ -283,6 +283,30 @@ default void queryPlanCacheMiss(String query) {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating a loader for non-default load query influencers
+	 * was found in the cache of loaders of an entity or collection.
+	 *
+	 * @param role The entity name or collection role
+	 *
+	 * @since 8.1
+	 */
+	default void loadPlanCacheHit(String role) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a loader for non-default load query influencers
+	 * was not found in the cache of loaders of an entity or collection.
+	 *
+	 * @param role The entity name or collection role
+	 *
+	 * @since 8.1
+	 */
+	default void loadPlanCacheMiss(String role) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating compilation of a sql/hql query
 	 *
@@ -309,4 +333,50 @@ default Map<String, Long> getSlowQueries() {
 	default void normalizeNaturalId(String entityName) {
 		//For backward compatibility
 	}
+
+	/**
+	 * Callback indicating that adaptive batch fetching changed the
+	 * batch size used to batch fetch the given entity.
+	 *
+	 * @param entityName The name of the entity
+	 * @param batchSize The new batch size
+	 */
+	default void entityBatchFetchSizeAdjusted(String entityName, int batchSize) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating that adaptive batch fetching changed the
+	 * batch size used to batch fetch the given collection role.
+	 *
+	 * @param role The collection role
+	 * @param batchSize The new batch size
+	 */
+	default void collectionBatchFetchSizeAdjusted(String role, int batchSize) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a prepared statement was reused from the
+	 * statement cache of a session.
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 *
+	 * @since 8.1
+	 */
+	default void preparedStatementCacheHit() {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a prepared statement was <em>not</em> found in
+	 * the statement cache of a session, and had to be prepared.
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 *
+	 * @since 8.1
+	 */
+	default void preparedStatementCacheMiss() {
+		//For backward compatibility
+	}
 }
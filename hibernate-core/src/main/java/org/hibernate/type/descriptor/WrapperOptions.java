@@ -74,6 +74,17 @@ default boolean useLanguageTagForLocale() {
 		return getSessionFactory().getSessionFactoryOptions().isPreferLocaleLanguageTagEnabled();
 	}
 
+	/**
+	 * Determines whether JSON values should be read as character streams.
+	 *
+	 * @see org.hibernate.cfg.MappingSettings#JSON_STREAMING
+	 *
+	 * @since 8.1
+	 */
+	default boolean isJsonStreamingEnabled() {
+		return getSessionFactory().getSessionFactoryOptions().isJsonStreamingEnabled();
+	}
+
 	/**
 	 * Obtain access to the {@link LobCreator}.
 	 *
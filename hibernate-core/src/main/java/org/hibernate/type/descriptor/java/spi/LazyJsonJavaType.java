@@ -0,0 +1,160 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.type.descriptor.java.spi;
+
+import java.io.Serializable;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+
+import org.hibernate.Incubating;
+import org.hibernate.SharedSessionContract;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.AbstractJavaType;
+import org.hibernate.type.descriptor.java.MutabilityPlan;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+import org.hibernate.type.descriptor.jdbc.JdbcTypeIndicators;
+import org.hibernate.type.format.LazyJson;
+import org.hibernate.type.spi.TypeConfiguration;
+
+/**
+ * Java type for {@link LazyJson} attributes, which retains the JSON document read
+ * from the database, and delegates parsing of the document to a {@link JsonJavaType}
+ * for the type argument of {@code LazyJson} when the value is first accessed.
+ *
+ * @since 8.1
+ */
+@Incubating
+public class LazyJsonJavaType<T> extends AbstractJavaType<LazyJson<T>> implements MutabilityPlan<LazyJson<T>> {
+
+	private final JsonJavaType<T> valueJavaType;
+
+	public LazyJsonJavaType(Type type, TypeConfiguration typeConfiguration) {
+		super( type, null );
+		this.valueJavaType = new JsonJavaType<>( valueType( type ), null, typeConfiguration );
+	}
+
+	private static Type valueType(Type type) {
+		if ( type instanceof ParameterizedType parameterizedType ) {
+			final Type typeArgument = parameterizedType.getActualTypeArguments()[0];
+			if ( typeArgument instanceof Class<?> || typeArgument instanceof ParameterizedType ) {
+				return typeArgument;
+			}
+		}
+		return Object.class;
+	}
+
+	/**
+	 * The Java type of the parsed value.
+	 */
+	public JsonJavaType<T> getValueJavaType() {
+		return valueJavaType;
+	}
+
+	@Override
+	public JdbcType getRecommendedJdbcType(JdbcTypeIndicators context) {
+		return context.getJdbcType( SqlTypes.JSON );
+	}
+
+	@Override
+	public String toString(LazyJson<T> value) {
+		final String json = value.getJson();
+		return json == null ? valueJavaType.toString( value.get() ) : json;
+	}
+
+	@Override
+	public LazyJson<T> fromString(CharSequence string) {
+		return LazyJson.fromJson( string.toString(), valueJavaType::fromString );
+	}
+
+	@Override
+	public <X> X unwrap(LazyJson<T> value, Class<X> type, WrapperOptions options) {
+		if ( type.isAssignableFrom( LazyJson.class ) ) {
+			return type.cast( value );
+		}
+		else if ( type == String.class ) {
+			return type.cast( toString( value ) );
+		}
+		throw new UnsupportedOperationException(
+				"Unwrap strategy not known for this Java type: " + getTypeName()
+		);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <X> LazyJson<T> wrap(X value, WrapperOptions options) {
+		if ( value instanceof LazyJson<?> lazyJson ) {
+			return (LazyJson<T>) lazyJson;
+		}
+		else if ( value instanceof String string ) {
+			return fromString( string );
+		}
+		throw new UnsupportedOperationException(
+				"Wrap strategy not known for this Java type: " + getTypeName()
+		);
+	}
+
+	@Override
+	public boolean areEqual(LazyJson<T> one, LazyJson<T> another) {
+		if ( one == another ) {
+			return true;
+		}
+		else if ( one == null || another == null ) {
+			return false;
+		}
+		else if ( !one.isParsed() && !another.isParsed() ) {
+			// avoid parsing documents which were never accessed
+			return one.getJson().equals( another.getJson() );
+		}
+		else {
+			return valueJavaType.areEqual( one.get(), another.get() );
+		}
+	}
+
+	@Override
+	public int extractHashCode(LazyJson<T> value) {
+		// an unparsed document may equal a parsed value,
+		// and so the hash code is always that of the value
+		return valueJavaType.extractHashCode( value.get() );
+	}
+
+	@Override
+	public MutabilityPlan<LazyJson<T>> getMutabilityPlan() {
+		return this;
+	}
+
+	@Override
+	public boolean isMutable() {
+		return true;
+	}
+
+	@Override
+	public LazyJson<T> deepCopy(LazyJson<T> value) {
+		if ( value == null ) {
+			return null;
+		}
+		else if ( value.isParsed() ) {
+			return LazyJson.of( valueJavaType.getMutabilityPlan().deepCopy( value.get() ) );
+		}
+		else {
+			return fromString( value.getJson() );
+		}
+	}
+
+	@Override
+	public Serializable disassemble(LazyJson<T> value, SharedSessionContract session) {
+		return value == null ? null : toString( value );
+	}
+
+	@Override
+	public LazyJson<T> assemble(Serializable cached, SharedSessionContract session) {
+		return cached == null ? null : fromString( (CharSequence) cached );
+	}
+
+	@Override
+	public String toString() {
+		return "LazyJsonJavaType(" + getTypeName() + ")";
+	}
+}
@@ -172,10 +172,14 @@ public <X> ValueExtractor<X> getExtractor(JavaType<X> javaType) {
 				@Override
 				protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
 					if ( options.getDialect().supportsNationalizedMethods() ) {
-						return fromString( rs.getNString( paramIndex ), getJavaType(), options );
+						return options.isJsonStreamingEnabled()
+								? fromReader( rs.getNCharacterStream( paramIndex ), getJavaType(), options )
+								: fromString( rs.getNString( paramIndex ), getJavaType(), options );
 					}
 					else {
-						return fromString( rs.getString( paramIndex ), getJavaType(), options );
+						return options.isJsonStreamingEnabled()
+								? fromReader( rs.getCharacterStream( paramIndex ), getJavaType(), options )
+								: fromString( rs.getString( paramIndex ), getJavaType(), options );
 					}
 				}
 
@@ -183,10 +187,14 @@ protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) thro
 				protected X doExtract(CallableStatement statement, int index, WrapperOptions options)
 						throws SQLException {
 					if ( options.getDialect().supportsNationalizedMethods() ) {
-						return fromString( statement.getNString( index ), getJavaType(), options );
+						return options.isJsonStreamingEnabled()
+								? fromReader( statement.getNCharacterStream( index ), getJavaType(), options )
+								: fromString( statement.getNString( index ), getJavaType(), options );
 					}
 					else {
-						return fromString( statement.getString( index ), getJavaType(), options );
+						return options.isJsonStreamingEnabled()
+								? fromReader( statement.getCharacterStream( index ), getJavaType(), options )
+								: fromString( statement.getString( index ), getJavaType(), options );
 					}
 				}
 
@@ -194,10 +202,14 @@ protected X doExtract(CallableStatement statement, int index, WrapperOptions opt
 				protected X doExtract(CallableStatement statement, String name, WrapperOptions options)
 						throws SQLException {
 					if ( options.getDialect().supportsNationalizedMethods() ) {
-						return fromString( statement.getNString( name ), getJavaType(), options );
+						return options.isJsonStreamingEnabled()
+								? fromReader( statement.getNCharacterStream( name ), getJavaType(), options )
+								: fromString( statement.getNString( name ), getJavaType(), options );
 					}
 					else {
-						return fromString( statement.getString( name ), getJavaType(), options );
+						return options.isJsonStreamingEnabled()
+								? fromReader( statement.getCharacterStream( name ), getJavaType(), options )
+								: fromString( statement.getString( name ), getJavaType(), options );
 					}
 				}
 
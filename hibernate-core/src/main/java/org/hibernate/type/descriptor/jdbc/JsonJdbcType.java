@@ -5,6 +5,8 @@
 package org.hibernate.type.descriptor.jdbc;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -16,8 +18,11 @@
 import org.hibernate.type.descriptor.ValueBinder;
 import org.hibernate.type.descriptor.ValueExtractor;
 import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.DataHelper;
 import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.java.spi.LazyJsonJavaType;
 import org.hibernate.type.descriptor.jdbc.spi.JsonGeneratingVisitor;
+import org.hibernate.type.format.ReaderJsonDocumentReader;
 import org.hibernate.type.format.StringJsonDocumentReader;
 import org.hibernate.type.format.StringJsonDocumentWriter;
 
@@ -86,9 +91,44 @@ protected <X> X fromString(String string, JavaType<X> javaType, WrapperOptions o
 					options
 			);
 		}
+		if ( javaType instanceof LazyJsonJavaType<?> ) {
+			// parsing is deferred until the value is accessed
+			return javaType.fromString( string );
+		}
 		return options.getJsonFormatMapper().fromString( string, javaType, options );
 	}
 
+	/**
+	 * Reads the JSON value incrementally from the given character stream,
+	 * without first materializing the whole document as a string.
+	 *
+	 * @see org.hibernate.cfg.MappingSettings#JSON_STREAMING
+	 */
+	protected <X> X fromReader(Reader reader, JavaType<X> javaType, WrapperOptions options)
+			throws SQLException {
+		if ( reader == null ) {
+			return null;
+		}
+		try ( reader ) {
+			if ( embeddableMappingType != null ) {
+				return JsonHelper.deserialize(
+						embeddableMappingType,
+						new ReaderJsonDocumentReader( reader ),
+						javaType.getJavaTypeClass() != Object[].class,
+						options
+				);
+			}
+			if ( javaType instanceof LazyJsonJavaType<?> ) {
+				// the raw document is retained until the value is accessed
+				return javaType.fromString( DataHelper.extractString( reader ) );
+			}
+			return options.getJsonFormatMapper().fromReader( reader, javaType, options );
+		}
+		catch (IOException | UncheckedIOException e) {
+			throw new SQLException( "Unable to read JSON document", e );
+		}
+	}
+
 	@Override
 	public Object createJdbcValue(Object domainValue, WrapperOptions options)
 			throws SQLException {
@@ -122,6 +162,10 @@ protected <X> String toString(X value, JavaType<X> javaType, WrapperOptions opti
 				throw new RuntimeException("Failed to serialize JSON mapping", e );
 			}
 		}
+		if ( javaType instanceof LazyJsonJavaType<?> ) {
+			// an unparsed value is written back as is
+			return javaType.toString( value );
+		}
 		return options.getJsonFormatMapper().toString( value, javaType, options );
 	}
 
@@ -148,19 +192,25 @@ public <X> ValueExtractor<X> getExtractor(JavaType<X> javaType) {
 			@Override
 			protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options)
 					throws SQLException {
-				return fromString( rs.getString( paramIndex ), getJavaType(), options );
+				return options.isJsonStreamingEnabled()
+						? fromReader( rs.getCharacterStream( paramIndex ), getJavaType(), options )
+						: fromString( rs.getString( paramIndex ), getJavaType(), options );
 			}
 
 			@Override
 			protected X doExtract(CallableStatement statement, int index, WrapperOptions options)
 					throws SQLException {
-				return fromString( statement.getString( index ), getJavaType(), options );
+				return options.isJsonStreamingEnabled()
+						? fromReader( statement.getCharacterStream( index ), getJavaType(), options )
+						: fromString( statement.getString( index ), getJavaType(), options );
 			}
 
 			@Override
 			protected X doExtract(CallableStatement statement, String name, WrapperOptions options)
 					throws SQLException {
-				return fromString( statement.getString( name ), getJavaType(), options );
+				return options.isJsonStreamingEnabled()
+						? fromReader( statement.getCharacterStream( name ), getJavaType(), options )
+						: fromString( statement.getString( name ), getJavaType(), options );
 			}
 
 		};
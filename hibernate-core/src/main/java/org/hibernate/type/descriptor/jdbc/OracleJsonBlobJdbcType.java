@@ -4,7 +4,10 @@
  */
 package org.hibernate.type.descriptor.jdbc;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
 import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -95,17 +98,38 @@ public <X> ValueExtractor<X> getExtractor(JavaType<X> javaType) {
 		return new BasicExtractor<>( javaType, this ) {
 			@Override
 			protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
-				return fromString( rs.getBytes( paramIndex ), options );
+				return options.isJsonStreamingEnabled()
+						? fromStream( rs.getBinaryStream( paramIndex ), options )
+						: fromString( rs.getBytes( paramIndex ), options );
 			}
 
 			@Override
 			protected X doExtract(CallableStatement statement, int index, WrapperOptions options) throws SQLException {
-				return fromString( statement.getBytes( index ), options );
+				return options.isJsonStreamingEnabled()
+						? fromStream( statement.getBlob( index ), options )
+						: fromString( statement.getBytes( index ), options );
 			}
 
 			@Override
 			protected X doExtract(CallableStatement statement, String name, WrapperOptions options) throws SQLException {
-				return fromString( statement.getBytes( name ), options );
+				return options.isJsonStreamingEnabled()
+						? fromStream( statement.getBlob( name ), options )
+						: fromString( statement.getBytes( name ), options );
+			}
+
+			private X fromStream(Blob json, WrapperOptions options) throws SQLException {
+				return json == null ? null : fromStream( json.getBinaryStream(), options );
+			}
+
+			private X fromStream(InputStream json, WrapperOptions options) throws SQLException {
+				if ( json == null ) {
+					return null;
+				}
+				return OracleJsonBlobJdbcType.this.fromReader(
+						new InputStreamReader( json, StandardCharsets.UTF_8 ),
+						getJavaType(),
+						options
+				);
 			}
 
 			private X fromString(byte[] json, WrapperOptions options) throws SQLException {
@@ -7,8 +7,11 @@
 import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.java.JavaType;
 
+import java.io.Reader;
 import java.lang.reflect.Type;
 
+import static org.hibernate.type.descriptor.java.DataHelper.extractString;
+
 /**
  * @author Yanming Zhou
  */
@@ -24,6 +27,16 @@ public final <T> T fromString(CharSequence charSequence, JavaType<T> javaType, W
 		return fromString( charSequence, type );
 	}
 
+	@SuppressWarnings("unchecked")
+	@Override
+	public final <T> T fromReader(Reader reader, JavaType<T> javaType, WrapperOptions wrapperOptions) {
+		final Type type = javaType.getJavaType();
+		if ( type == String.class ) {
+			return (T) extractString( reader );
+		}
+		return fromReader( reader, type );
+	}
+
 	@Override
 	public final <T> String toString(T value, JavaType<T> javaType, WrapperOptions wrapperOptions) {
 		final Type type = javaType.getJavaType();
@@ -37,4 +50,12 @@ public final <T> String toString(T value, JavaType<T> javaType, WrapperOptions w
 
 	protected abstract <T> String toString(T value, Type type);
 
+	/**
+	 * Deserializes an object from the character stream, by default by reading
+	 * the whole stream into a string.
+	 */
+	protected <T> T fromReader(Reader reader, Type type) {
+		return fromString( extractString( reader ), type );
+	}
+
 }
@@ -9,6 +9,9 @@
 import org.hibernate.type.descriptor.java.JavaType;
 
 import java.io.IOException;
+import java.io.Reader;
+
+import static org.hibernate.type.descriptor.java.DataHelper.extractString;
 
 /**
  * A mapper for mapping objects to and from a format.
@@ -39,6 +42,19 @@ public interface FormatMapper {
 	 */
 	<T> T fromString(CharSequence charSequence, JavaType<T> javaType, WrapperOptions wrapperOptions);
 
+	/**
+	 * Deserializes an object from the character stream. Mappers which are able to parse
+	 * the stream incrementally should override this method, by default the whole stream
+	 * is read into a string.
+	 *
+	 * @see org.hibernate.cfg.MappingSettings#JSON_STREAMING
+	 *
+	 * @since 8.1
+	 */
+	default <T> T fromReader(Reader reader, JavaType<T> javaType, WrapperOptions wrapperOptions) {
+		return fromString( extractString( reader ), javaType, wrapperOptions );
+	}
+
 	/**
 	 * Serializes the object to a string.
 	 */
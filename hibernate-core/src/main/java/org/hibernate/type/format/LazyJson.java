@@ -0,0 +1,115 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.type.format;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.function.Function;
+
+import org.hibernate.Incubating;
+import org.hibernate.Internal;
+
+/**
+ * A holder for the value of a JSON attribute which defers parsing of the JSON
+ * document read from the database until the value is first {@linkplain #get accessed}.
+ * This is useful for entities with large JSON documents which are often loaded but
+ * rarely read.
+ * <pre>
+ * &#64;Entity
+ * class Document {
+ *     &#64;Id Long id;
+ *     &#64;JdbcTypeCode(SqlTypes.JSON)
+ *     LazyJson&lt;Map&lt;String, Object&gt;&gt; payload;
+ *     ...
+ * }
+ * </pre>
+ * <p>
+ * As long as the value has not been accessed, the raw JSON document is retained,
+ * dirty checking compares raw documents, and the document is written back to the
+ * database as is.
+ *
+ * @param <T> the type of the parsed value
+ *
+ * @since 8.1
+ */
+@Incubating
+public final class LazyJson<T> implements Serializable {
+
+	private transient String json;
+	private transient Function<String, T> parser;
+	private T value;
+
+	private LazyJson(String json, Function<String, T> parser, T value) {
+		this.json = json;
+		this.parser = parser;
+		this.value = value;
+	}
+
+	/**
+	 * A holder for the given, already parsed, value.
+	 */
+	public static <T> LazyJson<T> of(T value) {
+		return new LazyJson<>( null, null, value );
+	}
+
+	/**
+	 * A holder for the given JSON document, which is parsed using the given
+	 * parser when the value is first accessed.
+	 */
+	@Internal
+	public static <T> LazyJson<T> fromJson(String json, Function<String, T> parser) {
+		return new LazyJson<>( json, parser, null );
+	}
+
+	/**
+	 * The value, parsing the JSON document if that has not been done yet.
+	 */
+	public T get() {
+		if ( json != null ) {
+			value = parser.apply( json );
+			json = null;
+			parser = null;
+		}
+		return value;
+	}
+
+	/**
+	 * Replace the value, discarding the JSON document if it has not been parsed yet.
+	 */
+	public void set(T value) {
+		this.value = value;
+		this.json = null;
+		this.parser = null;
+	}
+
+	/**
+	 * Whether the JSON document has been parsed, or the value was set directly.
+	 */
+	public boolean isParsed() {
+		return json == null;
+	}
+
+	/**
+	 * The unparsed JSON document, or {@code null} if it has been {@linkplain #isParsed parsed}.
+	 */
+	@Internal
+	public String getJson() {
+		return json;
+	}
+
+	@Serial
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		// the parser cannot be serialized
+		get();
+		out.defaultWriteObject();
+	}
+
+	@Override
+	public String toString() {
+		return isParsed() ? "LazyJson(" + value + ")" : "LazyJson(<unparsed>)";
+	}
+}
@@ -0,0 +1,323 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.type.format;
+
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.BigDecimalJavaType;
+import org.hibernate.type.descriptor.java.BigIntegerJavaType;
+import org.hibernate.type.descriptor.java.BooleanJavaType;
+import org.hibernate.type.descriptor.java.ByteJavaType;
+import org.hibernate.type.descriptor.java.DoubleJavaType;
+import org.hibernate.type.descriptor.java.FloatJavaType;
+import org.hibernate.type.descriptor.java.IntegerJavaType;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.java.LongJavaType;
+import org.hibernate.type.descriptor.java.ShortJavaType;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.NoSuchElementException;
+
+/**
+ * Implementation of <code>JsonDocumentReader</code> which incrementally consumes the JSON
+ * document from a {@link Reader}, holding only a fixed size buffer and the current value
+ * in memory, instead of the whole document.
+ *
+ * @see StringJsonDocumentReader
+ * @see org.hibernate.cfg.MappingSettings#JSON_STREAMING
+ */
+public class ReaderJsonDocumentReader extends StringJsonDocument implements JsonDocumentReader {
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private final Reader reader;
+	private final char[] buffer;
+	private int position;
+	private int limit;
+
+	// the current value, or object key name
+	private final StringBuilder value = new StringBuilder();
+	private boolean valueAvailable;
+	private boolean valueHasEscape;
+
+	/**
+	 * Creates a new <code>ReaderJsonDocumentReader</code>
+	 * @param reader the reader of the JSON document to be parsed.
+	 */
+	public ReaderJsonDocumentReader(Reader reader) {
+		if ( reader == null ) {
+			throw new IllegalArgumentException( "reader cannot be null" );
+		}
+		this.reader = reader;
+		this.buffer = new char[BUFFER_SIZE];
+	}
+
+	@Override
+	public boolean hasNext() {
+		skipWhiteSpace();
+		return ensureBuffered();
+	}
+
+	/**
+	 * Makes sure that at least one character is available in the buffer.
+	 *
+	 * @return <code>false</code> if the end of the document was reached
+	 */
+	private boolean ensureBuffered() {
+		if ( position < limit ) {
+			return true;
+		}
+		try {
+			int read;
+			do {
+				read = reader.read( buffer, 0, buffer.length );
+			}
+			while ( read == 0 );
+			if ( read < 0 ) {
+				return false;
+			}
+			position = 0;
+			limit = read;
+			return true;
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException( "Unable to read JSON document", e );
+		}
+	}
+
+	private void skipWhiteSpace() {
+		while ( ensureBuffered() ) {
+			if ( !Character.isWhitespace( buffer[position] ) ) {
+				return;
+			}
+			position++;
+		}
+	}
+
+	private void resetValue() {
+		value.setLength( 0 );
+		valueAvailable = false;
+		valueHasEscape = false;
+	}
+
+	/**
+	 * Returns the next item.
+	 * @return the item
+	 * @throws NoSuchElementException no more item available
+	 * @throws IllegalStateException not a well-formed JSON document.
+	 */
+	@Override
+	public JsonDocumentItemType next() {
+		if ( !hasNext() ) {
+			throw new NoSuchElementException( "no more elements" );
+		}
+
+		while ( hasNext() ) {
+			final char c = buffer[position++];
+			final StringJsonDocumentMarker marker = StringJsonDocumentMarker.markerOf( c );
+			moveStateMachine( marker );
+			switch ( marker ) {
+				case OBJECT_START:
+					resetValue();
+					return JsonDocumentItemType.OBJECT_START;
+				case OBJECT_END:
+					resetValue();
+					return JsonDocumentItemType.OBJECT_END;
+				case ARRAY_START:
+					resetValue();
+					return JsonDocumentItemType.ARRAY_START;
+				case ARRAY_END:
+					resetValue();
+					return JsonDocumentItemType.ARRAY_END;
+				case QUOTE:
+					// that's the start of an attribute key or a quoted value
+					consumeQuotedString();
+					switch ( processingStates.getCurrent() ) {
+						case STARTING_ARRAY:
+						case ARRAY:
+						case OBJECT:
+							return JsonDocumentItemType.VALUE;
+						case STARTING_OBJECT:
+						case OBJECT_KEY_NAME:
+							return JsonDocumentItemType.VALUE_KEY;
+						default:
+							throw new IllegalStateException( "unexpected quote read in current processing state " +
+															processingStates.getCurrent() );
+					}
+				case KEY_VALUE_SEPARATOR:
+				case SEPARATOR:
+					break;
+				case OTHER:
+					// here we are in front of a boolean, a null or a numeric value.
+					consumeNonStringValue( c );
+					switch ( processingStates.getCurrent() ) {
+						case ARRAY:
+						case OBJECT:
+							return getUnquotedValueType( value.charAt( 0 ) );
+						default:
+							throw new IllegalStateException( "unexpected read [" + value +
+															"] in current processing state " +
+															processingStates.getCurrent() );
+					}
+				default:
+					throw new IllegalStateException( "unexpected marker [" + marker + "]" );
+			}
+		}
+		throw new IllegalStateException( "unexpected end of JSON in current processing state " +
+										processingStates.getCurrent() );
+	}
+
+	/**
+	 * Consumes a quoted value, the opening quote having already been consumed
+	 */
+	private void consumeQuotedString() {
+		resetValue();
+		while ( ensureBuffered() ) {
+			final char c = buffer[position++];
+			if ( c == '"' ) {
+				valueAvailable = true;
+				return;
+			}
+			value.append( c );
+			if ( c == ESCAPE_CHAR ) {
+				if ( !ensureBuffered() ) {
+					break;
+				}
+				value.append( buffer[position++] );
+				valueHasEscape = true;
+			}
+		}
+		throw new IllegalStateException( "Can't find ending quote of key name" );
+	}
+
+	/**
+	 * Consumes a non-quoted value, the first character of which having already been consumed
+	 */
+	private void consumeNonStringValue(char first) {
+		resetValue();
+		value.append( first );
+		while ( ensureBuffered() ) {
+			final char c = buffer[position];
+			if ( StringJsonDocumentMarker.markerOf( c ) != StringJsonDocumentMarker.OTHER
+					|| Character.isWhitespace( c ) ) {
+				// hit a JSON marker or a space, leave it in the buffer
+				valueAvailable = true;
+				return;
+			}
+			value.append( c );
+			position++;
+		}
+		throw new IllegalStateException( "Unrecognized value: " + value );
+	}
+
+	/**
+	 * Ensures that the current state is on value.
+	 * @throws IllegalStateException if not on "value" state
+	 */
+	private void ensureValueState() throws IllegalStateException {
+		if ( processingStates.getCurrent() != JsonProcessingState.OBJECT
+				&& processingStates.getCurrent() != JsonProcessingState.ARRAY ) {
+			throw new IllegalStateException( "unexpected processing state: " + processingStates.getCurrent() );
+		}
+	}
+
+	/**
+	 * Ensures that we have a value ready to be exposed. i.e we just consume one.
+	 * @throws IllegalStateException if no value available
+	 */
+	private void ensureAvailableValue() throws IllegalStateException {
+		if ( !valueAvailable ) {
+			throw new IllegalStateException( "No available value" );
+		}
+	}
+
+	@Override
+	public String getObjectKeyName() {
+		if ( processingStates.getCurrent() != JsonProcessingState.OBJECT_KEY_NAME ) {
+			throw new IllegalStateException( "unexpected processing state: " + processingStates.getCurrent() );
+		}
+		ensureAvailableValue();
+		return value.toString();
+	}
+
+	@Override
+	public String getStringValue() {
+		ensureValueState();
+		ensureAvailableValue();
+		return valueHasEscape ? unescape( value, 0, value.length() ) : value.toString();
+	}
+
+	@Override
+	public BigDecimal getBigDecimalValue() {
+		ensureValueState();
+		ensureAvailableValue();
+		return BigDecimalJavaType.INSTANCE.fromEncodedString( value, 0, value.length() );
+	}
+
+	@Override
+	public BigInteger getBigIntegerValue() {
+		ensureValueState();
+		ensureAvailableValue();
+		return BigIntegerJavaType.INSTANCE.fromEncodedString( value, 0, value.length() );
+	}
+
+	@Override
+	public double getDoubleValue() {
+		ensureValueState();
+		ensureAvailableValue();
+		return DoubleJavaType.INSTANCE.fromEncodedString( value, 0, value.length() );
+	}
+
+	@Override
+	public float getFloatValue() {
+		ensureValueState();
+		ensureAvailableValue();
+		return FloatJavaType.INSTANCE.fromEncodedString( value, 0, value.length() );
+	}
+
+	@Override
+	public long getLongValue() {
+		ensureValueState();
+		ensureAvailableValue();
+		return LongJavaType.INSTANCE.fromEncodedString( value, 0, value.length() );
+	}
+
+	@Override
+	public int getIntegerValue() {
+		ensureValueState();
+		ensureAvailableValue();
+		return IntegerJavaType.INSTANCE.fromEncodedString( value, 0, value.length() );
+	}
+
+	@Override
+	public short getShortValue() {
+		ensureValueState();
+		ensureAvailableValue();
+		return ShortJavaType.INSTANCE.fromEncodedString( value, 0, value.length() );
+	}
+
+	@Override
+	public byte getByteValue() {
+		ensureValueState();
+		ensureAvailableValue();
+		return ByteJavaType.INSTANCE.fromEncodedString( value, 0, value.length() );
+	}
+
+	@Override
+	public boolean getBooleanValue() {
+		ensureValueState();
+		ensureAvailableValue();
+		return BooleanJavaType.INSTANCE.fromEncodedString( value, 0, value.length() );
+	}
+
+	@Override
+	public <T> T getValue(JavaType<T> javaType, WrapperOptions options) {
+		// the value buffer is reused, so pass a copy
+		return javaType.fromEncodedString( value.toString() );
+	}
+}
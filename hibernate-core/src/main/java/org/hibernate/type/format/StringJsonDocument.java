@@ -29,6 +29,158 @@ enum JsonProcessingState {
 	// Stack of current processing states
 	protected final StandardStack<JsonProcessingState> processingStates = new StandardStack<>();
 
+	protected static final char ESCAPE_CHAR = '\\';
 
+	/**
+	 * Moves the state machine according to the current state and the given marker
+	 *
+	 * @param marker the marker we just read
+	 */
+	protected void moveStateMachine(StringJsonDocumentMarker marker) {
+		JsonProcessingState currentState = this.processingStates.getCurrent();
+		switch (marker) {
+			case OBJECT_START:
+				if ( currentState == JsonProcessingState.STARTING_ARRAY ) {
+					// move the state machine to ARRAY as we are adding something to it
+					this.processingStates.push( JsonProcessingState.ARRAY);
+				}
+				this.processingStates.push( JsonProcessingState.STARTING_OBJECT );
+				break;
+			case OBJECT_END:
+				assert this.processingStates.getCurrent() == JsonProcessingState.OBJECT ||
+					this.processingStates.getCurrent() == JsonProcessingState.STARTING_OBJECT;
+				if ( this.processingStates.pop() == JsonProcessingState.OBJECT) {
+					assert this.processingStates.getCurrent() == JsonProcessingState.STARTING_OBJECT;
+					this.processingStates.pop();
+				}
+				break;
+			case ARRAY_START:
+				this.processingStates.push( JsonProcessingState.STARTING_ARRAY );
+				break;
+			case ARRAY_END:
+				assert this.processingStates.getCurrent() == JsonProcessingState.ARRAY ||
+					this.processingStates.getCurrent() == JsonProcessingState.STARTING_ARRAY;
+				if ( this.processingStates.pop() == JsonProcessingState.ARRAY) {
+					assert this.processingStates.getCurrent() == JsonProcessingState.STARTING_ARRAY;
+					this.processingStates.pop();
+				}
+				break;
+			case SEPARATOR:
+				// While processing an object, following SEPARATOR that will a key
+				if ( currentState == JsonProcessingState.OBJECT) {
+					this.processingStates.push( JsonProcessingState.OBJECT_KEY_NAME );
+				}
+				break;
+			case KEY_VALUE_SEPARATOR:
+				// that's the start of an attribute value
+				assert this.processingStates.getCurrent() == JsonProcessingState.OBJECT_KEY_NAME;
+				// flush the OBJECT_KEY_NAME
+				this.processingStates.pop();
+				assert this.processingStates.getCurrent() == JsonProcessingState.OBJECT;
+				break;
+			case QUOTE:
+				if (currentState == JsonProcessingState.STARTING_ARRAY) {
+					this.processingStates.push( JsonProcessingState.ARRAY );
+				}
+				if (currentState == JsonProcessingState.STARTING_OBJECT) {
+					this.processingStates.push( JsonProcessingState.OBJECT );
+					this.processingStates.push( JsonProcessingState.OBJECT_KEY_NAME );
+				}
+				break;
+			case OTHER:
+				if ( currentState == JsonProcessingState.STARTING_ARRAY) {
+					this.processingStates.push( JsonProcessingState.ARRAY );
+				}
+				break;
+			default:
+				throw new IllegalStateException( "Unexpected JsonProcessingState " + marker );
+		}
+	}
+
+	/**
+	 * Gets the type of unquoted value.
+	 * We assume that the String value follows JSON specification. I.e unquoted value that starts with 't' can't be anything else
+	 * than <code>true</code>
+	 * @param jsonValueChar the value
+	 * @return the type of the value
+	 */
+	protected static JsonDocumentItemType getUnquotedValueType(char jsonValueChar) {
+		switch(jsonValueChar) {
+			case 't': {
+				//true
+				return JsonDocumentItemType.BOOLEAN_VALUE;
+			}
+			case 'f': {
+				//false
+				return JsonDocumentItemType.BOOLEAN_VALUE;
+			}
+			case 'n' : {
+					// null
+					return JsonDocumentItemType.NULL_VALUE;
+				}
+			case '-':
+			case '0':
+			case '1':
+			case '2':
+			case '3':
+			case '4':
+			case '5':
+			case '6':
+			case '7':
+			case '8':
+			case '9': {
+				return JsonDocumentItemType.NUMERIC_VALUE;
+			}
+			default :
+				return JsonDocumentItemType.VALUE;
+			}
+	}
+
+	/**
+	 * Returns unescaped string
+	 * @param string the character sequence to be unescaped
+	 * @param start the begin index within the string
+	 * @param end the end index within the string
+	 * @return the unescaped string
+	 */
+	protected static String unescape(CharSequence string, int start, int end) {
+		final StringBuilder sb = new StringBuilder( end - start );
+		for ( int i = start; i < end; i++ ) {
+			final char c = string.charAt( i );
+			if ( c == '\\' ) {
+				i++;
+				final char cNext = string.charAt( i );
+				switch ( cNext ) {
+					case '\\':
+					case '"':
+					case '/':
+						sb.append( cNext );
+						break;
+					case 'b':
+						sb.append( '\b' );
+						break;
+					case 'f':
+						sb.append( '\f' );
+						break;
+					case 'n':
+						sb.append( '\n' );
+						break;
+					case 'r':
+						sb.append( '\r' );
+						break;
+					case 't':
+						sb.append( '\t' );
+						break;
+					case 'u':
+						sb.append( (char) Integer.parseInt( string, i + 1, i + 5, 16 ) );
+						i += 4;
+						break;
+				}
+				continue;
+			}
+			sb.append( c );
+		}
+		return sb.toString();
+	}
 
 }
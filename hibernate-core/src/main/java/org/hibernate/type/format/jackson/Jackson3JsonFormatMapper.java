@@ -15,6 +15,7 @@
 import tools.jackson.databind.cfg.MapperBuilder;
 import tools.jackson.databind.json.JsonMapper;
 
+import java.io.Reader;
 import java.lang.reflect.Type;
 import java.util.List;
 
@@ -80,6 +81,16 @@ public <T> T fromString(CharSequence charSequence, Type type) {
 		}
 	}
 
+	@Override
+	protected <T> T fromReader(Reader reader, Type type) {
+		try {
+			return jsonMapper.readValue( reader, jsonMapper.constructType( type ) );
+		}
+		catch (JacksonException e) {
+			throw new IllegalArgumentException( "Could not deserialize JSON to java type: " + type, e );
+		}
+	}
+
 	@Override
 	public <T> String toString(T value, Type type) {
 		try {
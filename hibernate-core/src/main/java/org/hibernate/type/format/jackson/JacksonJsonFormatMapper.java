@@ -16,6 +16,8 @@
 import org.hibernate.type.format.FormatMapperCreationContext;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Type;
 import java.util.List;
 
@@ -77,6 +79,19 @@ public <T> T fromString(CharSequence charSequence, Type type) {
 		}
 	}
 
+	@Override
+	protected <T> T fromReader(Reader reader, Type type) {
+		try {
+			return objectMapper.readValue( reader, objectMapper.constructType( type ) );
+		}
+		catch (JsonProcessingException e) {
+			throw new IllegalArgumentException( "Could not deserialize JSON to java type: " + type, e );
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException( "Could not read JSON document", e );
+		}
+	}
+
 	@Override
 	public <T> String toString(T value, Type type) {
 		try {
@@ -10,6 +10,7 @@
 import jakarta.json.bind.JsonbBuilder;
 import jakarta.json.bind.JsonbException;
 
+import java.io.Reader;
 import java.lang.reflect.Type;
 
 /**
@@ -41,6 +42,16 @@ public <T> T fromString(CharSequence charSequence, Type type) {
 		}
 	}
 
+	@Override
+	protected <T> T fromReader(Reader reader, Type type) {
+		try {
+			return jsonb.fromJson( reader, type );
+		}
+		catch (JsonbException e) {
+			throw new IllegalArgumentException( "Could not deserialize JSON to java type: " + type, e );
+		}
+	}
+
 	@Override
 	public <T> String toString(T value, Type type) {
 		try {
@@ -0,0 +1,256 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.LockOptions;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.cfg.FetchSettings;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.loader.ast.spi.BatchLoaderFactory;
+import org.hibernate.loader.ast.spi.EntityBatchLoader;
+
+import org.hibernate.testing.orm.junit.DialectFeatureCheck;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FetchSettings#BATCH_FETCH_ADAPTIVE}
+ */
+@DomainModel(annotatedClasses = {
+		AdaptiveBatchFetchTest.Owner.class,
+		AdaptiveBatchFetchTest.Item.class,
+		AdaptiveBatchFetchTest.Category.class,
+		AdaptiveBatchFetchTest.Label.class
+})
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = FetchSettings.BATCH_FETCH_ADAPTIVE, value = "true"),
+		@Setting(name = FetchSettings.BATCH_FETCH_ADAPTIVE_MAX_SIZE, value = "16")
+})
+public class AdaptiveBatchFetchTest {
+
+	private static final int COUNT = 40;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				final Category category = new Category( i, "category " + i );
+				session.persist( category );
+				final Owner owner = new Owner( i, "owner " + i );
+				session.persist( owner );
+				final Label label = new Label( i, "label " + i );
+				session.persist( label );
+				final Item item = new Item( i, owner, category );
+				item.label = label;
+				session.persist( item );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testBatchSizeGrowsWhenAllPrefetchedEntitiesAreAccessed(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final List<Item> items =
+					session.createSelectionQuery( "from Item order by id", Item.class ).getResultList();
+			for ( Item item : items ) {
+				assertThat( item.getCategory().getName() ).isNotNull();
+			}
+		} );
+
+		final int batchSize = statistics.getEntityStatistics( Category.class.getName() ).getBatchFetchSize();
+		if ( scope.getSessionFactory().getJdbcServices().getDialect().useArrayForMultiValuedParameters() ) {
+			assertThat( batchSize ).isEqualTo( 16 );
+		}
+		else {
+			// adaptive sizing is only applied to ARRAY parameter batch loading
+			assertThat( batchSize ).isEqualTo( -1 );
+		}
+	}
+
+	@Test
+	@RequiresDialectFeature(feature = UsesArrayForMultiValuedParameters.class,
+			comment = "adaptive sizing is only applied to ARRAY parameter batch loading")
+	public void testLearnedBatchSizeSharedByRebuiltLoaders(SessionFactoryScope scope) {
+		final var factory = scope.getSessionFactory();
+		scope.inTransaction( session -> {
+			final List<Item> items =
+					session.createSelectionQuery( "from Item order by id", Item.class ).getResultList();
+			for ( Item item : items ) {
+				assertThat( item.getLabel().getName() ).isNotNull();
+			}
+		} );
+
+		final var labelStatistics = factory.getStatistics().getEntityStatistics( Label.class.getName() );
+		scope.inTransaction( session -> {
+			session.createSelectionQuery( "from Item order by id", Item.class ).getResultList();
+			// as for a session with non-default load query influencers
+			final EntityBatchLoader<Label> loader =
+					factory.getServiceRegistry().requireService( BatchLoaderFactory.class )
+							.createEntityBatchLoader(
+									4,
+									factory.getMappingMetamodel().getEntityDescriptor( Label.class ),
+									new LoadQueryInfluencers( factory )
+							);
+			final long loaded = labelStatistics.getLoadCount();
+			loader.load( 0, LockOptions.NONE, null, session );
+			// the new loader starts from the learned batch size
+			assertThat( labelStatistics.getLoadCount() - loaded ).isEqualTo( 16 );
+		} );
+	}
+
+	public static class UsesArrayForMultiValuedParameters implements DialectFeatureCheck {
+		@Override
+		public boolean apply(Dialect dialect) {
+			return dialect.useArrayForMultiValuedParameters();
+		}
+	}
+
+	@Test
+	public void testBatchSizeShrinksWhenPrefetchedCollectionsAreNotAccessed(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final List<Owner> owners =
+					session.createSelectionQuery( "from Owner order by id", Owner.class ).getResultList();
+			// only touch every tenth collection
+			for ( int i = 0; i < owners.size(); i += 10 ) {
+				assertThat( owners.get( i ).getItems() ).hasSize( 1 );
+			}
+		} );
+
+		final int batchSize =
+				statistics.getCollectionStatistics( Owner.class.getName() + ".items" ).getBatchFetchSize();
+		if ( scope.getSessionFactory().getJdbcServices().getDialect().useArrayForMultiValuedParameters() ) {
+			assertThat( batchSize ).isGreaterThan( 0 ).isLessThan( 8 );
+		}
+		else {
+			// adaptive sizing is only applied to ARRAY parameter batch loading
+			assertThat( batchSize ).isEqualTo( -1 );
+		}
+	}
+
+	@Entity(name = "Owner")
+	@Table(name = "adaptive_owner")
+	public static class Owner {
+		@Id
+		Integer id;
+		String name;
+		@OneToMany(mappedBy = "owner")
+		@BatchSize(size = 8)
+		List<Item> items = new ArrayList<>();
+
+		public Owner() {
+		}
+
+		public Owner(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public List<Item> getItems() {
+			return items;
+		}
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "adaptive_item")
+	public static class Item {
+		@Id
+		Integer id;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Owner owner;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Category category;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Label label;
+
+		public Item() {
+		}
+
+		public Item(Integer id, Owner owner, Category category) {
+			this.id = id;
+			this.owner = owner;
+			this.category = category;
+		}
+
+		public Category getCategory() {
+			return category;
+		}
+
+		public Label getLabel() {
+			return label;
+		}
+	}
+
+	@Entity(name = "Category")
+	@Table(name = "adaptive_category")
+	@BatchSize(size = 4)
+	public static class Category {
+		@Id
+		Integer id;
+		String name;
+
+		public Category() {
+		}
+
+		public Category(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Label")
+	@Table(name = "adaptive_label")
+	@BatchSize(size = 4)
+	public static class Label {
+		@Id
+		Integer id;
+		String name;
+
+		public Label() {
+		}
+
+		public Label(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
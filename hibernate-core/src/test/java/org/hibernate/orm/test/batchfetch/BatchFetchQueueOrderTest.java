@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests which keys the {@link org.hibernate.engine.spi.BatchFetchQueue}
+ * selects for a batch.
+ */
+@DomainModel(annotatedClasses = BatchFetchQueueOrderTest.Node.class)
+@SessionFactory
+public class BatchFetchQueueOrderTest {
+
+	private static final int COUNT = 100;
+	private static final int BATCH_SIZE = 8;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				session.persist( new Node( i, "node " + i ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testBatchPrefersFollowingKeys(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Node[] nodes = new Node[COUNT];
+			for ( int i = 0; i < COUNT; i++ ) {
+				nodes[i] = session.getReference( Node.class, i );
+			}
+			Hibernate.initialize( nodes[50] );
+			for ( int i = 50; i < 50 + BATCH_SIZE; i++ ) {
+				assertThat( Hibernate.isInitialized( nodes[i] ) ).isTrue();
+			}
+			assertThat( Hibernate.isInitialized( nodes[49] ) ).isFalse();
+			assertThat( Hibernate.isInitialized( nodes[50 + BATCH_SIZE] ) ).isFalse();
+		} );
+	}
+
+	@Test
+	public void testBatchFallsBackToPrecedingKeys(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Node[] nodes = new Node[COUNT];
+			for ( int i = 0; i < COUNT; i++ ) {
+				nodes[i] = session.getReference( Node.class, i );
+			}
+			final int last = COUNT - 1;
+			Hibernate.initialize( nodes[last] );
+			for ( int i = last; i > last - BATCH_SIZE; i-- ) {
+				assertThat( Hibernate.isInitialized( nodes[i] ) ).isTrue();
+			}
+			assertThat( Hibernate.isInitialized( nodes[last - BATCH_SIZE] ) ).isFalse();
+			assertThat( Hibernate.isInitialized( nodes[0] ) ).isFalse();
+		} );
+	}
+
+	@Entity(name = "Node")
+	@Table(name = "batch_node")
+	@BatchSize(size = BATCH_SIZE)
+	public static class Node {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Node() {
+		}
+
+		public Node(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.bytecode.enhancement.lazy.proxy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.FetchSettings;
+
+import org.hibernate.testing.bytecode.enhancement.EnhancementOptions;
+import org.hibernate.testing.bytecode.enhancement.extension.BytecodeEnhanced;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FetchSettings#ENHANCED_PROXY_BATCH_RESOLUTION}
+ */
+@DomainModel(annotatedClasses = {
+		EnhancedProxyBatchResolutionTest.Shipment.class,
+		EnhancedProxyBatchResolutionTest.Carrier.class
+})
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = @Setting(name = FetchSettings.ENHANCED_PROXY_BATCH_RESOLUTION, value = "true"))
+@BytecodeEnhanced
+@EnhancementOptions(lazyLoading = true)
+public class EnhancedProxyBatchResolutionTest {
+
+	private static final int COUNT = 20;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= COUNT; i++ ) {
+				final Carrier carrier = new Carrier( i, "carrier " + i );
+				session.persist( carrier );
+				session.persist( new Shipment( i, carrier ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testAssociationsResolvedTogether(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			statistics.clear();
+			final List<Shipment> shipments =
+					session.createSelectionQuery( "from Shipment order by id", Shipment.class )
+							.getResultList();
+			assertThat( shipments ).hasSize( COUNT );
+			assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+
+			for ( Shipment shipment : shipments ) {
+				assertThat( Hibernate.isInitialized( shipment.carrier ) ).isFalse();
+			}
+
+			// accessing one carrier initializes all of them
+			assertThat( shipments.get( 5 ).carrier.name ).isEqualTo( "carrier 6" );
+			for ( Shipment shipment : shipments ) {
+				assertThat( Hibernate.isInitialized( shipment.carrier ) ).isTrue();
+				assertThat( shipment.carrier.name ).isEqualTo( "carrier " + shipment.id );
+			}
+			assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2 );
+		} );
+	}
+
+	@Test
+	public void testReferencesResolvedTogether(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			statistics.clear();
+			final List<Carrier> carriers = new ArrayList<>();
+			for ( int i = 1; i <= COUNT; i++ ) {
+				carriers.add( session.getReference( Carrier.class, i ) );
+			}
+			// does not exist
+			final Carrier missing = session.getReference( Carrier.class, COUNT + 1 );
+			assertThat( statistics.getPrepareStatementCount() ).isZero();
+
+			Hibernate.initialize( carriers.get( 0 ) );
+			for ( Carrier carrier : carriers ) {
+				assertThat( Hibernate.isInitialized( carrier ) ).isTrue();
+			}
+			assertThat( Hibernate.isInitialized( missing ) ).isFalse();
+			assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		} );
+	}
+
+	@Entity(name = "Shipment")
+	@Table(name = "proxy_batch_shipment")
+	public static class Shipment {
+		@Id
+		private Integer id;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Carrier carrier;
+
+		public Shipment() {
+		}
+
+		public Shipment(Integer id, Carrier carrier) {
+			this.id = id;
+			this.carrier = carrier;
+		}
+	}
+
+	@Entity(name = "Carrier")
+	@Table(name = "proxy_batch_carrier")
+	public static class Carrier {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Carrier() {
+		}
+
+		public Carrier(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
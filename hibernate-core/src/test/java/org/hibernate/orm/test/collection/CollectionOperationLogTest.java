@@ -0,0 +1,207 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.collection;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.FlushSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FlushSettings#COLLECTION_OPERATION_LOG_THRESHOLD}
+ */
+@DomainModel(annotatedClasses = {
+		CollectionOperationLogTest.Owner.class,
+		CollectionOperationLogTest.Child.class
+})
+@SessionFactory
+@ServiceRegistry(settings = {
+		@Setting(name = FlushSettings.COLLECTION_OPERATION_LOG_THRESHOLD, value = "10"),
+		@Setting(name = FlushSettings.COLLECTION_OPERATION_LOG_LIMIT, value = "5")
+})
+public class CollectionOperationLogTest {
+
+	private static final int COUNT = 20;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Owner owner = new Owner( 1 );
+			for ( int i = 0; i < COUNT; i++ ) {
+				owner.bag.add( new Child( i, "bag " + i ) );
+				owner.list.add( new Child( 100 + i, "list " + i ) );
+			}
+			session.persist( owner );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testBagAdditionsAndRemovals(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Owner owner = session.find( Owner.class, 1 );
+			owner.bag.add( new Child( 50, "bag 50" ) );
+			owner.bag.add( new Child( 51, "bag 51" ) );
+			owner.bag.remove( session.find( Child.class, 3 ) );
+		} );
+		scope.inTransaction( session -> {
+			final Owner owner = session.find( Owner.class, 1 );
+			assertThat( ids( owner.bag ) )
+					.hasSize( COUNT + 1 )
+					.contains( 50, 51 )
+					.doesNotContain( 3 );
+			// orphan removal
+			assertThat( session.find( Child.class, 3 ) ).isNull();
+		} );
+	}
+
+	@Test
+	public void testListAppendAndRemoveLast(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Owner owner = session.find( Owner.class, 1 );
+			owner.list.remove( COUNT - 1 );
+			owner.list.add( new Child( 200, "list 200" ) );
+			owner.list.add( new Child( 201, "list 201" ) );
+		} );
+		scope.inTransaction( session -> {
+			final Owner owner = session.find( Owner.class, 1 );
+			final List<Integer> ids = ids( owner.list );
+			assertThat( ids ).hasSize( COUNT + 1 );
+			assertThat( ids.subList( 0, COUNT - 1 ) ).isEqualTo( expectedListIds( COUNT - 1 ) );
+			assertThat( ids.subList( COUNT - 1, COUNT + 1 ) ).containsExactly( 200, 201 );
+		} );
+	}
+
+	@Test
+	public void testListInsertionInMiddle(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Owner owner = session.find( Owner.class, 1 );
+			owner.list.add( 5, new Child( 200, "list 200" ) );
+			owner.list.remove( 0 );
+		} );
+		scope.inTransaction( session -> {
+			final Owner owner = session.find( Owner.class, 1 );
+			final List<Integer> expected = new ArrayList<>( expectedListIds( COUNT ) );
+			expected.add( 5, 200 );
+			expected.remove( 0 );
+			assertThat( ids( owner.list ) ).isEqualTo( expected );
+		} );
+	}
+
+	@Test
+	public void testListExceedingLogLimit(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Owner owner = session.find( Owner.class, 1 );
+			for ( int i = 0; i < 8; i++ ) {
+				owner.list.add( new Child( 200 + i, "list " + ( 200 + i ) ) );
+			}
+		} );
+		scope.inTransaction( session -> {
+			final Owner owner = session.find( Owner.class, 1 );
+			final List<Integer> ids = ids( owner.list );
+			assertThat( ids ).hasSize( COUNT + 8 );
+			assertThat( ids.subList( COUNT, COUNT + 8 ) )
+					.containsExactly( 200, 201, 202, 203, 204, 205, 206, 207 );
+		} );
+	}
+
+	@Test
+	public void testListAcrossFlushes(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Owner owner = session.find( Owner.class, 1 );
+			owner.list.add( new Child( 200, "list 200" ) );
+			session.flush();
+			owner.list.set( 0, new Child( 201, "list 201" ) );
+			session.flush();
+			owner.list.add( new Child( 202, "list 202" ) );
+		} );
+		scope.inTransaction( session -> {
+			final Owner owner = session.find( Owner.class, 1 );
+			final List<Integer> expected = new ArrayList<>( expectedListIds( COUNT ) );
+			expected.add( 200 );
+			expected.set( 0, 201 );
+			expected.add( 202 );
+			assertThat( ids( owner.list ) ).isEqualTo( expected );
+		} );
+	}
+
+	private static List<Integer> ids(List<Child> children) {
+		final List<Integer> ids = new ArrayList<>();
+		for ( Child child : children ) {
+			ids.add( child.id );
+		}
+		return ids;
+	}
+
+	private static List<Integer> expectedListIds(int count) {
+		final List<Integer> ids = new ArrayList<>();
+		for ( int i = 0; i < count; i++ ) {
+			ids.add( 100 + i );
+		}
+		return ids;
+	}
+
+	@Entity(name = "Owner")
+	@Table(name = "log_owner")
+	public static class Owner {
+		@Id
+		private Integer id;
+
+		@OneToMany(cascade = CascadeType.PERSIST, orphanRemoval = true)
+		@JoinColumn(name = "bag_owner_id")
+		private List<Child> bag = new ArrayList<>();
+
+		@OneToMany(cascade = CascadeType.PERSIST)
+		@JoinColumn(name = "list_owner_id")
+		@OrderColumn(name = "position")
+		private List<Child> list = new ArrayList<>();
+
+		public Owner() {
+		}
+
+		public Owner(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Child")
+	@Table(name = "log_child")
+	public static class Child {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Child() {
+		}
+
+		public Child(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.filter;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that query plans are cached and reused when filters are enabled,
+ * with the filter arguments bound at execution time.
+ */
+@DomainModel(annotatedClasses = FilterQueryPlanCachingTest.Account.class)
+@SessionFactory(generateStatistics = true)
+public class FilterQueryPlanCachingTest {
+
+	private static final String QUERY = "select a.id from Account a order by a.id";
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Account( 1, "EU", 10 ) );
+			session.persist( new Account( 2, "EU", 20 ) );
+			session.persist( new Account( 3, "US", 30 ) );
+			session.persist( new Account( 4, "APAC", 40 ) );
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+		scope.getSessionFactory().getQueryEngine().getInterpretationCache().close();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testPlanReusedWithDifferentArguments(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		assertThat( regionIds( scope, "EU" ) ).containsExactly( 1, 2 );
+		final long misses = statistics.getQueryPlanCacheMissCount();
+		final long hits = statistics.getQueryPlanCacheHitCount();
+
+		assertThat( regionIds( scope, "US" ) ).containsExactly( 3 );
+		assertThat( regionIds( scope, "APAC" ) ).containsExactly( 4 );
+
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( misses );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isGreaterThan( hits );
+	}
+
+	@Test
+	public void testPlanKeyedOnArgumentListSize(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		assertThat( regionListIds( scope, List.of( "EU", "US" ) ) ).containsExactly( 1, 2, 3 );
+		final long misses = statistics.getQueryPlanCacheMissCount();
+
+		// same number of elements, so the plan is reused
+		assertThat( regionListIds( scope, List.of( "US", "APAC" ) ) ).containsExactly( 3, 4 );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( misses );
+
+		// a different number of elements needs a different plan
+		assertThat( regionListIds( scope, List.of( "APAC" ) ) ).containsExactly( 4 );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( misses + 1 );
+	}
+
+	@Test
+	public void testCollectionArgumentBoundOncePerExecution(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		assertThat( regionListIds( scope, new LinkedHashSet<>( List.of( "EU", "US", "APAC" ) ) ) )
+				.containsExactly( 1, 2, 3, 4 );
+		final long misses = statistics.getQueryPlanCacheMissCount();
+
+		// the plan is reused, and each element of the set is bound
+		assertThat( regionListIds( scope, new LinkedHashSet<>( List.of( "US", "APAC", "NONE" ) ) ) )
+				.containsExactly( 3, 4 );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( misses );
+	}
+
+	@Test
+	public void testPlanKeyedOnEnabledFilters(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		assertThat( regionIds( scope, "EU" ) ).containsExactly( 1, 2 );
+		final long misses = statistics.getQueryPlanCacheMissCount();
+
+		final List<Integer> ids = scope.fromTransaction( session -> {
+			session.enableFilter( "region" ).setParameter( "region", "EU" );
+			session.enableFilter( "minimumBalance" ).setParameter( "balance", 15 );
+			return session.createSelectionQuery( QUERY, Integer.class ).getResultList();
+		} );
+		assertThat( ids ).containsExactly( 2 );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( misses + 1 );
+
+		assertThat( scope.fromTransaction( session -> session.createSelectionQuery( QUERY, Integer.class )
+				.getResultList() ) ).containsExactly( 1, 2, 3, 4 );
+	}
+
+	private static List<Integer> regionIds(SessionFactoryScope scope, String region) {
+		return scope.fromTransaction( session -> {
+			session.enableFilter( "region" ).setParameter( "region", region );
+			return session.createSelectionQuery( QUERY, Integer.class ).getResultList();
+		} );
+	}
+
+	private static List<Integer> regionListIds(SessionFactoryScope scope, Collection<String> regions) {
+		return scope.fromTransaction( session -> {
+			session.enableFilter( "regions" ).setParameterList( "regions", regions );
+			return session.createSelectionQuery( QUERY, Integer.class ).getResultList();
+		} );
+	}
+
+	@FilterDef(name = "region", parameters = @ParamDef(name = "region", type = String.class))
+	@FilterDef(name = "regions", parameters = @ParamDef(name = "regions", type = String.class))
+	@FilterDef(name = "minimumBalance", parameters = @ParamDef(name = "balance", type = Integer.class))
+	@Filter(name = "region", condition = "region = :region")
+	@Filter(name = "regions", condition = "region in (:regions)")
+	@Filter(name = "minimumBalance", condition = "balance >= :balance")
+	@Entity(name = "Account")
+	public static class Account {
+		@Id
+		private Integer id;
+		private String region;
+		private Integer balance;
+
+		public Account() {
+		}
+
+		public Account(Integer id, String region, Integer balance) {
+			this.id = id;
+			this.region = region;
+			this.balance = balance;
+		}
+	}
+}
@@ -0,0 +1,161 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.graph;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.graph.RootGraph;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that query plans are cached for queries with an applied entity graph,
+ * and shared between graphs with the same structure.
+ */
+@DomainModel(annotatedClasses = {
+		EntityGraphQueryPlanCachingTest.Author.class,
+		EntityGraphQueryPlanCachingTest.Publisher.class,
+		EntityGraphQueryPlanCachingTest.Book.class
+})
+@SessionFactory(generateStatistics = true)
+public class EntityGraphQueryPlanCachingTest {
+
+	private static final String QUERY = "from Book order by id";
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author author = new Author( 1, "Gavin" );
+			final Publisher publisher = new Publisher( 1, "Manning" );
+			session.persist( author );
+			session.persist( publisher );
+			session.persist( new Book( 1, "Hibernate in Action", author, publisher ) );
+			session.persist( new Book( 2, "Java Persistence with Hibernate", author, publisher ) );
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+		scope.getSessionFactory().getQueryEngine().getInterpretationCache().close();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testPlanSharedByGraphsWithSameStructure(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		List<Book> books = booksWithGraph( scope, GraphSemantic.FETCH, "author" );
+		assertThat( books ).hasSize( 2 );
+		assertThat( Hibernate.isInitialized( books.get( 0 ).author ) ).isTrue();
+		assertThat( Hibernate.isInitialized( books.get( 0 ).publisher ) ).isFalse();
+		final long misses = statistics.getQueryPlanCacheMissCount();
+		final long hits = statistics.getQueryPlanCacheHitCount();
+
+		books = booksWithGraph( scope, GraphSemantic.FETCH, "author" );
+		assertThat( Hibernate.isInitialized( books.get( 0 ).author ) ).isTrue();
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( misses );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isGreaterThan( hits );
+	}
+
+	@Test
+	public void testPlanKeyedOnGraphStructure(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		booksWithGraph( scope, GraphSemantic.FETCH, "author" );
+		final long misses = statistics.getQueryPlanCacheMissCount();
+
+		List<Book> books = booksWithGraph( scope, GraphSemantic.FETCH, "publisher" );
+		assertThat( Hibernate.isInitialized( books.get( 0 ).author ) ).isFalse();
+		assertThat( Hibernate.isInitialized( books.get( 0 ).publisher ) ).isTrue();
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( misses + 1 );
+
+		books = booksWithGraph( scope, GraphSemantic.FETCH, "author", "publisher" );
+		assertThat( Hibernate.isInitialized( books.get( 0 ).author ) ).isTrue();
+		assertThat( Hibernate.isInitialized( books.get( 0 ).publisher ) ).isTrue();
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( misses + 2 );
+
+		booksWithGraph( scope, GraphSemantic.LOAD, "author" );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( misses + 3 );
+	}
+
+	private static List<Book> booksWithGraph(SessionFactoryScope scope, GraphSemantic semantic, String... attributes) {
+		return scope.fromTransaction( session -> {
+			final RootGraph<Book> graph = session.createEntityGraph( Book.class );
+			for ( String attribute : attributes ) {
+				graph.addAttributeNode( attribute );
+			}
+			return session.createSelectionQuery( QUERY, Book.class )
+					.setEntityGraph( graph, semantic )
+					.getResultList();
+		} );
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		Integer id;
+		String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Publisher")
+	public static class Publisher {
+		@Id
+		Integer id;
+		String name;
+
+		public Publisher() {
+		}
+
+		public Publisher(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Author author;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Publisher publisher;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author, Publisher publisher) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+			this.publisher = publisher;
+		}
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.jdbc.internal;
+
+import java.sql.SQLException;
+
+import org.hibernate.cfg.JdbcSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link JdbcSettings#STATEMENT_CACHE_SIZE}
+ */
+@DomainModel(annotatedClasses = StatementCacheTest.Account.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = @Setting(name = JdbcSettings.STATEMENT_CACHE_SIZE, value = "2"))
+public class StatementCacheTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				session.persist( new Account( i, "account " + i ) );
+			}
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testStatementReuse(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				final String name =
+						session.createSelectionQuery( "select name from Account where id = :id", String.class )
+								.setParameter( "id", i )
+								.getSingleResult();
+				assertThat( name ).isEqualTo( "account " + i );
+			}
+		} );
+		assertThat( statistics.getPreparedStatementCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPreparedStatementCacheHitCount() ).isEqualTo( 4 );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testMaxRowsResetOnReuse(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			// not every dialect limits a query through setMaxRows(),
+			// so set it directly on the statement given back to the cache
+			final var jdbcCoordinator = session.getJdbcCoordinator();
+			final String sql = "select id from cached_statement_account order by id";
+			try {
+				final var limited = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
+				limited.setMaxRows( 2 );
+				jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( limited );
+
+				final var reused = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
+				assertThat( reused ).isSameAs( limited );
+				assertThat( reused.getMaxRows() ).isZero();
+				int rows = 0;
+				try ( var resultSet = reused.executeQuery() ) {
+					while ( resultSet.next() ) {
+						rows++;
+					}
+				}
+				assertThat( rows ).isEqualTo( 5 );
+				jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( reused );
+			}
+			catch (SQLException e) {
+				throw new RuntimeException( e );
+			}
+		} );
+		assertThat( statistics.getPreparedStatementCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPreparedStatementCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testLeastRecentlyUsedEviction(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 2; i++ ) {
+				session.createSelectionQuery( "select id from Account where name = 'x'", Integer.class ).getResultList();
+				session.createSelectionQuery( "select id from Account where name = 'y'", Integer.class ).getResultList();
+				session.createSelectionQuery( "select id from Account where name = 'z'", Integer.class ).getResultList();
+			}
+		} );
+		// with room for only two statements, each of the three is evicted before it is reused
+		assertThat( statistics.getPreparedStatementCacheHitCount() ).isZero();
+		assertThat( statistics.getPreparedStatementCacheMissCount() ).isEqualTo( 6 );
+	}
+
+	@Test
+	public void testCacheClearedOnConnectionRelease(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session ->
+				session.createSelectionQuery( "from Account", Account.class ).getResultList() );
+		scope.inTransaction( session ->
+				session.createSelectionQuery( "from Account", Account.class ).getResultList() );
+		assertThat( statistics.getPreparedStatementCacheHitCount() ).isZero();
+		assertThat( statistics.getPreparedStatementCacheMissCount() ).isEqualTo( 2 );
+	}
+
+	@Entity(name = "Account")
+	@Table(name = "cached_statement_account")
+	public static class Account {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Account() {
+		}
+
+		public Account(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
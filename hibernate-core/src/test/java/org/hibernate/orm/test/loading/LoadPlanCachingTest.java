@@ -0,0 +1,126 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.loading;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.LockOptions;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.loader.ast.internal.LoadPlanCache;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that loaders built for sessions with enabled filters are cached
+ * and reused by other sessions, with the filter arguments bound at
+ * execution time.
+ */
+@DomainModel(annotatedClasses = LoadPlanCachingTest.Account.class)
+@SessionFactory(generateStatistics = true)
+public class LoadPlanCachingTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Account( 1, "EU" ) );
+			session.persist( new Account( 2, "US" ) );
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testLoaderReusedWithDifferentArguments(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		assertThat( find( scope, 1, "EU" ) ).isNotNull();
+		final long misses = statistics.getLoadPlanCacheMissCount();
+		final long hits = statistics.getLoadPlanCacheHitCount();
+		assertThat( misses ).isPositive();
+
+		assertThat( find( scope, 1, "US" ) ).isNull();
+		assertThat( find( scope, 2, "US" ) ).isNotNull();
+
+		assertThat( statistics.getLoadPlanCacheMissCount() ).isEqualTo( misses );
+		assertThat( statistics.getLoadPlanCacheHitCount() ).isGreaterThan( hits );
+	}
+
+	@Test
+	public void testUnfilteredLoadNotCached(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction( session -> assertThat( session.find( Account.class, 1 ) ).isNotNull() );
+		scope.inTransaction( session -> assertThat( session.find( Account.class, 2 ) ).isNotNull() );
+
+		assertThat( statistics.getLoadPlanCacheMissCount() ).isZero();
+		assertThat( statistics.getLoadPlanCacheHitCount() ).isZero();
+	}
+
+	@Test
+	public void testLoaderBuiltFromSnapshot(SessionFactoryScope scope) {
+		final var cache = new LoadPlanCache<LoadQueryInfluencers>( "Account", scope.getSessionFactory() );
+		scope.inSession( session -> {
+			final List<String> regions = new ArrayList<>( List.of( "EU" ) );
+			session.enableFilter( "regions" ).setParameterList( "regions", regions );
+			final var influencers = session.getLoadQueryInfluencers();
+			final var snapshot = cache.resolve( LockOptions.NONE, influencers,
+					(lockOptions, influencersSnapshot) -> influencersSnapshot );
+			assertThat( snapshot ).isNotSameAs( influencers );
+
+			// later changes to the session do not leak into the cached loader
+			regions.set( 0, "US" );
+			session.disableFilter( "regions" );
+			assertThat( snapshot.getEnabledFilterNames() ).containsExactly( "regions" );
+			assertThat( (Iterable<?>) snapshot.getEnabledFilter( "regions" ).getParameterValue( "regions" ) )
+					.containsExactly( "EU" );
+		} );
+	}
+
+	private static Account find(SessionFactoryScope scope, int id, String region) {
+		return scope.fromTransaction( session -> {
+			session.enableFilter( "region" ).setParameter( "region", region );
+			return session.find( Account.class, id );
+		} );
+	}
+
+	@FilterDef(name = "regions",
+			parameters = @ParamDef(name = "regions", type = String.class))
+	@FilterDef(name = "region", applyToLoadByKey = true,
+			parameters = @ParamDef(name = "region", type = String.class))
+	@Filter(name = "region", condition = "region = :region")
+	@Entity(name = "Account")
+	public static class Account {
+		@Id
+		private Integer id;
+		private String region;
+
+		public Account() {
+		}
+
+		public Account(Integer id, String region) {
+			this.id = id;
+			this.region = region;
+		}
+	}
+}
@@ -0,0 +1,252 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.loading.multiLoad;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.cfg.FetchSettings;
+import org.hibernate.dialect.Dialect;
+
+import org.hibernate.testing.orm.junit.DialectFeatureCheck;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FetchSettings#MULTI_LOAD_BULK_THRESHOLD}
+ */
+@DomainModel(annotatedClasses = {
+		MultiLoadBulkTest.Item.class,
+		MultiLoadBulkTest.Line.class,
+		MultiLoadBulkTest.Part.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(settings = @Setting(name = FetchSettings.MULTI_LOAD_BULK_THRESHOLD, value = "10"))
+public class MultiLoadBulkTest {
+
+	private static final int COUNT = 50;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= COUNT; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+				session.persist( new Line( new LineId( i, i % 3 ), "line " + i ) );
+				session.persist( new Part( i, "code " + i, "rev " + i % 3 ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	@RequiresDialectFeature(feature = MultiLoadBulkTest.UsesArrayForMultiValuedParameters.class, reverse = true,
+			comment = "Basic ids are otherwise loaded by a single array parameter")
+	public void testBasicIds(SessionFactoryScope scope) {
+		final var statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Integer> ids = new ArrayList<>();
+			for ( int i = COUNT + 10; i > 0; i-- ) {
+				ids.add( i );
+			}
+			statementInspector.clear();
+			final List<Item> items = session.findMultiple( Item.class, ids );
+			assertThat( items ).hasSize( ids.size() );
+			for ( int i = 0; i < 10; i++ ) {
+				assertThat( items.get( i ) ).isNull();
+			}
+			for ( int i = 10; i < ids.size(); i++ ) {
+				assertThat( items.get( i ).id ).isEqualTo( ids.get( i ) );
+			}
+			assertThat( selectsFrom( statementInspector.getSqlQueries(), "bulk_item" ) ).isEqualTo( 1 );
+		} );
+		// the keys must not leak into a subsequent load
+		scope.inTransaction( session -> {
+			final List<Integer> ids = new ArrayList<>();
+			for ( int i = 1; i <= 20; i++ ) {
+				ids.add( i );
+			}
+			final List<Item> items = session.findMultiple( Item.class, ids );
+			assertThat( items ).extracting( item -> item.id ).containsExactlyElementsOf( ids );
+			assertThat( session.getPersistenceContext().getNumberOfManagedEntities() ).isEqualTo( 20 );
+		} );
+	}
+
+	@Test
+	public void testCompositeIds(SessionFactoryScope scope) {
+		final var statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<LineId> ids = new ArrayList<>();
+			for ( int i = 1; i <= COUNT; i++ ) {
+				ids.add( new LineId( i, i % 3 ) );
+			}
+			// does not exist
+			ids.add( new LineId( 1, 2 ) );
+			statementInspector.clear();
+			final List<Line> lines = session.findMultiple( Line.class, ids );
+			assertThat( lines ).hasSize( COUNT + 1 );
+			for ( int i = 0; i < COUNT; i++ ) {
+				assertThat( lines.get( i ).description ).isEqualTo( "line " + ( i + 1 ) );
+			}
+			assertThat( lines.get( COUNT ) ).isNull();
+			assertThat( selectsFrom( statementInspector.getSqlQueries(), "bulk_line" ) ).isEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	public void testRepeatedCompositeIds(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<LineId> ids = new ArrayList<>();
+			for ( int i = 1; i <= 20; i++ ) {
+				ids.add( new LineId( i, i % 3 ) );
+				ids.add( new LineId( i, i % 3 ) );
+			}
+			final List<Line> lines = session.findMultiple( Line.class, ids );
+			assertThat( lines ).hasSize( 40 );
+			for ( int i = 0; i < 40; i++ ) {
+				assertThat( lines.get( i ).description ).isEqualTo( "line " + ( i / 2 + 1 ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testBelowThreshold(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Line> lines =
+					session.findMultiple( Line.class, List.of( new LineId( 1, 1 ), new LineId( 2, 2 ) ) );
+			assertThat( lines ).extracting( line -> line.description ).containsExactly( "line 1", "line 2" );
+		} );
+	}
+
+	@Test
+	public void testCompoundNaturalIds(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Object[]> naturalIds = new ArrayList<>();
+			for ( int i = 1; i <= COUNT; i++ ) {
+				naturalIds.add( new Object[] { "code " + i, "rev " + i % 3 } );
+			}
+			final List<Part> parts =
+					session.byMultipleNaturalId( Part.class )
+							.enableOrderedReturn( true )
+							.multiLoad( naturalIds );
+			assertThat( parts ).hasSize( COUNT );
+			for ( int i = 0; i < COUNT; i++ ) {
+				assertThat( parts.get( i ).id ).isEqualTo( i + 1 );
+			}
+		} );
+	}
+
+	public static class UsesArrayForMultiValuedParameters implements DialectFeatureCheck {
+		@Override
+		public boolean apply(Dialect dialect) {
+			return dialect.useArrayForMultiValuedParameters();
+		}
+	}
+
+	private static long selectsFrom(List<String> sqlQueries, String table) {
+		return sqlQueries.stream()
+				.filter( sql -> sql.startsWith( "select" ) && sql.contains( table ) )
+				.count();
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "bulk_item")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Embeddable
+	public static class LineId implements Serializable {
+		private Integer orderNumber;
+		private Integer lineNumber;
+
+		public LineId() {
+		}
+
+		public LineId(Integer orderNumber, Integer lineNumber) {
+			this.orderNumber = orderNumber;
+			this.lineNumber = lineNumber;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			return object instanceof LineId that
+				&& Objects.equals( orderNumber, that.orderNumber )
+				&& Objects.equals( lineNumber, that.lineNumber );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( orderNumber, lineNumber );
+		}
+	}
+
+	@Entity(name = "Line")
+	@Table(name = "bulk_line")
+	public static class Line {
+		@EmbeddedId
+		private LineId id;
+		private String description;
+
+		public Line() {
+		}
+
+		public Line(LineId id, String description) {
+			this.id = id;
+			this.description = description;
+		}
+	}
+
+	@Entity(name = "Part")
+	@Table(name = "bulk_part")
+	public static class Part {
+		@Id
+		private Integer id;
+		@NaturalId
+		private String code;
+		@NaturalId
+		private String revision;
+
+		public Part() {
+		}
+
+		public Part(Integer id, String code, String revision) {
+			this.id = id;
+			this.code = code;
+			this.revision = revision;
+		}
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.mapping.basic;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.cfg.MappingSettings;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.format.LazyJson;
+
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MappingSettings#JSON_STREAMING} and {@link LazyJson} attributes.
+ */
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsJsonAggregate.class)
+@DomainModel(annotatedClasses = JsonStreamingTests.Document.class)
+@SessionFactory
+@ServiceRegistry(settings = @Setting(name = MappingSettings.JSON_STREAMING, value = "true"))
+public class JsonStreamingTests {
+
+	// larger than the buffer of the streaming document reader
+	private static final String LONG_TEXT = "x\"y\\z\n".repeat( 4000 );
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Document document = new Document();
+			document.id = 1L;
+			document.attributes = new HashMap<>( Map.of( "name", "document", "size", 3 ) );
+			document.header = new Header( "title", LONG_TEXT, 42 );
+			document.payload = LazyJson.of( new HashMap<>( Map.of( "text", LONG_TEXT ) ) );
+			session.persist( document );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testStreamedRead(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1L );
+			assertThat( document.attributes ).containsEntry( "name", "document" ).containsEntry( "size", 3 );
+			assertThat( document.header.title ).isEqualTo( "title" );
+			assertThat( document.header.text ).isEqualTo( LONG_TEXT );
+			assertThat( document.header.version ).isEqualTo( 42 );
+		} );
+	}
+
+	@Test
+	public void testLazyJsonParsedOnAccess(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1L );
+			assertThat( document.payload.isParsed() ).isFalse();
+			// dirty checking compares the unparsed documents
+			session.flush();
+			assertThat( document.payload.isParsed() ).isFalse();
+			// equal values hash alike, whether they were parsed or not
+			final var javaType = payloadJavaType( scope );
+			final var parsed = javaType.fromString( document.payload.getJson() );
+			parsed.get();
+			assertThat( javaType.areEqual( document.payload, parsed ) ).isTrue();
+			assertThat( javaType.extractHashCode( document.payload ) ).isEqualTo( javaType.extractHashCode( parsed ) );
+
+			assertThat( document.payload.get() ).containsEntry( "text", LONG_TEXT );
+			assertThat( document.payload.isParsed() ).isTrue();
+			document.payload.get().put( "text", "changed" );
+		} );
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1L );
+			assertThat( document.payload.get() ).containsEntry( "text", "changed" );
+		} );
+	}
+
+	@Test
+	public void testLazyJsonSet(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1L );
+			document.payload.set( new HashMap<>( Map.of( "other", "value" ) ) );
+		} );
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1L );
+			assertThat( document.payload.get() ).containsOnlyKeys( "other" );
+		} );
+	}
+
+	@SuppressWarnings("unchecked")
+	private static JavaType<LazyJson<Map<String, Object>>> payloadJavaType(SessionFactoryScope scope) {
+		return (JavaType<LazyJson<Map<String, Object>>>) scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( Document.class )
+				.findAttributeMapping( "payload" )
+				.getJavaType();
+	}
+
+	@Entity(name = "Document")
+	@Table(name = "json_streaming_document")
+	public static class Document {
+		@Id
+		Long id;
+		@JdbcTypeCode(SqlTypes.JSON)
+		Map<String, Object> attributes;
+		@JdbcTypeCode(SqlTypes.JSON)
+		Header header;
+		@JdbcTypeCode(SqlTypes.JSON)
+		LazyJson<Map<String, Object>> payload;
+	}
+
+	@Embeddable
+	public static class Header {
+		String title;
+		String text;
+		Integer version;
+
+		public Header() {
+		}
+
+		public Header(String title, String text, Integer version) {
+			this.title = title;
+			this.text = text;
+			this.version = version;
+		}
+	}
+}
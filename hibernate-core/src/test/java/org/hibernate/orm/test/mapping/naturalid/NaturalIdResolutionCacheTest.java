@@ -0,0 +1,169 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.mapping.naturalid;
+
+import java.util.List;
+
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.cfg.FetchSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FetchSettings#NATURAL_ID_RESOLUTION_CACHE_SIZE}
+ */
+@DomainModel(annotatedClasses = NaturalIdResolutionCacheTest.Sku.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = @Setting(name = FetchSettings.NATURAL_ID_RESOLUTION_CACHE_SIZE, value = "100"))
+public class NaturalIdResolutionCacheTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Sku( 1, "A-1" ) );
+			session.persist( new Sku( 2, "A-2" ) );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+		scope.getSessionFactory().getNaturalIdResolutionCache().clear();
+	}
+
+	@Test
+	public void testNonexistentNaturalIdCached(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inSession( session -> {
+			assertThat( session.bySimpleNaturalId( Sku.class ).load( "B-1" ) ).isNull();
+		} );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		scope.inSession( session -> {
+			assertThat( session.bySimpleNaturalId( Sku.class ).load( "B-1" ) ).isNull();
+			assertThat( session.bySimpleNaturalId( Sku.class ).getReference( "B-1" ) ).isNull();
+		} );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testResolvedNaturalIdCached(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		scope.inSession( session -> {
+			assertThat( session.bySimpleNaturalId( Sku.class ).load( "A-1" ).id ).isEqualTo( 1 );
+		} );
+		statistics.clear();
+		scope.inSession( session -> {
+			final Sku sku = session.bySimpleNaturalId( Sku.class ).getReference( "A-1" );
+			assertThat( sku ).isNotNull();
+			assertThat( statistics.getPrepareStatementCount() ).isZero();
+			assertThat( sku.code ).isEqualTo( "A-1" );
+		} );
+	}
+
+	@Test
+	public void testInsertInvalidates(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			assertThat( session.bySimpleNaturalId( Sku.class ).load( "B-2" ) ).isNull();
+		} );
+		scope.inTransaction( session -> session.persist( new Sku( 3, "B-2" ) ) );
+		scope.inSession( session -> {
+			assertThat( session.bySimpleNaturalId( Sku.class ).load( "B-2" ).id ).isEqualTo( 3 );
+		} );
+
+		scope.inSession( session -> {
+			assertThat( session.bySimpleNaturalId( Sku.class ).load( "B-3" ) ).isNull();
+		} );
+		scope.inStatelessTransaction( session -> session.insert( new Sku( 4, "B-3" ) ) );
+		scope.inSession( session -> {
+			assertThat( session.bySimpleNaturalId( Sku.class ).load( "B-3" ).id ).isEqualTo( 4 );
+		} );
+	}
+
+	@Test
+	public void testDeleteInvalidates(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			assertThat( session.bySimpleNaturalId( Sku.class ).load( "A-2" ) ).isNotNull();
+		} );
+		scope.inTransaction( session -> session.remove( session.find( Sku.class, 2 ) ) );
+		scope.inSession( session -> {
+			assertThat( session.bySimpleNaturalId( Sku.class ).load( "A-2" ) ).isNull();
+		} );
+	}
+
+	@Test
+	public void testBulkMutationClears(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			assertThat( session.bySimpleNaturalId( Sku.class ).load( "A-1" ) ).isNotNull();
+		} );
+		scope.inTransaction( session ->
+				session.createMutationQuery( "delete from Sku where code = 'A-1'" ).executeUpdate() );
+		scope.inSession( session -> {
+			assertThat( session.bySimpleNaturalId( Sku.class ).load( "A-1" ) ).isNull();
+		} );
+	}
+
+	@Test
+	public void testMultiLoadSkipsNonexistentNaturalIds(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		scope.inSession( session -> {
+			final List<Sku> skus =
+					session.byMultipleNaturalId( Sku.class )
+							.multiLoad( "A-1", "C-1", "C-2", "C-3" );
+			assertThat( skus ).hasSize( 1 );
+		} );
+		statistics.clear();
+		scope.inSession( session -> {
+			final List<Sku> skus =
+					session.byMultipleNaturalId( Sku.class )
+							.enableOrderedReturn( true )
+							.multiLoad( "C-1", "C-2", "C-3" );
+			assertThat( skus ).containsExactly( null, null, null );
+		} );
+		assertThat( statistics.getPrepareStatementCount() ).isZero();
+
+		scope.inTransaction( session -> session.persist( new Sku( 5, "C-2" ) ) );
+		scope.inSession( session -> {
+			final List<Sku> skus =
+					session.byMultipleNaturalId( Sku.class )
+							.enableOrderedReturn( true )
+							.multiLoad( "C-1", "C-2", "C-3" );
+			assertThat( skus ).hasSize( 3 );
+			assertThat( skus.get( 0 ) ).isNull();
+			assertThat( skus.get( 1 ).id ).isEqualTo( 5 );
+			assertThat( skus.get( 2 ) ).isNull();
+		} );
+	}
+
+	@Entity(name = "Sku")
+	@Table(name = "natural_id_resolution_sku")
+	public static class Sku {
+		@Id
+		private Integer id;
+		@NaturalId
+		private String code;
+
+		public Sku() {
+		}
+
+		public Sku(Integer id, String code) {
+			this.id = id;
+			this.code = code;
+		}
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.multitenancy;
+
+import jakarta.annotation.Nonnull;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import org.hibernate.community.dialect.InformixDialect;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.hibernate.context.spi.TenantSchemaMapper;
+import org.hibernate.dialect.SQLServerDialect;
+import org.hibernate.dialect.SpannerPostgreSQLDialect;
+import org.hibernate.dialect.SybaseASEDialect;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionSchemaTracker;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.relational.SchemaManager;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.EntityManagerFactoryScope;
+import org.hibernate.testing.orm.junit.Jpa;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SkipForDialect;
+import org.junit.jupiter.api.Test;
+
+import static org.hibernate.cfg.MultiTenancySettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
+import static org.hibernate.cfg.MultiTenancySettings.MULTI_TENANT_SCHEMA_MAPPER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests that a connection pool which supports schema affinity does not
+ * switch the schema of a connection repeatedly for the same tenant.
+ */
+@Jpa(annotatedClasses = {SchemaAffinityMultitenancyTest.Person.class},
+		integrationSettings =
+				{@Setting(name = MULTI_TENANT_SCHEMA_MAPPER,
+						value = "org.hibernate.orm.test.multitenancy.SchemaAffinityMultitenancyTest$MyMapper"),
+				@Setting(name = MULTI_TENANT_IDENTIFIER_RESOLVER,
+						value = "org.hibernate.orm.test.multitenancy.SchemaAffinityMultitenancyTest$MyResolver")})
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportSchemaCreation.class)
+@SkipForDialect(dialectClass = SpannerPostgreSQLDialect.class, reason = "Spanner JDBC driver does not support setSchema")
+@SkipForDialect(dialectClass = SQLServerDialect.class, reason = "Warning: setSchema is a no-op in this driver version")
+@SkipForDialect(dialectClass = SybaseASEDialect.class, reason = "getSchema() method not implemented by jTDS")
+@SkipForDialect(dialectClass = InformixDialect.class, reason = "setSchema() method is a noop")
+public class SchemaAffinityMultitenancyTest {
+	private static String currentTenantIdentifier;
+
+	@Test void test(EntityManagerFactoryScope scope) {
+		final var connectionProvider =
+				scope.getEntityManagerFactory().unwrap( SessionFactoryImplementor.class )
+						.getServiceRegistry().requireService( ConnectionProvider.class );
+		assumeTrue( connectionProvider.supportsSchemaAffinity()
+				&& connectionProvider.isUnwrappableAs( ConnectionSchemaTracker.class ) );
+		final var schemaTracker = connectionProvider.unwrap( ConnectionSchemaTracker.class );
+
+		var schemaManager = (SchemaManager) scope.getEntityManagerFactory().getSchemaManager();
+		createSchema( schemaManager, "HELLO" );
+		createSchema( schemaManager, "GOODBYE" );
+		try {
+			currentTenantIdentifier = "hello";
+			scope.inTransaction( session -> {
+				Person person = new Person();
+				person.ssn = "123456789";
+				person.name = "Gavin";
+				session.persist( person );
+			} );
+
+			// the connection already belongs to the tenant
+			final long switches = schemaTracker.getSchemaSwitchCount();
+			final long elided = schemaTracker.getElidedSchemaSwitchCount();
+			for ( int i = 0; i < 3; i++ ) {
+				scope.inTransaction( session -> assertNotNull( session.find( Person.class, "123456789" ) ) );
+			}
+			assertEquals( switches, schemaTracker.getSchemaSwitchCount() );
+			assertTrue( schemaTracker.getElidedSchemaSwitchCount() >= elided + 3 );
+
+			currentTenantIdentifier = "goodbye";
+			scope.inTransaction( session -> assertNull( session.find( Person.class, "123456789" ) ) );
+			assertTrue( schemaTracker.getSchemaSwitchCount() > switches );
+
+			currentTenantIdentifier = "hello";
+			scope.inTransaction( session -> assertNotNull( session.find( Person.class, "123456789" ) ) );
+		}
+		finally {
+			schemaManager.forSchema( "HELLO" ).drop( true );
+			schemaManager.forSchema( "GOODBYE" ).drop( true );
+		}
+	}
+
+	private static void createSchema(SchemaManager schemaManager, String schemaName) {
+		SchemaManager managerForTenantSchema = schemaManager.forSchema( schemaName );
+		managerForTenantSchema.drop(true);
+		managerForTenantSchema.create( true );
+	}
+
+	@Entity(name = "PersonForTenant")
+	static class Person {
+		@Id
+		String ssn;
+		private String name;
+	}
+
+	public static class MyResolver implements CurrentTenantIdentifierResolver<String> {
+		@Override
+		public @Nonnull String resolveCurrentTenantIdentifier() {
+			return currentTenantIdentifier;
+		}
+
+		@Override
+		public boolean validateExistingCurrentSessions() {
+			return false;
+		}
+	}
+
+	public static class MyMapper implements TenantSchemaMapper<String> {
+		@Override
+		public @Nonnull String schemaName(@Nonnull String tenantIdentifier) {
+			return tenantIdentifier;
+		}
+	}
+}
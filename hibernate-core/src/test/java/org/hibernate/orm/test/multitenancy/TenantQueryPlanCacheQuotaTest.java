@@ -0,0 +1,125 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.multitenancy;
+
+import java.util.function.Consumer;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import org.hibernate.Session;
+import org.hibernate.annotations.TenantId;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.query.internal.QueryInterpretationCacheStandardImpl;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the query plans and interpretations cached on behalf of
+ * one tenant are limited by the per-tenant quota, and are evicted
+ * without affecting the entries of other tenants.
+ */
+@DomainModel(annotatedClasses = TenantQueryPlanCacheQuotaTest.Ticket.class)
+@SessionFactory
+@ServiceRegistry(settings = @Setting(name = QuerySettings.QUERY_PLAN_CACHE_TENANT_QUOTA, value = "8"))
+public class TenantQueryPlanCacheQuotaTest {
+
+	private static final String QUIET_QUERY = "from Ticket where name = :name";
+
+	@Test
+	public void testQuota(SessionFactoryScope scope) {
+		final var interpretationCache = scope.getSessionFactory().getQueryEngine().getInterpretationCache();
+
+		inTenant( scope, "quiet", session -> session.createSelectionQuery( QUIET_QUERY, Ticket.class )
+				.setParameter( "name", "x" ).getResultList() );
+		final long quietMisses = interpretationCache.getTenantMissCount( "quiet" );
+		assertThat( quietMisses ).isPositive();
+
+		for ( int i = 0; i < 50; i++ ) {
+			final String query = "from Ticket where id = " + i;
+			inTenant( scope, "noisy", session -> session.createSelectionQuery( query, Ticket.class ).getResultList() );
+		}
+		assertThat( interpretationCache.getNumberOfTenantEntries( "noisy" ) ).isLessThanOrEqualTo( 8 );
+		assertThat( interpretationCache.getTenantMissCount( "noisy" ) ).isGreaterThanOrEqualTo( 50 );
+
+		// the entries of the quiet tenant were not evicted
+		inTenant( scope, "quiet", session -> session.createSelectionQuery( QUIET_QUERY, Ticket.class )
+				.setParameter( "name", "y" ).getResultList() );
+		assertThat( interpretationCache.getTenantMissCount( "quiet" ) ).isEqualTo( quietMisses );
+		assertThat( interpretationCache.getTenantHitCount( "quiet" ) ).isPositive();
+	}
+
+	@Test
+	public void testReplacedEntryNotEvicted(SessionFactoryScope scope) {
+		final var queryEngine = scope.getSessionFactory().getQueryEngine();
+		final var interpretationCache = queryEngine.getInterpretationCache();
+		final var interpretation = queryEngine.interpretHql( "from Ticket", Ticket.class );
+		final var replacement = queryEngine.interpretHql( "from Ticket t", Ticket.class );
+
+		interpretationCache.forTenant( "first" ).cacheHqlInterpretation( "shared", interpretation );
+		assertThat( interpretationCache.getNumberOfTenantEntries( "first" ) ).isEqualTo( 1 );
+		// the entry now belongs to the second tenant
+		interpretationCache.forTenant( "second" ).cacheHqlInterpretation( "shared", replacement );
+		assertThat( interpretationCache.getNumberOfTenantEntries( "first" ) ).isZero();
+		assertThat( interpretationCache.getNumberOfTenantEntries( "second" ) ).isEqualTo( 1 );
+
+		for ( int i = 0; i < 20; i++ ) {
+			interpretationCache.forTenant( "first" ).cacheHqlInterpretation( "first " + i, interpretation );
+		}
+		assertThat( interpretationCache.getNumberOfTenantEntries( "first" ) ).isEqualTo( 8 );
+		assertThat( interpretationCache.forTenant( "second" )
+				.resolveHqlInterpretation( "shared", null, queryEngine.getHqlTranslator() ) )
+				.isSameAs( replacement );
+	}
+
+	@Test
+	public void testTenantViewReused(SessionFactoryScope scope) {
+		final var interpretationCache = scope.getSessionFactory().getQueryEngine().getInterpretationCache();
+		assertThat( interpretationCache.forTenant( "first" ) ).isSameAs( interpretationCache.forTenant( "first" ) );
+		assertThat( interpretationCache.forTenant( "first" ) ).isNotSameAs( interpretationCache.forTenant( "second" ) );
+	}
+
+	@Test
+	public void testPartitionKeptWhileEntriesCharged(SessionFactoryScope scope) {
+		final var queryEngine = scope.getSessionFactory().getQueryEngine();
+		final var interpretation = queryEngine.interpretHql( "from Ticket", Ticket.class );
+		final var interpretationCache =
+				new QueryInterpretationCacheStandardImpl( 4, 2, scope.getSessionFactory().getServiceRegistry() );
+
+		interpretationCache.forTenant( "first" ).cacheHqlInterpretation( "from Ticket where id = 1", interpretation );
+		interpretationCache.forTenant( "first" ).cacheHqlInterpretation( "from Ticket where id = 2", interpretation );
+		// more tenants than the cache holds entries
+		for ( int i = 0; i < 10; i++ ) {
+			interpretationCache.forTenant( "other " + i );
+		}
+		assertThat( interpretationCache.getNumberOfTenantEntries( "first" ) ).isEqualTo( 2 );
+		// the tenant is still held to its quota
+		interpretationCache.forTenant( "first" ).cacheHqlInterpretation( "from Ticket where id = 3", interpretation );
+		assertThat( interpretationCache.getNumberOfTenantEntries( "first" ) ).isEqualTo( 2 );
+		assertThat( interpretationCache.resolveHqlInterpretation( "from Ticket where id = 1", null, queryEngine.getHqlTranslator() ) )
+				.isNotSameAs( interpretation );
+	}
+
+	private static void inTenant(SessionFactoryScope scope, String tenant, Consumer<Session> action) {
+		try ( var session = scope.getSessionFactory().withOptions().tenantIdentifier( tenant ).openSession() ) {
+			session.inTransaction( tx -> action.accept( session ) );
+		}
+	}
+
+	@Entity(name = "Ticket")
+	public static class Ticket {
+		@Id
+		private Long id;
+		@TenantId
+		private String tenant;
+		private String name;
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that query plans with multivalued parameters are cached, and shared
+ * between lists which pad to the same size.
+ */
+@DomainModel(annotatedClasses = MultiValuedParameterQueryPlanCachingTest.Item.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.IN_CLAUSE_PARAMETER_PADDING, value = "true"))
+public class MultiValuedParameterQueryPlanCachingTest {
+
+	private static final String QUERY = "select i.id from Item i where i.id in :ids order by i.id";
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Item( i ) );
+			}
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+		scope.getSessionFactory().getQueryEngine().getInterpretationCache().close();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testPlanSharedByListsPaddingToSameSize(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		assertThat( ids( scope, List.of( 1, 2, 3, 4, 5 ) ) ).containsExactly( 1, 2, 3, 4, 5 );
+		final long misses = statistics.getQueryPlanCacheMissCount();
+		final long hits = statistics.getQueryPlanCacheHitCount();
+
+		// lists of five to eight elements are padded to eight
+		assertThat( ids( scope, List.of( 2, 4, 6, 8, 10, 12, 14 ) ) ).containsExactly( 2, 4, 6, 8, 10 );
+		assertThat( ids( scope, List.of( 10, 9, 8, 7, 6, 5, 4, 3 ) ) ).containsExactly( 3, 4, 5, 6, 7, 8, 9, 10 );
+		assertThat( ids( scope, List.of( 6, 7, 8, 9, 10 ) ) ).containsExactly( 6, 7, 8, 9, 10 );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( misses );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isGreaterThan( hits );
+
+		// a list of nine elements needs a new plan
+		assertThat( ids( scope, range( 1, 9 ) ) ).containsExactlyElementsOf( range( 1, 9 ) );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( misses + 1 );
+	}
+
+	@Test
+	public void testSingleAndMultiValuedBindings(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		assertThat( ids( scope, List.of( 1, 2 ) ) ).containsExactly( 1, 2 );
+		final long misses = statistics.getQueryPlanCacheMissCount();
+
+		assertThat( scope.fromTransaction( session -> session.createSelectionQuery( QUERY, Integer.class )
+				.setParameter( "ids", 3 )
+				.getResultList() ) ).containsExactly( 3 );
+		assertThat( ids( scope, List.of( 4 ) ) ).containsExactly( 4 );
+		assertThat( ids( scope, List.of() ) ).isEmpty();
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( misses + 3 );
+
+		assertThat( ids( scope, List.of( 5, 6 ) ) ).containsExactly( 5, 6 );
+		assertThat( ids( scope, List.of( 7 ) ) ).containsExactly( 7 );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( misses + 3 );
+	}
+
+	private static List<Integer> ids(SessionFactoryScope scope, List<Integer> ids) {
+		return scope.fromTransaction( session -> session.createSelectionQuery( QUERY, Integer.class )
+				.setParameterList( "ids", ids )
+				.getResultList() );
+	}
+
+	private static List<Integer> range(int first, int last) {
+		return IntStream.rangeClosed( first, last ).boxed().toList();
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+
+		public Item() {
+		}
+
+		public Item(Integer id) {
+			this.id = id;
+		}
+	}
+}
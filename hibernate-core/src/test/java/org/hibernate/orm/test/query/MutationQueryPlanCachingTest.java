@@ -0,0 +1,164 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the plans of mutation queries are cached, both for single-table
+ * and for multi-table mutations.
+ */
+@DomainModel(annotatedClasses = {
+		MutationQueryPlanCachingTest.Task.class,
+		MutationQueryPlanCachingTest.Vehicle.class,
+		MutationQueryPlanCachingTest.Car.class
+})
+@SessionFactory(generateStatistics = true)
+public class MutationQueryPlanCachingTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				session.persist( new Task( i, "NEW" ) );
+				session.persist( new Car( i, "Car " + i, 4 ) );
+			}
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+		scope.getSessionFactory().getQueryEngine().getInterpretationCache().close();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testSimpleUpdatePlanReused(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		assertThat( execute( scope, "update Task set status = :status where id = :id", "DONE", 1 ) ).isEqualTo( 1 );
+		final long misses = statistics.getQueryPlanCacheMissCount();
+		final long hits = statistics.getQueryPlanCacheHitCount();
+
+		assertThat( execute( scope, "update Task set status = :status where id = :id", "DONE", 2 ) ).isEqualTo( 1 );
+		assertThat( execute( scope, "update Task set status = :status where id = :id", "FAILED", 3 ) ).isEqualTo( 1 );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( misses );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isGreaterThan( hits );
+
+		assertThat( scope.fromTransaction( session -> session.createSelectionQuery(
+				"select status from Task order by id", String.class ).getResultList() ) )
+				.containsExactly( "DONE", "DONE", "FAILED", "NEW", "NEW" );
+	}
+
+	@Test
+	public void testMultiTablePlansReused(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		assertThat( execute( scope, "update Car set name = :name, doors = 2 where id = :id", "Coupe", 1 ) ).isEqualTo( 1 );
+		assertThat( execute( scope, "delete from Car where name = :name and id = :id", "Car 2", 2 ) ).isEqualTo( 1 );
+		final long misses = statistics.getQueryPlanCacheMissCount();
+		final long hits = statistics.getQueryPlanCacheHitCount();
+
+		assertThat( execute( scope, "update Car set name = :name, doors = 2 where id = :id", "Coupe", 3 ) ).isEqualTo( 1 );
+		assertThat( execute( scope, "delete from Car where name = :name and id = :id", "Car 4", 4 ) ).isEqualTo( 1 );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( misses );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isGreaterThan( hits );
+
+		assertThat( scope.fromTransaction( session -> session.createSelectionQuery(
+				"select name from Car order by id", String.class ).getResultList() ) )
+				.containsExactly( "Coupe", "Coupe", "Car 5" );
+	}
+
+	@Test
+	public void testPlanKeyedOnParameterListSize(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		assertThat( delete( scope, List.of( 1, 2 ) ) ).isEqualTo( 2 );
+		final long misses = statistics.getQueryPlanCacheMissCount();
+
+		assertThat( delete( scope, List.of( 3, 4 ) ) ).isEqualTo( 2 );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( misses );
+
+		assertThat( delete( scope, List.of( 5 ) ) ).isEqualTo( 1 );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( misses + 1 );
+
+		assertThat( scope.fromTransaction( session -> session.createSelectionQuery(
+				"select count(*) from Task", Long.class ).getSingleResult() ) ).isZero();
+	}
+
+	private static int execute(SessionFactoryScope scope, String hql, String value, Integer id) {
+		return scope.fromTransaction( session -> session.createMutationQuery( hql )
+				.setParameter( hql.contains( ":status" ) ? "status" : "name", value )
+				.setParameter( "id", id )
+				.executeUpdate() );
+	}
+
+	private static int delete(SessionFactoryScope scope, List<Integer> ids) {
+		return scope.fromTransaction( session -> session.createMutationQuery( "delete from Task where id in :ids" )
+				.setParameterList( "ids", ids )
+				.executeUpdate() );
+	}
+
+	@Entity(name = "Task")
+	public static class Task {
+		@Id
+		private Integer id;
+		private String status;
+
+		public Task() {
+		}
+
+		public Task(Integer id, String status) {
+			this.id = id;
+			this.status = status;
+		}
+	}
+
+	@Entity(name = "Vehicle")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Vehicle {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Vehicle() {
+		}
+
+		public Vehicle(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Car")
+	public static class Car extends Vehicle {
+		private Integer doors;
+
+		public Car() {
+		}
+
+		public Car(Integer id, String name, Integer doors) {
+			super( id, name );
+			this.doors = doors;
+		}
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query.criteria.plan;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.criteria.JpaRoot;
+import org.hibernate.query.sqm.tree.spi.SqmCacheable;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that identical criteria queries built dynamically share a cached
+ * query plan by default, even when the criteria tree is copied.
+ */
+@DomainModel(annotatedClasses = CriteriaQueryPlanCachingTest.Product.class)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.CRITERIA_COPY_TREE, value = "true"))
+@SessionFactory(generateStatistics = true)
+class CriteriaQueryPlanCachingTest {
+
+	@BeforeEach
+	void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Product( 1, "Hammer", 10 ) );
+			session.persist( new Product( 2, "Saw", 20 ) );
+			session.persist( new Product( 3, "Drill", 30 ) );
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+		scope.getSessionFactory().getQueryEngine().getInterpretationCache().close();
+	}
+
+	@AfterEach
+	void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	void testPlanSharedByQueriesWithSameStructure(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		assertThat( namesCheaperThan( scope, 15 ) ).containsExactly( "Hammer" );
+		final long misses = statistics.getQueryPlanCacheMissCount();
+		final long hits = statistics.getQueryPlanCacheHitCount();
+
+		assertThat( namesCheaperThan( scope, 25 ) ).containsExactly( "Hammer", "Saw" );
+		assertThat( namesCheaperThan( scope, 35 ) ).containsExactly( "Hammer", "Saw", "Drill" );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( misses );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isGreaterThan( hits );
+	}
+
+	@Test
+	void testPlanKeyedOnStructure(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		assertThat( namesCheaperThan( scope, 15 ) ).containsExactly( "Hammer" );
+		final long misses = statistics.getQueryPlanCacheMissCount();
+
+		final List<String> names = scope.fromTransaction( session -> {
+			final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+			final JpaCriteriaQuery<String> query = cb.createQuery( String.class );
+			final JpaRoot<Product> root = query.from( Product.class );
+			query.select( root.get( "name" ) )
+					.where( cb.greaterThan( root.get( "price" ), 15 ) )
+					.orderBy( cb.asc( root.get( "id" ) ) );
+			return session.createQuery( query ).getResultList();
+		} );
+		assertThat( names ).containsExactly( "Saw", "Drill" );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( misses + 1 );
+	}
+
+	@Test
+	void testValueParametersAreTypedSlots(SessionFactoryScope scope) {
+		final HibernateCriteriaBuilder cb = scope.getSessionFactory().getCriteriaBuilder();
+		final SqmCacheable one = (SqmCacheable) cb.value( 1 );
+		assertThat( one.isCompatible( cb.value( 2 ) ) ).isTrue();
+		assertThat( one.cacheHashCode() ).isEqualTo( ( (SqmCacheable) cb.value( 2 ) ).cacheHashCode() );
+		assertThat( one.isCompatible( cb.value( "1" ) ) ).isFalse();
+	}
+
+	private static List<String> namesCheaperThan(SessionFactoryScope scope, int price) {
+		return scope.fromTransaction( session -> {
+			final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+			final JpaCriteriaQuery<String> query = cb.createQuery( String.class );
+			final JpaRoot<Product> root = query.from( Product.class );
+			query.select( root.get( "name" ) )
+					.where( cb.lessThan( root.get( "price" ), price ) )
+					.orderBy( cb.asc( root.get( "id" ) ) );
+			return session.createQuery( query ).getResultList();
+		} );
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private Integer id;
+		private String name;
+		private Integer price;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name, Integer price) {
+			this.id = id;
+			this.name = name;
+			this.price = price;
+		}
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query.sql;
+
+import java.util.List;
+
+import org.hibernate.cfg.QuerySettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link QuerySettings#NATIVE_RESULT_MAPPING_CACHE_MAX_SIZE}
+ */
+@DomainModel(annotatedClasses = NativeResultMappingCacheTest.Report.class)
+@SessionFactory
+@ServiceRegistry(settings = @Setting(name = QuerySettings.NATIVE_RESULT_MAPPING_CACHE_MAX_SIZE, value = "16"))
+public class NativeResultMappingCacheTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				session.persist( new Report( i, "report " + i, i * 10 ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	private static int cachedMappings(SessionFactoryScope scope) {
+		return scope.getSessionFactory().getQueryEngine().getInterpretationCache()
+				.getNumberOfCachedNativeResultMappings();
+	}
+
+	@Test
+	public void testEntityResultReused(SessionFactoryScope scope) {
+		final int initial = cachedMappings( scope );
+		for ( int i = 1; i <= 5; i++ ) {
+			final int id = i;
+			scope.inTransaction( session -> {
+				final Report report =
+						session.createNativeQuery( "select * from native_report where id = :id", Report.class )
+								.setParameter( "id", id )
+								.getSingleResult();
+				assertThat( report.title ).isEqualTo( "report " + id );
+				assertThat( report.pages ).isEqualTo( id * 10 );
+			} );
+		}
+		assertThat( cachedMappings( scope ) ).isEqualTo( initial + 1 );
+	}
+
+	@Test
+	public void testScalarResultsReused(SessionFactoryScope scope) {
+		final int initial = cachedMappings( scope );
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 3; i++ ) {
+				final List<Object[]> rows =
+						session.createNativeQuery( "select title, pages from native_report order by id", Object[].class )
+								.getResultList();
+				assertThat( rows ).hasSize( 5 );
+				assertThat( rows.get( 0 ) ).containsExactly( "report 1", 10 );
+			}
+			final List<String> titles =
+					session.createNativeQuery( "select title from native_report order by id", String.class )
+							.getResultList();
+			assertThat( titles ).hasSize( 5 ).first().isEqualTo( "report 1" );
+		} );
+		assertThat( cachedMappings( scope ) ).isEqualTo( initial + 2 );
+	}
+
+	@Test
+	public void testParameterListsCachedPerExpansion(SessionFactoryScope scope) {
+		final int initial = cachedMappings( scope );
+		scope.inTransaction( session -> {
+			for ( int pass = 0; pass < 2; pass++ ) {
+				for ( int i = 1; i <= 3; i++ ) {
+					final List<Integer> ids = List.of( 1, 2, 3 ).subList( 0, i );
+					final List<Report> reports =
+							session.createNativeQuery( "select * from native_report where id in (:ids) order by id", Report.class )
+									.setParameterList( "ids", ids )
+									.getResultList();
+					assertThat( reports ).extracting( report -> report.id ).containsExactlyElementsOf( ids );
+				}
+				// each list size expands to different SQL, and so to its own mapping,
+				// which the second pass reuses instead of caching another one
+				assertThat( cachedMappings( scope ) ).isEqualTo( initial + 3 );
+			}
+		} );
+	}
+
+	@Entity(name = "Report")
+	@Table(name = "native_report")
+	public static class Report {
+		@Id
+		private Integer id;
+		private String title;
+		private Integer pages;
+
+		public Report() {
+		}
+
+		public Report(Integer id, String title, Integer pages) {
+			this.id = id;
+			this.title = title;
+			this.pages = pages;
+		}
+	}
+}
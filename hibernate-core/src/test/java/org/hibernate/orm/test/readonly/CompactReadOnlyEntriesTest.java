@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.readonly;
+
+import java.util.List;
+
+import org.hibernate.cfg.FetchSettings;
+import org.hibernate.engine.internal.EntityEntryImpl;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FetchSettings#COMPACT_READ_ONLY_ENTRIES}
+ */
+@DomainModel(annotatedClasses = CompactReadOnlyEntriesTest.Gauge.class)
+@SessionFactory
+@ServiceRegistry(settings = @Setting(name = FetchSettings.COMPACT_READ_ONLY_ENTRIES, value = "true"))
+public class CompactReadOnlyEntriesTest {
+
+	private static final int COUNT = 10;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= COUNT; i++ ) {
+				session.persist( new Gauge( i, "gauge " + i ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testReadOnlyEntriesCompacted(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.setDefaultReadOnly( true );
+			final List<Gauge> gauges =
+					session.createSelectionQuery( "from Gauge order by id", Gauge.class )
+							.getResultList();
+			assertThat( gauges ).hasSize( COUNT );
+			final var persistenceContext = session.getPersistenceContextInternal();
+			for ( Gauge gauge : gauges ) {
+				final var entry = persistenceContext.getEntry( gauge );
+				assertThat( entry ).isNotInstanceOf( EntityEntryImpl.class );
+				assertThat( entry.isReadOnly() ).isTrue();
+				assertThat( entry.getId() ).isEqualTo( gauge.id );
+				assertThat( entry.getVersion() ).isEqualTo( 0 );
+				assertThat( session.isReadOnly( gauge ) ).isTrue();
+				assertThat( session.find( Gauge.class, gauge.id ) ).isSameAs( gauge );
+				// changes to read-only entities are ignored
+				gauge.name = "changed";
+			}
+		} );
+		scope.inTransaction( session -> {
+			assertThat( session.find( Gauge.class, 1 ).name ).isEqualTo( "gauge 1" );
+		} );
+	}
+
+	@Test
+	public void testModifiableEntriesNotCompacted(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Gauge gauge = session.find( Gauge.class, 1 );
+			assertThat( session.getPersistenceContextInternal().getEntry( gauge ) )
+					.isInstanceOf( EntityEntryImpl.class );
+		} );
+	}
+
+	@Test
+	public void testUpgradeToModifiable(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.setDefaultReadOnly( true );
+			final Gauge gauge = session.find( Gauge.class, 2 );
+			session.setReadOnly( gauge, false );
+			final var entry = session.getPersistenceContextInternal().getEntry( gauge );
+			assertThat( entry ).isInstanceOf( EntityEntryImpl.class );
+			assertThat( entry.isReadOnly() ).isFalse();
+			assertThat( entry.getLoadedState() ).isNotNull();
+			gauge.name = "renamed";
+		} );
+		scope.inTransaction( session -> {
+			final Gauge gauge = session.find( Gauge.class, 2 );
+			assertThat( gauge.name ).isEqualTo( "renamed" );
+			assertThat( gauge.version ).isEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	public void testRemoveReadOnly(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.setDefaultReadOnly( true );
+			session.remove( session.find( Gauge.class, 3 ) );
+		} );
+		scope.inTransaction( session -> {
+			assertThat( session.find( Gauge.class, 3 ) ).isNull();
+		} );
+	}
+
+	@Entity(name = "Gauge")
+	@Table(name = "compact_gauge")
+	public static class Gauge {
+		@Id
+		private Integer id;
+		private String name;
+		@Version
+		private Integer version;
+
+		public Gauge() {
+		}
+
+		public Gauge(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
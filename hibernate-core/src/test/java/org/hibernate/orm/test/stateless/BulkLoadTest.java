@@ -0,0 +1,203 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.annotations.ColumnTransformer;
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.dialect.PostgreSQLDialect;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link BatchSettings#BULK_LOAD}
+ */
+@DomainModel(annotatedClasses = {BulkLoadTest.Sample.class, BulkLoadTest.Station.class, BulkLoadTest.Reading.class})
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = @Setting(name = BatchSettings.BULK_LOAD, value = "true"))
+public class BulkLoadTest {
+
+	private static final int COUNT = 500;
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	@RequiresDialect(PostgreSQLDialect.class)
+	public void testBulkLoad(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inStatelessTransaction( session -> session.insertMultiple( samples() ) );
+		// the rows were copied rather than inserted using a prepared statement
+		assertThat( statistics.getPrepareStatementCount() ).isZero();
+		assertLoaded( scope );
+	}
+
+	@Test
+	public void testLoad(SessionFactoryScope scope) {
+		// whether the rows are copied or inserted depends on the dialect
+		scope.inStatelessTransaction( session -> session.insertMultiple( samples() ) );
+		assertLoaded( scope );
+	}
+
+	@Test
+	public void testUnsupportedEntityInserted(SessionFactoryScope scope) {
+		final List<Station> stations = new ArrayList<>();
+		for ( int i = 0; i < 10; i++ ) {
+			final Station station = new Station();
+			station.id = (long) i;
+			station.tags.add( "tag " + i );
+			stations.add( station );
+		}
+		final var statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inStatelessTransaction( session -> session.insertMultiple( stations ) );
+		assertThat( statistics.getPrepareStatementCount() ).isPositive();
+		scope.inStatelessSession( session -> {
+			assertThat( session.createSelectionQuery( "select count(*) from BulkStation", Long.class )
+					.getSingleResult() ).isEqualTo( 10L );
+		} );
+	}
+
+	@Test
+	public void testColumnTransformerApplied(SessionFactoryScope scope) {
+		final List<Reading> readings = new ArrayList<>();
+		for ( int i = 0; i < 10; i++ ) {
+			final Reading reading = new Reading();
+			reading.id = (long) i;
+			reading.unit = "celsius";
+			readings.add( reading );
+		}
+		final var statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inStatelessTransaction( session -> session.insertMultiple( readings ) );
+		// the write expression can only be applied by an insert statement
+		assertThat( statistics.getPrepareStatementCount() ).isPositive();
+		scope.inStatelessSession( session -> {
+			assertThat( session.createNativeQuery( "select unit from bulk_load_reading", String.class )
+					.getResultList() ).hasSize( 10 ).containsOnly( "CELSIUS" );
+		} );
+	}
+
+	private static List<Sample> samples() {
+		final List<Sample> samples = new ArrayList<>();
+		for ( int i = 0; i < COUNT; i++ ) {
+			final Sample sample = new Sample();
+			sample.id = i;
+			sample.label = switch ( i % 4 ) {
+				case 0 -> "plain " + i;
+				case 1 -> "quoted \"" + i + "\", with comma\nand newline";
+				case 2 -> "";
+				default -> null;
+			};
+			sample.valid = i % 2 == 0;
+			sample.amount = new BigDecimal( i ).movePointLeft( 2 );
+			sample.takenOn = LocalDate.of( 2024, 1, 1 ).plusDays( i );
+			sample.recordedAt = LocalDateTime.of( 2024, 1, 1, 12, 30, 15 ).plusMinutes( i );
+			sample.receivedAt = Instant.parse( "2024-01-01T00:00:00Z" ).plusSeconds( i );
+			sample.payload = new byte[] {(byte) i, 0, (byte) 0xFF};
+			sample.reference = new UUID( 0, i );
+			sample.ordinalLevel = Level.values()[i % 3];
+			sample.namedLevel = Level.values()[( i + 1 ) % 3];
+			samples.add( sample );
+		}
+		return samples;
+	}
+
+	private static void assertLoaded(SessionFactoryScope scope) {
+		final List<Sample> expected = samples();
+		scope.inStatelessSession( session -> {
+			final List<Sample> samples =
+					session.createSelectionQuery( "from BulkSample order by id", Sample.class )
+							.getResultList();
+			assertThat( samples ).hasSize( COUNT );
+			for ( int i = 0; i < COUNT; i++ ) {
+				final Sample sample = samples.get( i );
+				final Sample original = expected.get( i );
+				assertThat( sample.label ).isEqualTo( original.label );
+				assertThat( sample.valid ).isEqualTo( original.valid );
+				assertThat( sample.amount ).isEqualByComparingTo( original.amount );
+				assertThat( sample.takenOn ).isEqualTo( original.takenOn );
+				assertThat( sample.recordedAt ).isEqualTo( original.recordedAt );
+				assertThat( sample.receivedAt.truncatedTo( ChronoUnit.SECONDS ) ).isEqualTo( original.receivedAt );
+				assertThat( sample.payload ).isEqualTo( original.payload );
+				assertThat( sample.reference ).isEqualTo( original.reference );
+				assertThat( sample.ordinalLevel ).isEqualTo( original.ordinalLevel );
+				assertThat( sample.namedLevel ).isEqualTo( original.namedLevel );
+				assertThat( sample.version ).isEqualTo( 0 );
+			}
+		} );
+	}
+
+	public enum Level {
+		LOW, MEDIUM, HIGH
+	}
+
+	@Entity(name = "BulkSample")
+	@Table(name = "bulk_load_sample")
+	public static class Sample {
+		@Id
+		private Integer id;
+		private String label;
+		private boolean valid;
+		private BigDecimal amount;
+		private LocalDate takenOn;
+		private LocalDateTime recordedAt;
+		private Instant receivedAt;
+		private byte[] payload;
+		private UUID reference;
+		@Enumerated(EnumType.ORDINAL)
+		private Level ordinalLevel;
+		@Enumerated(EnumType.STRING)
+		private Level namedLevel;
+		@Version
+		private Integer version;
+	}
+
+	@Entity(name = "BulkStation")
+	@Table(name = "bulk_load_station")
+	public static class Station {
+		@Id
+		private Long id;
+		@ElementCollection
+		private List<String> tags = new ArrayList<>();
+	}
+
+	@Entity(name = "BulkReading")
+	@Table(name = "bulk_load_reading")
+	public static class Reading {
+		@Id
+		private Long id;
+		@ColumnTransformer(write = "upper(?)")
+		private String unit;
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.util.List;
+
+import org.hibernate.dialect.DB2Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.MariaDBDialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.dialect.OracleDialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.dialect.SQLServerDialect;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests that {@link org.hibernate.StatelessSession#upsertMultiple}
+ * executes its upserts as a JDBC batch.
+ */
+@DomainModel(annotatedClasses = {UpsertMultipleBatchTest.Rate.class, UpsertMultipleBatchTest.Ledger.class})
+@SessionFactory(generateStatistics = true)
+public class UpsertMultipleBatchTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	@RequiresDialect(H2Dialect.class)
+	@RequiresDialect(PostgreSQLDialect.class)
+	@RequiresDialect(OracleDialect.class)
+	@RequiresDialect(SQLServerDialect.class)
+	@RequiresDialect(DB2Dialect.class)
+	@RequiresDialect(MySQLDialect.class)
+	@RequiresDialect(MariaDBDialect.class)
+	public void testUpsertMultipleBatched(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> {
+			session.insert( new Rate( 1, "EUR", 1.0 ) );
+			session.insert( new Rate( 2, "USD", 1.1 ) );
+		} );
+		final var statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inStatelessTransaction( session -> session.upsertMultiple( List.of(
+				new Rate( 1, "EUR", 1.0 ),
+				new Rate( 2, "USD", 1.2 ),
+				new Rate( 3, "GBP", 0.9 ),
+				new Rate( 4, "CHF", 1.05 )
+		) ) );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		scope.inStatelessSession( session -> {
+			final List<Rate> rates =
+					session.createSelectionQuery( "from Rate order by id", Rate.class )
+							.getResultList();
+			assertThat( rates ).extracting( rate -> rate.currency )
+					.containsExactly( "EUR", "USD", "GBP", "CHF" );
+			assertThat( rates ).extracting( rate -> rate.rate )
+					.containsExactly( 1.0, 1.2, 0.9, 1.05 );
+		} );
+	}
+
+	@Test
+	public void testStaleUpsertMultiple(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> {
+			session.insert( new Ledger( 1L, 0L, "opened" ) );
+			session.insert( new Ledger( 2L, 0L, "opened" ) );
+		} );
+		scope.inStatelessTransaction( session -> session.upsert( new Ledger( 2L, 0L, "audited" ) ) );
+		assertThatThrownBy( () -> scope.inStatelessTransaction( session -> session.upsertMultiple( List.of(
+				new Ledger( 1L, 0L, "closed" ),
+				new Ledger( 2L, 0L, "closed" ),
+				new Ledger( 3L, null, "opened" )
+		) ) ) ).isInstanceOf( OptimisticLockException.class );
+		scope.inStatelessSession( session -> {
+			assertThat( session.get( Ledger.class, 1L ).state ).isEqualTo( "opened" );
+			assertThat( session.get( Ledger.class, 2L ).state ).isEqualTo( "audited" );
+			assertThat( session.get( Ledger.class, 3L ) ).isNull();
+		} );
+	}
+
+	@Test
+	public void testUpsertAndUpdateInSameBatch(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> {
+			session.insert( new Rate( 1, "EUR", 1.0 ) );
+			session.insert( new Rate( 2, "USD", 1.1 ) );
+		} );
+		scope.inStatelessTransaction( session -> {
+			session.setJdbcBatchSize( 10 );
+			session.update( new Rate( 1, "EUR", 1.5 ) );
+			session.upsert( new Rate( 3, "GBP", 0.9 ) );
+			session.update( new Rate( 2, "USD", 1.3 ) );
+			session.upsert( new Rate( 1, "EUR", 1.6 ) );
+		} );
+		scope.inStatelessSession( session -> {
+			assertThat( session.get( Rate.class, 1 ).rate ).isEqualTo( 1.6 );
+			assertThat( session.get( Rate.class, 2 ).rate ).isEqualTo( 1.3 );
+			assertThat( session.get( Rate.class, 3 ).rate ).isEqualTo( 0.9 );
+		} );
+	}
+
+	@Entity(name = "Rate")
+	@Table(name = "upsert_batch_rate")
+	public static class Rate {
+		@Id
+		private Integer id;
+		private String currency;
+		private double rate;
+
+		public Rate() {
+		}
+
+		public Rate(Integer id, String currency, double rate) {
+			this.id = id;
+			this.currency = currency;
+			this.rate = rate;
+		}
+	}
+
+	@Entity(name = "Ledger")
+	@Table(name = "upsert_batch_ledger")
+	public static class Ledger {
+		@Id
+		private Long id;
+		@Version
+		private Long version;
+		private String state;
+
+		public Ledger() {
+		}
+
+		public Ledger(Long id, Long version, String state) {
+			this.id = id;
+			this.version = version;
+			this.state = state;
+		}
+	}
+}
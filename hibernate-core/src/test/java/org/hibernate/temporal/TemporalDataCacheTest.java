@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.temporal;
+
+import java.time.Instant;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import org.hibernate.annotations.Temporal;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.TemporalDataRegion;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.cfg.StateManagementSettings;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.hibernate.testing.orm.junit.DialectContext.awaitTimestampTick;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Tests that historical snapshots of a cacheable temporal entity are
+ * cached with their effective interval, and found by any instant in
+ * the interval.
+ */
+@SessionFactory(generateStatistics = true)
+@DomainModel(annotatedClasses = TemporalDataCacheTest.Document.class)
+@ServiceRegistry(settings = {
+		@Setting(name = StateManagementSettings.TEMPORAL_TABLE_STRATEGY, value = "HISTORY_TABLE"),
+		@Setting(name = CacheSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = CacheSettings.USE_TEMPORAL_CACHE, value = "true")
+})
+class TemporalDataCacheTest {
+
+	@Test void test(SessionFactoryScope scope) throws InterruptedException {
+		final var factory = scope.getSessionFactory();
+		assertNotNull( factory.getCache().getTemporalDataCache() );
+		assertInstanceOf( TemporalDataRegion.class, factory.getCache().getTemporalDataCache().getRegion() );
+		assertEquals( RegionFactory.DEFAULT_TEMPORAL_DATA_REGION_UNQUALIFIED_NAME,
+				factory.getCache().getTemporalDataCache().getRegion().getName() );
+
+		factory.inTransaction( session -> session.persist( new Document( 1L, "draft" ) ) );
+		awaitTimestampTick();
+		final var draftInstant = Instant.now();
+		awaitTimestampTick();
+		final var laterDraftInstant = Instant.now();
+		awaitTimestampTick();
+		factory.inTransaction( session -> session.find( Document.class, 1L ).text = "review" );
+		awaitTimestampTick();
+		final var reviewInstant = Instant.now();
+		awaitTimestampTick();
+		factory.inTransaction( session -> session.find( Document.class, 1L ).text = "final" );
+
+		final var statistics = factory.getStatistics();
+		statistics.clear();
+
+		assertEquals( "draft", textAsOf( scope, draftInstant ) );
+		assertEquals( 1, statistics.getPrepareStatementCount() );
+
+		// the snapshot is found by another instant in its effective interval
+		assertEquals( "draft", textAsOf( scope, laterDraftInstant ) );
+		assertEquals( 1, statistics.getPrepareStatementCount() );
+		assertEquals( 1, statistics.getSecondLevelCacheHitCount() );
+
+		assertEquals( "review", textAsOf( scope, reviewInstant ) );
+		assertEquals( 2, statistics.getPrepareStatementCount() );
+		assertEquals( "review", textAsOf( scope, reviewInstant ) );
+		assertEquals( 2, statistics.getPrepareStatementCount() );
+
+		// the current row is never read from or written to the temporal data cache
+		factory.getCache().evictAllRegions();
+		factory.inTransaction( session -> assertEquals( "final", session.find( Document.class, 1L ).text ) );
+		assertEquals( "draft", textAsOf( scope, draftInstant ) );
+		factory.inTransaction( session -> assertEquals( "final", session.find( Document.class, 1L ).text ) );
+	}
+
+	private static String textAsOf(SessionFactoryScope scope, Instant instant) {
+		try (var session = scope.getSessionFactory().withOptions().asOf( instant ).open()) {
+			return session.fromTransaction( tx -> session.find( Document.class, 1L ).text );
+		}
+	}
+
+	@Temporal(rowStart = "effective_from", rowEnd = "effective_to")
+	@Cacheable
+	@Entity(name = "Document")
+	static class Document {
+		@Id
+		long id;
+		String text;
+
+		Document() {
+		}
+
+		Document(long id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+	}
+}
@@ -0,0 +1,152 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.temporal.audit;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.SharedSessionContract;
+import org.hibernate.annotations.Audited;
+import org.hibernate.audit.AuditLogFactory;
+import org.hibernate.audit.spi.AsyncAuditWriter;
+import org.hibernate.cfg.StateManagementSettings;
+import org.hibernate.temporal.spi.ChangesetIdentifierSupplier;
+
+import org.hibernate.testing.orm.junit.AuditedTest;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that audit rows are written after transaction completion when
+ * {@linkplain StateManagementSettings#AUDIT_ASYNC_WRITES asynchronous
+ * audit writing} is enabled.
+ */
+@AuditedTest
+@SessionFactory
+@DomainModel(annotatedClasses = AuditAsyncWritesTest.Account.class)
+@ServiceRegistry(settings = {
+		@Setting(name = StateManagementSettings.CHANGESET_ID_SUPPLIER,
+				value = "org.hibernate.temporal.audit.AuditAsyncWritesTest$TxIdSupplier"),
+		@Setting(name = StateManagementSettings.AUDIT_ASYNC_WRITES, value = "true")
+})
+class AuditAsyncWritesTest {
+	private static int currentTxId;
+
+	public static class TxIdSupplier implements ChangesetIdentifierSupplier<Integer> {
+		@Override
+		public Integer generateIdentifier(SharedSessionContract session) {
+			return ++currentTxId;
+		}
+	}
+
+	@Audited
+	@Entity(name = "Account")
+	static class Account {
+		@Id
+		long id;
+		long balance;
+	}
+
+	@Test
+	void test(SessionFactoryScope scope) throws InterruptedException {
+		final var factory = scope.getSessionFactory();
+		final var asyncAuditWriter = factory.getAsyncAuditWriter();
+		assertNotNull( asyncAuditWriter );
+
+		factory.inTransaction( session -> {
+			final var account = new Account();
+			account.id = 1L;
+			account.balance = 100;
+			session.persist( account );
+		} );
+		final int revCreate = currentTxId;
+		factory.inTransaction( session -> session.find( Account.class, 1L ).balance = 200 );
+		final int revUpdate = currentTxId;
+		factory.inTransaction( session -> session.remove( session.find( Account.class, 1L ) ) );
+		final int revDelete = currentTxId;
+
+		// a rolled back transaction is never audited
+		factory.inSession( session -> {
+			session.getTransaction().begin();
+			final var account = new Account();
+			account.id = 2L;
+			session.persist( account );
+			session.flush();
+			session.getTransaction().rollback();
+		} );
+
+		awaitAuditRows( asyncAuditWriter );
+		assertEquals( 0, asyncAuditWriter.getFailedChangesetCount() );
+		assertEquals( 3, asyncAuditWriter.getWrittenChangesetCount() );
+
+		try (var auditLog = AuditLogFactory.create( factory )) {
+			assertEquals( List.of( revCreate, revUpdate, revDelete ), auditLog.getChangesets( Account.class, 1L ) );
+			assertEquals( 100, auditLog.find( Account.class, 1L, revCreate ).balance );
+			assertEquals( 200, auditLog.find( Account.class, 1L, revUpdate ).balance );
+			assertTrue( auditLog.getChangesets( Account.class, 2L ).isEmpty() );
+		}
+	}
+
+	@Test
+	void testWriterThreadRestarted(SessionFactoryScope scope) throws InterruptedException {
+		final var asyncAuditWriter = scope.getSessionFactory().getAsyncAuditWriter();
+		assertNotNull( asyncAuditWriter );
+		final long written = asyncAuditWriter.getWrittenChangesetCount();
+
+		asyncAuditWriter.submit( null, session -> {} ).complete( true );
+		awaitAuditRows( asyncAuditWriter );
+		// stop the writer thread
+		for ( var thread : Thread.getAllStackTraces().keySet() ) {
+			if ( thread.getName().equals( "hibernate-audit-writer" ) ) {
+				thread.interrupt();
+				thread.join();
+			}
+		}
+
+		asyncAuditWriter.submit( null, session -> {} ).complete( true );
+		awaitAuditRows( asyncAuditWriter );
+		assertEquals( written + 2, asyncAuditWriter.getWrittenChangesetCount() );
+	}
+
+	@Test
+	void testChangesetsWrittenInSubmissionOrder(SessionFactoryScope scope) throws InterruptedException {
+		final var asyncAuditWriter = scope.getSessionFactory().getAsyncAuditWriter();
+		assertNotNull( asyncAuditWriter );
+		final long written = asyncAuditWriter.getWrittenChangesetCount();
+
+		final List<Integer> writes = new CopyOnWriteArrayList<>();
+		final var first = asyncAuditWriter.submit( null, session -> writes.add( 1 ) );
+		final var rolledBack = asyncAuditWriter.submit( null, session -> writes.add( 2 ) );
+		final var second = asyncAuditWriter.submit( null, session -> writes.add( 3 ) );
+		// the transactions complete in a different order
+		second.complete( true );
+		rolledBack.complete( false );
+		Thread.sleep( 200 );
+		assertTrue( writes.isEmpty() );
+		first.complete( true );
+
+		awaitAuditRows( asyncAuditWriter );
+		assertEquals( List.of( 1, 3 ), writes );
+		assertEquals( written + 2, asyncAuditWriter.getWrittenChangesetCount() );
+	}
+
+	private static void awaitAuditRows(AsyncAuditWriter asyncAuditWriter) throws InterruptedException {
+		for ( int i = 0; i < 100 && asyncAuditWriter.getBacklog() > 0; i++ ) {
+			Thread.sleep( 50 );
+		}
+		assertEquals( 0, asyncAuditWriter.getBacklog() );
+	}
+}
@@ -61,6 +61,8 @@ public class Configuration {
 
 	private final boolean nativeIdEnabled;
 	private final boolean allowIdentifierReuse;
+	private final int auditWriteBatchSize;
+	private final int relationBatchFetchSize;
 	private final boolean generateRevisionsForCollections;
 	private final boolean doNotAuditOptimisticLockingField;
 	private final boolean storeDeleteData;
@@ -113,6 +115,8 @@ public Configuration(Properties properties, EnversService enversService, InFligh
 
 		nativeIdEnabled = configProps.getBoolean( EnversSettings.USE_REVISION_ENTITY_WITH_NATIVE_ID, true );
 		allowIdentifierReuse = configProps.getBoolean( EnversSettings.ALLOW_IDENTIFIER_REUSE, false );
+		auditWriteBatchSize = configProps.getInt( EnversSettings.AUDIT_WRITE_BATCH_SIZE, 0 );
+		relationBatchFetchSize = configProps.getInt( EnversSettings.RELATION_BATCH_FETCH_SIZE, 0 );
 
 		generateRevisionsForCollections = configProps.getBoolean( EnversSettings.REVISION_ON_COLLECTION_CHANGE, true );
 
@@ -223,6 +227,18 @@ public boolean isAllowIdentifierReuse() {
 		return allowIdentifierReuse;
 	}
 
+	public int getAuditWriteBatchSize() {
+		return auditWriteBatchSize;
+	}
+
+	public boolean isBulkAuditWriteEnabled() {
+		return auditWriteBatchSize > 0;
+	}
+
+	public int getRelationBatchFetchSize() {
+		return relationBatchFetchSize;
+	}
+
 	public boolean isFindByRevisionExactMatch() {
 		return findByRevisionExactMatch;
 	}
@@ -430,6 +446,10 @@ boolean getBoolean(String propertyName, boolean defaultValue) {
 			return ConfigurationHelper.getBoolean( propertyName, properties, defaultValue );
 		}
 
+		int getInt(String propertyName, int defaultValue) {
+			return ConfigurationHelper.getInt( propertyName, properties, defaultValue );
+		}
+
 		boolean getBooleanWithFallback(String basePropertyName, String newPropertyName, boolean defaultValue) {
 			if ( !properties.containsKey( basePropertyName ) ) {
 				return getBoolean( newPropertyName, defaultValue );
@@ -184,6 +184,33 @@ public interface EnversSettings {
 	 */
 	String GLOBAL_RELATION_NOT_FOUND_LEGACY_FLAG = "org.hibernate.envers.global_relation_not_found_legacy_flag";
 
+	/**
+	 * When set to a positive value, audit data is written in bulk at the end of each transaction:
+	 * the audit work units are grouped by audited entity and their rows are inserted using JDBC
+	 * batches of at most the given size, and the updates of the end-revision columns performed by
+	 * the {@link org.hibernate.envers.strategy.internal.ValidityAuditStrategy} are collapsed into
+	 * one set-based {@code UPDATE ... WHERE id IN (...)} per audit table, with at most the given
+	 * number of identifiers per statement.
+	 *
+	 * Defaults to {@literal 0}, meaning audit rows are written one at a time.
+	 *
+	 * @since 8.1
+	 */
+	String AUDIT_WRITE_BATCH_SIZE = "org.hibernate.envers.audit_write_batch_size";
+
+	/**
+	 * The maximum number of historical *-to-one associated entities of a given type and revision
+	 * which are loaded together, using a single query, when one of them is first accessed by the
+	 * program. The identifiers of the other entities are collected from the proxies created while
+	 * reading audit data, in the same way that Hibernate's batch fetch queue works. Historical
+	 * collections are not batched.
+	 *
+	 * Defaults to {@literal 0}, meaning historical associations are loaded one at a time.
+	 *
+	 * @since 8.1
+	 */
+	String RELATION_BATCH_FETCH_SIZE = "org.hibernate.envers.relation_batch_fetch_size";
+
 	/**
 	 * Whether to apply a nocache configuration for the revision sequence.
 	 * This is mostly interesting for testing.
@@ -7,9 +7,12 @@
 
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.internal.entities.mapper.relation.lazy.ToOneDelegateSessionImplementor;
+import org.hibernate.envers.internal.reader.AuditBatchFetchQueue;
 import org.hibernate.envers.internal.reader.AuditReaderImplementor;
 import org.hibernate.persister.entity.EntityPersister;
 
+import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
+
 /**
  * @author Lukasz Antoniak (lukasz dot antoniak at gmail dot com)
  */
@@ -38,6 +41,11 @@ public static Object loadImmediate(
 			// Audited relation, look up entity with Envers.
 			// When user traverses removed entities graph, do not restrict revision type of referencing objects
 			// to ADD or MOD (DEL possible). See HHH-5845.
+			final AuditBatchFetchQueue batchFetchQueue = versionsReader.getBatchFetchQueue();
+			if ( batchFetchQueue.isEnabled() ) {
+				// Load other entities referenced by uninitialized proxies along with this one
+				batchFetchQueue.loadBatch( entityClass, entityName, revision, removed, entityId );
+			}
 			return versionsReader.find( entityClass, entityName, entityId, revision, removed );
 		}
 	}
@@ -58,10 +66,15 @@ public static Object createProxy(
 				.getFactory()
 				.getMappingMetamodel()
 				.getEntityDescriptor( entityName );
-		return persister.createProxy(
+		final Object proxy = persister.createProxy(
 				entityId,
 				new ToOneDelegateSessionImplementor( versionsReader, entityClass, entityId, revision, removed, enversService, isTargetNotAudited )
 		);
+		if ( !isTargetNotAudited ) {
+			versionsReader.getBatchFetchQueue()
+					.addBatchLoadableEntityKey( entityName, revision, removed, extractLazyInitializer( proxy ) );
+		}
+		return proxy;
 	}
 
 	/**
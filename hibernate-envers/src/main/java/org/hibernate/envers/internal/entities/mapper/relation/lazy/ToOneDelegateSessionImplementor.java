@@ -43,6 +43,18 @@ public ToOneDelegateSessionImplementor(
 		this.isTargetNotAudited = isTargetNotAudited;
 	}
 
+	public Class<?> getEntityClass() {
+		return entityClass;
+	}
+
+	public Number getRevision() {
+		return revision;
+	}
+
+	public boolean isRemoved() {
+		return removed;
+	}
+
 	@Override
 	public Object doImmediateLoad(String entityName) throws HibernateException {
 		return ToOneEntityLoader.loadImmediate(
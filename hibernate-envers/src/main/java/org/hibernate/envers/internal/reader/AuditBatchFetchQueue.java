@@ -0,0 +1,227 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.internal.reader;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.internal.entities.mapper.relation.lazy.ToOneDelegateSessionImplementor;
+import org.hibernate.envers.query.AuditEntity;
+import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.LazyInitializer;
+
+import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
+
+/**
+ * Tracks the historical entities referenced by the uninitialized to-one proxies created
+ * by an {@link AuditReaderImplementor}, so that they may be loaded in batches, grouped
+ * by entity name and revision.
+ * <p>
+ * Batches are loaded using an {@code id in (...)} restriction on the
+ * {@linkplain org.hibernate.envers.query.AuditQueryCreator#forEntitiesAtRevision entities at revision}
+ * query, and the loaded entities are put into the {@link FirstLevelCache} of the reader,
+ * where the proxies find them when they are initialized.
+ * <p>
+ * The proxies are only weakly referenced. Proxies which were initialized, or which are no
+ * longer reachable, are dropped when a batch is taken from their group, and groups left
+ * without any pending proxy are dropped as new groups are added.
+ *
+ * @see org.hibernate.envers.configuration.EnversSettings#RELATION_BATCH_FETCH_SIZE
+ */
+public class AuditBatchFetchQueue {
+	private final AuditReaderImplementor versionsReader;
+	private final EnversService enversService;
+	private final int batchSize;
+
+	private static final int MIN_PURGE_THRESHOLD = 16;
+
+	private final Map<BatchKey, Map<LazyInitializer, Object>> batchLoadableKeys = new HashMap<>();
+	private int purgeThreshold = MIN_PURGE_THRESHOLD;
+
+	public AuditBatchFetchQueue(AuditReaderImplementor versionsReader, EnversService enversService) {
+		this.versionsReader = versionsReader;
+		this.enversService = enversService;
+		this.batchSize = enversService.getConfig().getRelationBatchFetchSize();
+	}
+
+	/**
+	 * Whether batch fetching of historical associations is enabled.
+	 */
+	public boolean isEnabled() {
+		return batchSize > 1;
+	}
+
+	/**
+	 * Register an uninitialized proxy for a historical entity.
+	 */
+	public void addBatchLoadableEntityKey(String entityName, Number revision, boolean removed, LazyInitializer proxy) {
+		if ( isEnabled() && isBatchLoadable( entityName ) ) {
+			final BatchKey key = new BatchKey( entityName, revision, removed );
+			Map<LazyInitializer, Object> pendingProxies = batchLoadableKeys.get( key );
+			if ( pendingProxies == null ) {
+				if ( batchLoadableKeys.size() >= purgeThreshold ) {
+					purge();
+				}
+				pendingProxies = new WeakHashMap<>();
+				batchLoadableKeys.put( key, pendingProxies );
+			}
+			pendingProxies.put( proxy, proxy.getInternalIdentifier() );
+		}
+	}
+
+	/**
+	 * Drop the proxies which were initialized and the groups without pending proxies.
+	 */
+	private void purge() {
+		batchLoadableKeys.values().removeIf( pendingProxies -> {
+			pendingProxies.keySet().removeIf( proxy -> !proxy.isUninitialized() );
+			return pendingProxies.isEmpty();
+		} );
+		purgeThreshold = Math.max( MIN_PURGE_THRESHOLD, 2 * batchLoadableKeys.size() );
+	}
+
+	/**
+	 * Load the historical entity with the given identifier, together with other entities of
+	 * the same type at the same revision referenced by uninitialized proxies, up to the batch
+	 * size. The loaded entities are put into the {@link FirstLevelCache}.
+	 */
+	public void loadBatch(Class<?> entityClass, String entityName, Number revision, boolean removed, Object id) {
+		final BatchKey key = new BatchKey( entityName, revision, removed );
+		final Map<LazyInitializer, Object> pendingProxies = batchLoadableKeys.get( key );
+		if ( pendingProxies == null ) {
+			return;
+		}
+
+		final FirstLevelCache cache = versionsReader.getFirstLevelCache();
+		if ( cache.contains( entityName, revision, id ) ) {
+			return;
+		}
+
+		final Set<Object> ids = new LinkedHashSet<>( batchSize );
+		ids.add( id );
+		final Iterator<Map.Entry<LazyInitializer, Object>> iterator = pendingProxies.entrySet().iterator();
+		while ( ids.size() < batchSize && iterator.hasNext() ) {
+			final Map.Entry<LazyInitializer, Object> pendingProxy = iterator.next();
+			// the proxy is either taken into this batch, or already resolved
+			iterator.remove();
+			final Object pendingId = pendingProxy.getValue();
+			if ( pendingProxy.getKey().isUninitialized() && !cache.contains( entityName, revision, pendingId ) ) {
+				ids.add( pendingId );
+			}
+		}
+		if ( pendingProxies.isEmpty() ) {
+			batchLoadableKeys.remove( key );
+		}
+
+		if ( ids.size() > 1 ) {
+			load( entityClass, entityName, revision, removed, new ArrayList<>( ids ) );
+		}
+	}
+
+	/**
+	 * Eagerly initialize the uninitialized historical to-one proxies held by the given
+	 * attributes of the given entities, loading the referenced entities of each type and
+	 * revision with as few queries as possible.
+	 */
+	public void fetch(String entityName, Collection<String> attributeNames, List<?> entities) {
+		final EntityPersister persister = getEntityPersister( entityName );
+		final Map<BatchKey, Set<Object>> idsToLoad = new LinkedHashMap<>();
+		final Map<BatchKey, Class<?>> entityClasses = new HashMap<>();
+		final List<LazyInitializer> proxies = new ArrayList<>();
+		for ( Object entity : entities ) {
+			if ( !persister.getMappedClass().isInstance( entity ) ) {
+				// null, or the revision entity
+				continue;
+			}
+			for ( String attributeName : attributeNames ) {
+				final LazyInitializer lazyInitializer =
+						extractLazyInitializer( persister.getPropertyValue( entity, attributeName ) );
+				if ( lazyInitializer != null && lazyInitializer.isUninitialized()
+						&& lazyInitializer.getSession() instanceof ToOneDelegateSessionImplementor delegate ) {
+					final BatchKey key =
+							new BatchKey( lazyInitializer.getEntityName(), delegate.getRevision(), delegate.isRemoved() );
+					if ( isBatchLoadable( key.entityName() ) ) {
+						idsToLoad.computeIfAbsent( key, k -> new LinkedHashSet<>() )
+								.add( lazyInitializer.getInternalIdentifier() );
+						entityClasses.putIfAbsent( key, delegate.getEntityClass() );
+						removePendingProxy( key, lazyInitializer );
+					}
+					proxies.add( lazyInitializer );
+				}
+			}
+		}
+
+		final FirstLevelCache cache = versionsReader.getFirstLevelCache();
+		for ( Map.Entry<BatchKey, Set<Object>> entry : idsToLoad.entrySet() ) {
+			final BatchKey key = entry.getKey();
+			final List<Object> ids = new ArrayList<>( entry.getValue().size() );
+			for ( Object id : entry.getValue() ) {
+				if ( !cache.contains( key.entityName(), key.revision(), id ) ) {
+					ids.add( id );
+				}
+			}
+			if ( !ids.isEmpty() ) {
+				load( entityClasses.get( key ), key.entityName(), key.revision(), key.removed(), ids );
+			}
+		}
+
+		for ( LazyInitializer proxy : proxies ) {
+			// the referenced entities are now in the first level cache
+			proxy.initialize();
+		}
+	}
+
+	private void removePendingProxy(BatchKey key, LazyInitializer proxy) {
+		final Map<LazyInitializer, Object> pendingProxies = batchLoadableKeys.get( key );
+		if ( pendingProxies != null ) {
+			pendingProxies.remove( proxy );
+			if ( pendingProxies.isEmpty() ) {
+				batchLoadableKeys.remove( key );
+			}
+		}
+	}
+
+	private void load(Class<?> entityClass, String entityName, Number revision, boolean removed, List<Object> ids) {
+		final int parameterCountLimit =
+				versionsReader.getSessionImplementor().getJdbcServices().getDialect().getParameterCountLimit();
+		// leave room for the revision and revision type parameters
+		final int chunkSize = parameterCountLimit > 0 ? Math.max( 1, parameterCountLimit - 2 ) : ids.size();
+		for ( int start = 0; start < ids.size(); start += chunkSize ) {
+			// The results are put into the cache by the entity instantiator called from the query
+			versionsReader.createQuery()
+					.forEntitiesAtRevision( entityClass, entityName, revision, removed )
+					.add( AuditEntity.id().in( ids.subList( start, Math.min( ids.size(), start + chunkSize ) ) ) )
+					.getResultList();
+		}
+	}
+
+	/**
+	 * Only audited entities with a single basic identifier may be loaded in batches.
+	 */
+	private boolean isBatchLoadable(String entityName) {
+		return enversService.getEntitiesConfigurations().isVersioned( entityName )
+				&& getEntityPersister( entityName ).getIdentifierMapping() instanceof BasicEntityIdentifierMapping;
+	}
+
+	private EntityPersister getEntityPersister(String entityName) {
+		return versionsReader.getSessionImplementor()
+				.getFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( entityName );
+	}
+
+	private record BatchKey(String entityName, Number revision, boolean removed) {
+	}
+}
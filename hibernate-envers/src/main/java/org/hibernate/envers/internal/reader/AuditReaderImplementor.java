@@ -19,4 +19,6 @@ public interface AuditReaderImplementor extends AuditReader {
 	Session getSession();
 
 	FirstLevelCache getFirstLevelCache();
+
+	AuditBatchFetchQueue getBatchFetchQueue();
 }
@@ -4,8 +4,11 @@
  */
 package org.hibernate.envers.internal.synchronization;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 
@@ -38,13 +41,28 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 	private final Map<Pair<String, Object>, AuditWorkUnit> usedIds;
 	private final Map<Pair<String, Object>, Object[]> entityStateCache;
 	private final EntityChangeNotifier entityChangeNotifier;
+	private final int auditWriteBatchSize;
 
 	private Object revisionData;
 	private boolean revisionDataSaved;
 
 	public AuditProcess(RevisionInfoGenerator revisionInfoGenerator, SharedSessionContractImplementor session) {
+		this( revisionInfoGenerator, session, 0 );
+	}
+
+	/**
+	 * @param auditWriteBatchSize if positive, the JDBC batch size used when writing
+	 * the audit rows, which are then grouped by audited entity
+	 *
+	 * @see org.hibernate.envers.configuration.EnversSettings#AUDIT_WRITE_BATCH_SIZE
+	 */
+	public AuditProcess(
+			RevisionInfoGenerator revisionInfoGenerator,
+			SharedSessionContractImplementor session,
+			int auditWriteBatchSize) {
 		this.revisionInfoGenerator = revisionInfoGenerator;
 		this.session = session;
+		this.auditWriteBatchSize = auditWriteBatchSize;
 
 		workUnits = new LinkedList<>();
 		undoQueue = new LinkedList<>();
@@ -191,9 +209,20 @@ private void executeInSession(SessionImplementor statefulSession) {
 			vwu.undo( statefulSession );
 		}
 
-		while ( (vwu = workUnits.poll()) != null ) {
-			vwu.perform( statefulSession, revisionData );
-			entityChangeNotifier.entityChanged( statefulSession, currentRevisionData, vwu );
+		if ( auditWriteBatchSize > 0 ) {
+			final Integer jdbcBatchSize = statefulSession.getJdbcBatchSize();
+			statefulSession.setJdbcBatchSize( auditWriteBatchSize );
+			try {
+				performWorkUnits( statefulSession, currentRevisionData );
+				// Flushing while the batch size is in effect
+				statefulSession.flush();
+			}
+			finally {
+				statefulSession.setJdbcBatchSize( jdbcBatchSize );
+			}
+		}
+		else {
+			performWorkUnits( statefulSession, currentRevisionData );
 		}
 	}
 
@@ -208,9 +237,52 @@ private void executeInStatelessSession(StatelessSessionImplementor statelessSess
 			vwu.undo( statelessSession );
 		}
 
+		if ( auditWriteBatchSize > 0 ) {
+			final Integer jdbcBatchSize = statelessSession.getJdbcBatchSize();
+			statelessSession.setJdbcBatchSize( auditWriteBatchSize );
+			try {
+				performWorkUnits( statelessSession, currentRevisionData );
+				statelessSession.getJdbcCoordinator().executeBatch();
+			}
+			finally {
+				statelessSession.setJdbcBatchSize( jdbcBatchSize );
+			}
+		}
+		else {
+			performWorkUnits( statelessSession, currentRevisionData );
+		}
+	}
+
+	private void performWorkUnits(SharedSessionContractImplementor session, Object currentRevisionData) {
+		if ( auditWriteBatchSize > 0 ) {
+			// Grouping the work units by entity, so that the rows of each audit table
+			// are written one after the other, and may be sent in a single JDBC batch
+			for ( List<AuditWorkUnit> group : groupWorkUnitsByEntityName() ) {
+				for ( AuditWorkUnit vwu : group ) {
+					vwu.perform( session, revisionData );
+					entityChangeNotifier.entityChanged( session, currentRevisionData, vwu );
+				}
+			}
+		}
+		else {
+			AuditWorkUnit vwu;
+			while ( (vwu = workUnits.poll()) != null ) {
+				vwu.perform( session, revisionData );
+				entityChangeNotifier.entityChanged( session, currentRevisionData, vwu );
+			}
+		}
+	}
+
+	/**
+	 * Drain the queue of work units, grouping them by entity name. The groups are ordered
+	 * by the first occurrence of each entity, and each group retains the original order.
+	 */
+	private Iterable<List<AuditWorkUnit>> groupWorkUnitsByEntityName() {
+		final Map<String, List<AuditWorkUnit>> groups = new LinkedHashMap<>();
+		AuditWorkUnit vwu;
 		while ( (vwu = workUnits.poll()) != null ) {
-			vwu.perform( statelessSession, revisionData );
-			entityChangeNotifier.entityChanged( statelessSession, currentRevisionData, vwu );
+			groups.computeIfAbsent( vwu.getEntityName(), entityName -> new ArrayList<>() ).add( vwu );
 		}
+		return groups.values();
 	}
 }
@@ -20,11 +20,17 @@
 public class AuditProcessManager {
 	private final Map<Transaction, AuditProcess> auditProcesses;
 	private final RevisionInfoGenerator revisionInfoGenerator;
+	private final int auditWriteBatchSize;
 
 	public AuditProcessManager(RevisionInfoGenerator revisionInfoGenerator) {
+		this( revisionInfoGenerator, 0 );
+	}
+
+	public AuditProcessManager(RevisionInfoGenerator revisionInfoGenerator, int auditWriteBatchSize) {
 		auditProcesses = new ConcurrentHashMap<>();
 
 		this.revisionInfoGenerator = revisionInfoGenerator;
+		this.auditWriteBatchSize = auditWriteBatchSize;
 	}
 
 	public AuditProcess get(SharedSessionContractImplementor session) {
@@ -33,7 +39,7 @@ public AuditProcess get(SharedSessionContractImplementor session) {
 		AuditProcess auditProcess = auditProcesses.get( transaction );
 		if ( auditProcess == null ) {
 			// No worries about registering a transaction twice - a transaction is single thread
-			auditProcess = new AuditProcess( revisionInfoGenerator, session );
+			auditProcess = new AuditProcess( revisionInfoGenerator, session, auditWriteBatchSize );
 			auditProcesses.put( transaction, auditProcess );
 
 			final TransactionCompletionCallbacks transactionCompletionCallbacks = session.getTransactionCompletionCallbacks();
@@ -40,6 +40,30 @@ AuditAssociationQuery<? extends AuditQuery> traverseRelation(
 			String alias,
 			AuditCriterion onClauseCriterion);
 
+	/**
+	 * Eagerly fetch the given historical to-one association of the entities returned by this query.
+	 * The associated entities of each type and revision are then loaded together, using a single
+	 * query, instead of one query per returned entity when its association is first accessed.
+	 * Collections are not supported, and are still loaded by one query per owning entity.
+	 *
+	 * <p>
+	 * Fetching is supported by the queries created by {@link AuditQueryCreator}. It is not
+	 * supported by an {@link AuditAssociationQuery}, which returns the results of its root
+	 * query, and so it must be requested on the root query, before the association is traversed.
+	 * By default, this method throws an {@link AuditException}.
+	 *
+	 * @param associationName the name of a to-one association of the queried entity
+	 *
+	 * @throws AuditException if the named attribute is not a to-one association of the queried
+	 * entity, or if fetching is not supported by this query
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default AuditQuery fetch(String associationName) {
+		throw new AuditException( "Association [" + associationName + "] cannot be fetched by this query" );
+	}
+
 	AuditQuery add(AuditCriterion criterion);
 
 	AuditQuery addProjection(AuditProjection projection);
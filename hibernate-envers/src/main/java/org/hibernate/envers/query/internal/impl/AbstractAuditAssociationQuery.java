@@ -237,6 +237,14 @@ public AbstractAuditAssociationQuery<Q> addOrder(AuditOrder order) {
 		return this;
 	}
 
+	@Override
+	public AbstractAuditAssociationQuery<Q> fetch(String associationName) {
+		throw new AuditException(
+				"Association [" + associationName + "] cannot be fetched from the traversed relation to entity ["
+						+ entityName + "], fetches must be requested on the root query"
+		);
+	}
+
 	@Override
 	public AbstractAuditAssociationQuery<Q> setMaxResults(int maxResults) {
 		parent.setMaxResults( maxResults );
@@ -16,6 +16,8 @@
 import org.hibernate.envers.exception.NotAuditedException;
 import org.hibernate.envers.internal.entities.EntityConfiguration;
 import org.hibernate.envers.internal.entities.EntityInstantiator;
+import org.hibernate.envers.internal.entities.RelationDescription;
+import org.hibernate.envers.internal.entities.RelationType;
 import org.hibernate.envers.internal.reader.AuditReaderImplementor;
 import org.hibernate.envers.internal.tools.query.QueryBuilder;
 import org.hibernate.envers.query.AuditAssociationQuery;
@@ -30,8 +32,10 @@
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REFERENCED_ENTITY_ALIAS;
 
@@ -60,6 +64,7 @@ public abstract class AbstractAuditQuery implements AuditQueryImplementor {
 	protected final List<AbstractAuditAssociationQuery<?>> associationQueries = new ArrayList<>();
 	protected final Map<String, AbstractAuditAssociationQuery<AuditQueryImplementor>> associationQueryMap = new HashMap<>();
 	protected final List<Pair<String, AuditProjection>> projections = new ArrayList<>();
+	protected final Set<String> fetchedAssociations = new LinkedHashSet<>();
 
 	protected AbstractAuditQuery(
 			EnversService enversService,
@@ -110,11 +115,11 @@ protected List buildAndExecuteQuery() {
 	public abstract List list() throws AuditException;
 
 	public List getResultList() throws AuditException {
-		return list();
+		return applyFetches( list() );
 	}
 
 	public Object getSingleResult() throws AuditException, NonUniqueResultException, NoResultException {
-		List result = list();
+		List result = getResultList();
 
 		if ( result == null || result.size() == 0 ) {
 			throw new NoResultException();
@@ -127,6 +132,35 @@ public Object getSingleResult() throws AuditException, NonUniqueResultException,
 		return result.get( 0 );
 	}
 
+	@Override
+	public AuditQuery fetch(String associationName) {
+		final RelationDescription relationDescription = getEntityConfiguration().getRelationDescription( associationName );
+		if ( relationDescription == null
+				|| relationDescription.getRelationType() != RelationType.TO_ONE
+						&& relationDescription.getRelationType() != RelationType.TO_ONE_NOT_OWNING ) {
+			throw new AuditException(
+					"Property [" + associationName + "] of entity [" + entityName + "] is not a to-one association and cannot be fetched"
+			);
+		}
+		fetchedAssociations.add( associationName );
+		return this;
+	}
+
+	/**
+	 * Initializes the {@linkplain #fetch fetched} associations of the entities in the query result.
+	 */
+	protected List applyFetches(List result) {
+		if ( !fetchedAssociations.isEmpty() && !hasProjection() && !result.isEmpty() ) {
+			final List<Object> entities = new ArrayList<>( result.size() );
+			for ( Object row : result ) {
+				// rows of revisions of entity queries hold the entity, the revision and the revision type
+				entities.add( row instanceof Object[] array ? array[0] : row );
+			}
+			versionsReader.getBatchFetchQueue().fetch( entityName, fetchedAssociations, entities );
+		}
+		return result;
+	}
+
 	public AuditQuery add(AuditCriterion criterion) {
 		criterions.add( criterion );
 		return this;
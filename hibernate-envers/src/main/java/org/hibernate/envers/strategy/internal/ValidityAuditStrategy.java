@@ -35,6 +35,8 @@
 import org.hibernate.property.access.spi.Getter;
 import jakarta.persistence.QueryFlushMode;
 import org.hibernate.sql.ComparisonRestriction;
+import org.hibernate.sql.Restriction;
+import org.hibernate.sql.RestrictionRenderingContext;
 import org.hibernate.sql.Update;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.CollectionType;
@@ -48,9 +50,11 @@
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.MIDDLE_ENTITY_ALIAS;
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REVISION_PARAMETER;
@@ -85,6 +89,13 @@ public class ValidityAuditStrategy implements AuditStrategy {
 
 	private final SessionCacheCleaner sessionCacheCleaner;
 
+	/**
+	 * The end-revision updates which are pending in each session, when
+	 * {@linkplain Configuration#isBulkAuditWriteEnabled() bulk audit writes} are enabled.
+	 */
+	private final Map<SharedSessionContractImplementor, RevisionEndUpdates> pendingRevisionEndUpdates =
+			new ConcurrentHashMap<>();
+
 	public ValidityAuditStrategy() {
 		sessionCacheCleaner = new SessionCacheCleaner();
 	}
@@ -168,7 +179,22 @@ public void perform(
 		// reused, this guarantees correct strategy behavior: exactly one row with
 		// null end date exists for each identifier.
 		final boolean reuseEntityIdentifier = configuration.isAllowIdentifierReuse();
-		if ( reuseEntityIdentifier || getRevisionType( configuration, data ) != RevisionType.ADD ) {
+		if ( isBulkRevisionEndUpdate( session, entityName, configuration ) ) {
+			final RevisionType revisionType = getRevisionType( configuration, data );
+			if ( reuseEntityIdentifier || revisionType != RevisionType.ADD ) {
+				// The UPDATE statements are executed at transaction completion, one per chunk of identifiers
+				getRevisionEndUpdates( session, configuration ).add(
+						new RevisionEndUpdateKey(
+								entityName,
+								auditedEntityName,
+								revision,
+								reuseEntityIdentifier && revisionType == RevisionType.ADD
+						),
+						id
+				);
+			}
+		}
+		else if ( reuseEntityIdentifier || getRevisionType( configuration, data ) != RevisionType.ADD ) {
 			// Register transaction completion process to guarantee execution of UPDATE statement after INSERT.
 			session.getTransactionCompletionCallbacks().registerCallback( (s) -> {
 				// Construct the update contexts
@@ -216,6 +242,87 @@ public void perform(
 		}
 	}
 
+	/**
+	 * Whether the end-revision of the previous rows of the given entity may be updated using
+	 * set-based updates, that is, whether bulk audit writes are enabled and the entity has a
+	 * single column identifier and a single audit table to update.
+	 */
+	private boolean isBulkRevisionEndUpdate(
+			SharedSessionContractImplementor session,
+			String entityName,
+			Configuration configuration) {
+		if ( !configuration.isBulkAuditWriteEnabled() ) {
+			return false;
+		}
+		final EntityPersister entity = getEntityPersister( entityName, session );
+		if ( configuration.isRevisionEndTimestampEnabled()
+				&& !configuration.isRevisionEndTimestampUseLegacyPlacement()
+				&& entity instanceof JoinedSubclassEntityPersister ) {
+			// HHH-9062 - the revision end timestamp of each table of the hierarchy must be updated
+			return false;
+		}
+		return getEntityPersister( entity.getRootEntityName(), session )
+				.getIdentifierColumnNames().length == 1;
+	}
+
+	private RevisionEndUpdates getRevisionEndUpdates(
+			SharedSessionContractImplementor session,
+			Configuration configuration) {
+		return pendingRevisionEndUpdates.computeIfAbsent( session, key -> {
+			// Register transaction completion processes to guarantee execution of the UPDATE statements
+			// after the INSERT statements, and to discard the pending updates if the transaction fails
+			final var callbacks = session.getTransactionCompletionCallbacks();
+			callbacks.registerCallback( (s) -> {
+				final RevisionEndUpdates updates = pendingRevisionEndUpdates.remove( session );
+				if ( updates != null ) {
+					executeRevisionEndUpdates( session, updates );
+				}
+			} );
+			callbacks.registerCallback( (success, s) -> pendingRevisionEndUpdates.remove( session ) );
+			return new RevisionEndUpdates( configuration );
+		} );
+	}
+
+	private void executeRevisionEndUpdates(SharedSessionContractImplementor session, RevisionEndUpdates updates) {
+		final Configuration configuration = updates.configuration;
+		final int chunkSize = getRevisionEndUpdateChunkSize( session, configuration );
+		for ( Map.Entry<RevisionEndUpdateKey, List<Object>> entry : updates.ids.entrySet() ) {
+			final RevisionEndUpdateKey key = entry.getKey();
+			final List<Object> ids = entry.getValue();
+			for ( int start = 0; start < ids.size(); start += chunkSize ) {
+				final List<Object> chunk = ids.subList( start, Math.min( ids.size(), start + chunkSize ) );
+				final UpdateContext context = getBulkUpdateContext(
+						key.entityName(),
+						key.auditEntityName(),
+						session,
+						configuration,
+						chunk,
+						key.revision()
+				);
+				final int rows = executeUpdate( session, context );
+				if ( rows != chunk.size() && !key.allowMissingRows() ) {
+					throw new AuditException(
+							String.format(
+									Locale.ENGLISH,
+									"Cannot update previous revisions for entity %s (%s rows modified, %s expected).",
+									key.auditEntityName(),
+									rows,
+									chunk.size()
+							)
+					);
+				}
+			}
+		}
+	}
+
+	private int getRevisionEndUpdateChunkSize(SharedSessionContractImplementor session, Configuration configuration) {
+		final int parameterCountLimit = session.getJdbcServices().getDialect().getParameterCountLimit();
+		// leave room for the REVEND, REVEND_TSTMP and REV parameters
+		return parameterCountLimit > 0
+				? Math.max( 1, Math.min( configuration.getAuditWriteBatchSize(), parameterCountLimit - 3 ) )
+				: configuration.getAuditWriteBatchSize();
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public void performCollectionChange(
@@ -567,22 +674,9 @@ private UpdateContext getUpdateContext(
 		final UpdateContext context = new UpdateContext( session.getFactory() );
 		context.setTableName( getUpdateTableName( rootEntity, rootAuditEntity, auditEntity ) );
 
-		// Apply "SET REVEND = ?"  portion of the SQL
-		final String revEndAttributeName = configuration.getRevisionEndFieldName();
-		final String revEndColumnName = rootAuditEntity.findAttributeMapping( revEndAttributeName )
-				.getSelectable( 0 )
-				.getSelectionExpression();
-		context.addAssignment( revEndColumnName );
-		context.bind( revisionNumber, revisionEntity.getIdentifierMapping() );
-
-		if ( configuration.isRevisionEndTimestampEnabled() ) {
-			final Object revisionTimestamp = revisionTimestampGetter.get( revision );
-			final String revEndTimestampAttributeName = configuration.getRevisionEndTimestampFieldName();
-			final AttributeMapping revEndTimestampAttributeMapping = rootAuditEntity.findAttributeMapping( revEndTimestampAttributeName );
-			// Apply optional "[, REVEND_TSTMP = ?]" portion of the SQL
-			context.addAssignment( revEndTimestampAttributeMapping.getSelectable( 0 ).getSelectionExpression() );
-			context.bind( getRevEndTimestampValue( configuration, revisionTimestamp ), revEndTimestampAttributeMapping );
-		}
+		// Apply "SET REVEND = ? [, REVEND_TSTMP = ?]" portion of the SQL
+		final String revEndColumnName =
+				applyRevisionEndAssignments( context, rootAuditEntity, revisionEntity, configuration, revision, revisionNumber );
 
 		// Apply "WHERE (entity_id) = ?"
 		context.addRestriction( rootEntity.getIdentifierColumnNames() );
@@ -600,6 +694,83 @@ private UpdateContext getUpdateContext(
 		return context;
 	}
 
+	/**
+	 * Creates the update context used to modify the revision end values of the previous rows of
+	 * several instances of an entity with a single column identifier, in a single statement.
+	 */
+	private UpdateContext getBulkUpdateContext(
+			String entityName,
+			String auditEntityName,
+			SharedSessionContractImplementor session,
+			Configuration configuration,
+			List<Object> ids,
+			Object revision) {
+
+		final EntityPersister entity = getEntityPersister( entityName, session );
+		final EntityPersister rootEntity = getEntityPersister( entity.getRootEntityName(), session );
+		final EntityPersister auditEntity = getEntityPersister( auditEntityName, session );
+		final EntityPersister rootAuditEntity = getEntityPersister( auditEntity.getRootEntityName(), session );
+		final EntityPersister revisionEntity = getEntityPersister( configuration.getRevisionInfo().getRevisionInfoClass().getName(), session );
+
+		final Number revisionNumber = getRevisionNumber( configuration, revision );
+
+		// The expected SQL is an update statement as follows:
+		// UPDATE audited_entity SET REVEND = ? [, REVEND_TSTMP = ?] WHERE entity_id in (?, ...) AND REV <> ? AND REVEND is null
+		final UpdateContext context = new UpdateContext( session.getFactory() );
+		context.setTableName( getUpdateTableName( rootEntity, rootAuditEntity, auditEntity ) );
+
+		// Apply "SET REVEND = ? [, REVEND_TSTMP = ?]" portion of the SQL
+		final String revEndColumnName =
+				applyRevisionEndAssignments( context, rootAuditEntity, revisionEntity, configuration, revision, revisionNumber );
+
+		// Apply "WHERE entity_id in (?, ...)"
+		context.addInListRestriction( rootEntity.getIdentifierColumnNames()[0], ids.size() );
+		for ( Object id : ids ) {
+			context.bind( id, rootEntity.getIdentifierMapping() );
+		}
+
+		// Apply "AND REV <> ?"
+		// todo (PropertyMapping) : need to be able to handle paths
+		final String path = configuration.getRevisionNumberPath();
+		context.addRestriction( rootAuditEntity.toColumns( path )[ 0 ], ComparisonRestriction.Operator.NE, "?" );
+		context.bind( revisionNumber, rootAuditEntity.getPropertyType( path ) );
+
+		// Apply "AND REVEND is null"
+		context.addColumnIsNullRestriction( revEndColumnName );
+
+		return context;
+	}
+
+	/**
+	 * Applies the "SET REVEND = ? [, REVEND_TSTMP = ?]" portion of the SQL.
+	 *
+	 * @return the name of the revision end column
+	 */
+	private String applyRevisionEndAssignments(
+			UpdateContext context,
+			EntityPersister rootAuditEntity,
+			EntityPersister revisionEntity,
+			Configuration configuration,
+			Object revision,
+			Number revisionNumber) {
+		final String revEndAttributeName = configuration.getRevisionEndFieldName();
+		final String revEndColumnName = rootAuditEntity.findAttributeMapping( revEndAttributeName )
+				.getSelectable( 0 )
+				.getSelectionExpression();
+		context.addAssignment( revEndColumnName );
+		context.bind( revisionNumber, revisionEntity.getIdentifierMapping() );
+
+		if ( configuration.isRevisionEndTimestampEnabled() ) {
+			final Object revisionTimestamp = revisionTimestampGetter.get( revision );
+			final String revEndTimestampAttributeName = configuration.getRevisionEndTimestampFieldName();
+			final AttributeMapping revEndTimestampAttributeMapping = rootAuditEntity.findAttributeMapping( revEndTimestampAttributeName );
+			// Apply optional "[, REVEND_TSTMP = ?]" portion of the SQL
+			context.addAssignment( revEndTimestampAttributeMapping.getSelectable( 0 ).getSelectionExpression() );
+			context.bind( getRevEndTimestampValue( configuration, revisionTimestamp ), revEndTimestampAttributeMapping );
+		}
+		return revEndColumnName;
+	}
+
 	/**
 	 * Creates the update context used to modify the revision end timestamp values for a non-root entity.
 	 * This is only used to set the revision end timestamp for joined inheritance non-root entity mappings.
@@ -689,6 +860,56 @@ public void bind(Object value, Type type) {
 		public void bind(Object value, ModelPart part) {
 			bindings.add( new QueryParameterBindingPart( value, part ) );
 		}
+
+		public void addInListRestriction(String columnName, int parameterCount) {
+			restrictions.add( new InListRestriction( columnName, parameterCount ) );
+		}
+	}
+
+	/**
+	 * A {@code column in (?, ...)} restriction.
+	 */
+	private record InListRestriction(String columnName, int parameterCount) implements Restriction {
+		@Override
+		public void render(StringBuilder sqlBuffer, RestrictionRenderingContext context) {
+			sqlBuffer.append( columnName ).append( " in (" );
+			for ( int i = 0; i < parameterCount; i++ ) {
+				if ( i > 0 ) {
+					sqlBuffer.append( ',' );
+				}
+				sqlBuffer.append( context.makeParameterMarker() );
+			}
+			sqlBuffer.append( ')' );
+		}
+	}
+
+	/**
+	 * The end-revision updates of previous rows of a given entity, for a given revision.
+	 *
+	 * @param allowMissingRows whether a previous row might not exist, because the identifier
+	 * of a removed entity is reused by an entity inserted in the current revision
+	 */
+	private record RevisionEndUpdateKey(
+			String entityName,
+			String auditEntityName,
+			Object revision,
+			boolean allowMissingRows) {
+	}
+
+	/**
+	 * The end-revision updates pending in a session.
+	 */
+	private static class RevisionEndUpdates {
+		private final Map<RevisionEndUpdateKey, List<Object>> ids = new LinkedHashMap<>();
+		private final Configuration configuration;
+
+		RevisionEndUpdates(Configuration configuration) {
+			this.configuration = configuration;
+		}
+
+		void add(RevisionEndUpdateKey key, Object id) {
+			ids.computeIfAbsent( key, k -> new ArrayList<>() ).add( id );
+		}
 	}
 
 	private interface QueryParameterBinding {
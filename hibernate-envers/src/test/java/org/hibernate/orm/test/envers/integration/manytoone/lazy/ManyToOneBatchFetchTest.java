@@ -0,0 +1,180 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.manytoone.lazy;
+
+import java.util.List;
+import java.util.Locale;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.criteria.JoinType;
+
+import org.hibernate.Hibernate;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.Audited;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.exception.AuditException;
+import org.hibernate.testing.envers.junit.EnversTest;
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.BeforeClassTemplate;
+import org.hibernate.testing.orm.junit.EntityManagerFactoryScope;
+import org.hibernate.testing.orm.junit.Jpa;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests batch loading of historical many-to-one associations, enabled by
+ * {@link EnversSettings#RELATION_BATCH_FETCH_SIZE}, and explicit fetching
+ * using {@link org.hibernate.envers.query.AuditQuery#fetch}.
+ */
+@EnversTest
+@Jpa(annotatedClasses = {
+		ManyToOneBatchFetchTest.Customer.class,
+		ManyToOneBatchFetchTest.PurchaseOrder.class
+},
+		integrationSettings = @Setting(name = EnversSettings.RELATION_BATCH_FETCH_SIZE, value = "4"),
+		useCollectingStatementInspector = true)
+public class ManyToOneBatchFetchTest {
+	private static final int COUNT = 10;
+
+	@BeforeClassTemplate
+	public void initData(EntityManagerFactoryScope scope) {
+		// Revision 1
+		scope.inTransaction( entityManager -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				final Customer customer = new Customer( i, "customer " + i );
+				entityManager.persist( customer );
+				entityManager.persist( new PurchaseOrder( i, customer ) );
+			}
+		} );
+
+		// Revision 2
+		scope.inTransaction( entityManager -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				entityManager.find( Customer.class, i ).setName( "customer " + i + " (2)" );
+			}
+		} );
+	}
+
+	@Test
+	public void testBatchLoading(EntityManagerFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inEntityManager( entityManager -> {
+			final List<?> orders = AuditReaderFactory.get( entityManager ).createQuery()
+					.forEntitiesAtRevision( PurchaseOrder.class, 1 )
+					.getResultList();
+			assertEquals( COUNT, orders.size() );
+
+			statementInspector.clear();
+			for ( Object order : orders ) {
+				final Customer customer = ( (PurchaseOrder) order ).getCustomer();
+				assertEquals( "customer " + customer.getId(), customer.getName() );
+			}
+			// 10 customers in batches of 4
+			assertEquals( 3, countCustomerQueries( statementInspector ) );
+		} );
+	}
+
+	@Test
+	public void testFetch(EntityManagerFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inEntityManager( entityManager -> {
+			statementInspector.clear();
+			final List<?> orders = AuditReaderFactory.get( entityManager ).createQuery()
+					.forEntitiesAtRevision( PurchaseOrder.class, 2 )
+					.fetch( "customer" )
+					.getResultList();
+			assertEquals( COUNT, orders.size() );
+			assertEquals( 1, countCustomerQueries( statementInspector ) );
+
+			statementInspector.clear();
+			for ( Object order : orders ) {
+				final Customer customer = ( (PurchaseOrder) order ).getCustomer();
+				assertTrue( Hibernate.isInitialized( customer ) );
+				assertEquals( "customer " + customer.getId() + " (2)", customer.getName() );
+			}
+			assertFalse( statementInspector.getSqlQueries().stream().anyMatch( sql -> sql.startsWith( "select" ) ) );
+		} );
+	}
+
+	@Test
+	public void testFetchFromTraversedRelationRejected(EntityManagerFactoryScope scope) {
+		scope.inEntityManager( entityManager -> assertThrows(
+				AuditException.class,
+				() -> AuditReaderFactory.get( entityManager ).createQuery()
+						.forEntitiesAtRevision( PurchaseOrder.class, 2 )
+						.traverseRelation( "customer", JoinType.INNER )
+						.fetch( "customer" )
+		) );
+	}
+
+	private static long countCustomerQueries(SQLStatementInspector statementInspector) {
+		return statementInspector.getSqlQueries().stream()
+				.filter( sql -> sql.toLowerCase( Locale.ROOT ).contains( "customer_aud" ) )
+				.count();
+	}
+
+	@Entity(name = "Customer")
+	@Audited
+	public static class Customer {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		Customer() {
+		}
+
+		Customer(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "PurchaseOrder")
+	@Audited
+	public static class PurchaseOrder {
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Customer customer;
+
+		PurchaseOrder() {
+		}
+
+		PurchaseOrder(Integer id, Customer customer) {
+			this.id = id;
+			this.customer = customer;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public Customer getCustomer() {
+			return customer;
+		}
+	}
+}
@@ -0,0 +1,206 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.Audited;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.testing.envers.junit.EnversTest;
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.BeforeClassTemplate;
+import org.hibernate.testing.orm.junit.EntityManagerFactoryScope;
+import org.hibernate.testing.orm.junit.Jpa;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests the {@link org.hibernate.envers.strategy.ValidityAuditStrategy} with
+ * {@link EnversSettings#AUDIT_WRITE_BATCH_SIZE bulk audit writes} enabled, using a
+ * batch size smaller than the number of entities changed in each revision.
+ */
+@EnversTest
+@Jpa(annotatedClasses = {
+		ValidityAuditStrategyBulkWriteTest.Book.class,
+		ValidityAuditStrategyBulkWriteTest.Author.class
+},
+		integrationSettings = {
+				@Setting(name = EnversSettings.AUDIT_STRATEGY, value = "org.hibernate.envers.strategy.ValidityAuditStrategy"),
+				@Setting(name = EnversSettings.AUDIT_WRITE_BATCH_SIZE, value = "4")
+		},
+		useCollectingStatementInspector = true)
+public class ValidityAuditStrategyBulkWriteTest {
+	private static final int COUNT = 10;
+
+	// the statements of revision 2
+	private static List<String> revisionStatements;
+
+	@BeforeClassTemplate
+	public void initData(EntityManagerFactoryScope scope) {
+		// Revision 1
+		scope.inTransaction( entityManager -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				entityManager.persist( new Author( i, "author " + i ) );
+				entityManager.persist( new Book( i, "book " + i ) );
+			}
+		} );
+
+		// Revision 2
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( entityManager -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				entityManager.find( Author.class, i ).setName( "author " + i + " (2)" );
+				entityManager.find( Book.class, i ).setTitle( "book " + i + " (2)" );
+			}
+			statementInspector.clear();
+		} );
+		revisionStatements = new ArrayList<>( statementInspector.getSqlQueries() );
+
+		// Revision 3
+		scope.inTransaction( entityManager -> {
+			for ( int i = 0; i < COUNT; i += 2 ) {
+				entityManager.remove( entityManager.find( Book.class, i ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testStatementCounts() {
+		for ( String table : List.of( "author_aud", "book_aud" ) ) {
+			// the audit rows of each table are written by a single JDBC batch statement
+			assertEquals( 1, countStatements( "insert into " + table ) );
+			// and the previous rows are closed by one set-based update per chunk of 4 identifiers
+			assertEquals( 3, countStatements( "update " + table ) );
+		}
+	}
+
+	private static long countStatements(String prefix) {
+		return revisionStatements.stream()
+				.filter( sql -> sql.toLowerCase( Locale.ROOT ).startsWith( prefix + " " ) )
+				.count();
+	}
+
+	@Test
+	public void testRevisionCounts(EntityManagerFactoryScope scope) {
+		scope.inEntityManager( entityManager -> {
+			final var auditReader = AuditReaderFactory.get( entityManager );
+			for ( int i = 0; i < COUNT; i++ ) {
+				assertEquals( Arrays.asList( 1, 2 ), auditReader.getRevisions( Author.class, i ) );
+				assertEquals(
+						i % 2 == 0 ? Arrays.asList( 1, 2, 3 ) : Arrays.asList( 1, 2 ),
+						auditReader.getRevisions( Book.class, i )
+				);
+			}
+		} );
+	}
+
+	@Test
+	public void testHistory(EntityManagerFactoryScope scope) {
+		scope.inEntityManager( entityManager -> {
+			final var auditReader = AuditReaderFactory.get( entityManager );
+			for ( int i = 0; i < COUNT; i++ ) {
+				assertEquals( "author " + i, auditReader.find( Author.class, i, 1 ).getName() );
+				assertEquals( "author " + i + " (2)", auditReader.find( Author.class, i, 3 ).getName() );
+				assertEquals( "book " + i, auditReader.find( Book.class, i, 1 ).getTitle() );
+				if ( i % 2 == 0 ) {
+					assertNull( auditReader.find( Book.class, i, 3 ) );
+				}
+				else {
+					assertEquals( "book " + i + " (2)", auditReader.find( Book.class, i, 3 ).getTitle() );
+				}
+			}
+		} );
+	}
+
+	@Test
+	public void testEndRevisions(EntityManagerFactoryScope scope) {
+		scope.inEntityManager( entityManager -> {
+			// exactly one row without an end revision for each identifier
+			assertEquals(
+					COUNT,
+					( (Number) entityManager.createNativeQuery( "select count(*) from Author_AUD where REVEND is null" )
+							.getSingleResult() ).intValue()
+			);
+			assertEquals(
+					COUNT,
+					( (Number) entityManager.createNativeQuery( "select count(*) from Book_AUD where REVEND is null" )
+							.getSingleResult() ).intValue()
+			);
+			assertEquals(
+					COUNT / 2,
+					( (Number) entityManager.createNativeQuery( "select count(*) from Book_AUD where REVEND = 3" )
+							.getSingleResult() ).intValue()
+			);
+		} );
+	}
+
+	@Entity(name = "Author")
+	@Audited
+	public static class Author {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		Author() {
+		}
+
+		Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Audited
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		Book() {
+		}
+
+		Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+	}
+}
@@ -15,6 +15,7 @@
 import org.hibernate.engine.jdbc.connections.internal.DatabaseConnectionInfoImpl;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProviderConfigurationException;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionSchemaTracker;
 import org.hibernate.engine.jdbc.connections.spi.DatabaseConnectionInfo;
 import org.hibernate.exception.JDBCConnectionException;
 import org.hibernate.service.UnknownUnwrapTypeException;
@@ -63,6 +64,11 @@ public class HikariCPConnectionProvider implements ConnectionProvider, Configura
 	 */
 	private HikariDataSource hikariDataSource = null;
 
+	/**
+	 * The current schemas of the pooled connections.
+	 */
+	private final ConnectionSchemaTracker schemaTracker = new ConnectionSchemaTracker();
+
 	// *************************************************************************
 	// Configurable
 	// *************************************************************************
@@ -91,7 +97,41 @@ public void configure(@Nonnull Map<String, Object> configuration) throws Hiberna
 
 	@Override
 	public Connection getConnection() throws SQLException {
-		return hikariDataSource != null ? hikariDataSource.getConnection() : null;
+		if ( hikariDataSource == null ) {
+			return null;
+		}
+		final var connection = hikariDataSource.getConnection();
+		try {
+			schemaTracker.resetSchema( connection );
+		}
+		catch (SQLException e) {
+			// the schema of the connection is unknown
+			hikariDataSource.evictConnection( connection );
+			throw e;
+		}
+		return connection;
+	}
+
+	@Override
+	public boolean supportsSchemaAffinity() {
+		return true;
+	}
+
+	@Override
+	public Connection getConnectionForSchema(String schema) throws SQLException {
+		if ( hikariDataSource == null ) {
+			return null;
+		}
+		final var connection = hikariDataSource.getConnection();
+		try {
+			schemaTracker.setSchema( connection, schema );
+		}
+		catch (SQLException e) {
+			// the schema of the connection is unknown
+			hikariDataSource.evictConnection( connection );
+			throw e;
+		}
+		return connection;
 	}
 
 	@Override
@@ -148,7 +188,8 @@ public DatabaseConnectionInfo getDatabaseConnectionInfo(Dialect dialect) {
 	public boolean isUnwrappableAs(@Nonnull Class<?> unwrapType) {
 		return unwrapType.isAssignableFrom( HikariCPConnectionProvider.class )
 			|| unwrapType.isAssignableFrom( HikariDataSource.class )
-			|| unwrapType.isAssignableFrom( HikariConfig.class );
+			|| unwrapType.isAssignableFrom( HikariConfig.class )
+			|| unwrapType.isAssignableFrom( ConnectionSchemaTracker.class );
 	}
 
 	@Override
@@ -163,6 +204,9 @@ else if ( unwrapType.isAssignableFrom( HikariDataSource.class ) ) {
 		else if ( unwrapType.isAssignableFrom( HikariConfig.class ) ) {
 			return (T) hikariConfig;
 		}
+		else if ( unwrapType.isAssignableFrom( ConnectionSchemaTracker.class ) ) {
+			return (T) schemaTracker;
+		}
 		else {
 			throw new UnknownUnwrapTypeException( unwrapType );
 		}
@@ -154,6 +154,16 @@ protected StorageAccess createTimestampsRegionStorageAccess(
 		);
 	}
 
+	@Override
+	protected StorageAccess createTemporalDataRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		// there are no legacy names for the temporal data region
+		return new JCacheAccessImpl(
+				getOrCreateCache( regionName, sessionFactory )
+		);
+	}
+
 	protected final String defaultRegionName(String regionName, SessionFactoryImplementor sessionFactory,
 			String defaultRegionName, List<String> legacyDefaultRegionNames) {
 		if ( defaultRegionName.equals( regionName )
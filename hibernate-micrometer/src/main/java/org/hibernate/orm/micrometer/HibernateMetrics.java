@@ -141,6 +141,12 @@ public void bindTo(MeterRegistry registry) {
 		counter(registry, "hibernate.statements", "The number of prepared statements that were released",
 				Statistics::getCloseStatementCount, "status", "closed"
 		);
+		counter(registry, "hibernate.statements.cache", "The number of prepared statements reused from the statement cache",
+				Statistics::getPreparedStatementCacheHitCount, "result", "hit"
+		);
+		counter(registry, "hibernate.statements.cache", "The number of prepared statements not found in the statement cache",
+				Statistics::getPreparedStatementCacheMissCount, "result", "miss"
+		);
 
 		// Second Level Caching
 		// AWKWARD: getSecondLevelCacheRegionNames is the only way to retrieve a list of names
@@ -334,6 +340,16 @@ public void bindTo(MeterRegistry registry) {
 		counter(registry, "hibernate.cache.query.plan", "The global number of query plans lookups not found in cache",
 				Statistics::getQueryPlanCacheMissCount, "result", "miss"
 		);
+		counter(registry,
+				"hibernate.cache.load.plan",
+				"The global number of loaders for non-default load query influencers successfully retrieved from cache",
+				Statistics::getLoadPlanCacheHitCount,
+				"result",
+				"hit"
+		);
+		counter(registry, "hibernate.cache.load.plan", "The global number of loaders for non-default load query influencers not found in cache",
+				Statistics::getLoadPlanCacheMissCount, "result", "miss"
+		);
 	}
 
 	private boolean hasDomainDataRegionStatistics(String regionName) {
@@ -77,6 +77,13 @@ protected StorageAccess createTimestampsRegionStorageAccess(
 		return new MapStorageAccessImpl();
 	}
 
+	@Override
+	protected StorageAccess createTemporalDataRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return new MapStorageAccessImpl();
+	}
+
 	@Override
 	protected void releaseFromUse() {
 	}
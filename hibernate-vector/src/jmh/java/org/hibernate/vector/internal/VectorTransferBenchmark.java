@@ -0,0 +1,116 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.vector.internal;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the cost of decoding pgvector values in the textual format {@code [0.1,0.2,...]}
+ * with the binary format produced by {@code vector_send()}, optionally decoding into a
+ * reused buffer.
+ * <p>
+ * Run with:
+ * ./gradlew :hibernate-vector:jmh -Pjmh.include=".*VectorTransferBenchmark.*"
+ *
+ * @see org.hibernate.vector.VectorSettings#BINARY_TRANSFER
+ * @see org.hibernate.vector.ReusableVectorBuffers
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1)
+public class VectorTransferBenchmark {
+
+	private static final int ROWS = 1000;
+
+	@Param({"384", "1536"})
+	private int dimension;
+
+	private String[] textVectors;
+	private byte[][] binaryVectors;
+	private float[][] vectors;
+
+	@Setup
+	public void setup() {
+		final Random random = new Random( 42 );
+		textVectors = new String[ROWS];
+		binaryVectors = new byte[ROWS][];
+		vectors = new float[ROWS][];
+		for ( int i = 0; i < ROWS; i++ ) {
+			final float[] vector = new float[dimension];
+			for ( int j = 0; j < dimension; j++ ) {
+				vector[j] = random.nextFloat() * 2 - 1;
+			}
+			vectors[i] = vector;
+			textVectors[i] = Arrays.toString( vector ).replace( " ", "" );
+			binaryVectors[i] = toBinary( vector );
+		}
+	}
+
+	private static byte[] toBinary(float[] vector) {
+		final ByteBuffer buffer = ByteBuffer.allocate( 4 + vector.length * 4 );
+		buffer.putShort( (short) vector.length );
+		buffer.putShort( (short) 0 );
+		for ( float f : vector ) {
+			buffer.putFloat( f );
+		}
+		return buffer.array();
+	}
+
+	@Benchmark
+	public void decodeText(Blackhole blackhole) {
+		for ( String textVector : textVectors ) {
+			blackhole.consume( VectorHelper.parseFloatVector( textVector ) );
+		}
+	}
+
+	@Benchmark
+	public void decodeBinary(Blackhole blackhole) {
+		for ( byte[] binaryVector : binaryVectors ) {
+			blackhole.consume( VectorHelper.parsePGBinaryFloatVector( binaryVector, null ) );
+		}
+	}
+
+	@Benchmark
+	public void decodeBinaryReusingBuffer(Blackhole blackhole) {
+		float[] buffer = null;
+		for ( byte[] binaryVector : binaryVectors ) {
+			buffer = VectorHelper.parsePGBinaryFloatVector( binaryVector, buffer );
+			blackhole.consume( buffer );
+		}
+	}
+
+	@Benchmark
+	public void encodeText(Blackhole blackhole) {
+		for ( float[] vector : vectors ) {
+			blackhole.consume( Arrays.toString( vector ) );
+		}
+	}
+
+	@Benchmark
+	public void encodeBinary(Blackhole blackhole) {
+		for ( float[] vector : vectors ) {
+			blackhole.consume( toBinary( vector ) );
+		}
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.vector;
+
+import java.util.function.Consumer;
+
+import org.hibernate.Incubating;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.query.SelectionQuery;
+import org.hibernate.vector.internal.VectorBufferScope;
+
+/**
+ * Scrolls through the results of a query, decoding the {@code float[]} vectors of
+ * each row into buffers which are reused for the following rows, instead of newly
+ * allocated arrays. This only has an effect on PostgreSQL with pgvector when vectors
+ * are transferred in the {@linkplain VectorSettings#BINARY_TRANSFER binary format}.
+ * <p>
+ * A vector passed to the action, directly or as the attribute of an entity, is only
+ * valid until the action returns, since it is then overwritten by the vector of the
+ * next row. The action must copy any vector it wants to keep. Vectors read by other
+ * queries, including queries executed by the action, are not affected.
+ * <p>
+ * Entities returned by the query are loaded {@linkplain SelectionQuery#setReadOnly
+ * read-only}, since every entity would otherwise hold the same buffer, and appear
+ * to be modified when the session is flushed.
+ *
+ * @since 8.1
+ */
+@Incubating
+public final class ReusableVectorBuffers {
+
+	private ReusableVectorBuffers() {
+	}
+
+	/**
+	 * Perform the given action for each result of the given query, reusing the
+	 * buffers of the vectors from row to row. The query is made read-only.
+	 */
+	public static <R> void forEach(SelectionQuery<R> query, Consumer<? super R> action) {
+		final var bufferScope = new VectorBufferScope();
+		try ( var results = query.setReadOnly( true ).scroll( ScrollMode.FORWARD_ONLY ) ) {
+			while ( next( results, bufferScope ) ) {
+				action.accept( results.get() );
+			}
+		}
+	}
+
+	private static boolean next(ScrollableResults<?> results, VectorBufferScope bufferScope) {
+		// only the values read while advancing are decoded into the buffers
+		bufferScope.activate();
+		try {
+			return results.next();
+		}
+		finally {
+			bufferScope.deactivate();
+		}
+	}
+}
@@ -0,0 +1,27 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.vector;
+
+import org.hibernate.Incubating;
+
+/**
+ * Configuration property names for vector support.
+ *
+ * @since 8.1
+ */
+@Incubating
+public interface VectorSettings {
+
+	/**
+	 * Specifies that {@code vector} values should be transferred in the binary wire format
+	 * on PostgreSQL with pgvector, instead of the textual format {@code [0.1,0.2,...]}.
+	 * Values are read using the {@code vector_send()} function and written as binary
+	 * {@code float4[]} arrays, avoiding the cost of formatting and parsing floats, which
+	 * dominates the time spent loading large numbers of high-dimensional vectors.
+	 *
+	 * @settingDefault {@code false}
+	 */
+	String BINARY_TRANSFER = "hibernate.vector.binary_transfer";
+}
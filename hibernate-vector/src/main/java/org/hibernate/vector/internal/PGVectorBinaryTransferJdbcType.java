@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.vector.internal;
+
+import jakarta.annotation.Nullable;
+import org.hibernate.type.descriptor.ValueBinder;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.jdbc.BasicBinder;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+import org.postgresql.PGConnection;
+
+import java.sql.Array;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+
+/**
+ * A {@link PGVectorJdbcType} which transfers values in the binary format in both directions.
+ * This class depends on the PostgreSQL driver and is only instantiated reflectively by
+ * {@link PGVectorTypeContributor}, when the driver is available.
+ *
+ * @see org.hibernate.vector.VectorSettings#BINARY_TRANSFER
+ */
+public class PGVectorBinaryTransferJdbcType extends PGVectorJdbcType {
+
+	public PGVectorBinaryTransferJdbcType(JdbcType elementJdbcType, int sqlType, String typeName) {
+		super( elementJdbcType, sqlType, typeName, true );
+	}
+
+	@Override
+	public <X> ValueBinder<X> getBinder(JavaType<X> javaTypeDescriptor) {
+		final ValueBinder<X> arrayBinder = super.getBinder( javaTypeDescriptor );
+		if ( javaTypeDescriptor.getJavaTypeClass() != float[].class ) {
+			return arrayBinder;
+		}
+		return new BasicBinder<>( javaTypeDescriptor, this ) {
+			@Override
+			protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options)
+					throws SQLException {
+				final Array array = createFloat4Array( st, getJavaType().unwrap( value, float[].class, options ) );
+				if ( array == null ) {
+					arrayBinder.bind( st, value, index, options );
+				}
+				else {
+					st.setArray( index, array );
+				}
+			}
+
+			@Override
+			protected void doBind(CallableStatement st, X value, String name, WrapperOptions options)
+					throws SQLException {
+				final Array array = createFloat4Array( st, getJavaType().unwrap( value, float[].class, options ) );
+				if ( array == null ) {
+					arrayBinder.bind( st, value, name, options );
+				}
+				else {
+					st.setObject( name, array, Types.ARRAY );
+				}
+			}
+		};
+	}
+
+	/**
+	 * The PostgreSQL driver sends arrays of primitive floats in the binary format,
+	 * which are then cast to {@code vector} by the {@linkplain #appendWriteExpression
+	 * write expression}.
+	 */
+	private static @Nullable Array createFloat4Array(Statement statement, float[] vector) throws SQLException {
+		final var connection = statement.getConnection();
+		return connection.isWrapperFor( PGConnection.class )
+				? connection.unwrap( PGConnection.class ).createArrayOf( "float4", vector )
+				: null;
+	}
+}
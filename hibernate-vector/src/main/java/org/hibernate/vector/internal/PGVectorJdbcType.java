@@ -7,8 +7,13 @@
 import jakarta.annotation.Nullable;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.Size;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.metamodel.mapping.JdbcMappingContainer;
+import org.hibernate.sql.ast.SqlAstTranslator;
 import org.hibernate.sql.ast.spi.SqlAppender;
+import org.hibernate.sql.ast.tree.expression.Expression;
+import org.hibernate.sql.ast.tree.expression.SelfRenderingExpression;
 import org.hibernate.type.descriptor.ValueExtractor;
 import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.java.JavaType;
@@ -23,16 +28,29 @@
 import java.sql.SQLException;
 
 import static org.hibernate.vector.internal.VectorHelper.parseFloatVector;
+import static org.hibernate.vector.internal.VectorHelper.parsePGBinaryFloatVector;
 
 public class PGVectorJdbcType extends ArrayJdbcType {
 
 	private final int sqlType;
 	private final String typeName;
+	private final boolean binaryTransfer;
 
 	public PGVectorJdbcType(JdbcType elementJdbcType, int sqlType, String typeName) {
+		this( elementJdbcType, sqlType, typeName, false );
+	}
+
+	/**
+	 * @param binaryTransfer whether to read values in the binary wire format of pgvector
+	 *
+	 * @see org.hibernate.vector.VectorSettings#BINARY_TRANSFER
+	 * @see PGVectorBinaryTransferJdbcType
+	 */
+	public PGVectorJdbcType(JdbcType elementJdbcType, int sqlType, String typeName, boolean binaryTransfer) {
 		super( elementJdbcType );
 		this.sqlType = sqlType;
 		this.typeName = typeName;
+		this.binaryTransfer = binaryTransfer;
 	}
 
 	@Override
@@ -79,8 +97,49 @@ public boolean isWriteExpressionTyped(Dialect dialect) {
 		return sourceMapping.getJdbcType().isStringLike() ? "cast(?1 as " + typeName + ")" : null;
 	}
 
+	@Override
+	public Expression wrapTopLevelSelectionExpression(Expression expression) {
+		if ( !binaryTransfer ) {
+			return expression;
+		}
+		return new SelfRenderingExpression() {
+			@Override
+			public void renderToSql(
+					SqlAppender sqlAppender,
+					SqlAstTranslator<?> walker,
+					SessionFactoryImplementor sessionFactory) {
+				sqlAppender.append( "vector_send(" );
+				expression.accept( walker );
+				sqlAppender.append( ')' );
+			}
+
+			@Override
+			public JdbcMappingContainer getExpressionType() {
+				return expression.getExpressionType();
+			}
+		};
+	}
+
 	@Override
 	public <X> ValueExtractor<X> getExtractor(JavaType<X> javaTypeDescriptor) {
+		if ( binaryTransfer ) {
+			return new BasicExtractor<>( javaTypeDescriptor, this ) {
+				@Override
+				protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
+					return javaTypeDescriptor.wrap( extractVector( rs.getObject( paramIndex ), rs, paramIndex ), options );
+				}
+
+				@Override
+				protected X doExtract(CallableStatement statement, int index, WrapperOptions options) throws SQLException {
+					return javaTypeDescriptor.wrap( extractVector( statement.getObject( index ), null, index ), options );
+				}
+
+				@Override
+				protected X doExtract(CallableStatement statement, String name, WrapperOptions options) throws SQLException {
+					return javaTypeDescriptor.wrap( extractVector( statement.getObject( name ), null, 0 ), options );
+				}
+			};
+		}
 		return new BasicExtractor<>( javaTypeDescriptor, this ) {
 			@Override
 			protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
@@ -99,11 +158,28 @@ protected X doExtract(CallableStatement statement, String name, WrapperOptions o
 		};
 	}
 
+	/**
+	 * Values selected through {@link #wrapTopLevelSelectionExpression} are {@code bytea},
+	 * other values, for example, those of native queries, are in the textual format.
+	 * Binary values read from a result set while {@linkplain VectorBufferScope buffers
+	 * are reused} are decoded into the buffer of the column.
+	 */
+	private static @Nullable float[] extractVector(@Nullable Object object, @Nullable ResultSet resultSet, int column) {
+		if ( object instanceof byte[] bytes ) {
+			final var bufferScope = resultSet == null ? null : VectorBufferScope.current();
+			return bufferScope == null
+					? parsePGBinaryFloatVector( bytes, null )
+					: bufferScope.decode( bytes, resultSet, column );
+		}
+		return parseFloatVector( object == null ? null : object.toString() );
+	}
+
 	@Override
 	public boolean equals(Object that) {
 		return super.equals( that )
 			&& that instanceof PGVectorJdbcType vectorJdbcType
-			&& sqlType == vectorJdbcType.sqlType;
+			&& sqlType == vectorJdbcType.sqlType
+			&& binaryTransfer == vectorJdbcType.binaryTransfer;
 	}
 
 	@Override
@@ -4,11 +4,18 @@
  */
 package org.hibernate.vector.internal;
 
+import java.lang.reflect.InvocationTargetException;
+
+import org.hibernate.HibernateError;
 import org.hibernate.boot.model.TypeContributions;
 import org.hibernate.boot.model.TypeContributor;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.PostgreSQLDialect;
 import org.hibernate.dialect.SpannerPostgreSQLDialect;
+import org.hibernate.dialect.type.PgJdbcHelper;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.type.BasicArrayType;
@@ -22,6 +29,7 @@
 import org.hibernate.type.descriptor.jdbc.JdbcType;
 import org.hibernate.type.descriptor.jdbc.spi.JdbcTypeRegistry;
 import org.hibernate.type.spi.TypeConfiguration;
+import org.hibernate.vector.VectorSettings;
 
 public class PGVectorTypeContributor implements TypeContributor {
 
@@ -34,16 +42,21 @@ public void contribute(TypeContributions typeContributions, ServiceRegistry serv
 			final JdbcTypeRegistry jdbcTypeRegistry = typeConfiguration.getJdbcTypeRegistry();
 			final BasicTypeRegistry basicTypeRegistry = typeConfiguration.getBasicTypeRegistry();
 			final BasicType<Float> floatBasicType = basicTypeRegistry.resolve( StandardBasicTypes.FLOAT );
-			final ArrayJdbcType genericVectorJdbcType = new PGVectorJdbcType(
+			final ConfigurationService configurationService = serviceRegistry.requireService( ConfigurationService.class );
+			final boolean binaryTransfer =
+					configurationService.getSetting( VectorSettings.BINARY_TRANSFER, StandardConverters.BOOLEAN, false );
+			final ArrayJdbcType genericVectorJdbcType = createVectorJdbcType(
 					jdbcTypeRegistry.getDescriptor( SqlTypes.FLOAT ),
 					SqlTypes.VECTOR,
-					"vector"
+					binaryTransfer,
+					serviceRegistry
 			);
 			jdbcTypeRegistry.addDescriptor( SqlTypes.VECTOR, genericVectorJdbcType );
-			final ArrayJdbcType floatVectorJdbcType = new PGVectorJdbcType(
+			final ArrayJdbcType floatVectorJdbcType = createVectorJdbcType(
 					jdbcTypeRegistry.getDescriptor( SqlTypes.FLOAT ),
 					SqlTypes.VECTOR_FLOAT32,
-					"vector"
+					binaryTransfer,
+					serviceRegistry
 			);
 			jdbcTypeRegistry.addDescriptor( SqlTypes.VECTOR_FLOAT32, floatVectorJdbcType );
 			final ArrayJdbcType float16VectorJdbcType = new PGVectorJdbcType(
@@ -120,4 +133,34 @@ public void contribute(TypeContributions typeContributions, ServiceRegistry serv
 			);
 		}
 	}
+
+	/**
+	 * Binding values in the binary format requires the PostgreSQL driver, so the
+	 * {@link PGVectorBinaryTransferJdbcType} is loaded reflectively, like the driver
+	 * dependent types of {@link PgJdbcHelper}. This type is also used by CockroachDB.
+	 */
+	private static ArrayJdbcType createVectorJdbcType(
+			JdbcType elementJdbcType,
+			int sqlType,
+			boolean binaryTransfer,
+			ServiceRegistry serviceRegistry) {
+		if ( binaryTransfer && PgJdbcHelper.isUsable( serviceRegistry ) ) {
+			final ClassLoaderService classLoaderService = serviceRegistry.requireService( ClassLoaderService.class );
+			try {
+				final Class<?> clazz =
+						classLoaderService.classForName( "org.hibernate.vector.internal.PGVectorBinaryTransferJdbcType" );
+				return (ArrayJdbcType) clazz.getConstructor( JdbcType.class, int.class, String.class )
+						.newInstance( elementJdbcType, sqlType, "vector" );
+			}
+			catch (NoSuchMethodException e) {
+				throw new HibernateError( "Class does not have the expected constructor", e );
+			}
+			catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+				throw new HibernateError( "Could not construct JdbcType", e );
+			}
+		}
+		else {
+			return new PGVectorJdbcType( elementJdbcType, sqlType, "vector", binaryTransfer );
+		}
+	}
 }
@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.vector.internal;
+
+import jakarta.annotation.Nullable;
+
+import java.sql.ResultSet;
+import java.util.Arrays;
+
+import static org.hibernate.vector.internal.VectorHelper.parsePGBinaryFloatVector;
+
+/**
+ * Holds the buffers into which the binary vectors of each column of a result set
+ * are decoded, while it is {@linkplain #activate() active} on the current thread.
+ * Only the first result set read while the scope is active uses the buffers, so
+ * that vectors read by other queries, for example, to initialize associations,
+ * are never overwritten.
+ *
+ * @see org.hibernate.vector.ReusableVectorBuffers
+ */
+public final class VectorBufferScope {
+
+	private static final ThreadLocal<VectorBufferScope> CURRENT = new ThreadLocal<>();
+
+	private @Nullable ResultSet resultSet;
+	private float[][] buffers = new float[8][];
+
+	static @Nullable VectorBufferScope current() {
+		return CURRENT.get();
+	}
+
+	public void activate() {
+		CURRENT.set( this );
+	}
+
+	public void deactivate() {
+		CURRENT.remove();
+	}
+
+	@Nullable float[] decode(byte[] bytes, ResultSet resultSet, int column) {
+		if ( this.resultSet == null ) {
+			this.resultSet = resultSet;
+		}
+		else if ( this.resultSet != resultSet ) {
+			return parsePGBinaryFloatVector( bytes, null );
+		}
+		if ( column >= buffers.length ) {
+			buffers = Arrays.copyOf( buffers, column + 1 );
+		}
+		final float[] vector = parsePGBinaryFloatVector( bytes, buffers[column] );
+		buffers[column] = vector;
+		return vector;
+	}
+}
@@ -128,6 +128,39 @@ public class VectorHelper {
 		return result;
 	}
 
+	/**
+	 * Parses the binary wire format of the pgvector {@code vector} type, as produced by
+	 * the {@code vector_send()} function: the dimension and an unused word as 16-bit
+	 * integers, followed by the elements as big-endian 32-bit floats.
+	 *
+	 * @param bytes the binary representation
+	 * @param buffer an array to decode into if its length matches the dimension, or {@code null}
+	 */
+	public static @Nullable float[] parsePGBinaryFloatVector(@Nullable byte[] bytes, @Nullable float[] buffer) {
+		if ( bytes == null ) {
+			return null;
+		}
+		if ( bytes.length < 4 ) {
+			throw new IllegalArgumentException(
+					"Invalid byte array length. Expected at least 4 but got: " + bytes.length );
+		}
+		final int dimension = ((bytes[0] & 0xFF) << 8) | (bytes[1] & 0xFF);
+		if ( bytes.length != 4 + (dimension << 2) ) {
+			throw new IllegalArgumentException(
+					"Invalid byte array length. Expected " + (4 + (dimension << 2)) + " but got: " + bytes.length );
+		}
+		final float[] result = buffer != null && buffer.length == dimension ? buffer : new float[dimension];
+		for ( int i = 0; i < dimension; i++ ) {
+			final int offset = 4 + (i << 2);
+			final int asInt = ((bytes[offset] & 0xFF) << 24)
+							| ((bytes[offset + 1] & 0xFF) << 16)
+							| ((bytes[offset + 2] & 0xFF) << 8)
+							| (bytes[offset + 3] & 0xFF);
+			result[i] = Float.intBitsToFloat( asInt );
+		}
+		return result;
+	}
+
 	public static byte[] parseBitString(String bitString) {
 		assert new BigInteger( "1" + bitString, 2 ).bitLength() == bitString.length() + 1;
 		final int fullBytesCount = bitString.length() >> 3;
@@ -0,0 +1,176 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.vector;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import org.hibernate.ScrollMode;
+import org.hibernate.annotations.Array;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.type.SqlTypes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link VectorSettings#BINARY_TRANSFER} and {@link ReusableVectorBuffers}.
+ */
+@DomainModel(annotatedClasses = PGVectorBinaryTransferTest.VectorEntity.class)
+@SessionFactory
+@ServiceRegistry(settings = @Setting(name = VectorSettings.BINARY_TRANSFER, value = "true"))
+@RequiresDialect(value = PostgreSQLDialect.class, matchSubTypes = false)
+public class PGVectorBinaryTransferTest {
+
+	private static final float[] V1 = new float[]{ 1, 2, 3 };
+	private static final float[] V2 = new float[]{ 4.5f, -5.25f, 6e-3f };
+
+	@BeforeEach
+	public void prepareData(SessionFactoryScope scope) {
+		scope.inTransaction( em -> {
+			em.persist( new VectorEntity( 1L, V1 ) );
+			em.persist( new VectorEntity( 2L, V2 ) );
+		} );
+	}
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.inTransaction( em -> {
+			em.createMutationQuery( "delete from VectorEntity" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testRoundTrip(SessionFactoryScope scope) {
+		scope.inTransaction( em -> {
+			assertArrayEquals( V1, em.find( VectorEntity.class, 1L ).getTheVector() );
+			assertArrayEquals( V2, em.find( VectorEntity.class, 2L ).getTheVector() );
+			final List<float[]> vectors = em.createSelectionQuery(
+					"select e.theVector from VectorEntity e order by e.id",
+					float[].class
+			).getResultList();
+			assertEquals( 2, vectors.size() );
+			assertArrayEquals( V1, vectors.get( 0 ) );
+			assertArrayEquals( V2, vectors.get( 1 ) );
+		} );
+	}
+
+	@Test
+	public void testUpdate(SessionFactoryScope scope) {
+		scope.inTransaction( em -> em.find( VectorEntity.class, 1L ).setTheVector( V2 ) );
+		scope.inTransaction( em -> assertArrayEquals( V2, em.find( VectorEntity.class, 1L ).getTheVector() ) );
+	}
+
+	@Test
+	public void testReuseBuffers(SessionFactoryScope scope) {
+		scope.inTransaction( em -> {
+			final List<float[]> copies = new ArrayList<>();
+			final List<float[]> vectors = new ArrayList<>();
+			ReusableVectorBuffers.forEach(
+					em.createSelectionQuery( "select e.theVector from VectorEntity e order by e.id", float[].class ),
+					vector -> {
+						vectors.add( vector );
+						copies.add( vector.clone() );
+					}
+			);
+			assertArrayEquals( V1, copies.get( 0 ) );
+			assertArrayEquals( V2, copies.get( 1 ) );
+			// vectors of the same column share the buffer
+			assertSame( vectors.get( 0 ), vectors.get( 1 ) );
+		} );
+	}
+
+	@Test
+	public void testReuseBuffersForEntities(SessionFactoryScope scope) {
+		scope.inTransaction( em -> {
+			final List<float[]> copies = new ArrayList<>();
+			ReusableVectorBuffers.forEach(
+					em.createSelectionQuery( "from VectorEntity e order by e.id", VectorEntity.class ),
+					entity -> {
+						assertTrue( em.isReadOnly( entity ) );
+						copies.add( entity.getTheVector().clone() );
+					}
+			);
+			assertArrayEquals( V1, copies.get( 0 ) );
+			assertArrayEquals( V2, copies.get( 1 ) );
+			// the entities sharing the buffer are not seen as modified
+			em.flush();
+		} );
+		scope.inTransaction( em -> {
+			assertArrayEquals( V1, em.find( VectorEntity.class, 1L ).getTheVector() );
+			assertArrayEquals( V2, em.find( VectorEntity.class, 2L ).getTheVector() );
+		} );
+	}
+
+	@Test
+	public void testNoBufferReuseInReadOnlySession(SessionFactoryScope scope) {
+		scope.inTransaction( em -> {
+			em.setDefaultReadOnly( true );
+			final List<VectorEntity> entities =
+					em.createSelectionQuery( "from VectorEntity e order by e.id", VectorEntity.class )
+							.getResultList();
+			assertArrayEquals( V1, entities.get( 0 ).getTheVector() );
+			assertArrayEquals( V2, entities.get( 1 ).getTheVector() );
+			try ( var results = em.createSelectionQuery(
+					"select e.theVector from VectorEntity e order by e.id",
+					float[].class
+			).scroll( ScrollMode.FORWARD_ONLY ) ) {
+				final List<float[]> vectors = new ArrayList<>();
+				while ( results.next() ) {
+					vectors.add( results.get() );
+				}
+				assertArrayEquals( V1, vectors.get( 0 ) );
+				assertArrayEquals( V2, vectors.get( 1 ) );
+			}
+		} );
+	}
+
+	@Entity(name = "VectorEntity")
+	public static class VectorEntity {
+
+		@Id
+		private Long id;
+
+		@Column( name = "the_vector" )
+		@JdbcTypeCode(SqlTypes.VECTOR)
+		@Array(length = 3)
+		private float[] theVector;
+
+		public VectorEntity() {
+		}
+
+		public VectorEntity(Long id, float[] theVector) {
+			this.id = id;
+			this.theVector = theVector;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public float[] getTheVector() {
+			return theVector;
+		}
+
+		public void setTheVector(float[] theVector) {
+			this.theVector = theVector;
+		}
+	}
+}